@@ -7,6 +7,7 @@ package io.airbyte.commons.protocol;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Sets;
+import com.google.common.hash.Hashing;
 import io.airbyte.commons.protocol.transform_models.FieldTransform;
 import io.airbyte.commons.protocol.transform_models.StreamAttributeTransform;
 import io.airbyte.commons.protocol.transform_models.StreamTransform;
@@ -21,11 +22,13 @@ import io.airbyte.protocol.models.JsonSchemas;
 import io.airbyte.protocol.models.Jsons;
 import io.airbyte.protocol.models.StreamDescriptor;
 import io.airbyte.protocol.models.SyncMode;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.Spliterator;
@@ -150,6 +153,38 @@ public class CatalogDiffHelpers {
         .withNamespace(airbyteStream.getNamespace());
   }
 
+  /**
+   * Computes the fingerprint of the parts of a stream that a stream diff looks at: its json schema
+   * and its source defined primary key. Two streams with the same fingerprint have no stream diff,
+   * so only the streams whose fingerprint changed need to have their fields walked.
+   *
+   * @param airbyteStream - stream to fingerprint
+   * @return the SHA-256 of the canonical json of the schema and primary key of the stream
+   */
+  public static String getStreamFingerprint(final AirbyteStream airbyteStream) {
+    final Map<String, Object> diffedAttributes = new HashMap<>();
+    diffedAttributes.put("jsonSchema", airbyteStream.getJsonSchema());
+    diffedAttributes.put("sourceDefinedPrimaryKey", airbyteStream.getSourceDefinedPrimaryKey());
+    try {
+      final String canonicalJson = io.airbyte.commons.json.Jsons.canonicalJsonSerialize(diffedAttributes);
+      return Hashing.sha256().hashString(canonicalJson, StandardCharsets.UTF_8).toString();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Computes the fingerprint of every stream of a catalog.
+   *
+   * @param catalog - catalog to fingerprint
+   * @return the fingerprint of each stream, by stream descriptor
+   */
+  public static Map<StreamDescriptor, String> getStreamFingerprints(final AirbyteCatalog catalog) {
+    return catalog.getStreams()
+        .stream()
+        .collect(Collectors.toMap(CatalogDiffHelpers::extractStreamDescriptor, CatalogDiffHelpers::getStreamFingerprint, (first, second) -> first));
+  }
+
   /**
    * Returns difference between two provided catalogs.
    *
@@ -160,12 +195,36 @@ public class CatalogDiffHelpers {
   public static Set<StreamTransform> getCatalogDiff(final AirbyteCatalog oldCatalog,
                                                     final AirbyteCatalog newCatalog,
                                                     final ConfiguredAirbyteCatalog configuredCatalog) {
+    return getCatalogDiff(oldCatalog, Map.of(), newCatalog, Map.of(), configuredCatalog);
+  }
+
+  /**
+   * Returns difference between two provided catalogs. Streams present in both catalogs are only
+   * diffed when their fingerprints differ, so that the fields of unchanged streams aren't walked.
+   * Fingerprints are usually the ones stored along with the catalogs, see
+   * {@link #getStreamFingerprints(AirbyteCatalog)}. Streams without a known fingerprint on either side
+   * are compared as they are.
+   *
+   * @param oldCatalog - old catalog
+   * @param oldStreamFingerprints - known fingerprints of the streams of the old catalog
+   * @param newCatalog - new catalog
+   * @param newStreamFingerprints - known fingerprints of the streams of the new catalog
+   * @return difference between old and new catalogs
+   */
+  public static Set<StreamTransform> getCatalogDiff(final AirbyteCatalog oldCatalog,
+                                                    final Map<StreamDescriptor, String> oldStreamFingerprints,
+                                                    final AirbyteCatalog newCatalog,
+                                                    final Map<StreamDescriptor, String> newStreamFingerprints,
+                                                    final ConfiguredAirbyteCatalog configuredCatalog) {
     final Set<StreamTransform> streamTransforms = new HashSet<>();
 
     final Map<StreamDescriptor, AirbyteStream> descriptorToStreamOld = streamDescriptorToMap(
         oldCatalog);
     final Map<StreamDescriptor, AirbyteStream> descriptorToStreamNew = streamDescriptorToMap(
         newCatalog);
+    final Map<StreamDescriptor, ConfiguredAirbyteStream> descriptorToConfiguredStream = configuredCatalog.getStreams()
+        .stream()
+        .collect(Collectors.toMap(s -> extractStreamDescriptor(s.getStream()), s -> s, (first, second) -> first));
 
     Sets.difference(descriptorToStreamOld.keySet(), descriptorToStreamNew.keySet())
         .forEach(descriptor -> streamTransforms.add(
@@ -175,15 +234,20 @@ public class CatalogDiffHelpers {
             StreamTransform.createAddStreamTransform(descriptor)));
     Sets.intersection(descriptorToStreamOld.keySet(), descriptorToStreamNew.keySet())
         .forEach(descriptor -> {
+          final Optional<ConfiguredAirbyteStream> stream = Optional.ofNullable(descriptorToConfiguredStream.get(descriptor));
+          if (stream.isEmpty()) {
+            return;
+          }
+
           final AirbyteStream streamOld = descriptorToStreamOld.get(descriptor);
           final AirbyteStream streamNew = descriptorToStreamNew.get(descriptor);
+          final String fingerprintOld = oldStreamFingerprints.get(descriptor);
+          final String fingerprintNew = newStreamFingerprints.get(descriptor);
+          final boolean unchanged = fingerprintOld != null && fingerprintNew != null
+              ? fingerprintOld.equals(fingerprintNew)
+              : streamOld.equals(streamNew);
 
-          final Optional<ConfiguredAirbyteStream> stream = configuredCatalog.getStreams().stream()
-              .filter(s -> Objects.equals(s.getStream().getNamespace(), descriptor.getNamespace())
-                  && s.getStream().getName().equals(descriptor.getName()))
-              .findFirst();
-
-          if (!streamOld.equals(streamNew) && stream.isPresent()) {
+          if (!unchanged) {
             // getStreamDiff only checks for differences in the stream's field name or field type
             // but there are a number of reasons the streams might be different (such as a source-defined
             // primary key or cursor changing). These should not be expressed as "stream updates".
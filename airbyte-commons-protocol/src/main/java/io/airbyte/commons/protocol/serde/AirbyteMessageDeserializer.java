@@ -5,6 +5,7 @@
 package io.airbyte.commons.protocol.serde;
 
 import io.airbyte.commons.version.Version;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
 /**
@@ -20,6 +21,14 @@ public interface AirbyteMessageDeserializer<T> {
    */
   Optional<T> deserializeExact(final String json);
 
+  /**
+   * Same as {@link #deserializeExact(String)} but reads UTF-8 encoded bytes. Implementations should
+   * parse the bytes directly to avoid decoding them into a String first.
+   */
+  default Optional<T> deserializeExact(final byte[] json) {
+    return deserializeExact(new String(json, StandardCharsets.UTF_8));
+  }
+
   Version getTargetVersion();
 
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.protocol.serde;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.airbyte.commons.jackson.MoreMappers;
+import io.airbyte.commons.json.RawJsonNode;
+import io.airbyte.commons.version.Version;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import lombok.Getter;
+
+/**
+ * Deserializer that keeps the data of record messages as the raw JSON emitted by the connector
+ * ({@link RawJsonNode}) instead of parsing it into a JsonNode tree. Everything else in the message
+ * (the envelope) is deserialized as usual, so it can still be inspected and rewritten.
+ * <p>
+ * This should only be used when nothing downstream needs to look inside the record data (no field
+ * selection, no schema validation), the data is then written back verbatim to the destination.
+ */
+public class AirbyteMessageRawRecordDataDeserializer implements AirbyteMessageDeserializer<AirbyteMessage> {
+
+  private static final String RAW_SOURCE_ATTRIBUTE = "airbyte.raw-source";
+
+  private static final ObjectMapper OBJECT_MAPPER;
+
+  static {
+    OBJECT_MAPPER = MoreMappers.initMapper();
+    OBJECT_MAPPER.enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+    OBJECT_MAPPER.getFactory().setStreamReadConstraints(StreamReadConstraints.builder().maxStringLength(Integer.MAX_VALUE).build());
+    OBJECT_MAPPER.addMixIn(AirbyteRecordMessage.class, RawDataRecordMixin.class);
+  }
+
+  private static final ObjectReader MESSAGE_READER = OBJECT_MAPPER.readerFor(AirbyteMessage.class);
+
+  @Getter
+  private final Version targetVersion;
+
+  public AirbyteMessageRawRecordDataDeserializer(final Version targetVersion) {
+    this.targetVersion = targetVersion;
+  }
+
+  @Override
+  public Optional<AirbyteMessage> deserializeExact(final String json) {
+    try {
+      return Optional.of(MESSAGE_READER.withAttribute(RAW_SOURCE_ATTRIBUTE, json).readValue(json));
+    } catch (final Throwable e) {
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public Optional<AirbyteMessage> deserializeExact(final byte[] json) {
+    try {
+      return Optional.of(MESSAGE_READER.withAttribute(RAW_SOURCE_ATTRIBUTE, json).readValue(json));
+    } catch (final Throwable e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Mixin replacing the deserializer of {@link AirbyteRecordMessage#getData()}.
+   */
+  abstract static class RawDataRecordMixin {
+
+    @JsonProperty("data")
+    @JsonDeserialize(using = RawJsonNodeDeserializer.class)
+    abstract void setData(JsonNode data);
+
+  }
+
+  /**
+   * Captures the JSON text of an object or array value from the source being parsed rather than
+   * building a tree from its tokens. Scalar values are small and are parsed as usual.
+   */
+  static class RawJsonNodeDeserializer extends JsonDeserializer<JsonNode> {
+
+    @Override
+    public JsonNode deserialize(final JsonParser parser, final DeserializationContext ctxt) throws IOException {
+      final JsonToken token = parser.currentToken();
+      final Object source = ctxt.getAttribute(RAW_SOURCE_ATTRIBUTE);
+      if ((token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) || source == null) {
+        return ctxt.readTree(parser);
+      }
+
+      final JsonLocation start = parser.currentTokenLocation();
+      parser.skipChildren();
+      final JsonLocation end = parser.currentLocation();
+
+      if (source instanceof byte[] bytes) {
+        final int from = Math.toIntExact(start.getByteOffset());
+        final int to = Math.toIntExact(end.getByteOffset());
+        return new RawJsonNode(new String(bytes, from, to - from, StandardCharsets.UTF_8));
+      } else {
+        final int from = Math.toIntExact(start.getCharOffset());
+        final int to = Math.toIntExact(end.getCharOffset());
+        return new RawJsonNode(((String) source).substring(from, to));
+      }
+    }
+
+  }
+
+}
@@ -5,6 +5,7 @@
 package io.airbyte.commons.protocol;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.io.Resources;
@@ -253,6 +254,54 @@ class CatalogDiffHelpersTest {
     Assertions.assertThat(actualDiff).containsExactlyElementsOf(expectedDiff);
   }
 
+  @Test
+  void testGetStreamFingerprint() throws IOException {
+    final JsonNode schema1 = Jsons.deserialize(readResource(VALID_SCHEMA_JSON));
+    final JsonNode schema2 = Jsons.deserialize(readResource("diffs/valid_schema2.json"));
+    final AirbyteStream stream = new AirbyteStream().withName(USERS).withJsonSchema(schema1).withSourceDefinedPrimaryKey(COMPOSITE_PK);
+
+    // attributes that aren't diffed don't change the fingerprint
+    assertEquals(CatalogDiffHelpers.getStreamFingerprint(stream), CatalogDiffHelpers.getStreamFingerprint(
+        new AirbyteStream().withName(SALES).withJsonSchema(schema1.deepCopy()).withSourceDefinedPrimaryKey(COMPOSITE_PK)
+            .withSupportedSyncModes(List.of(SyncMode.INCREMENTAL))));
+    assertNotEquals(CatalogDiffHelpers.getStreamFingerprint(stream), CatalogDiffHelpers.getStreamFingerprint(
+        new AirbyteStream().withName(USERS).withJsonSchema(schema2).withSourceDefinedPrimaryKey(COMPOSITE_PK)));
+    assertNotEquals(CatalogDiffHelpers.getStreamFingerprint(stream), CatalogDiffHelpers.getStreamFingerprint(
+        new AirbyteStream().withName(USERS).withJsonSchema(schema1).withSourceDefinedPrimaryKey(COMPOSITE_PK.reversed())));
+  }
+
+  @Test
+  void testGetCatalogDiffWithStreamFingerprints() throws IOException {
+    final JsonNode schema1 = Jsons.deserialize(readResource(VALID_SCHEMA_JSON));
+    final JsonNode schema2 = Jsons.deserialize(readResource("diffs/valid_schema2.json"));
+    final AirbyteCatalog catalog1 = new AirbyteCatalog().withStreams(List.of(
+        new AirbyteStream().withName(USERS).withJsonSchema(schema1),
+        new AirbyteStream().withName(SALES).withJsonSchema(schema1)));
+    final AirbyteCatalog catalog2 = new AirbyteCatalog().withStreams(List.of(
+        new AirbyteStream().withName(USERS).withJsonSchema(schema2),
+        new AirbyteStream().withName(SALES).withJsonSchema(schema1).withSupportedSyncModes(List.of(SyncMode.FULL_REFRESH))));
+
+    final ConfiguredAirbyteCatalog configuredAirbyteCatalog = new ConfiguredAirbyteCatalog().withStreams(List.of(
+        new ConfiguredAirbyteStream().withStream(new AirbyteStream().withName(USERS).withJsonSchema(schema1)).withSyncMode(SyncMode.FULL_REFRESH),
+        new ConfiguredAirbyteStream().withStream(new AirbyteStream().withName(SALES).withJsonSchema(schema1)).withSyncMode(SyncMode.FULL_REFRESH)));
+
+    final Set<StreamTransform> diffWithFingerprints = CatalogDiffHelpers.getCatalogDiff(
+        catalog1, CatalogDiffHelpers.getStreamFingerprints(catalog1),
+        catalog2, CatalogDiffHelpers.getStreamFingerprints(catalog2),
+        configuredAirbyteCatalog);
+
+    assertEquals(CatalogDiffHelpers.getCatalogDiff(catalog1, catalog2, configuredAirbyteCatalog), diffWithFingerprints);
+    Assertions.assertThat(diffWithFingerprints).extracting(StreamTransform::getStreamDescriptor)
+        .containsExactly(new StreamDescriptor().withName(USERS));
+
+    // streams with the same fingerprint aren't diffed
+    final Map<StreamDescriptor, String> sameFingerprints = Map.of(
+        new StreamDescriptor().withName(USERS), "fingerprint",
+        new StreamDescriptor().withName(SALES), "fingerprint");
+    Assertions.assertThat(CatalogDiffHelpers.getCatalogDiff(catalog1, sameFingerprints, catalog2, sameFingerprints, configuredAirbyteCatalog))
+        .isEmpty();
+  }
+
   private static Stream<Arguments> testCatalogDiffWithSourceDefinedPrimaryKeyChangeMethodSource() {
     return Stream.of(
         // Should be breaking in DE-DUP mode if the previous PK is not the new source-defined PK
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.protocol.serde;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.json.RawJsonNode;
+import io.airbyte.commons.version.AirbyteProtocolVersion;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class AirbyteMessageRawRecordDataDeserializerTest {
+
+  private static final String RECORD =
+      "{\"type\":\"RECORD\",\"record\":{\"stream\":\"users\",\"data\":{\"name\":\"Zoë\",\"score\":1.10,\"tags\":[1, 2]},\"emitted_at\":1}}";
+
+  private final AirbyteMessageRawRecordDataDeserializer deserializer = new AirbyteMessageRawRecordDataDeserializer(AirbyteProtocolVersion.V1);
+
+  @Test
+  void testKeepsRawDataFromString() {
+    final AirbyteMessage message = deserializer.deserializeExact(RECORD).orElseThrow();
+
+    assertRawRecord(message);
+  }
+
+  @Test
+  void testKeepsRawDataFromBytes() {
+    final AirbyteMessage message = deserializer.deserializeExact(RECORD.getBytes(StandardCharsets.UTF_8)).orElseThrow();
+
+    assertRawRecord(message);
+  }
+
+  @Test
+  void testSerializesRawDataVerbatim() {
+    final AirbyteMessage message = deserializer.deserializeExact(RECORD.getBytes(StandardCharsets.UTF_8)).orElseThrow();
+    message.getRecord().setStream("renamed_users");
+
+    final String serialized = Jsons.serialize(message);
+
+    assertTrue(serialized.contains("\"data\":{\"name\":\"Zoë\",\"score\":1.10,\"tags\":[1, 2]}"));
+    assertTrue(serialized.contains("\"stream\":\"renamed_users\""));
+  }
+
+  @Test
+  void testInvalidJson() {
+    assertTrue(deserializer.deserializeExact("{\"type\":\"RECORD\",\"record\":{\"data\":{").isEmpty());
+  }
+
+  private static void assertRawRecord(final AirbyteMessage message) {
+    assertEquals(Type.RECORD, message.getType());
+    assertEquals("users", message.getRecord().getStream());
+    assertEquals(1L, message.getRecord().getEmittedAt());
+    final RawJsonNode data = assertInstanceOf(RawJsonNode.class, message.getRecord().getData());
+    assertEquals("{\"name\":\"Zoë\",\"score\":1.10,\"tags\":[1, 2]}", data.getRawJson());
+    assertEquals(Jsons.deserialize("{\"name\":\"Zoë\",\"score\":1.10,\"tags\":[1, 2]}"), data.materialize());
+  }
+
+}
@@ -19,6 +19,8 @@ import io.airbyte.commons.server.errors.BadRequestException;
 import io.airbyte.commons.server.errors.IdNotFoundKnownException;
 import io.airbyte.commons.server.errors.UnprocessableContentException;
 import io.airbyte.commons.server.handlers.helpers.JobCreationAndStatusUpdateHelper;
+import io.airbyte.commons.server.handlers.helpers.StatsWriteCoalescer;
+import io.airbyte.commons.server.handlers.helpers.StatsWriteCoalescer.StatsWrite;
 import io.airbyte.commons.temporal.TemporalUtils;
 import io.airbyte.config.AttemptFailureSummary;
 import io.airbyte.config.JobConfig;
@@ -79,6 +81,7 @@ public class AttemptHandler {
   private final GenerationBumper generationBumper;
   private final ConnectionService connectionService;
   private final DestinationService destinationService;
+  private final StatsWriteCoalescer statsWriteCoalescer;
 
   public AttemptHandler(final JobPersistence jobPersistence,
                         final StatePersistence statePersistence,
@@ -88,7 +91,8 @@ public class AttemptHandler {
                         @Named("workspaceRoot") final Path workspaceRoot,
                         final GenerationBumper generationBumper,
                         final ConnectionService connectionService,
-                        final DestinationService destinationService) {
+                        final DestinationService destinationService,
+                        final StatsWriteCoalescer statsWriteCoalescer) {
     this.jobPersistence = jobPersistence;
     this.statePersistence = statePersistence;
     this.jobConverter = jobConverter;
@@ -98,6 +102,7 @@ public class AttemptHandler {
     this.generationBumper = generationBumper;
     this.connectionService = connectionService;
     this.destinationService = destinationService;
+    this.statsWriteCoalescer = statsWriteCoalescer;
   }
 
   public CreateNewAttemptNumberResponse createNewAttemptNumber(final long jobId)
@@ -262,7 +267,6 @@ public class AttemptHandler {
 
   public InternalOperationResult saveStats(final SaveStatsRequestBody requestBody) {
     try {
-      final var stats = requestBody.getStats();
       final var streamStats = requestBody.getStreamStats().stream()
           .map(s -> new StreamSyncStats()
               .withStreamName(s.getStreamName())
@@ -276,12 +280,17 @@ public class AttemptHandler {
                   .withEstimatedRecords(s.getStats().getEstimatedRecords())))
           .collect(Collectors.toList());
 
-      jobPersistence.writeStats(requestBody.getJobId(), requestBody.getAttemptNumber(),
-          stats.getEstimatedRecords(), stats.getEstimatedBytes(),
-          stats.getRecordsEmitted(), stats.getBytesEmitted(),
-          stats.getRecordsCommitted(), stats.getBytesCommitted(),
-          requestBody.getConnectionId(),
-          streamStats);
+      final var stats = requestBody.getStats();
+      final var syncStats = new SyncStats()
+          .withEstimatedRecords(stats.getEstimatedRecords())
+          .withEstimatedBytes(stats.getEstimatedBytes())
+          .withRecordsEmitted(stats.getRecordsEmitted())
+          .withBytesEmitted(stats.getBytesEmitted())
+          .withRecordsCommitted(stats.getRecordsCommitted())
+          .withBytesCommitted(stats.getBytesCommitted());
+
+      statsWriteCoalescer.write(
+          new StatsWrite(requestBody.getJobId(), requestBody.getAttemptNumber(), syncStats, requestBody.getConnectionId(), streamStats));
 
     } catch (final IOException ioe) {
       LOGGER.error("IOException when setting temporal workflow in attempt;", ioe);
@@ -331,6 +340,7 @@ public class AttemptHandler {
 
     if (output != null) {
       final JobOutput jobOutput = new JobOutput().withSync(output);
+      statsWriteCoalescer.flush(jobId, attemptNumber);
       jobPersistence.writeOutput(jobId, attemptNumber, jobOutput);
     }
 
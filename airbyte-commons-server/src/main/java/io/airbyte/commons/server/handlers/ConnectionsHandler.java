@@ -109,6 +109,7 @@ import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.validation.json.JsonValidationException;
 import io.micronaut.context.annotation.Value;
 import io.micronaut.core.util.CollectionUtils;
+import jakarta.annotation.Nullable;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
@@ -775,6 +776,39 @@ public class ConnectionsHandler {
         .toList());
   }
 
+  /**
+   * Returns the diff between two catalogs, skipping the streams whose fingerprint didn't change. The
+   * fingerprints are the ones stored along with the actor catalogs the catalogs were built from.
+   *
+   * @param oldCatalog the old catalog
+   * @param oldCatalogId the id of the actor catalog the old catalog was built from, if any
+   * @param newCatalog the new catalog
+   * @param newCatalogId the id of the actor catalog the new catalog was built from, if any
+   * @param configuredCatalog the configured catalog of the connection
+   * @return the diff between the catalogs
+   */
+  public CatalogDiff getDiff(final AirbyteCatalog oldCatalog,
+                             @Nullable final UUID oldCatalogId,
+                             final AirbyteCatalog newCatalog,
+                             @Nullable final UUID newCatalogId,
+                             final ConfiguredAirbyteCatalog configuredCatalog)
+      throws JsonValidationException, ConfigNotFoundException, IOException {
+    return new CatalogDiff().transforms(CatalogDiffHelpers.getCatalogDiff(
+        CatalogHelpers.configuredCatalogToCatalog(CatalogConverter.toProtocolKeepAllStreams(oldCatalog)),
+        getStreamFingerprints(oldCatalogId),
+        CatalogHelpers.configuredCatalogToCatalog(CatalogConverter.toProtocolKeepAllStreams(newCatalog)),
+        getStreamFingerprints(newCatalogId),
+        configuredCatalog)
+        .stream()
+        .map(CatalogDiffConverters::streamTransformToApi)
+        .toList());
+  }
+
+  private Map<io.airbyte.protocol.models.StreamDescriptor, String> getStreamFingerprints(@Nullable final UUID actorCatalogId)
+      throws ConfigNotFoundException, IOException {
+    return actorCatalogId != null ? configRepository.getActorCatalogStreamFingerprints(actorCatalogId) : Map.of();
+  }
+
   /**
    * Returns the list of the streamDescriptor that have their config updated.
    *
@@ -1130,7 +1164,9 @@ public class ConnectionsHandler {
     final io.airbyte.api.model.generated.AirbyteCatalog currentCatalog = connection.getSyncCatalog();
     final CatalogDiff diffToApply = getDiff(
         catalogUsedToMakeConfiguredCatalog.orElse(currentCatalog),
+        catalogUsedToMakeConfiguredCatalog.isPresent() ? connection.getSourceCatalogId() : null,
         request.getCatalog(),
+        request.getCatalogId(),
         CatalogConverter.toConfiguredProtocol(currentCatalog));
     final ConnectionUpdate updateObject =
         new ConnectionUpdate().connectionId(connection.getConnectionId());
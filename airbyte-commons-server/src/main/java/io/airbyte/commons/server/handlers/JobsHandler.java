@@ -16,6 +16,7 @@ import io.airbyte.commons.server.JobStatus;
 import io.airbyte.commons.server.errors.BadRequestException;
 import io.airbyte.commons.server.handlers.helpers.JobCreationAndStatusUpdateHelper;
 import io.airbyte.commons.server.handlers.helpers.StatsAggregationHelper;
+import io.airbyte.commons.server.handlers.helpers.StatsWriteCoalescer;
 import io.airbyte.config.AttemptFailureSummary;
 import io.airbyte.config.AttemptSyncConfig;
 import io.airbyte.config.FailureReason;
@@ -61,17 +62,20 @@ public class JobsHandler {
   private final JobNotifier jobNotifier;
   private final JobErrorReporter jobErrorReporter;
   private final ConnectionTimelineEventService connectionEventService;
+  private final StatsWriteCoalescer statsWriteCoalescer;
 
   public JobsHandler(final JobPersistence jobPersistence,
                      final JobCreationAndStatusUpdateHelper jobCreationAndStatusUpdateHelper,
                      final JobNotifier jobNotifier,
                      final JobErrorReporter jobErrorReporter,
-                     final ConnectionTimelineEventService connectionEventService) {
+                     final ConnectionTimelineEventService connectionEventService,
+                     final StatsWriteCoalescer statsWriteCoalescer) {
     this.jobPersistence = jobPersistence;
     this.jobCreationAndStatusUpdateHelper = jobCreationAndStatusUpdateHelper;
     this.jobNotifier = jobNotifier;
     this.jobErrorReporter = jobErrorReporter;
     this.connectionEventService = connectionEventService;
+    this.statsWriteCoalescer = statsWriteCoalescer;
   }
 
   /**
@@ -160,6 +164,7 @@ public class JobsHandler {
 
       if (input.getStandardSyncOutput() != null) {
         final JobOutput jobOutput = new JobOutput().withSync(Jsons.convertValue(input.getStandardSyncOutput(), StandardSyncOutput.class));
+        statsWriteCoalescer.flush(jobId, attemptNumber);
         jobPersistence.writeOutput(jobId, attemptNumber, jobOutput);
       } else {
         log.warn("The job {} doesn't have any output for the attempt {}", jobId, attemptNumber);
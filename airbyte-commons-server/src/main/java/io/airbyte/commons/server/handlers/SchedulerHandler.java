@@ -426,7 +426,9 @@ public class SchedulerHandler {
           connectionRead.getSyncCatalog();
       final CatalogDiff diff =
           connectionsHandler.getDiff(catalogUsedToMakeConfiguredCatalog.orElse(syncCatalog),
+              catalogUsedToMakeConfiguredCatalog.isPresent() ? connectionRead.getSourceCatalogId() : null,
               sourceAutoPropagateChange.getCatalog(),
+              sourceAutoPropagateChange.getCatalogId(),
               CatalogConverter.toConfiguredProtocol(syncCatalog));
 
       final ConnectionUpdate updateObject =
@@ -625,7 +627,10 @@ public class SchedulerHandler {
       final io.airbyte.api.model.generated.@NotNull AirbyteCatalog currentAirbyteCatalog =
           connectionRead.getSyncCatalog();
       final CatalogDiff diff =
-          connectionsHandler.getDiff(catalogUsedToMakeConfiguredCatalog.orElse(currentAirbyteCatalog), discoveredSchema.getCatalog(),
+          connectionsHandler.getDiff(catalogUsedToMakeConfiguredCatalog.orElse(currentAirbyteCatalog),
+              catalogUsedToMakeConfiguredCatalog.isPresent() ? connectionRead.getSourceCatalogId() : null,
+              discoveredSchema.getCatalog(),
+              discoveredSchema.getCatalogId(),
               CatalogConverter.toConfiguredProtocol(currentAirbyteCatalog));
       final boolean containsBreakingChange = AutoPropagateSchemaChangeHelper.containsBreakingChange(diff);
 
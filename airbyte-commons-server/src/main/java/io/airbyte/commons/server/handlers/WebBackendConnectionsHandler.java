@@ -28,6 +28,7 @@ import io.airbyte.api.model.generated.JobStatus;
 import io.airbyte.api.model.generated.OperationCreate;
 import io.airbyte.api.model.generated.OperationReadList;
 import io.airbyte.api.model.generated.OperationUpdate;
+import io.airbyte.api.model.generated.Pagination;
 import io.airbyte.api.model.generated.SchemaChange;
 import io.airbyte.api.model.generated.SelectedFieldInfo;
 import io.airbyte.api.model.generated.SourceDiscoverSchemaRead;
@@ -54,6 +55,7 @@ import io.airbyte.commons.lang.MoreBooleans;
 import io.airbyte.commons.server.converters.ApiPojoConverters;
 import io.airbyte.commons.server.handlers.helpers.AutoPropagateSchemaChangeHelper;
 import io.airbyte.commons.server.handlers.helpers.CatalogConverter;
+import io.airbyte.commons.server.handlers.helpers.PaginationHelper;
 import io.airbyte.commons.server.scheduler.EventRunner;
 import io.airbyte.config.ActorCatalog;
 import io.airbyte.config.ActorCatalogFetchEvent;
@@ -64,7 +66,9 @@ import io.airbyte.config.StandardSync;
 import io.airbyte.config.persistence.ActorDefinitionVersionHelper;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
-import io.airbyte.config.persistence.ConfigRepository.StandardSyncQuery;
+import io.airbyte.data.services.ConnectionService;
+import io.airbyte.data.services.shared.StandardSyncSummary;
+import io.airbyte.data.services.shared.StandardSyncSummaryQuery;
 import io.airbyte.featureflag.ActivateRefreshes;
 import io.airbyte.featureflag.Connection;
 import io.airbyte.featureflag.FeatureFlagClient;
@@ -112,6 +116,7 @@ public class WebBackendConnectionsHandler {
   private final ConfigRepository configRepositoryDoNotUse;
   private final ActorDefinitionVersionHelper actorDefinitionVersionHelper;
   private final FeatureFlagClient featureFlagClient;
+  private final ConnectionService connectionService;
 
   public WebBackendConnectionsHandler(final ConnectionsHandler connectionsHandler,
                                       final StateHandler stateHandler,
@@ -124,7 +129,8 @@ public class WebBackendConnectionsHandler {
                                       final EventRunner eventRunner,
                                       final ConfigRepository configRepositoryDoNotUse,
                                       final ActorDefinitionVersionHelper actorDefinitionVersionHelper,
-                                      final FeatureFlagClient featureFlagClient) {
+                                      final FeatureFlagClient featureFlagClient,
+                                      final ConnectionService connectionService) {
     this.connectionsHandler = connectionsHandler;
     this.stateHandler = stateHandler;
     this.sourceHandler = sourceHandler;
@@ -137,6 +143,7 @@ public class WebBackendConnectionsHandler {
     this.configRepositoryDoNotUse = configRepositoryDoNotUse;
     this.actorDefinitionVersionHelper = actorDefinitionVersionHelper;
     this.featureFlagClient = featureFlagClient;
+    this.connectionService = connectionService;
   }
 
   public WebBackendWorkspaceStateResult getWorkspaceState(final WebBackendWorkspaceState webBackendWorkspaceState) throws IOException {
@@ -159,17 +166,23 @@ public class WebBackendConnectionsHandler {
   public WebBackendConnectionReadList webBackendListConnectionsForWorkspace(final WebBackendConnectionListRequestBody webBackendConnectionListRequestBody)
       throws IOException {
 
-    final StandardSyncQuery query = new StandardSyncQuery(
+    final Pagination pagination = webBackendConnectionListRequestBody.getPagination();
+    final StandardSyncSummaryQuery query = new StandardSyncSummaryQuery(
         webBackendConnectionListRequestBody.getWorkspaceId(),
         webBackendConnectionListRequestBody.getSourceId(),
         webBackendConnectionListRequestBody.getDestinationId(),
+        webBackendConnectionListRequestBody.getNameContains(),
         // passing 'false' so that deleted connections are not included
-        false);
+        false,
+        // without pagination, the whole list is returned as before
+        pagination == null ? null : PaginationHelper.pageSize(pagination),
+        PaginationHelper.rowOffset(pagination));
 
-    final List<StandardSync> standardSyncs = configRepositoryDoNotUse.listWorkspaceStandardSyncs(query);
-    final List<UUID> sourceIds = standardSyncs.stream().map(StandardSync::getSourceId).toList();
-    final List<UUID> destinationIds = standardSyncs.stream().map(StandardSync::getDestinationId).toList();
-    final List<UUID> connectionIds = standardSyncs.stream().map(StandardSync::getConnectionId).toList();
+    // List views never show the streams, so only the connection summaries are loaded, not their catalogs.
+    final List<StandardSyncSummary> connections = connectionService.listWorkspaceStandardSyncSummaries(query);
+    final List<UUID> sourceIds = connections.stream().map(StandardSyncSummary::sourceId).toList();
+    final List<UUID> destinationIds = connections.stream().map(StandardSyncSummary::destinationId).toList();
+    final List<UUID> connectionIds = connections.stream().map(StandardSyncSummary::connectionId).toList();
 
     // Fetching all the related objects we need for the final output
     final Map<UUID, SourceSnippetRead> sourceReadById = getSourceSnippetReadById(sourceIds);
@@ -183,15 +196,15 @@ public class WebBackendConnectionsHandler {
 
     final List<WebBackendConnectionListItem> connectionItems = Lists.newArrayList();
 
-    for (final StandardSync standardSync : standardSyncs) {
+    for (final StandardSyncSummary connection : connections) {
       connectionItems.add(
           buildWebBackendConnectionListItem(
-              standardSync,
+              connection,
               sourceReadById,
               destinationReadById,
               latestJobByConnectionId,
               runningJobByConnectionId,
-              Optional.ofNullable(newestFetchEventsByActorId.get(standardSync.getSourceId()))));
+              Optional.ofNullable(newestFetchEventsByActorId.get(connection.sourceId()))));
     }
 
     return new WebBackendConnectionReadList().connections(connectionItems);
@@ -251,26 +264,26 @@ public class WebBackendConnectionsHandler {
   }
 
   private static WebBackendConnectionListItem buildWebBackendConnectionListItem(
-                                                                                final StandardSync standardSync,
+                                                                                final StandardSyncSummary connection,
                                                                                 final Map<UUID, SourceSnippetRead> sourceReadById,
                                                                                 final Map<UUID, DestinationSnippetRead> destinationReadById,
                                                                                 final Map<UUID, JobStatusSummary> latestJobByConnectionId,
                                                                                 final Map<UUID, JobRead> runningJobByConnectionId,
                                                                                 final Optional<ActorCatalogFetchEvent> latestFetchEvent) {
 
-    final SourceSnippetRead source = sourceReadById.get(standardSync.getSourceId());
-    final DestinationSnippetRead destination = destinationReadById.get(standardSync.getDestinationId());
-    final Optional<JobStatusSummary> latestSyncJob = Optional.ofNullable(latestJobByConnectionId.get(standardSync.getConnectionId()));
-    final Optional<JobRead> latestRunningSyncJob = Optional.ofNullable(runningJobByConnectionId.get(standardSync.getConnectionId()));
-    final ConnectionRead connectionRead = ApiPojoConverters.internalToConnectionRead(standardSync);
-    final Optional<UUID> currentCatalogId = connectionRead == null ? Optional.empty() : Optional.ofNullable(connectionRead.getSourceCatalogId());
+    final SourceSnippetRead source = sourceReadById.get(connection.sourceId());
+    final DestinationSnippetRead destination = destinationReadById.get(connection.destinationId());
+    final Optional<JobStatusSummary> latestSyncJob = Optional.ofNullable(latestJobByConnectionId.get(connection.connectionId()));
+    final Optional<JobRead> latestRunningSyncJob = Optional.ofNullable(runningJobByConnectionId.get(connection.connectionId()));
+    final StandardSync standardSync = connection.toPartialStandardSync();
 
-    final SchemaChange schemaChange = getSchemaChange(connectionRead, currentCatalogId, latestFetchEvent);
+    final SchemaChange schemaChange =
+        getSchemaChange(connection.breakingChange(), Optional.ofNullable(connection.sourceCatalogId()), latestFetchEvent);
 
     final WebBackendConnectionListItem listItem = new WebBackendConnectionListItem()
-        .connectionId(standardSync.getConnectionId())
-        .status(ApiPojoConverters.toApiStatus(standardSync.getStatus()))
-        .name(standardSync.getName())
+        .connectionId(connection.connectionId())
+        .status(ApiPojoConverters.toApiStatus(connection.status()))
+        .name(connection.name())
         .scheduleType(ApiPojoConverters.toApiConnectionScheduleType(standardSync))
         .scheduleData(ApiPojoConverters.toApiConnectionScheduleData(standardSync))
         .source(source)
@@ -299,11 +312,20 @@ public class WebBackendConnectionsHandler {
                                       final ConnectionRead connectionRead,
                                       final Optional<UUID> currentSourceCatalogId,
                                       final Optional<ActorCatalogFetchEvent> mostRecentFetchEvent) {
-    if (connectionRead == null || currentSourceCatalogId.isEmpty()) {
+    if (connectionRead == null) {
+      return SchemaChange.NO_CHANGE;
+    }
+    return getSchemaChange(connectionRead.getBreakingChange(), currentSourceCatalogId, mostRecentFetchEvent);
+  }
+
+  private static SchemaChange getSchemaChange(final Boolean breakingChange,
+                                              final Optional<UUID> currentSourceCatalogId,
+                                              final Optional<ActorCatalogFetchEvent> mostRecentFetchEvent) {
+    if (currentSourceCatalogId.isEmpty()) {
       return SchemaChange.NO_CHANGE;
     }
 
-    if (connectionRead.getBreakingChange() != null && connectionRead.getBreakingChange()) {
+    if (breakingChange != null && breakingChange) {
       return SchemaChange.BREAKING;
     }
 
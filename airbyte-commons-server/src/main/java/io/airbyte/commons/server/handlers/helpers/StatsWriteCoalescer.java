@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.server.handlers.helpers;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.Striped;
+import io.airbyte.config.StreamSyncStats;
+import io.airbyte.config.SyncStats;
+import io.airbyte.persistence.job.JobPersistence;
+import io.micronaut.context.annotation.Value;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Coalesces the stats writes of attempts.
+ * <p>
+ * Orchestrators report the running totals of their attempt every few seconds, so with many
+ * concurrent syncs most writes are overwritten shortly after. When a coalescing interval is set,
+ * only the latest stats of an attempt are kept and written once per interval. With no interval,
+ * the stats are written right away.
+ * <p>
+ * The pending stats of an attempt must be flushed before its output is written, since the output
+ * holds the final stats which a late write would overwrite. As the stats are only pending in the
+ * replica they were reported to, coalesced stats are also only written while the attempt is running
+ * and has no output, in case another replica wrote the output first.
+ */
+@Slf4j
+@Singleton
+public class StatsWriteCoalescer {
+
+  private final JobPersistence jobPersistence;
+  private final Duration coalescingInterval;
+  private final Map<AttemptKey, StatsWrite> pendingWrites = new ConcurrentHashMap<>();
+  private final Striped<Lock> flushLocks = Striped.lock(64);
+  private final ScheduledExecutorService flushExecutor;
+
+  public StatsWriteCoalescer(final JobPersistence jobPersistence,
+                             @Value("${airbyte.server.stats.write-coalescing-interval:0s}") final Duration coalescingInterval) {
+    this.jobPersistence = jobPersistence;
+    this.coalescingInterval = coalescingInterval;
+    if (isCoalescing()) {
+      flushExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        final Thread thread = new Thread(r, "stats-write-coalescer");
+        thread.setDaemon(true);
+        return thread;
+      });
+      flushExecutor.scheduleWithFixedDelay(this::flushAll, coalescingInterval.toMillis(), coalescingInterval.toMillis(), TimeUnit.MILLISECONDS);
+    } else {
+      flushExecutor = null;
+    }
+  }
+
+  /**
+   * The stats reported for an attempt.
+   */
+  public record StatsWrite(long jobId, int attemptNumber, SyncStats stats, UUID connectionId, List<StreamSyncStats> streamStats) {}
+
+  private record AttemptKey(long jobId, int attemptNumber) {}
+
+  /**
+   * Writes the stats of an attempt, or keeps them until the next flush when coalescing. The stats
+   * replace any pending stats of the attempt, as they are running totals.
+   */
+  public void write(final StatsWrite statsWrite) throws IOException {
+    if (!isCoalescing()) {
+      final SyncStats stats = statsWrite.stats();
+      jobPersistence.writeStats(statsWrite.jobId(), statsWrite.attemptNumber(),
+          stats.getEstimatedRecords(), stats.getEstimatedBytes(),
+          stats.getRecordsEmitted(), stats.getBytesEmitted(),
+          stats.getRecordsCommitted(), stats.getBytesCommitted(),
+          statsWrite.connectionId(),
+          statsWrite.streamStats());
+      return;
+    }
+    pendingWrites.put(new AttemptKey(statsWrite.jobId(), statsWrite.attemptNumber()), statsWrite);
+  }
+
+  /**
+   * Writes the pending stats of an attempt, if any. Once this returns, no write of stats reported
+   * earlier for the attempt is in flight.
+   */
+  public void flush(final long jobId, final int attemptNumber) throws IOException {
+    final AttemptKey key = new AttemptKey(jobId, attemptNumber);
+    // The stats are taken out of the map before being written, so that reports of other attempts don't
+    // wait on the database. The lock keeps a flush from returning while the scheduled flush of the
+    // attempt is still writing older stats.
+    final Lock lock = flushLocks.get(key);
+    lock.lock();
+    try {
+      final StatsWrite statsWrite = pendingWrites.remove(key);
+      if (statsWrite == null) {
+        return;
+      }
+      try {
+        persist(statsWrite);
+      } catch (final IOException | RuntimeException e) {
+        // Kept for the next flush, unless newer stats were reported in the meantime.
+        pendingWrites.putIfAbsent(key, statsWrite);
+        throw e;
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @VisibleForTesting
+  void flushAll() {
+    for (final AttemptKey key : pendingWrites.keySet()) {
+      try {
+        flush(key.jobId(), key.attemptNumber());
+      } catch (final IOException | RuntimeException e) {
+        // The stats stay pending and are retried on the next flush, unless newer ones replace them.
+        log.warn("Failed to write the stats of job {} attempt {}", key.jobId(), key.attemptNumber(), e);
+      }
+    }
+  }
+
+  @PreDestroy
+  public void close() {
+    if (flushExecutor != null) {
+      flushExecutor.shutdown();
+      flushAll();
+    }
+  }
+
+  private boolean isCoalescing() {
+    return coalescingInterval != null && coalescingInterval.isPositive();
+  }
+
+  private void persist(final StatsWrite statsWrite) throws IOException {
+    final SyncStats stats = statsWrite.stats();
+    final boolean written = jobPersistence.writeRunningAttemptStats(statsWrite.jobId(), statsWrite.attemptNumber(),
+        stats.getEstimatedRecords(), stats.getEstimatedBytes(),
+        stats.getRecordsEmitted(), stats.getBytesEmitted(),
+        stats.getRecordsCommitted(), stats.getBytesCommitted(),
+        statsWrite.connectionId(),
+        statsWrite.streamStats());
+    if (!written) {
+      log.debug("Skipped the coalesced stats of job {} attempt {} as the attempt is no longer running", statsWrite.jobId(),
+          statsWrite.attemptNumber());
+    }
+  }
+
+}
@@ -38,6 +38,7 @@ import io.airbyte.commons.server.errors.BadRequestException;
 import io.airbyte.commons.server.errors.IdNotFoundKnownException;
 import io.airbyte.commons.server.errors.UnprocessableContentException;
 import io.airbyte.commons.server.handlers.helpers.JobCreationAndStatusUpdateHelper;
+import io.airbyte.commons.server.handlers.helpers.StatsWriteCoalescer;
 import io.airbyte.commons.temporal.TemporalUtils;
 import io.airbyte.config.AttemptFailureSummary;
 import io.airbyte.config.FailureReason;
@@ -79,6 +80,7 @@ import io.airbyte.protocol.models.SyncMode;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
@@ -117,7 +119,8 @@ class AttemptHandlerTest {
       path,
       generationBumper,
       connectionService,
-      destinationService);
+      destinationService,
+      new StatsWriteCoalescer(jobPersistence, Duration.ZERO));
 
   private static final UUID CONNECTION_ID = UUID.randomUUID();
   private static final long JOB_ID = 10002L;
@@ -54,6 +54,7 @@ import io.airbyte.api.model.generated.NonBreakingChangesPreference;
 import io.airbyte.api.model.generated.OperationRead;
 import io.airbyte.api.model.generated.OperationReadList;
 import io.airbyte.api.model.generated.OperationUpdate;
+import io.airbyte.api.model.generated.Pagination;
 import io.airbyte.api.model.generated.ResourceRequirements;
 import io.airbyte.api.model.generated.SchemaChange;
 import io.airbyte.api.model.generated.SelectedFieldInfo;
@@ -101,14 +102,16 @@ import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
 import io.airbyte.config.persistence.ConfigRepository.DestinationAndDefinition;
 import io.airbyte.config.persistence.ConfigRepository.SourceAndDefinition;
-import io.airbyte.config.persistence.ConfigRepository.StandardSyncQuery;
 import io.airbyte.config.secrets.JsonSecretsProcessor;
 import io.airbyte.config.secrets.SecretsRepositoryReader;
 import io.airbyte.data.helpers.ActorDefinitionVersionUpdater;
+import io.airbyte.data.services.ConnectionService;
 import io.airbyte.data.services.DestinationService;
 import io.airbyte.data.services.SecretPersistenceConfigService;
 import io.airbyte.data.services.SourceService;
 import io.airbyte.data.services.WorkspaceService;
+import io.airbyte.data.services.shared.StandardSyncSummary;
+import io.airbyte.data.services.shared.StandardSyncSummaryQuery;
 import io.airbyte.featureflag.ActivateRefreshes;
 import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.TestClient;
@@ -163,6 +166,7 @@ class WebBackendConnectionsHandlerTest {
   private WebBackendConnectionRead expectedNoDiscoveryWithNewSchema;
   private EventRunner eventRunner;
   private ConfigRepository configRepository;
+  private ConnectionService connectionService;
   private ActorDefinitionVersionHelper actorDefinitionVersionHelper;
   private ActorDefinitionHandlerHelper actorDefinitionHandlerHelper;
   private final FeatureFlagClient featureFlagClient = mock(TestClient.class);
@@ -183,6 +187,7 @@ class WebBackendConnectionsHandlerTest {
     operationsHandler = mock(OperationsHandler.class);
     final JobHistoryHandler jobHistoryHandler = mock(JobHistoryHandler.class);
     configRepository = mock(ConfigRepository.class);
+    connectionService = mock(ConnectionService.class);
     schedulerHandler = mock(SchedulerHandler.class);
     eventRunner = mock(EventRunner.class);
     actorDefinitionVersionHelper = mock(ActorDefinitionVersionHelper.class);
@@ -242,7 +247,8 @@ class WebBackendConnectionsHandlerTest {
         eventRunner,
         configRepository,
         actorDefinitionVersionHelper,
-        featureFlagClient));
+        featureFlagClient,
+        connectionService));
 
     final StandardSourceDefinition sourceDefinition = new StandardSourceDefinition()
         .withSourceDefinitionId(UUID.randomUUID())
@@ -263,8 +269,9 @@ class WebBackendConnectionsHandlerTest {
     final StandardSync brokenStandardSync =
         ConnectionHelpers.generateSyncWithSourceAndDestinationId(source.getSourceId(), destination.getDestinationId(), true, Status.INACTIVE);
 
-    when(configRepository.listWorkspaceStandardSyncs(new StandardSyncQuery(sourceRead.getWorkspaceId(), List.of(), List.of(), false)))
-        .thenReturn(Collections.singletonList(standardSync));
+    when(connectionService.listWorkspaceStandardSyncSummaries(
+        new StandardSyncSummaryQuery(sourceRead.getWorkspaceId(), List.of(), List.of(), null, false, null, 0)))
+            .thenReturn(Collections.singletonList(toSummary(standardSync)));
     when(configRepository.getSourceAndDefinitionsFromSourceIds(Collections.singletonList(source.getSourceId())))
         .thenReturn(Collections.singletonList(new SourceAndDefinition(source, sourceDefinition)));
     when(configRepository.getDestinationAndDefinitionsFromDestinationIds(Collections.singletonList(destination.getDestinationId())))
@@ -472,6 +479,22 @@ class WebBackendConnectionsHandlerTest {
     assertEquals(expectedListItem.getDestination().getIcon(), ICON_URL);
   }
 
+  @Test
+  void testWebBackendListConnectionsForWorkspacePage() throws IOException {
+    final WebBackendConnectionListRequestBody webBackendConnectionListRequestBody = new WebBackendConnectionListRequestBody()
+        .workspaceId(sourceRead.getWorkspaceId())
+        .nameContains("sync")
+        .pagination(new Pagination().pageSize(10).rowOffset(20));
+    when(connectionService.listWorkspaceStandardSyncSummaries(any())).thenReturn(List.of());
+
+    final WebBackendConnectionReadList webBackendConnectionReadList =
+        wbHandler.webBackendListConnectionsForWorkspace(webBackendConnectionListRequestBody);
+
+    assertEquals(0, webBackendConnectionReadList.getConnections().size());
+    verify(connectionService).listWorkspaceStandardSyncSummaries(
+        new StandardSyncSummaryQuery(sourceRead.getWorkspaceId(), List.of(), List.of(), "sync", false, 10, 20));
+  }
+
   @Test
   void testWebBackendGetConnection() throws ConfigNotFoundException, IOException, JsonValidationException {
     final ConnectionIdRequestBody connectionIdRequestBody = new ConnectionIdRequestBody();
@@ -1505,4 +1528,10 @@ class WebBackendConnectionsHandlerTest {
         Optional.of(catalogId), Optional.of(new ActorCatalogFetchEvent().withActorCatalogId(differentCatalogId))));
   }
 
+  private static StandardSyncSummary toSummary(final StandardSync standardSync) {
+    return new StandardSyncSummary(standardSync.getConnectionId(), standardSync.getName(), standardSync.getStatus(), standardSync.getSourceId(),
+        standardSync.getDestinationId(), standardSync.getManual(), standardSync.getSchedule(), standardSync.getScheduleType(),
+        standardSync.getScheduleData(), standardSync.getSourceCatalogId(), standardSync.getBreakingChange());
+  }
+
 }
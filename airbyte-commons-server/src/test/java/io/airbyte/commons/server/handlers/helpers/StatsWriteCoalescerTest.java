@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.server.handlers.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import io.airbyte.commons.server.handlers.helpers.StatsWriteCoalescer.StatsWrite;
+import io.airbyte.config.StreamSyncStats;
+import io.airbyte.config.SyncStats;
+import io.airbyte.persistence.job.JobPersistence;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StatsWriteCoalescerTest {
+
+  private static final UUID CONNECTION_ID = UUID.randomUUID();
+  private static final long JOB_ID = 1L;
+  private static final int ATTEMPT_NUMBER = 0;
+
+  private JobPersistence jobPersistence;
+  private StatsWriteCoalescer coalescer;
+
+  @BeforeEach
+  void setup() {
+    jobPersistence = mock(JobPersistence.class);
+    // long enough for the scheduled flush to never run during a test
+    coalescer = new StatsWriteCoalescer(jobPersistence, Duration.ofHours(1));
+  }
+
+  @AfterEach
+  void tearDown() {
+    coalescer.close();
+  }
+
+  @Test
+  void testWritesThroughWithoutInterval() throws IOException {
+    final StatsWriteCoalescer writeThrough = new StatsWriteCoalescer(jobPersistence, Duration.ZERO);
+
+    writeThrough.write(statsWrite(JOB_ID, 10L));
+
+    verify(jobPersistence).writeStats(JOB_ID, ATTEMPT_NUMBER, null, null, 10L, null, null, null, CONNECTION_ID, streamStats(10L));
+  }
+
+  @Test
+  void testOnlyLatestStatsAreWritten() throws IOException {
+    coalescer.write(statsWrite(JOB_ID, 10L));
+    coalescer.write(statsWrite(JOB_ID, 20L));
+    coalescer.write(statsWrite(JOB_ID + 1, 5L));
+    verifyNoInteractions(jobPersistence);
+
+    coalescer.flushAll();
+
+    verifyWrite(JOB_ID, 20L);
+    verifyWrite(JOB_ID + 1, 5L);
+    verify(jobPersistence, times(2)).writeRunningAttemptStats(anyLong(), anyInt(), any(), any(), any(), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void testFlushOfAnAttempt() throws IOException {
+    coalescer.write(statsWrite(JOB_ID, 10L));
+    coalescer.write(statsWrite(JOB_ID + 1, 5L));
+
+    coalescer.flush(JOB_ID, ATTEMPT_NUMBER);
+    verifyWrite(JOB_ID, 10L);
+    verify(jobPersistence, never()).writeRunningAttemptStats(eq(JOB_ID + 1), anyInt(), any(), any(), any(), any(), any(), any(), any(), any());
+
+    // nothing left to write for the attempt
+    coalescer.flush(JOB_ID, ATTEMPT_NUMBER);
+    verify(jobPersistence, times(1)).writeRunningAttemptStats(eq(JOB_ID), anyInt(), any(), any(), any(), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void testFailedWritesStayPending() throws IOException {
+    doThrow(new IOException("db is down")).doReturn(true)
+        .when(jobPersistence).writeRunningAttemptStats(anyLong(), anyInt(), any(), any(), any(), any(), any(), any(), any(), any());
+    coalescer.write(statsWrite(JOB_ID, 10L));
+
+    assertThrows(IOException.class, () -> coalescer.flush(JOB_ID, ATTEMPT_NUMBER));
+    coalescer.flushAll();
+
+    verify(jobPersistence, times(2)).writeRunningAttemptStats(eq(JOB_ID), anyInt(), any(), any(), any(), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void testReportsDoNotWaitForAnInFlightWrite() throws Exception {
+    final CountDownLatch writing = new CountDownLatch(1);
+    final CountDownLatch done = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      writing.countDown();
+      done.await();
+      return true;
+    }).when(jobPersistence).writeRunningAttemptStats(eq(JOB_ID), anyInt(), any(), any(), any(), any(), any(), any(), any(), any());
+    coalescer.write(statsWrite(JOB_ID, 10L));
+
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      final Future<?> flush = executor.submit(() -> {
+        coalescer.flush(JOB_ID, ATTEMPT_NUMBER);
+        return null;
+      });
+      assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+      // newer stats of the attempt are taken while the older ones are being written
+      assertTimeoutPreemptively(Duration.ofSeconds(5), () -> coalescer.write(statsWrite(JOB_ID, 20L)));
+
+      done.countDown();
+      flush.get(5, TimeUnit.SECONDS);
+    } finally {
+      executor.shutdownNow();
+    }
+    verifyWrite(JOB_ID, 10L);
+
+    coalescer.flush(JOB_ID, ATTEMPT_NUMBER);
+    verifyWrite(JOB_ID, 20L);
+  }
+
+  @Test
+  void testStatsOfAFinishedAttemptAreDropped() throws IOException {
+    // e.g. another replica wrote the output of the attempt
+    doReturn(false).when(jobPersistence).writeRunningAttemptStats(anyLong(), anyInt(), any(), any(), any(), any(), any(), any(), any(), any());
+    coalescer.write(statsWrite(JOB_ID, 10L));
+
+    coalescer.flushAll();
+    coalescer.flushAll();
+
+    verify(jobPersistence, times(1)).writeRunningAttemptStats(eq(JOB_ID), anyInt(), any(), any(), any(), any(), any(), any(), any(), any());
+    verify(jobPersistence, never()).writeStats(anyLong(), anyInt(), any(), any(), any(), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void testCloseFlushesPendingStats() throws IOException {
+    coalescer.write(statsWrite(JOB_ID, 10L));
+
+    coalescer.close();
+
+    verifyWrite(JOB_ID, 10L);
+  }
+
+  private static StatsWrite statsWrite(final long jobId, final long recordsEmitted) {
+    return new StatsWrite(jobId, ATTEMPT_NUMBER, new SyncStats().withRecordsEmitted(recordsEmitted), CONNECTION_ID, streamStats(recordsEmitted));
+  }
+
+  private static List<StreamSyncStats> streamStats(final long recordsEmitted) {
+    return List.of(new StreamSyncStats().withStreamName("stream").withStats(new SyncStats().withRecordsEmitted(recordsEmitted)));
+  }
+
+  private void verifyWrite(final long jobId, final long recordsEmitted) throws IOException {
+    verify(jobPersistence).writeRunningAttemptStats(jobId, ATTEMPT_NUMBER, null, null, recordsEmitted, null, null, null, CONNECTION_ID,
+        streamStats(recordsEmitted));
+  }
+
+}
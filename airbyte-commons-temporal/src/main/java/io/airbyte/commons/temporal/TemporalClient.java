@@ -8,6 +8,7 @@ import static io.airbyte.commons.temporal.scheduling.ConnectionManagerWorkflow.N
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.protobuf.ByteString;
+import com.google.protobuf.Timestamp;
 import io.airbyte.commons.temporal.exception.DeletedWorkflowException;
 import io.airbyte.commons.temporal.exception.UnreachableWorkflowException;
 import io.airbyte.commons.temporal.scheduling.CheckConnectionWorkflow;
@@ -34,8 +35,9 @@ import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.persistence.job.models.IntegrationLauncherConfig;
 import io.airbyte.persistence.job.models.JobRunConfig;
 import io.airbyte.protocol.models.StreamDescriptor;
-import io.temporal.api.common.v1.WorkflowType;
 import io.temporal.api.enums.v1.WorkflowExecutionStatus;
+import io.temporal.api.filter.v1.StartTimeFilter;
+import io.temporal.api.filter.v1.StatusFilter;
 import io.temporal.api.workflowservice.v1.ListClosedWorkflowExecutionsRequest;
 import io.temporal.api.workflowservice.v1.ListClosedWorkflowExecutionsResponse;
 import io.temporal.api.workflowservice.v1.ListOpenWorkflowExecutionsRequest;
@@ -45,6 +47,7 @@ import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -52,6 +55,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
@@ -109,54 +113,74 @@ public class TemporalClient {
   private final Set<String> workflowNames = new HashSet<>();
 
   /**
-   * Restart workflows stuck in a certain status.
+   * Restart the connection manager workflows which closed with a certain status since a given time.
+   * Only the executions closed since then are listed, so that the cost of a run doesn't grow with
+   * the history of the namespace.
    *
    * @param executionStatus execution status
-   * @return set of connection ids that were restarted, primarily used for tracking purposes
+   * @param closedSince only the workflows closed at or after this time are restarted
+   * @param executor executor restarting the workflows, which bounds how many are restarted at once
+   * @return number of connections whose workflow was restarted, primarily used for tracking purposes
    */
-  public int restartClosedWorkflowByStatus(final WorkflowExecutionStatus executionStatus) {
-    final Set<UUID> workflowExecutionInfos = fetchClosedWorkflowsByStatus(executionStatus);
+  public int restartClosedWorkflowByStatus(final WorkflowExecutionStatus executionStatus, final Instant closedSince, final Executor executor) {
+    final Set<UUID> workflowExecutionInfos = fetchClosedWorkflowsByStatus(executionStatus, closedSince);
+    if (workflowExecutionInfos.isEmpty()) {
+      // nothing to restart, so no need to list the running workflows either
+      return 0;
+    }
 
     final Set<UUID> nonRunningWorkflow = filterOutRunningWorkspaceId(workflowExecutionInfos);
-    nonRunningWorkflow.forEach(connectionId -> {
-      connectionManagerUtils.safeTerminateWorkflow(connectionId,
-          "Terminating workflow in unreachable state before starting a new workflow for this connection");
-      connectionManagerUtils.startConnectionManagerNoSignal(connectionId);
-    });
+    final List<CompletableFuture<Void>> restarts = nonRunningWorkflow.stream()
+        .map(connectionId -> CompletableFuture.runAsync(() -> {
+          connectionManagerUtils.safeTerminateWorkflow(connectionId,
+              "Terminating workflow in unreachable state before starting a new workflow for this connection");
+          connectionManagerUtils.startConnectionManagerNoSignal(connectionId);
+        }, executor))
+        .toList();
+    // a failed restart doesn't prevent the others, but is rethrown once they are all done
+    CompletableFuture.allOf(restarts.toArray(new CompletableFuture[0])).join();
 
     return nonRunningWorkflow.size();
   }
 
-  Set<UUID> fetchClosedWorkflowsByStatus(final WorkflowExecutionStatus executionStatus) {
-    ByteString token;
-    ListClosedWorkflowExecutionsRequest workflowExecutionsRequest =
-        ListClosedWorkflowExecutionsRequest.newBuilder()
-            .setNamespace(workflowClientWrapped.getNamespace())
-            .build();
-
+  /**
+   * List the connection manager workflows closed with a status since a given time. The standard
+   * visibility store only accepts a single filter besides the time range, so the workflow type is
+   * checked here rather than in the request.
+   */
+  @VisibleForTesting
+  Set<UUID> fetchClosedWorkflowsByStatus(final WorkflowExecutionStatus executionStatus, final Instant closedSince) {
+    // for closed workflows, the start time filter applies to the close time
+    final StartTimeFilter closeTimeFilter = StartTimeFilter.newBuilder()
+        .setEarliestTime(toTimestamp(closedSince))
+        .setLatestTime(toTimestamp(Instant.now()))
+        .build();
+    final String workflowType = ConnectionManagerWorkflow.class.getSimpleName();
+
+    ByteString token = ByteString.EMPTY;
     final Set<UUID> workflowExecutionInfos = new HashSet<>();
     do {
-      final ListClosedWorkflowExecutionsResponse listOpenWorkflowExecutionsRequest =
-          serviceStubsWrapped.blockingStubListClosedWorkflowExecutions(workflowExecutionsRequest);
-      final WorkflowType connectionManagerWorkflowType = WorkflowType.newBuilder().setName(ConnectionManagerWorkflow.class.getSimpleName()).build();
-      workflowExecutionInfos.addAll(listOpenWorkflowExecutionsRequest.getExecutionsList().stream()
-          .filter(workflowExecutionInfo -> workflowExecutionInfo.getType() == connectionManagerWorkflowType
-              || workflowExecutionInfo.getStatus() == executionStatus)
-          .flatMap((workflowExecutionInfo -> extractConnectionIdFromWorkflowId(workflowExecutionInfo.getExecution().getWorkflowId()).stream()))
-          .collect(Collectors.toSet()));
-      token = listOpenWorkflowExecutionsRequest.getNextPageToken();
-
-      workflowExecutionsRequest =
-          ListClosedWorkflowExecutionsRequest.newBuilder()
+      final ListClosedWorkflowExecutionsResponse listClosedWorkflowExecutionsResponse =
+          serviceStubsWrapped.blockingStubListClosedWorkflowExecutions(ListClosedWorkflowExecutionsRequest.newBuilder()
               .setNamespace(workflowClientWrapped.getNamespace())
+              .setStatusFilter(StatusFilter.newBuilder().setStatus(executionStatus))
+              .setStartTimeFilter(closeTimeFilter)
               .setNextPageToken(token)
-              .build();
-
-    } while (token != null && token.size() > 0);
+              .build());
+      listClosedWorkflowExecutionsResponse.getExecutionsList().stream()
+          .filter(workflowExecutionInfo -> workflowType.equals(workflowExecutionInfo.getType().getName()))
+          .forEach(workflowExecutionInfo -> extractConnectionIdFromWorkflowId(
+              workflowExecutionInfo.getExecution().getWorkflowId()).ifPresent(workflowExecutionInfos::add));
+      token = listClosedWorkflowExecutionsResponse.getNextPageToken();
+    } while (!token.isEmpty());
 
     return workflowExecutionInfos;
   }
 
+  private static Timestamp toTimestamp(final Instant instant) {
+    return Timestamp.newBuilder().setSeconds(instant.getEpochSecond()).setNanos(instant.getNano()).build();
+  }
+
   @VisibleForTesting
   Set<UUID> filterOutRunningWorkspaceId(final Set<UUID> workflowIds) {
     refreshRunningWorkflow();
@@ -18,10 +18,12 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.Sets;
+import com.google.protobuf.ByteString;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.temporal.TemporalClient.ManualOperationResult;
 import io.airbyte.commons.temporal.exception.DeletedWorkflowException;
@@ -48,9 +50,13 @@ import io.airbyte.metrics.lib.MetricClient;
 import io.airbyte.persistence.job.models.IntegrationLauncherConfig;
 import io.airbyte.persistence.job.models.JobRunConfig;
 import io.airbyte.protocol.models.StreamDescriptor;
+import io.temporal.api.common.v1.WorkflowExecution;
+import io.temporal.api.common.v1.WorkflowType;
 import io.temporal.api.enums.v1.WorkflowExecutionStatus;
 import io.temporal.api.workflow.v1.WorkflowExecutionInfo;
 import io.temporal.api.workflowservice.v1.DescribeWorkflowExecutionResponse;
+import io.temporal.api.workflowservice.v1.ListClosedWorkflowExecutionsRequest;
+import io.temporal.api.workflowservice.v1.ListClosedWorkflowExecutionsResponse;
 import io.temporal.api.workflowservice.v1.WorkflowServiceGrpc.WorkflowServiceBlockingStub;
 import io.temporal.client.BatchRequest;
 import io.temporal.client.WorkflowClient;
@@ -62,6 +68,7 @@ import io.temporal.workflow.Functions.Proc;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -162,17 +169,71 @@ public class TemporalClientTest {
       when(workflowClient.newWorkflowStub(any(), anyString())).thenReturn(mConnectionManagerWorkflow);
       final UUID connectionId = UUID.fromString("ebbfdc4c-295b-48a0-844f-88551dfad3db");
       final Set<UUID> workflowIds = Set.of(connectionId);
+      final Instant closedSince = Instant.parse("2024-05-01T00:00:00Z");
 
       doReturn(workflowIds)
-          .when(temporalClient).fetchClosedWorkflowsByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED);
+          .when(temporalClient).fetchClosedWorkflowsByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED, closedSince);
       doReturn(workflowIds)
           .when(temporalClient).filterOutRunningWorkspaceId(workflowIds);
       mockWorkflowStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED);
-      temporalClient.restartClosedWorkflowByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED);
+      final int numRestarted =
+          temporalClient.restartClosedWorkflowByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED, closedSince, Runnable::run);
+      assertEquals(1, numRestarted);
       verify(mConnectionManagerUtils).safeTerminateWorkflow(eq(connectionId), anyString());
       verify(mConnectionManagerUtils).startConnectionManagerNoSignal(eq(connectionId));
     }
 
+    @Test
+    void testRestartWithoutFailedWorkflowsDoesNotListRunningOnes() {
+      final Instant closedSince = Instant.parse("2024-05-01T00:00:00Z");
+      doReturn(Set.of())
+          .when(temporalClient).fetchClosedWorkflowsByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED, closedSince);
+
+      final int numRestarted =
+          temporalClient.restartClosedWorkflowByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED, closedSince, Runnable::run);
+
+      assertEquals(0, numRestarted);
+      verify(temporalClient, Mockito.never()).filterOutRunningWorkspaceId(any());
+      verifyNoInteractions(mConnectionManagerUtils);
+    }
+
+    @Test
+    void testFetchClosedWorkflowsListsTheExecutionsClosedSince() {
+      final UUID connectionId = UUID.randomUUID();
+      final ByteString nextPageToken = ByteString.copyFromUtf8("next");
+      when(workflowServiceBlockingStub.listClosedWorkflowExecutions(any()))
+          .thenReturn(ListClosedWorkflowExecutionsResponse.newBuilder()
+              .addExecutions(workflowExecutionInfo("connection_manager_" + connectionId, "ConnectionManagerWorkflow"))
+              .setNextPageToken(nextPageToken)
+              .build())
+          .thenReturn(ListClosedWorkflowExecutionsResponse.newBuilder()
+              .addExecutions(workflowExecutionInfo("sync_123", "SyncWorkflow"))
+              .addExecutions(workflowExecutionInfo(UUID.randomUUID().toString(), "SyncWorkflow"))
+              .build());
+
+      final Instant closedSince = Instant.parse("2024-05-01T00:00:00Z");
+      final Set<UUID> connectionIds =
+          temporalClient.fetchClosedWorkflowsByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED, closedSince);
+
+      // the executions of other workflow types are skipped
+      assertEquals(Set.of(connectionId), connectionIds);
+      final ArgumentCaptor<ListClosedWorkflowExecutionsRequest> requests = ArgumentCaptor.forClass(ListClosedWorkflowExecutionsRequest.class);
+      verify(workflowServiceBlockingStub, times(2)).listClosedWorkflowExecutions(requests.capture());
+      final ListClosedWorkflowExecutionsRequest firstRequest = requests.getAllValues().get(0);
+      assertEquals(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED, firstRequest.getStatusFilter().getStatus());
+      assertEquals(closedSince.getEpochSecond(), firstRequest.getStartTimeFilter().getEarliestTime().getSeconds());
+      assertTrue(firstRequest.getStartTimeFilter().getLatestTime().getSeconds() >= closedSince.getEpochSecond());
+      assertFalse(firstRequest.hasTypeFilter());
+      assertEquals(nextPageToken, requests.getAllValues().get(1).getNextPageToken());
+    }
+
+    private WorkflowExecutionInfo workflowExecutionInfo(final String workflowId, final String workflowType) {
+      return WorkflowExecutionInfo.newBuilder()
+          .setExecution(WorkflowExecution.newBuilder().setWorkflowId(workflowId))
+          .setType(WorkflowType.newBuilder().setName(workflowType))
+          .build();
+    }
+
   }
 
   @Nested
@@ -101,6 +101,26 @@ tasks.named<Test>("test") {
   }
 }
 
+// Runs the JMH benchmarks of the test sources and writes the results, including the gc profiler
+// allocation rates, to build/reports/jmh. Filter with -PjmhIncludes=<regexp>.
+tasks.register<JavaExec>("jmh") {
+  group = "verification"
+  description = "Runs the replication JMH benchmarks."
+  dependsOn("testClasses")
+  classpath = sourceSets["test"].runtimeClasspath
+  mainClass.set("org.openjdk.jmh.Main")
+  val results = layout.buildDirectory.file("reports/jmh/results.json")
+  args(
+    providers.gradleProperty("jmhIncludes").getOrElse(".*Benchmark.*"),
+    "-prof", "gc",
+    "-rf", "json",
+    "-rff", results.get().asFile.absolutePath,
+  )
+  doFirst {
+    results.get().asFile.parentFile.mkdirs()
+  }
+}
+
 // The DuplicatesStrategy will be required while this module is mixture of kotlin and java _with_ lombok dependencies.)
 // Kapt, by default, runs all annotation(processors and disables annotation(processing by javac, however)
 // this default behavior(breaks the lombok java annotation(processor.  To avoid(lombok breaking, ksp(has)
@@ -7,30 +7,55 @@ package io.airbyte.workers;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.commons.json.RawJsonNode;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.AirbyteStreamNameNamespacePair;
 import io.airbyte.validation.json.JsonSchemaValidator;
 import java.io.Closeable;
 import java.io.IOException;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-import org.apache.commons.lang3.tuple.ImmutablePair;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Validates that AirbyteRecordMessage data conforms to the JSON schema defined by the source's
  * configured catalog.
+ * <p>
+ * Validation runs asynchronously on a pool of single threaded executors. Streams are sharded across
+ * the executors so that a stream is validated in order. Each executor has a bounded backlog: when
+ * validation can't keep up with the sync, the thread submitting the records validates them itself,
+ * slowing the sync down rather than queuing records up in memory. When sampling is enabled, records
+ * are skipped instead, as not all of them are validated anyway. Once a stream has been valid for a
+ * number of records, only one record out of every samplingInterval is validated, until an error
+ * shows up for that stream. Record data
+ * read in raw passthrough mode is only parsed on the validation thread, for the records which are
+ * validated.
  */
 public class RecordSchemaValidator implements Closeable {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(RecordSchemaValidator.class);
+
+  private static final int DEFAULT_VALIDATION_THREADS = 1;
+  private static final int NO_SAMPLING = 1;
+  // Number of records of a stream to validate before sampling kicks in.
+  private static final long CLEAN_WINDOW = 10_000;
+  // Records waiting for validation on a single executor.
+  private static final int MAX_PENDING_VALIDATIONS_PER_THREAD = 1_000;
+
   private final JsonSchemaValidator validator;
-  private final ExecutorService validationExecutor;
+  private final ExecutorService[] validationExecutors;
   private final Map<AirbyteStreamNameNamespacePair, JsonNode> streams;
+  private final Map<AirbyteStreamNameNamespacePair, StreamSampler> samplers;
+  private final int samplingInterval;
+  private final AtomicLong skippedValidations;
 
   /**
    * Creates a RecordSchemaValidator.
@@ -38,7 +63,21 @@ public class RecordSchemaValidator implements Closeable {
    * @param streamNamesToSchemas Name of streams.
    */
   public RecordSchemaValidator(final Map<AirbyteStreamNameNamespacePair, JsonNode> streamNamesToSchemas) {
-    this(streamNamesToSchemas, Executors.newFixedThreadPool(1));
+    this(streamNamesToSchemas, DEFAULT_VALIDATION_THREADS, NO_SAMPLING);
+  }
+
+  /**
+   * Creates a RecordSchemaValidator.
+   *
+   * @param streamNamesToSchemas Name of streams.
+   * @param validationThreads number of threads validating records.
+   * @param samplingInterval once a stream has been valid for a while, validate one record out of
+   *        samplingInterval. 1 validates every record.
+   */
+  public RecordSchemaValidator(final Map<AirbyteStreamNameNamespacePair, JsonNode> streamNamesToSchemas,
+                               final int validationThreads,
+                               final int samplingInterval) {
+    this(streamNamesToSchemas, null, new JsonSchemaValidator(), Math.max(1, validationThreads), Math.max(NO_SAMPLING, samplingInterval));
   }
 
   @VisibleForTesting
@@ -50,11 +89,26 @@ public class RecordSchemaValidator implements Closeable {
   public RecordSchemaValidator(final Map<AirbyteStreamNameNamespacePair, JsonNode> streamNamesToSchemas,
                                final ExecutorService validationExecutor,
                                final JsonSchemaValidator jsonSchemaValidator) {
+    this(streamNamesToSchemas, validationExecutor, jsonSchemaValidator, 1, NO_SAMPLING);
+  }
+
+  @VisibleForTesting
+  RecordSchemaValidator(final Map<AirbyteStreamNameNamespacePair, JsonNode> streamNamesToSchemas,
+                        final ExecutorService validationExecutor,
+                        final JsonSchemaValidator jsonSchemaValidator,
+                        final int validationThreads,
+                        final int samplingInterval) {
     // streams is Map of a stream source namespace + name mapped to the stream schema
     // for easy access when we check each record's schema
     this.streams = streamNamesToSchemas;
-    this.validationExecutor = validationExecutor;
     this.validator = jsonSchemaValidator;
+    this.samplingInterval = samplingInterval;
+    this.skippedValidations = new AtomicLong();
+    this.samplers = new ConcurrentHashMap<>();
+    this.validationExecutors = new ExecutorService[validationThreads];
+    for (int i = 0; i < validationThreads; i++) {
+      validationExecutors[i] = validationExecutor != null ? validationExecutor : createValidationExecutor();
+    }
     // initialize schema validator to avoid creating validators each time.
     for (final AirbyteStreamNameNamespacePair stream : streamNamesToSchemas.keySet()) {
       // We must choose a JSON validator version for validating the schema
@@ -62,6 +116,7 @@ public class RecordSchemaValidator implements Closeable {
       final var schema = streams.get(stream);
       ((ObjectNode) schema).put("$schema", "http://json-schema.org/draft-07/schema#");
       validator.initializeSchemaValidator(stream.toString(), schema);
+      samplers.put(stream, new StreamSampler(stream.toString(), validationExecutors[shardOf(stream)]));
     }
   }
 
@@ -72,11 +127,16 @@ public class RecordSchemaValidator implements Closeable {
   public void validateSchema(
                              final AirbyteRecordMessage message,
                              final AirbyteStreamNameNamespacePair airbyteStream,
-                             final ConcurrentHashMap<AirbyteStreamNameNamespacePair, ImmutablePair<Set<String>, Integer>> validationErrors) {
-    validationExecutor.execute(() -> {
-      Set<String> errorMessages = validator.validateInitializedSchema(airbyteStream.toString(), message.getData());
+                             final ConcurrentHashMap<AirbyteStreamNameNamespacePair, StreamValidationErrors> validationErrors) {
+    final StreamSampler sampler = getSampler(airbyteStream);
+    if (!sampler.shouldValidate()) {
+      return;
+    }
+    sampler.executor.execute(() -> {
+      final Set<String> errorMessages = validator.validateInitializedSchema(sampler.schemaName, RawJsonNode.materialize(message.getData()));
       if (!errorMessages.isEmpty()) {
-        updateValidationErrors(errorMessages, airbyteStream, validationErrors);
+        sampler.hasErrors = true;
+        validationErrors.computeIfAbsent(airbyteStream, k -> new StreamValidationErrors()).addInvalidRecord(errorMessages);
       }
     });
   }
@@ -89,34 +149,83 @@ public class RecordSchemaValidator implements Closeable {
                                             final AirbyteRecordMessage message,
                                             final AirbyteStreamNameNamespacePair airbyteStream,
                                             final ConcurrentHashMap<AirbyteStreamNameNamespacePair, Set<String>> validationErrors) {
-    validationExecutor.execute(() -> {
-      final Set<String> errorMessages = validator.validateInitializedSchema(airbyteStream.toString(), message.getData());
+    final StreamSampler sampler = getSampler(airbyteStream);
+    if (!sampler.shouldValidate()) {
+      return;
+    }
+    sampler.executor.execute(() -> {
+      final Set<String> errorMessages = validator.validateInitializedSchema(sampler.schemaName, RawJsonNode.materialize(message.getData()));
       if (!errorMessages.isEmpty()) {
-        validationErrors.computeIfAbsent(airbyteStream, k -> new HashSet<>()).addAll(errorMessages);
-      }
-    });
-  }
-
-  private void updateValidationErrors(final Set<String> errorMessages,
-                                      final AirbyteStreamNameNamespacePair airbyteStream,
-                                      final ConcurrentHashMap<AirbyteStreamNameNamespacePair, ImmutablePair<Set<String>, Integer>> validationErrors) {
-    validationErrors.compute(airbyteStream, (k, v) -> {
-      if (v == null) {
-        return new ImmutablePair<>(errorMessages, 1);
-      } else {
-        final var updatedErrorMessages = Stream.concat(v.getLeft().stream(), errorMessages.stream()).collect(Collectors.toSet());
-        final var updatedCount = v.getRight() + 1;
-        return new ImmutablePair<>(updatedErrorMessages, updatedCount);
+        sampler.hasErrors = true;
+        validationErrors.computeIfAbsent(airbyteStream, k -> ConcurrentHashMap.newKeySet()).addAll(errorMessages);
       }
     });
   }
 
   /**
-   * Shuts down the ExecutorService used by this validator.
+   * Shuts down the ExecutorServices used by this validator.
    */
   @Override
   public void close() throws IOException {
-    validationExecutor.shutdownNow();
+    for (final ExecutorService validationExecutor : validationExecutors) {
+      validationExecutor.shutdownNow();
+    }
+    if (skippedValidations.get() > 0) {
+      LOGGER.info("Skipped the schema validation of {} records because validation couldn't keep up with the sync", skippedValidations.get());
+    }
+  }
+
+  private StreamSampler getSampler(final AirbyteStreamNameNamespacePair airbyteStream) {
+    // Streams missing from the catalog have no initialized schema, their validation fails on the executor.
+    return samplers.computeIfAbsent(airbyteStream, s -> new StreamSampler(s.toString(), validationExecutors[shardOf(s)]));
+  }
+
+  private int shardOf(final AirbyteStreamNameNamespacePair stream) {
+    return Math.floorMod(stream.hashCode(), validationExecutors.length);
+  }
+
+  @VisibleForTesting
+  long getSkippedValidations() {
+    return skippedValidations.get();
+  }
+
+  private ExecutorService createValidationExecutor() {
+    final RejectedExecutionHandler onFullBacklog = samplingInterval == NO_SAMPLING
+        ? new ThreadPoolExecutor.CallerRunsPolicy()
+        : (runnable, executor) -> skipValidation();
+    return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(MAX_PENDING_VALIDATIONS_PER_THREAD), onFullBacklog);
+  }
+
+  private void skipValidation() {
+    if (skippedValidations.getAndIncrement() == 0) {
+      LOGGER.warn("Schema validation can't keep up with the sync, skipping the validation of records until it catches up");
+    }
+  }
+
+  /**
+   * Per stream validation state. The record counter is only updated by the thread submitting records,
+   * hasErrors is set by the validation thread.
+   */
+  private final class StreamSampler {
+
+    private final String schemaName;
+    private final ExecutorService executor;
+    private final AtomicLong seenRecords = new AtomicLong();
+    private volatile boolean hasErrors;
+
+    private StreamSampler(final String schemaName, final ExecutorService executor) {
+      this.schemaName = schemaName;
+      this.executor = executor;
+    }
+
+    private boolean shouldValidate() {
+      if (samplingInterval == NO_SAMPLING || hasErrors) {
+        return true;
+      }
+      final long seen = seenRecords.getAndIncrement();
+      return seen < CLEAN_WINDOW || seen % samplingInterval == 0;
+    }
+
   }
 
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Schema validation errors found in the records of a stream.
+ * <p>
+ * Errors are accumulated in place so that reporting a failed record doesn't copy the errors seen so
+ * far, and can be read while validation is still running without any lock.
+ */
+public class StreamValidationErrors {
+
+  private final Set<String> errorMessages = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger invalidRecordCount = new AtomicInteger();
+
+  /**
+   * Record the errors of an invalid record.
+   *
+   * @param recordErrorMessages validation errors of the record
+   */
+  public void addInvalidRecord(final Set<String> recordErrorMessages) {
+    errorMessages.addAll(recordErrorMessages);
+    invalidRecordCount.incrementAndGet();
+  }
+
+  /**
+   * Distinct error messages found so far.
+   */
+  public Set<String> getErrorMessages() {
+    return Collections.unmodifiableSet(errorMessages);
+  }
+
+  /**
+   * Number of records that failed validation so far.
+   */
+  public int getInvalidRecordCount() {
+    return invalidRecordCount.get();
+  }
+
+}
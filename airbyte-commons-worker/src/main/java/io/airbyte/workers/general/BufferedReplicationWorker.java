@@ -6,11 +6,15 @@ package io.airbyte.workers.general;
 
 import static io.airbyte.metrics.lib.ApmTraceConstants.WORKER_OPERATION_NAME;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import datadog.trace.api.Trace;
 import io.airbyte.commons.concurrency.BoundedConcurrentLinkedQueue;
+import io.airbyte.commons.concurrency.ByteBoundedQueue;
 import io.airbyte.commons.concurrency.ClosableLinkedBlockingQueue;
 import io.airbyte.commons.concurrency.ClosableQueue;
+import io.airbyte.commons.concurrency.SpscRingBufferQueue;
 import io.airbyte.commons.io.LineGobbler;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.timer.Stopwatch;
 import io.airbyte.config.PerformanceMetrics;
 import io.airbyte.config.ReplicationOutput;
@@ -23,6 +27,8 @@ import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.persistence.job.models.ReplicationInput;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import io.airbyte.protocol.models.AirbyteStreamState;
 import io.airbyte.protocol.models.AirbyteTraceMessage;
 import io.airbyte.workers.RecordSchemaValidator;
 import io.airbyte.workers.context.ReplicationContext;
@@ -37,6 +43,7 @@ import io.airbyte.workers.internal.exception.DestinationException;
 import io.airbyte.workers.internal.exception.SourceException;
 import io.airbyte.workers.internal.syncpersistence.SyncPersistence;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -71,8 +78,9 @@ public class BufferedReplicationWorker implements ReplicationWorker {
   private final RecordSchemaValidator recordSchemaValidator;
   private final SyncPersistence syncPersistence;
   private final HeartbeatTimeoutChaperone srcHeartbeatTimeoutChaperone;
-  private final ClosableQueue<AirbyteMessage> messagesFromSourceQueue;
-  private final ClosableQueue<AirbyteMessage> messagesForDestinationQueue;
+  private final ByteBoundedQueue<AirbyteMessage> messagesFromSourceQueue;
+  private final ByteBoundedQueue<AirbyteMessage> messagesForDestinationQueue;
+  private final MetricClient metricClient;
   private final ExecutorService executors;
   private final DestinationTimeoutMonitor destinationTimeoutMonitor;
 
@@ -85,10 +93,13 @@ public class BufferedReplicationWorker implements ReplicationWorker {
   private final Stopwatch readFromDestStopwatch;
   private final Stopwatch processFromDestStopwatch;
   private final StreamStatusCompletionTracker streamStatusCompletionTracker;
+  private final long maxBatchBytes;
 
-  private static final int sourceMaxBufferSize = 1000;
-  private static final int destinationMaxBufferSize = 1000;
-  private static final int observabilityMetricsPeriodInSeconds = 1;
+  // Maximum number of messages a stage takes from its input queue at once.
+  private static final int maxBatchSize = 100;
+  // Share of the queue byte budget a batch may hold on to, once it is out of its queue.
+  private static final int maxBatchBytesRatio = 10;
+  private static final long observabilityMetricsPeriodInNanos = TimeUnit.SECONDS.toNanos(1);
   private static final int executorShutdownGracePeriodInSeconds = 10;
 
   public BufferedReplicationWorker(final String jobId,
@@ -130,12 +141,15 @@ public class BufferedReplicationWorker implements ReplicationWorker {
     this.recordSchemaValidator = recordSchemaValidator;
     this.syncPersistence = syncPersistence;
     this.srcHeartbeatTimeoutChaperone = srcHeartbeatTimeoutChaperone;
-    this.messagesFromSourceQueue =
-        bufferedReplicationWorkerType == BufferedReplicationWorkerType.BUFFERED ? new BoundedConcurrentLinkedQueue<>(sourceMaxBufferSize)
-            : new ClosableLinkedBlockingQueue<>(sourceMaxBufferSize, pollTimeOutDurationForQueue);
-    this.messagesForDestinationQueue =
-        bufferedReplicationWorkerType == BufferedReplicationWorkerType.BUFFERED ? new BoundedConcurrentLinkedQueue<>(destinationMaxBufferSize)
-            : new ClosableLinkedBlockingQueue<>(destinationMaxBufferSize, pollTimeOutDurationForQueue);
+    final ReplicationFeatureFlags queueFlags = replicationFeatureFlagReader.readReplicationFeatureFlags();
+    LOGGER.info("Replication queues are bounded to {} messages and {} bytes", queueFlags.replicationQueueMaxMessages(),
+        queueFlags.replicationQueueMaxBytes());
+    this.messagesFromSourceQueue = createQueue(bufferedReplicationWorkerType, queueFlags.replicationQueueMaxMessages(),
+        queueFlags.replicationQueueMaxBytes(), pollTimeOutDurationForQueue);
+    this.messagesForDestinationQueue = createQueue(bufferedReplicationWorkerType, queueFlags.replicationQueueMaxMessages(),
+        queueFlags.replicationQueueMaxBytes(), pollTimeOutDurationForQueue);
+    this.maxBatchBytes = Math.max(1, queueFlags.replicationQueueMaxBytes() / maxBatchBytesRatio);
+    this.metricClient = MetricClientFactory.getMetricClient();
     // readFromSource + processMessage + writeToDestination + readFromDestination +
     // source heartbeat + dest timeout monitor + workload heartbeat = 7 threads
     this.executors = Executors.newFixedThreadPool(7);
@@ -150,6 +164,69 @@ public class BufferedReplicationWorker implements ReplicationWorker {
     this.streamStatusCompletionTracker = streamStatusCompletionTracker;
   }
 
+  /**
+   * Each queue has exactly one producer and one consumer thread: readFromSource feeds processMessage
+   * which feeds writeToDestination. This is what makes the single-producer/single-consumer ring
+   * buffer safe to use here.
+   */
+  private static ByteBoundedQueue<AirbyteMessage> createQueue(final BufferedReplicationWorkerType bufferedReplicationWorkerType,
+                                                              final int maxBufferSize,
+                                                              final long maxBufferBytes,
+                                                              final OptionalInt pollTimeOutDurationForQueue) {
+    final ClosableQueue<ByteBoundedQueue.Entry<AirbyteMessage>> queue = switch (bufferedReplicationWorkerType) {
+      case BUFFERED -> new BoundedConcurrentLinkedQueue<>(maxBufferSize);
+      case BUFFERED_WITH_LINKED_BLOCKING_QUEUE -> new ClosableLinkedBlockingQueue<>(maxBufferSize, pollTimeOutDurationForQueue);
+      case BUFFERED_WITH_RING_BUFFER -> new SpscRingBufferQueue<>(maxBufferSize, pollTimeOutDurationForQueue);
+    };
+    return new ByteBoundedQueue<>(queue, maxBufferSize, maxBufferBytes, BufferedReplicationWorker::estimateMessageSize,
+        pollTimeOutDurationForQueue);
+  }
+
+  /**
+   * Estimates the memory a message holds on to. Only records and states carry a payload worth
+   * accounting for.
+   */
+  private static long estimateMessageSize(final AirbyteMessage message) {
+    if (message.getType() == Type.RECORD && message.getRecord() != null) {
+      return Jsons.getEstimatedByteSize(message.getRecord().getData());
+    } else if (message.getType() == Type.STATE && message.getState() != null) {
+      return estimateStateSize(message.getState());
+    }
+    return 0;
+  }
+
+  /**
+   * Sums the sizes of the state payloads, which are already parsed. Converting the whole message to
+   * a JsonNode would copy every state going through the buffer.
+   */
+  private static long estimateStateSize(final AirbyteStateMessage state) {
+    long size = estimateSize(state.getData());
+    if (state.getStream() != null) {
+      size += estimateSize(state.getStream().getStreamState());
+    }
+    if (state.getGlobal() != null) {
+      size += estimateSize(state.getGlobal().getSharedState());
+      if (state.getGlobal().getStreamStates() != null) {
+        for (final AirbyteStreamState streamState : state.getGlobal().getStreamStates()) {
+          size += estimateSize(streamState.getStreamState());
+        }
+      }
+    }
+    return size;
+  }
+
+  private static long estimateSize(final JsonNode jsonNode) {
+    return jsonNode == null ? 0 : Jsons.getEstimatedByteSize(jsonNode);
+  }
+
+  private void emitQueueFillMetrics(final ByteBoundedQueue<AirbyteMessage> queue, final String queueName) {
+    final MetricAttribute queueNameAttribute = new MetricAttribute(MetricTags.QUEUE_NAME, queueName);
+    metricClient.distribution(OssMetricsRegistry.REPLICATION_QUEUE_MESSAGES_FILL_RATIO, (double) queue.size() / queue.getMaxSize(),
+        queueNameAttribute);
+    metricClient.distribution(OssMetricsRegistry.REPLICATION_QUEUE_BYTES_FILL_RATIO, (double) queue.getBytes() / queue.getMaxBytes(),
+        queueNameAttribute);
+  }
+
   @Trace(operationName = WORKER_OPERATION_NAME)
   @Override
   public ReplicationOutput run(final ReplicationInput replicationInput, final Path jobRoot) throws WorkerException {
@@ -200,7 +277,6 @@ public class BufferedReplicationWorker implements ReplicationWorker {
           // Best effort to mark as complete when the Worker is actually done.
           executors.awaitTermination(executorShutdownGracePeriodInSeconds, TimeUnit.SECONDS);
           if (!executors.isTerminated()) {
-            final MetricClient metricClient = MetricClientFactory.getMetricClient();
             metricClient.count(OssMetricsRegistry.REPLICATION_WORKER_EXECUTOR_SHUTDOWN_ERROR, 1,
                 new MetricAttribute(MetricTags.IMPLEMENTATION, "buffered"));
           }
@@ -398,26 +474,39 @@ public class BufferedReplicationWorker implements ReplicationWorker {
     try {
       LOGGER.info("processMessage: start");
 
+      final List<AirbyteMessage> batch = new ArrayList<>(maxBatchSize);
+      final List<AirbyteMessage> processedBatch = new ArrayList<>(maxBatchSize);
+      long lastQueueMetricsEmission = System.nanoTime();
       while (!replicationWorkerHelper.getShouldAbort() && !messagesFromSourceQueue.isDone() && !messagesForDestinationQueue.isClosed()) {
-        final AirbyteMessage message;
-        message = messagesFromSourceQueue.poll();
-        if (message == null) {
+        if (System.nanoTime() - lastQueueMetricsEmission >= observabilityMetricsPeriodInNanos) {
+          emitQueueFillMetrics(messagesFromSourceQueue, "source");
+          lastQueueMetricsEmission = System.nanoTime();
+        }
+
+        batch.clear();
+        if (messagesFromSourceQueue.drainTo(batch, maxBatchSize, maxBatchBytes) == 0) {
           continue;
         }
 
-        final Optional<AirbyteMessage> processedMessageOpt;
+        processedBatch.clear();
         try (final var t = processFromSourceStopwatch.start()) {
-          processedMessageOpt = replicationWorkerHelper.processMessageFromSource(message);
-        }
-        if (processedMessageOpt.isPresent()) {
-          final AirbyteMessage m = processedMessageOpt.get();
-          // TODO this check should move to the processMessageFromSource
-          if (m.getType() == Type.RECORD || m.getType() == Type.STATE) {
-            while (!messagesForDestinationQueue.add(m) && !messagesForDestinationQueue.isClosed()) {
-              Thread.sleep(100);
+          for (final AirbyteMessage message : batch) {
+            final Optional<AirbyteMessage> processedMessageOpt = replicationWorkerHelper.processMessageFromSource(message);
+            if (processedMessageOpt.isPresent()) {
+              final AirbyteMessage m = processedMessageOpt.get();
+              // TODO this check should move to the processMessageFromSource
+              if (m.getType() == Type.RECORD || m.getType() == Type.STATE) {
+                processedBatch.add(m);
+              }
             }
           }
         }
+
+        for (final AirbyteMessage m : processedBatch) {
+          while (!messagesForDestinationQueue.add(m) && !messagesForDestinationQueue.isClosed()) {
+            Thread.sleep(100);
+          }
+        }
       }
 
     } catch (final InterruptedException e) {
@@ -439,15 +528,21 @@ public class BufferedReplicationWorker implements ReplicationWorker {
     try {
       LOGGER.info("writeToDestination: start");
       try {
+        final List<AirbyteMessage> batch = new ArrayList<>(maxBatchSize);
+        long lastQueueMetricsEmission = System.nanoTime();
         while (!replicationWorkerHelper.getShouldAbort() && !messagesForDestinationQueue.isDone() && isReadFromDestRunning) {
-          final AirbyteMessage message;
-          message = messagesForDestinationQueue.poll();
-          if (message == null) {
+          if (System.nanoTime() - lastQueueMetricsEmission >= observabilityMetricsPeriodInNanos) {
+            emitQueueFillMetrics(messagesForDestinationQueue, "destination");
+            lastQueueMetricsEmission = System.nanoTime();
+          }
+
+          batch.clear();
+          if (messagesForDestinationQueue.drainTo(batch, maxBatchSize, maxBatchBytes) == 0) {
             continue;
           }
 
           try (final var t = writeToDestStopwatch.start()) {
-            destination.accept(message);
+            destination.acceptAll(batch);
           }
         }
 
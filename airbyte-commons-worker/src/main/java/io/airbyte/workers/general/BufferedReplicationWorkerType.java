@@ -8,6 +8,7 @@ public enum BufferedReplicationWorkerType {
 
   BUFFERED("buffered"),
   BUFFERED_WITH_LINKED_BLOCKING_QUEUE("buffered_with_linked_blocking_queue"),
+  BUFFERED_WITH_RING_BUFFER("buffered_with_ring_buffer"),
   ;
 
   public final String workerType;
@@ -8,6 +8,8 @@ import io.airbyte.featureflag.Context;
 import io.airbyte.featureflag.DestinationTimeoutEnabled;
 import io.airbyte.featureflag.FailSyncOnInvalidChecksum;
 import io.airbyte.featureflag.FeatureFlagClient;
+import io.airbyte.featureflag.ReplicationQueueMaxMegabytes;
+import io.airbyte.featureflag.ReplicationQueueMaxMessages;
 import io.airbyte.featureflag.WorkloadHeartbeatRate;
 import io.airbyte.featureflag.WorkloadHeartbeatTimeout;
 import io.airbyte.workers.context.ReplicationFeatureFlags;
@@ -17,6 +19,12 @@ import io.airbyte.workers.context.ReplicationFeatureFlags;
  */
 public class ReplicationFeatureFlagReader {
 
+  // When not overridden, each replication queue may hold records for up to 1/20th of the heap. The
+  // budget is in serialized bytes while the in-memory representation of a record is a few times
+  // larger, this keeps the two queues well under the orchestrator memory.
+  private static final int HEAP_FRACTION_PER_REPLICATION_QUEUE = 20;
+  private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+
   private final FeatureFlagClient featureFlagClient;
   private final Context flagContext;
 
@@ -32,7 +40,7 @@ public class ReplicationFeatureFlagReader {
    */
   public ReplicationFeatureFlags readReplicationFeatureFlags() {
     return new ReplicationFeatureFlags(isDestinationTimeoutEnabled(), getWorkloadHeartbeatRate(), getWorkloadHeartbeatTimeout(),
-        failOnInvalidChecksum());
+        failOnInvalidChecksum(), getReplicationQueueMaxMessages(), getReplicationQueueMaxBytes());
   }
 
   private int getWorkloadHeartbeatRate() {
@@ -51,4 +59,17 @@ public class ReplicationFeatureFlagReader {
     return featureFlagClient.boolVariation(FailSyncOnInvalidChecksum.INSTANCE, flagContext);
   }
 
+  private int getReplicationQueueMaxMessages() {
+    return featureFlagClient.intVariation(ReplicationQueueMaxMessages.INSTANCE, flagContext);
+  }
+
+  private long getReplicationQueueMaxBytes() {
+    final int maxMegabytes = featureFlagClient.intVariation(ReplicationQueueMaxMegabytes.INSTANCE, flagContext);
+    if (maxMegabytes > 0) {
+      return maxMegabytes * BYTES_PER_MEGABYTE;
+    }
+    // maxMemory reflects the container memory limit since the JVM sizes its heap from it.
+    return Runtime.getRuntime().maxMemory() / HEAP_FRACTION_PER_REPLICATION_QUEUE;
+  }
+
 }
@@ -6,6 +6,7 @@ package io.airbyte.workers.general;
 
 import static io.airbyte.workers.general.BufferedReplicationWorkerType.BUFFERED;
 import static io.airbyte.workers.general.BufferedReplicationWorkerType.BUFFERED_WITH_LINKED_BLOCKING_QUEUE;
+import static io.airbyte.workers.general.BufferedReplicationWorkerType.BUFFERED_WITH_RING_BUFFER;
 
 import io.airbyte.analytics.TrackingClient;
 import io.airbyte.api.client.AirbyteApiClient;
@@ -25,6 +26,9 @@ import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.FieldSelectionEnabled;
 import io.airbyte.featureflag.Multi;
 import io.airbyte.featureflag.ProcessRateLimitedMessage;
+import io.airbyte.featureflag.RawRecordPassthrough;
+import io.airbyte.featureflag.RecordSchemaValidationSamplingInterval;
+import io.airbyte.featureflag.RecordSchemaValidationThreads;
 import io.airbyte.featureflag.RemoveValidationLimit;
 import io.airbyte.featureflag.ReplicationWorkerImpl;
 import io.airbyte.featureflag.ShouldFailSyncOnDestinationTimeout;
@@ -152,17 +156,21 @@ public class ReplicationWorkerFactory {
     final HeartbeatTimeoutChaperone heartbeatTimeoutChaperone = createHeartbeatTimeoutChaperone(heartbeatMonitor,
         featureFlagClient, replicationInput, sourceLauncherConfig.getDockerImage(), metricClient);
     final DestinationTimeoutMonitor destinationTimeout = createDestinationTimeout(featureFlagClient, replicationInput, metricClient);
-    final RecordSchemaValidator recordSchemaValidator = createRecordSchemaValidator(replicationInput);
+    final RecordSchemaValidator recordSchemaValidator = createRecordSchemaValidator(replicationInput, featureFlagClient);
 
     // Enable concurrent stream reads for testing purposes
     maybeEnableConcurrentStreamReads(sourceLauncherConfig, replicationInput);
 
+    final boolean fieldSelectionEnabled = isFieldSelectionEnabled(featureFlagClient, replicationInput.getWorkspaceId(), sourceDefinitionId);
+    // Field selection projects raw records on their JSON text, so it doesn't prevent the passthrough.
+    final boolean rawRecordPassthrough = featureFlagClient.boolVariation(RawRecordPassthrough.INSTANCE, getFeatureFlagContext(replicationInput));
+
     log.info("Setting up source...");
     // reset jobs use an empty source to induce resetting all data in destination.
     final var airbyteSource = replicationInput.getIsReset()
         ? new EmptyAirbyteSource()
         : airbyteIntegrationLauncherFactory.createAirbyteSource(sourceLauncherConfig,
-            replicationInput.getSyncResourceRequirements(), replicationInput.getCatalog(), heartbeatMonitor);
+            replicationInput.getSyncResourceRequirements(), replicationInput.getCatalog(), heartbeatMonitor, rawRecordPassthrough);
 
     log.info("Setting up destination...");
     final var airbyteDestination = airbyteIntegrationLauncherFactory.createAirbyteDestination(destinationLauncherConfig,
@@ -173,7 +181,7 @@ public class ReplicationWorkerFactory {
     final AnalyticsMessageTracker analyticsMessageTracker = new AnalyticsMessageTracker(trackingClient);
 
     final FieldSelector fieldSelector =
-        createFieldSelector(recordSchemaValidator, metricReporter, featureFlagClient, replicationInput.getWorkspaceId(), sourceDefinitionId);
+        createFieldSelector(recordSchemaValidator, metricReporter, featureFlagClient, replicationInput.getWorkspaceId(), fieldSelectionEnabled);
 
     log.info("Setting up replication worker...");
     final SyncPersistence syncPersistence = createSyncPersistence(syncPersistenceFactory, replicationInput, sourceLauncherConfig);
@@ -289,17 +297,26 @@ public class ReplicationWorkerFactory {
   /**
    * Create RecordSchemaValidator.
    */
-  private static RecordSchemaValidator createRecordSchemaValidator(final ReplicationInput replicationInput) {
-    return new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(replicationInput.getCatalog()));
+  private static RecordSchemaValidator createRecordSchemaValidator(final ReplicationInput replicationInput,
+                                                                  final FeatureFlagClient featureFlagClient) {
+    final Context flagContext = getFeatureFlagContext(replicationInput);
+    return new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(replicationInput.getCatalog()),
+        featureFlagClient.intVariation(RecordSchemaValidationThreads.INSTANCE, flagContext),
+        featureFlagClient.intVariation(RecordSchemaValidationSamplingInterval.INSTANCE, flagContext));
+  }
+
+  private static boolean isFieldSelectionEnabled(final FeatureFlagClient featureFlagClient,
+                                                 final UUID workspaceId,
+                                                 final UUID sourceDefinitionId) {
+    return workspaceId != null && featureFlagClient.boolVariation(FieldSelectionEnabled.INSTANCE, new Multi(
+        List.of(new Workspace(workspaceId), new SourceDefinition(sourceDefinitionId))));
   }
 
   private static FieldSelector createFieldSelector(final RecordSchemaValidator recordSchemaValidator,
                                                    final WorkerMetricReporter metricReporter,
                                                    final FeatureFlagClient featureFlagClient,
                                                    final UUID workspaceId,
-                                                   final UUID sourceDefinitionId) {
-    final boolean fieldSelectionEnabled = workspaceId != null && featureFlagClient.boolVariation(FieldSelectionEnabled.INSTANCE, new Multi(
-        List.of(new Workspace(workspaceId), new SourceDefinition(sourceDefinitionId))));
+                                                   final boolean fieldSelectionEnabled) {
     final boolean removeValidationLimit =
         workspaceId != null && featureFlagClient.boolVariation(RemoveValidationLimit.INSTANCE, new Workspace(workspaceId));
     return new FieldSelector(recordSchemaValidator, metricReporter, fieldSelectionEnabled, removeValidationLimit);
@@ -449,6 +466,8 @@ public class ReplicationWorkerFactory {
       return Optional.of(BUFFERED);
     } else if (workerImpl.equals(BUFFERED_WITH_LINKED_BLOCKING_QUEUE.workerType)) {
       return Optional.of(BUFFERED_WITH_LINKED_BLOCKING_QUEUE);
+    } else if (workerImpl.equals(BUFFERED_WITH_RING_BUFFER.workerType)) {
+      return Optional.of(BUFFERED_WITH_RING_BUFFER);
     }
     return Optional.empty();
   }
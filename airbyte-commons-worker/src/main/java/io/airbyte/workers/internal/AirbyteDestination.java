@@ -7,6 +7,7 @@ package io.airbyte.workers.internal;
 import io.airbyte.config.WorkerDestinationConfig;
 import io.airbyte.protocol.models.AirbyteMessage;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -36,6 +37,19 @@ public interface AirbyteDestination extends AutoCloseable {
    */
   void accept(AirbyteMessage message) throws Exception;
 
+  /**
+   * Accepts a batch of AirbyteMessages and writes them to STDIN of the Destination, in order. Blocks
+   * if STDIN's buffer is full.
+   *
+   * @param messages messages to send to destination.
+   * @throws Exception - throws if there is any failure in writing to Destination.
+   */
+  default void acceptAll(final List<AirbyteMessage> messages) throws Exception {
+    for (final AirbyteMessage message : messages) {
+      accept(message);
+    }
+  }
+
   /**
    * This method is a flush to make sure all data that should be written to the Destination is
    * written. Any messages that have already been accepted
@@ -4,8 +4,10 @@
 
 package io.airbyte.workers.internal;
 
+import io.airbyte.commons.io.IOs;
 import io.airbyte.protocol.models.AirbyteMessage;
 import java.io.BufferedReader;
+import java.io.InputStream;
 import java.util.stream.Stream;
 
 /**
@@ -15,4 +17,12 @@ public interface AirbyteStreamFactory {
 
   Stream<AirbyteMessage> create(BufferedReader bufferedReader);
 
+  /**
+   * Create the AirbyteStream straight from the raw process output. Implementations that are able to
+   * parse bytes directly should override this to skip the character decoding step.
+   */
+  default Stream<AirbyteMessage> createFromInputStream(final InputStream inputStream) {
+    return create(IOs.newBufferedReader(inputStream));
+  }
+
 }
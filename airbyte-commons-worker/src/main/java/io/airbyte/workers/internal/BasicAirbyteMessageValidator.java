@@ -4,7 +4,9 @@
 
 package io.airbyte.workers.internal;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.Iterables;
+import io.airbyte.commons.json.RawJsonNode;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
@@ -71,8 +73,10 @@ public class BasicAirbyteMessageValidator {
                   record.getStream(), record.getNamespace()));
             }
 
+            // Raw record data is opaque, it needs to be parsed to look up the PKs.
+            final JsonNode data = RawJsonNode.materialize(record.getData());
             final boolean containsAtLeastOneNonNullPk = Iterables.tryFind(pksList,
-                pks -> AirbyteMessageExtractor.containsNonNullPK(pks, record.getData())).isPresent();
+                pks -> AirbyteMessageExtractor.containsNonNullPK(pks, data)).isPresent();
 
             if (!containsAtLeastOneNonNullPk) {
               throw new SourceException(String.format("All the defined primary keys are null, the primary keys are: %s",
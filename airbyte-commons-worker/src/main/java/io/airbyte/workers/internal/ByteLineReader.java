@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Splits an {@link InputStream} into new line separated lines without decoding them into Strings.
+ * Each line is returned as the raw UTF-8 bytes as emitted by the connector, so that it can be
+ * handed to a byte based JSON parser.
+ *
+ * Both `\n` and `\r\n` are accepted as line terminators. The terminator is not part of the
+ * returned line. This class is not thread safe.
+ */
+public class ByteLineReader {
+
+  private static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+  private static final byte LF = '\n';
+  private static final byte CR = '\r';
+
+  private final InputStream inputStream;
+  private byte[] buffer;
+  // start of the bytes that have not been returned yet
+  private int start = 0;
+  // end of the valid bytes in the buffer
+  private int end = 0;
+  private boolean endOfStream = false;
+
+  public ByteLineReader(final InputStream inputStream) {
+    this(inputStream, DEFAULT_CHUNK_SIZE);
+  }
+
+  public ByteLineReader(final InputStream inputStream, final int chunkSize) {
+    this.inputStream = inputStream;
+    this.buffer = new byte[chunkSize];
+  }
+
+  /**
+   * Read the next line.
+   *
+   * @return the bytes of the line without its terminator, or null if the end of the stream has been
+   *         reached.
+   * @throws IOException if the underlying stream fails
+   */
+  public byte[] readLine() throws IOException {
+    int scanFrom = start;
+    while (true) {
+      for (int i = scanFrom; i < end; i++) {
+        if (buffer[i] == LF) {
+          final byte[] line = copyLine(start, i);
+          start = i + 1;
+          return line;
+        }
+      }
+
+      if (endOfStream) {
+        if (start == end) {
+          return null;
+        }
+        final byte[] line = copyLine(start, end);
+        start = end;
+        return line;
+      }
+
+      // No terminator in the buffered bytes, make room and read more.
+      if (start > 0) {
+        System.arraycopy(buffer, start, buffer, 0, end - start);
+        end -= start;
+        start = 0;
+      }
+      scanFrom = end;
+      if (end == buffer.length) {
+        buffer = Arrays.copyOf(buffer, buffer.length * 2);
+      }
+      final int read = inputStream.read(buffer, end, buffer.length - end);
+      if (read < 0) {
+        endOfStream = true;
+      } else {
+        end += read;
+      }
+    }
+  }
+
+  /**
+   * Lazily expose the remaining lines as a Stream.
+   *
+   * @return stream of lines
+   */
+  public Stream<byte[]> lines() {
+    final Spliterator<byte[]> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+
+      @Override
+      public boolean tryAdvance(final Consumer<? super byte[]> action) {
+        final byte[] line;
+        try {
+          line = readLine();
+        } catch (final IOException e) {
+          throw new UncheckedIOException(e);
+        }
+        if (line == null) {
+          return false;
+        }
+        action.accept(line);
+        return true;
+      }
+
+    };
+    return StreamSupport.stream(spliterator, false);
+  }
+
+  private byte[] copyLine(final int from, final int to) {
+    final int lineEnd = to > from && buffer[to - 1] == CR ? to - 1 : to;
+    return Arrays.copyOfRange(buffer, from, lineEnd);
+  }
+
+}
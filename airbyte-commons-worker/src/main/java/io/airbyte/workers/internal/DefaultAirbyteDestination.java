@@ -132,6 +132,21 @@ public class DefaultAirbyteDestination implements AirbyteDestination {
     destinationTimeoutMonitor.resetAcceptTimer();
   }
 
+  /**
+   * Writes the whole batch under a single accept timer.
+   */
+  @Override
+  public void acceptAll(final List<AirbyteMessage> messages) throws IOException {
+    Preconditions.checkState(destinationProcess != null && !inputHasEnded.get());
+
+    destinationTimeoutMonitor.startAcceptTimer();
+    for (final AirbyteMessage message : messages) {
+      messageMetricsTracker.trackDestSent(message.getType());
+      writer.write(message);
+    }
+    destinationTimeoutMonitor.resetAcceptTimer();
+  }
+
   public void acceptWithNoTimeoutMonitor(final AirbyteMessage message) throws IOException {
     Preconditions.checkState(destinationProcess != null && !inputHasEnded.get());
 
@@ -5,12 +5,13 @@
 package io.airbyte.workers.internal;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.RawJsonNode;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.AirbyteStreamNameNamespacePair;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.workers.RecordSchemaValidator;
+import io.airbyte.workers.StreamValidationErrors;
 import io.airbyte.workers.WorkerMetricReporter;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -22,8 +23,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.tuple.ImmutablePair;
 
 /**
  * Handles FieldSelection.
@@ -31,15 +32,22 @@ import org.apache.commons.lang3.tuple.ImmutablePair;
 @Slf4j
 public class FieldSelector {
 
+  // Raw records of a stream whose fields are all looked at, before only looking at a sample of them.
+  private static final long RAW_RECORDS_ALWAYS_INSPECTED = 1_000;
+  private static final long RAW_RECORD_INSPECTION_INTERVAL = 1_000;
+
   /*
    * validationErrors must be a ConcurrentHashMap as they are updated and read in different threads
    * concurrently for performance.
    */
-  private final ConcurrentHashMap<AirbyteStreamNameNamespacePair, ImmutablePair<Set<String>, Integer>> validationErrors = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<AirbyteStreamNameNamespacePair, StreamValidationErrors> validationErrors = new ConcurrentHashMap<>();
   private final ConcurrentHashMap<AirbyteStreamNameNamespacePair, Set<String>> uncountedValidationErrors = new ConcurrentHashMap<>();
-  private final Map<AirbyteStreamNameNamespacePair, List<String>> streamToSelectedFields = new HashMap<>();
+  // stream namespace -> stream name -> projector, looked up without building a stream pair per record.
+  private final Map<String, Map<String, SelectedFieldsProjector>> streamToProjector = new HashMap<>();
+  private final SelectedFieldsProjector emptyProjector = new SelectedFieldsProjector(Collections.emptyList());
   private final Map<AirbyteStreamNameNamespacePair, Set<String>> streamToAllFields = new HashMap<>();
   private final Map<AirbyteStreamNameNamespacePair, Set<String>> unexpectedFields = new HashMap<>();
+  private final Map<AirbyteStreamNameNamespacePair, AtomicLong> rawRecordsSeen = new ConcurrentHashMap<>();
 
   private final RecordSchemaValidator recordSchemaValidator;
   private final WorkerMetricReporter metricReporter;
@@ -96,16 +104,21 @@ public class FieldSelector {
       return;
     }
 
-    final AirbyteStreamNameNamespacePair messageStream = AirbyteStreamNameNamespacePair.fromRecordMessage(record);
-    final List<String> selectedFields = streamToSelectedFields.getOrDefault(messageStream, Collections.emptyList());
     final JsonNode data = record.getData();
-    if (data.isObject()) {
-      ((ObjectNode) data).retain(selectedFields);
-    } else {
-      throw new RuntimeException(String.format("Unexpected data in record: %s", data.toString()));
+    final JsonNode projectedData = getProjector(record).project(data);
+    if (projectedData != data) {
+      record.setData(projectedData);
     }
   }
 
+  private SelectedFieldsProjector getProjector(final AirbyteRecordMessage record) {
+    final Map<String, SelectedFieldsProjector> namespaceProjectors = streamToProjector.get(record.getNamespace());
+    if (namespaceProjectors == null) {
+      return emptyProjector;
+    }
+    return namespaceProjectors.getOrDefault(record.getStream(), emptyProjector);
+  }
+
   /**
    * report metrics.
    *
@@ -120,9 +133,9 @@ public class FieldSelector {
       });
     } else {
       log.info("Schema validation was performed to a max of 10 records with errors per stream.");
-      validationErrors.forEach((stream, errorPair) -> {
-        log.warn("Schema validation errors found for stream {}. Error messages: {}", stream, errorPair.getLeft());
-        metricReporter.trackSchemaValidationErrors(stream, errorPair.getLeft());
+      validationErrors.forEach((stream, errors) -> {
+        log.warn("Schema validation errors found for stream {}. Error messages: {}", stream, errors.getErrorMessages());
+        metricReporter.trackSchemaValidationErrors(stream, errors.getErrorMessages());
       });
     }
     unexpectedFields.forEach((stream, unexpectedFieldNames) -> {
@@ -134,9 +147,9 @@ public class FieldSelector {
   }
 
   /**
-   * Generates a map from stream -> the explicit list of fields included for that stream, according to
-   * the configured catalog. Since the configured catalog only includes the selected fields, this lets
-   * us filter records to only the fields explicitly requested.
+   * Builds a projector per stream keeping the explicit list of fields included for that stream,
+   * according to the configured catalog. Since the configured catalog only includes the selected
+   * fields, this lets us filter records to only the fields explicitly requested.
    *
    * @param catalog catalog
    */
@@ -149,7 +162,8 @@ public class FieldSelector {
       } else {
         throw new RuntimeException("No properties node in stream schema");
       }
-      streamToSelectedFields.put(AirbyteStreamNameNamespacePair.fromConfiguredAirbyteSteam(s), selectedFields);
+      streamToProjector.computeIfAbsent(s.getStream().getNamespace(), k -> new HashMap<>())
+          .put(s.getStream().getName(), new SelectedFieldsProjector(selectedFields));
     }
   }
 
@@ -181,7 +195,7 @@ public class FieldSelector {
     final AirbyteStreamNameNamespacePair messageStream = AirbyteStreamNameNamespacePair.fromRecordMessage(record);
 
     recordSchemaValidator.validateSchemaWithoutCounting(record, messageStream, uncountedValidationErrors);
-    final Set<String> unexpectedFieldNames = getUnexpectedFieldNames(record, streamToAllFields.get(messageStream));
+    final Set<String> unexpectedFieldNames = getUnexpectedFieldNames(record, messageStream);
     if (!unexpectedFieldNames.isEmpty()) {
       unexpectedFields.computeIfAbsent(messageStream, k -> ConcurrentHashMap.newKeySet()).addAll(unexpectedFieldNames);
     }
@@ -195,20 +209,41 @@ public class FieldSelector {
     final AirbyteRecordMessage record = message.getRecord();
     final AirbyteStreamNameNamespacePair messageStream = AirbyteStreamNameNamespacePair.fromRecordMessage(record);
     // avoid noise by validating only if the stream has less than 10 records with validation errors
-    final boolean streamHasLessThenTenErrs = validationErrors.get(messageStream) == null || validationErrors.get(messageStream).getRight() < 10;
+    final StreamValidationErrors streamErrors = validationErrors.get(messageStream);
+    final boolean streamHasLessThenTenErrs = streamErrors == null || streamErrors.getInvalidRecordCount() < 10;
     if (streamHasLessThenTenErrs) {
       recordSchemaValidator.validateSchema(record, messageStream, validationErrors);
-      final Set<String> unexpectedFieldNames = getUnexpectedFieldNames(record, streamToAllFields.get(messageStream));
+      final Set<String> unexpectedFieldNames = getUnexpectedFieldNames(record, messageStream);
       if (!unexpectedFieldNames.isEmpty()) {
         unexpectedFields.computeIfAbsent(messageStream, k -> new HashSet<>()).addAll(unexpectedFieldNames);
       }
     }
   }
 
-  private static Set<String> getUnexpectedFieldNames(final AirbyteRecordMessage record,
+  /**
+   * Records read in raw passthrough mode are not parsed. Their fields are only looked at for a sample
+   * of the records of each stream, so that the passthrough doesn't pay for parsing every record.
+   * Their schema validation is sampled by the RecordSchemaValidator, which parses them on its own
+   * threads.
+   */
+  private Set<String> getUnexpectedFieldNames(final AirbyteRecordMessage record,
+                                              final AirbyteStreamNameNamespacePair messageStream) {
+    final JsonNode data;
+    if (record.getData() instanceof RawJsonNode) {
+      final long seen = rawRecordsSeen.computeIfAbsent(messageStream, k -> new AtomicLong()).getAndIncrement();
+      if (seen >= RAW_RECORDS_ALWAYS_INSPECTED && seen % RAW_RECORD_INSPECTION_INTERVAL != 0) {
+        return Collections.emptySet();
+      }
+      data = ((RawJsonNode) record.getData()).materialize();
+    } else {
+      data = record.getData();
+    }
+    return getUnexpectedFieldNames(data, streamToAllFields.get(messageStream));
+  }
+
+  private static Set<String> getUnexpectedFieldNames(final JsonNode data,
                                                      final Set<String> fieldsInCatalog) {
     Set<String> unexpectedFieldNames = new HashSet<>();
-    final JsonNode data = record.getData();
     // If it's not an object it's malformed, but we tolerate it here - it will be logged as an error by
     // the validation.
     if (data.isObject()) {
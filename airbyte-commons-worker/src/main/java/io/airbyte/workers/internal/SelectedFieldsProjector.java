@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.commons.json.RawJsonNode;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Keeps only the selected top-level fields of the records of a stream.
+ * <p>
+ * The selected fields are resolved once per stream. Parsed records are filtered in place in a
+ * single pass over their fields. Raw records are filtered on their JSON text: the values of the
+ * unselected fields are skipped by the parser without being decoded, and the selected fields are
+ * copied verbatim.
+ */
+class SelectedFieldsProjector {
+
+  // Same constraints as Jsons, so that the projection accepts the records a parsed sync accepts.
+  private static final StreamReadConstraints STREAM_READ_CONSTRAINTS = StreamReadConstraints.builder()
+      .maxStringLength(Integer.MAX_VALUE)
+      .build();
+
+  private final Set<String> selectedFields;
+  private final JsonFactory jsonFactory;
+
+  SelectedFieldsProjector(final Collection<String> selectedFields) {
+    this(selectedFields, STREAM_READ_CONSTRAINTS);
+  }
+
+  @VisibleForTesting
+  SelectedFieldsProjector(final Collection<String> selectedFields, final StreamReadConstraints streamReadConstraints) {
+    this.selectedFields = new HashSet<>(selectedFields);
+    this.jsonFactory = JsonFactory.builder().streamReadConstraints(streamReadConstraints).build();
+  }
+
+  /**
+   * Filter the record data.
+   *
+   * @param data record data
+   * @return the filtered data, the same node if the data was parsed
+   */
+  JsonNode project(final JsonNode data) {
+    if (data instanceof RawJsonNode) {
+      return projectRaw(((RawJsonNode) data).getRawJson());
+    } else if (data.isObject()) {
+      // retainAll on the field names with a hash set is a single pass over the fields.
+      ((ObjectNode) data).retain(selectedFields);
+      return data;
+    } else {
+      throw new RuntimeException(String.format("Unexpected data in record: %s", data.toString()));
+    }
+  }
+
+  private RawJsonNode projectRaw(final String rawJson) {
+    try (final JsonParser parser = jsonFactory.createParser(rawJson)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new RuntimeException(String.format("Unexpected data in record: %s", rawJson));
+      }
+
+      final StringBuilder projected = new StringBuilder(rawJson.length());
+      projected.append('{');
+      boolean first = true;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final int fieldStart = (int) parser.currentTokenLocation().getCharOffset();
+        final boolean selected = selectedFields.contains(parser.currentName());
+        final JsonToken valueToken = parser.nextToken();
+        if (!selected) {
+          // Strings are skipped lazily by the next call to nextToken, containers here.
+          parser.skipChildren();
+          continue;
+        }
+
+        if (valueToken == JsonToken.VALUE_STRING) {
+          // String tokens are only read up to their end when requested.
+          parser.finishToken();
+        } else {
+          parser.skipChildren();
+        }
+        final int fieldEnd = (int) parser.currentLocation().getCharOffset();
+        if (!first) {
+          projected.append(',');
+        }
+        projected.append(rawJson, fieldStart, fieldEnd);
+        first = false;
+      }
+      projected.append('}');
+      return new RawJsonNode(projected.toString());
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+}
@@ -7,6 +7,7 @@ package io.airbyte.workers.internal;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import io.airbyte.commons.io.IOs;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.logging.MdcScope;
 import io.airbyte.commons.protocol.AirbyteMessageMigrator;
@@ -15,6 +16,7 @@ import io.airbyte.commons.protocol.AirbyteMessageVersionedMigrator;
 import io.airbyte.commons.protocol.AirbyteProtocolVersionedMigratorFactory;
 import io.airbyte.commons.protocol.ConfiguredAirbyteCatalogMigrator;
 import io.airbyte.commons.protocol.serde.AirbyteMessageDeserializer;
+import io.airbyte.commons.protocol.serde.AirbyteMessageRawRecordDataDeserializer;
 import io.airbyte.commons.protocol.serde.AirbyteMessageV0Deserializer;
 import io.airbyte.commons.protocol.serde.AirbyteMessageV0Serializer;
 import io.airbyte.commons.protocol.serde.AirbyteMessageV1Deserializer;
@@ -29,13 +31,16 @@ import io.airbyte.protocol.models.AirbyteLogMessage;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.workers.helper.GsonPksExtractor;
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,6 +56,13 @@ import org.slf4j.LoggerFactory;
  *
  * Handles parsing and validation from a specific version of the Airbyte Protocol as well as
  * upgrading messages to the current version.
+ *
+ * When the streaming parser is enabled, {@link #createFromInputStream(InputStream)} parses each
+ * line straight from its UTF-8 bytes instead of decoding it into a String first. Lines are only
+ * decoded on the slow paths (logging of invalid or overly long lines).
+ *
+ * When raw record passthrough is enabled, the data of record messages is kept as the raw JSON
+ * emitted by the connector (see {@link AirbyteMessageRawRecordDataDeserializer}).
  */
 @SuppressWarnings("PMD.MoreThanOneLogger")
 public class VersionedAirbyteStreamFactory<T> implements AirbyteStreamFactory {
@@ -88,6 +100,8 @@ public class VersionedAirbyteStreamFactory<T> implements AirbyteStreamFactory {
   private Version protocolVersion;
 
   private boolean shouldDetectVersion = false;
+  private boolean useStreamingParser = false;
+  private boolean rawRecordPassthrough = false;
 
   private final InvalidLineFailureConfiguration invalidLineFailureConfiguration;
   private final GsonPksExtractor gsonPksExtractor;
@@ -194,6 +208,28 @@ public class VersionedAirbyteStreamFactory<T> implements AirbyteStreamFactory {
     return addLineReadLogic(bufferedReader);
   }
 
+  /**
+   * Create the AirbyteMessage stream from the raw output of the connector.
+   *
+   * If the streaming parser is disabled, this falls back to {@link #create(BufferedReader)}.
+   */
+  @Override
+  public Stream<AirbyteMessage> createFromInputStream(final InputStream inputStream) {
+    if (!useStreamingParser) {
+      return create(IOs.newBufferedReader(inputStream));
+    }
+
+    final BufferedInputStream bufferedInputStream = new BufferedInputStream(inputStream);
+    detectAndInitialiseMigrators(bufferedInputStream);
+    final boolean needMigration = !protocolVersion.getMajorVersion().equals(migratorFactory.getMostRecentVersion().getMajorVersion());
+    logger.info(
+        "Reading messages from protocol version {}{} using the streaming parser",
+        protocolVersion.serialize(),
+        needMigration ? ", messages will be upgraded to protocol version " + migratorFactory.getMostRecentVersion().serialize() : "");
+
+    return addByteLineReadLogic(new ByteLineReader(bufferedInputStream));
+  }
+
   private void detectAndInitialiseMigrators(final BufferedReader bufferedReader) {
     if (shouldDetectVersion) {
       final Optional<Version> versionMaybe;
@@ -202,14 +238,30 @@ public class VersionedAirbyteStreamFactory<T> implements AirbyteStreamFactory {
       } catch (final IOException e) {
         throw new RuntimeException(e);
       }
-      if (versionMaybe.isPresent()) {
-        logger.info("Detected Protocol Version {}", versionMaybe.get().serialize());
-        initializeForProtocolVersion(versionMaybe.get());
-      } else {
-        // No version found, use the default as a fallback
-        logger.info("Unable to detect Protocol Version, assuming protocol version {}", fallbackVersion.serialize());
-        initializeForProtocolVersion(fallbackVersion);
+      initializeForDetectedVersion(versionMaybe);
+    }
+  }
+
+  private void detectAndInitialiseMigrators(final BufferedInputStream bufferedInputStream) {
+    if (shouldDetectVersion) {
+      final Optional<Version> versionMaybe;
+      try {
+        versionMaybe = detectVersion(bufferedInputStream);
+      } catch (final IOException e) {
+        throw new RuntimeException(e);
       }
+      initializeForDetectedVersion(versionMaybe);
+    }
+  }
+
+  private void initializeForDetectedVersion(final Optional<Version> versionMaybe) {
+    if (versionMaybe.isPresent()) {
+      logger.info("Detected Protocol Version {}", versionMaybe.get().serialize());
+      initializeForProtocolVersion(versionMaybe.get());
+    } else {
+      // No version found, use the default as a fallback
+      logger.info("Unable to detect Protocol Version, assuming protocol version {}", fallbackVersion.serialize());
+      initializeForProtocolVersion(fallbackVersion);
     }
   }
 
@@ -225,6 +277,15 @@ public class VersionedAirbyteStreamFactory<T> implements AirbyteStreamFactory {
         .filter(this::filterLog);
   }
 
+  private Stream<AirbyteMessage> addByteLineReadLogic(final ByteLineReader byteLineReader) {
+    final var metricClient = MetricClientFactory.getMetricClient();
+    return byteLineReader
+        .lines()
+        .peek(bytes -> metricClient.distribution(OssMetricsRegistry.JSON_STRING_LENGTH, bytes.length))
+        .flatMap(this::toAirbyteMessage)
+        .filter(this::filterLog);
+  }
+
   /**
    * Attempt to detect the version by scanning the stream
    *
@@ -249,23 +310,63 @@ public class VersionedAirbyteStreamFactory<T> implements AirbyteStreamFactory {
         if (jsonOpt.isPresent()) {
           final JsonNode json = jsonOpt.get();
           if (isSpecMessage(json)) {
-            final JsonNode protocolVersionNode = json.at("/spec/protocol_version");
             bufferedReader.reset();
-            return Optional.ofNullable(protocolVersionNode).filter(Predicate.not(JsonNode::isMissingNode)).map(node -> new Version(node.asText()));
+            return getSpecProtocolVersion(json);
           }
         }
       }
       bufferedReader.reset();
       return Optional.empty();
     } catch (final IOException e) {
-      logger.warn(
-          "Protocol version detection failed, it is likely than the connector sent more than {}B without an complete SPEC message."
-              + " A SPEC message that is too long could be the root cause here.",
-          BUFFER_READ_AHEAD_LIMIT);
+      logVersionDetectionFailure();
+      throw e;
+    }
+  }
+
+  /**
+   * Same as {@link #detectVersion(BufferedReader)} for the streaming parser.
+   *
+   * The lines are read with a throw-away {@link ByteLineReader} which may read ahead of the last line
+   * it returned, this is fine since the stream is reset to the mark once the detection is done.
+   */
+  private Optional<Version> detectVersion(final BufferedInputStream bufferedInputStream) throws IOException {
+    bufferedInputStream.mark(BUFFER_READ_AHEAD_LIMIT);
+    try {
+      final ByteLineReader lookAheadReader = new ByteLineReader(bufferedInputStream);
+      for (int i = 0; i < MESSAGES_LOOK_AHEAD_FOR_DETECTION; ++i) {
+        final byte[] line = lookAheadReader.readLine();
+        if (line == null) {
+          break;
+        }
+        final Optional<JsonNode> jsonOpt = Jsons.tryDeserialize(new String(line, StandardCharsets.UTF_8));
+        if (jsonOpt.isPresent()) {
+          final JsonNode json = jsonOpt.get();
+          if (isSpecMessage(json)) {
+            bufferedInputStream.reset();
+            return getSpecProtocolVersion(json);
+          }
+        }
+      }
+      bufferedInputStream.reset();
+      return Optional.empty();
+    } catch (final IOException e) {
+      logVersionDetectionFailure();
       throw e;
     }
   }
 
+  private Optional<Version> getSpecProtocolVersion(final JsonNode specMessage) {
+    final JsonNode protocolVersionNode = specMessage.at("/spec/protocol_version");
+    return Optional.ofNullable(protocolVersionNode).filter(Predicate.not(JsonNode::isMissingNode)).map(node -> new Version(node.asText()));
+  }
+
+  private void logVersionDetectionFailure() {
+    logger.warn(
+        "Protocol version detection failed, it is likely than the connector sent more than {}B without an complete SPEC message."
+            + " A SPEC message that is too long could be the root cause here.",
+        BUFFER_READ_AHEAD_LIMIT);
+  }
+
   private boolean isSpecMessage(final JsonNode json) {
     return json.has(TYPE_FIELD_NAME) && "spec".equalsIgnoreCase(json.get(TYPE_FIELD_NAME).asText());
   }
@@ -279,8 +380,31 @@ public class VersionedAirbyteStreamFactory<T> implements AirbyteStreamFactory {
     return this;
   }
 
+  /**
+   * Enable parsing messages straight from the bytes of the connector output when created through
+   * {@link #createFromInputStream(InputStream)}.
+   */
+  public VersionedAirbyteStreamFactory<T> withStreamingParser(final boolean useStreamingParser) {
+    this.useStreamingParser = useStreamingParser;
+    return this;
+  }
+
+  /**
+   * Keep the data of record messages as raw JSON instead of parsing it into a tree. This is only
+   * applied if the messages do not need to be migrated, since migrations may rewrite the data.
+   */
+  public VersionedAirbyteStreamFactory<T> withRawRecordPassthrough(final boolean rawRecordPassthrough) {
+    this.rawRecordPassthrough = rawRecordPassthrough;
+    initializeForProtocolVersion(protocolVersion);
+    return this;
+  }
+
   protected final void initializeForProtocolVersion(final Version protocolVersion) {
-    this.deserializer = (AirbyteMessageDeserializer<AirbyteMessage>) serDeProvider.getDeserializer(protocolVersion).orElseThrow();
+    final var versionedDeserializer = (AirbyteMessageDeserializer<AirbyteMessage>) serDeProvider.getDeserializer(protocolVersion).orElseThrow();
+    final boolean needMigration = !protocolVersion.getMajorVersion().equals(migratorFactory.getMostRecentVersion().getMajorVersion());
+    this.deserializer = rawRecordPassthrough && !needMigration
+        ? new AirbyteMessageRawRecordDataDeserializer(versionedDeserializer.getTargetVersion())
+        : versionedDeserializer;
     this.migrator = migratorFactory.getAirbyteMessageMigrator(protocolVersion);
     this.protocolVersion = protocolVersion;
   }
@@ -319,7 +443,7 @@ public class VersionedAirbyteStreamFactory<T> implements AirbyteStreamFactory {
    * 3. upgrade the message to the platform version, if needed.
    */
   protected Stream<AirbyteMessage> toAirbyteMessage(final String line) {
-    logLargeRecordWarning(line);
+    logLargeRecordWarning(line.length(), () -> line);
 
     Optional<AirbyteMessage> m = deserializer.deserializeExact(line);
 
@@ -338,18 +462,42 @@ public class VersionedAirbyteStreamFactory<T> implements AirbyteStreamFactory {
     return m.stream();
   }
 
-  private void logLargeRecordWarning(final String line) {
+  /**
+   * Same as {@link #toAirbyteMessage(String)} for a line read by the streaming parser. The line is
+   * only decoded into a String if it needs to be logged.
+   */
+  protected Stream<AirbyteMessage> toAirbyteMessage(final byte[] line) {
+    logLargeRecordWarning(line.length, () -> new String(line, StandardCharsets.UTF_8));
+
+    Optional<AirbyteMessage> m = deserializer.deserializeExact(line);
+
+    if (m.isPresent()) {
+      m = BasicAirbyteMessageValidator.validate(m.get(), configuredAirbyteCatalog);
+
+      if (m.isEmpty()) {
+        logger.error("Validation failed: {}", Jsons.serialize(new String(line, StandardCharsets.UTF_8)));
+        return m.stream();
+      }
+
+      return upgradeMessage(m.get());
+    }
+
+    logMalformedLogMessage(new String(line, StandardCharsets.UTF_8));
+    return m.stream();
+  }
+
+  private void logLargeRecordWarning(final int lineLength, final Supplier<String> line) {
     try (final MdcScope ignored = containerLogMdcBuilder.build()) {
-      if (line.length() >= MAXIMUM_CHARACTERS_ALLOWED) {
+      if (lineLength >= MAXIMUM_CHARACTERS_ALLOWED) {
         connectionId.ifPresentOrElse(c -> MetricClientFactory.getMetricClient().count(OssMetricsRegistry.LINE_SKIPPED_TOO_LONG, 1,
             new MetricAttribute(MetricTags.CONNECTION_ID, c.toString())),
             () -> MetricClientFactory.getMetricClient().count(OssMetricsRegistry.LINE_SKIPPED_TOO_LONG, 1));
-        MetricClientFactory.getMetricClient().distribution(OssMetricsRegistry.TOO_LONG_LINES_DISTRIBUTION, line.length());
+        MetricClientFactory.getMetricClient().distribution(OssMetricsRegistry.TOO_LONG_LINES_DISTRIBUTION, lineLength);
         if (invalidLineFailureConfiguration.printLongRecordPks) {
-          logger.warn("[LARGE RECORD] Risk of Destinations not being able to properly handle: " + line.length());
+          logger.warn("[LARGE RECORD] Risk of Destinations not being able to properly handle: " + lineLength);
           configuredAirbyteCatalog.ifPresent(
               airbyteCatalog -> logger
-                  .warn("[LARGE RECORD] The primary keys of the long record are: " + gsonPksExtractor.extractPks(airbyteCatalog, line)));
+                  .warn("[LARGE RECORD] The primary keys of the long record are: " + gsonPksExtractor.extractPks(airbyteCatalog, line.get())));
         }
       }
     } catch (final Exception e) {
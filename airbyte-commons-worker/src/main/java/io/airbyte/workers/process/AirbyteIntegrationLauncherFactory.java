@@ -14,6 +14,7 @@ import io.airbyte.featureflag.Connection;
 import io.airbyte.featureflag.FeatureFlagClient;
 import io.airbyte.featureflag.Multi;
 import io.airbyte.featureflag.PrintLongRecordPks;
+import io.airbyte.featureflag.UseStreamingMessageParser;
 import io.airbyte.featureflag.Workspace;
 import io.airbyte.metrics.lib.MetricClient;
 import io.airbyte.persistence.job.models.IntegrationLauncherConfig;
@@ -21,7 +22,6 @@ import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.workers.helper.GsonPksExtractor;
 import io.airbyte.workers.internal.AirbyteDestination;
 import io.airbyte.workers.internal.AirbyteSource;
-import io.airbyte.workers.internal.AirbyteStreamFactory;
 import io.airbyte.workers.internal.DefaultAirbyteDestination;
 import io.airbyte.workers.internal.DefaultAirbyteSource;
 import io.airbyte.workers.internal.DestinationTimeoutMonitor;
@@ -96,22 +96,27 @@ public class AirbyteIntegrationLauncherFactory {
    * @param sourceLauncherConfig the configuration of the source.
    * @param configuredAirbyteCatalog the configuredAirbyteCatalog of the Connection the source.
    * @param heartbeatMonitor an instance of HeartbeatMonitor to use for the AirbyteSource.
+   * @param rawRecordPassthrough whether the data of records should be kept as raw JSON.
    * @return an AirbyteSource.
    */
   public AirbyteSource createAirbyteSource(final IntegrationLauncherConfig sourceLauncherConfig,
                                            final SyncResourceRequirements syncResourceRequirements,
                                            final ConfiguredAirbyteCatalog configuredAirbyteCatalog,
-                                           final HeartbeatMonitor heartbeatMonitor) {
+                                           final HeartbeatMonitor heartbeatMonitor,
+                                           final boolean rawRecordPassthrough) {
     final IntegrationLauncher sourceLauncher = createIntegrationLauncher(sourceLauncherConfig, syncResourceRequirements);
 
-    final boolean printLongRecordPks = featureFlagClient.boolVariation(PrintLongRecordPks.INSTANCE,
-        new Multi(List.of(
-            new Connection(sourceLauncherConfig.getConnectionId()),
-            new Workspace(sourceLauncherConfig.getWorkspaceId()))));
+    final Multi flagContext = new Multi(List.of(
+        new Connection(sourceLauncherConfig.getConnectionId()),
+        new Workspace(sourceLauncherConfig.getWorkspaceId())));
+    final boolean printLongRecordPks = featureFlagClient.boolVariation(PrintLongRecordPks.INSTANCE, flagContext);
+    final boolean useStreamingParser = featureFlagClient.boolVariation(UseStreamingMessageParser.INSTANCE, flagContext);
 
     return new DefaultAirbyteSource(sourceLauncher,
         getStreamFactory(sourceLauncherConfig, configuredAirbyteCatalog, DefaultAirbyteSource.CONTAINER_LOG_MDC_BUILDER,
-            new VersionedAirbyteStreamFactory.InvalidLineFailureConfiguration(printLongRecordPks)),
+            new VersionedAirbyteStreamFactory.InvalidLineFailureConfiguration(printLongRecordPks))
+                .withStreamingParser(useStreamingParser)
+                .withRawRecordPassthrough(rawRecordPassthrough),
         heartbeatMonitor,
         getProtocolSerializer(sourceLauncherConfig),
         featureFlags,
@@ -147,10 +152,10 @@ public class AirbyteIntegrationLauncherFactory {
     return migratorFactory.getProtocolSerializer(launcherConfig.getProtocolVersion());
   }
 
-  private AirbyteStreamFactory getStreamFactory(final IntegrationLauncherConfig launcherConfig,
-                                                final ConfiguredAirbyteCatalog configuredAirbyteCatalog,
-                                                final MdcScope.Builder mdcScopeBuilder,
-                                                final VersionedAirbyteStreamFactory.InvalidLineFailureConfiguration invalidLineFailureConfiguration) {
+  private VersionedAirbyteStreamFactory<?> getStreamFactory(final IntegrationLauncherConfig launcherConfig,
+                                                            final ConfiguredAirbyteCatalog configuredAirbyteCatalog,
+                                                            final MdcScope.Builder mdcScopeBuilder,
+                                                            final VersionedAirbyteStreamFactory.InvalidLineFailureConfiguration invalidLineFailureConfiguration) {
     return new VersionedAirbyteStreamFactory<>(serDeProvider, migratorFactory, launcherConfig.getProtocolVersion(),
         Optional.of(launcherConfig.getConnectionId()), Optional.of(configuredAirbyteCatalog), mdcScopeBuilder,
         invalidLineFailureConfiguration, gsonPksExtractor);
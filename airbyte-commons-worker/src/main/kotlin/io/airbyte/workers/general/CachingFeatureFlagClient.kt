@@ -4,6 +4,7 @@ import com.github.benmanes.caffeine.cache.Caffeine
 import com.github.benmanes.caffeine.cache.LoadingCache
 import io.airbyte.featureflag.Context
 import io.airbyte.featureflag.FeatureFlagClient
+import io.airbyte.featureflag.FeatureFlagSnapshot
 import io.airbyte.featureflag.Flag
 import jakarta.inject.Singleton
 
@@ -29,4 +30,15 @@ class CachingFeatureFlagClient(
   ): Boolean {
     return cache.get(Pair(flag, ctx))
   }
+
+  /**
+   * Returns a snapshot of the [flags] for the [ctx], for code reading them for every message of a sync.
+   * The values are those of this cache, so they are consistent with [boolVariation] and never refreshed.
+   */
+  fun snapshot(
+    flags: Collection<Flag<Boolean>>,
+    ctx: Context,
+  ): FeatureFlagSnapshot {
+    return FeatureFlagSnapshot.ofBooleans(flags, ctx) { boolVariation(it, ctx) }
+  }
 }
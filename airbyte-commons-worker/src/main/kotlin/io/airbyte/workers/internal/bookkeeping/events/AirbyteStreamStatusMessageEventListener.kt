@@ -26,14 +26,16 @@ class AirbyteStreamStatusMessageEventListener(
   override fun onApplicationEvent(event: ReplicationAirbyteMessageEvent): Unit = streamStatusTracker.track(event)
 
   override fun supports(event: ReplicationAirbyteMessageEvent): Boolean {
-    val ffCtx = Multi(listOf(Workspace(event.replicationContext.workspaceId), Connection(event.replicationContext.connectionId)))
-
-    if (ffClient.boolVariation(UseStreamStatusTracker2024, ffCtx)) {
+    val isStreamStatus =
+      with(event.airbyteMessage) {
+        type == AirbyteMessage.Type.TRACE && trace.type == AirbyteTraceMessage.Type.STREAM_STATUS
+      }
+    if (!isStreamStatus) {
+      // only stream statuses need the flag, so don't evaluate it for every record
       return false
     }
 
-    return with(event.airbyteMessage) {
-      type == AirbyteMessage.Type.TRACE && trace.type == AirbyteTraceMessage.Type.STREAM_STATUS
-    }
+    val ffCtx = Multi(listOf(Workspace(event.replicationContext.workspaceId), Connection(event.replicationContext.connectionId)))
+    return !ffClient.boolVariation(UseStreamStatusTracker2024, ffCtx)
   }
 }
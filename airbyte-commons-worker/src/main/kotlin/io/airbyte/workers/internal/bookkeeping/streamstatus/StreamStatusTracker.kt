@@ -3,6 +3,7 @@ package io.airbyte.workers.internal.bookkeeping.streamstatus
 import com.google.common.annotations.VisibleForTesting
 import io.airbyte.api.client.model.generated.StreamStatusRateLimitedMetadata
 import io.airbyte.featureflag.Connection
+import io.airbyte.featureflag.FeatureFlagSnapshot
 import io.airbyte.featureflag.Multi
 import io.airbyte.featureflag.ProcessRateLimitedMessage
 import io.airbyte.featureflag.UseStreamStatusTracker2024
@@ -47,6 +48,9 @@ class StreamStatusTracker(
 ) {
   private lateinit var ctx: ReplicationContext
 
+  /** Evaluated once, as the flags are read for every message. */
+  private lateinit var flags: FeatureFlagSnapshot
+
   /**
    * The replication context (workspace, job, attempt, connection id, etc.) is not known at injection time for docker,
    * so we must have a goofy init function and handle the cases where it is not initialized.
@@ -58,6 +62,11 @@ class StreamStatusTracker(
     }
 
     this.ctx = ctx
+    this.flags =
+      ffClient.snapshot(
+        listOf(UseStreamStatusTracker2024, ProcessRateLimitedMessage),
+        Multi(listOf(Workspace(ctx.workspaceId), Connection(ctx.connectionId))),
+      )
   }
 
   fun track(msg: AirbyteMessage) {
@@ -65,8 +74,7 @@ class StreamStatusTracker(
       return
     }
 
-    val ffCtx = Multi(listOf(Workspace(ctx.workspaceId), Connection(ctx.connectionId)))
-    if (!ffClient.boolVariation(UseStreamStatusTracker2024, ffCtx)) {
+    if (!flags.boolVariation(UseStreamStatusTracker2024)) {
       return
     }
 
@@ -185,7 +193,6 @@ class StreamStatusTracker(
   }
 
   private fun shouldProcessRateLimitedMessage(): Boolean {
-    val ffCtx = Multi(listOf(Workspace(ctx.workspaceId), Connection(ctx.connectionId)))
-    return ffClient.boolVariation(ProcessRateLimitedMessage, ffCtx)
+    return flags.boolVariation(ProcessRateLimitedMessage)
   }
 }
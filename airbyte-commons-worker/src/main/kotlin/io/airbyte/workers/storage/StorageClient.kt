@@ -30,13 +30,19 @@ import software.amazon.awssdk.services.s3.model.HeadObjectRequest
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException
 import software.amazon.awssdk.services.s3.model.PutObjectRequest
 import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+import java.io.InputStream
+import java.io.OutputStream
 import java.net.URI
+import java.nio.channels.Channels
 import java.nio.charset.StandardCharsets
 import java.nio.file.Files
 import java.nio.file.Path
 import kotlin.io.path.createParentDirectories
 import kotlin.io.path.deleteIfExists
 import kotlin.io.path.exists
+import kotlin.io.path.inputStream
+import kotlin.io.path.outputStream
 
 /**
  * Factory for creating a [StorageClient] based on the value of [STORAGE_TYPE] and a [DocumentType].
@@ -86,6 +92,21 @@ interface StorageClient {
     document: String,
   )
 
+  /**
+   * Writes a document with a given id from what [writer] writes to the provided [OutputStream], so that the
+   * document doesn't have to be held as a [String]. If a document already exists at this id it will be
+   * overwritten.
+   *
+   * If [writer] fails, no partially written document is left at this id.
+   *
+   * @param id of the document to write
+   * @param writer writing the document to the provided stream, which is closed once the writer returns
+   */
+  fun writeStream(
+    id: String,
+    writer: (OutputStream) -> Unit,
+  )
+
   /**
    * Reads document with a given id.
    *
@@ -94,6 +115,14 @@ interface StorageClient {
    */
   fun read(id: String): String?
 
+  /**
+   * Opens a stream on the document with a given id. The caller is responsible for closing it.
+   *
+   * @param id of the document to read.
+   * @return a stream on the document, or null if there is no document with this id
+   */
+  fun readStream(id: String): InputStream?
+
   /**
    * Deletes the document with provided id.
    *
@@ -132,6 +161,20 @@ class GcsStorageClient(
     gcsClient.create(blobInfo, document.toByteArray(StandardCharsets.UTF_8))
   }
 
+  override fun writeStream(
+    id: String,
+    writer: (OutputStream) -> Unit,
+  ) {
+    val blobInfo = BlobInfo.newBuilder(blobId(id)).build()
+    try {
+      // the blob is only created once the channel is closed
+      Channels.newOutputStream(gcsClient.writer(blobInfo)).use(writer)
+    } catch (e: Exception) {
+      gcsClient.delete(blobInfo.blobId)
+      throw e
+    }
+  }
+
   override fun read(id: String): String? {
     val blobId = blobId(id)
 
@@ -140,6 +183,14 @@ class GcsStorageClient(
       ?.let { gcsClient.readAllBytes(blobId).toString(StandardCharsets.UTF_8) }
   }
 
+  override fun readStream(id: String): InputStream? {
+    val blobId = blobId(id)
+
+    return gcsClient.get(blobId)
+      ?.takeIf { it.exists() }
+      ?.let { Channels.newInputStream(gcsClient.reader(blobId)) }
+  }
+
   override fun delete(id: String): Boolean = gcsClient.delete(BlobId.of(bucketName, key(id)))
 
   internal fun key(id: String): String = "${type.prefix}/$id"
@@ -170,11 +221,30 @@ class LocalStorageClient(
     IOs.writeFile(path, document)
   }
 
+  override fun writeStream(
+    id: String,
+    writer: (OutputStream) -> Unit,
+  ) {
+    val path =
+      path(id).also { it.createParentDirectories() }
+    try {
+      path.outputStream().buffered().use(writer)
+    } catch (e: Exception) {
+      path.deleteIfExists()
+      throw e
+    }
+  }
+
   override fun read(id: String): String? =
     path(id)
       .takeIf { it.exists() }
       ?.let { IOs.readFile(it) }
 
+  override fun readStream(id: String): InputStream? =
+    path(id)
+      .takeIf { it.exists() }
+      ?.inputStream()
+
   override fun delete(id: String): Boolean =
     path(id)
       .deleteIfExists()
@@ -252,6 +322,22 @@ abstract class AbstractS3StorageClient internal constructor(
     s3Client.putObject(request, RequestBody.fromString(document))
   }
 
+  override fun writeStream(
+    id: String,
+    writer: (OutputStream) -> Unit,
+  ) {
+    val request =
+      PutObjectRequest.builder()
+        .bucket(bucketName)
+        .key(key(id))
+        .build()
+
+    // A put needs the length of the object upfront, so the bytes are buffered. Writers are expected to
+    // compress large documents, which keeps the buffer small compared to the document as a String.
+    val bytes = ByteArrayOutputStream().also(writer).toByteArray()
+    s3Client.putObject(request, RequestBody.fromBytes(bytes))
+  }
+
   override fun read(id: String): String? {
     return try {
       s3Client.getObjectAsBytes(
@@ -265,6 +351,19 @@ abstract class AbstractS3StorageClient internal constructor(
     }
   }
 
+  override fun readStream(id: String): InputStream? {
+    return try {
+      s3Client.getObject(
+        GetObjectRequest.builder()
+          .bucket(bucketName)
+          .key(key(id))
+          .build(),
+      )
+    } catch (e: NoSuchKeyException) {
+      null
+    }
+  }
+
   override fun delete(id: String): Boolean {
     val exists =
       try {
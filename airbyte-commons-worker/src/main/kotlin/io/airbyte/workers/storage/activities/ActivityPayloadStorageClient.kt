@@ -8,17 +8,28 @@ import io.airbyte.metrics.lib.MetricTags
 import io.airbyte.metrics.lib.OssMetricsRegistry
 import io.airbyte.workers.storage.StorageClient
 import io.github.oshai.kotlinlogging.KotlinLogging
+import org.apache.commons.io.output.CloseShieldOutputStream
+import java.io.BufferedInputStream
+import java.io.InputStream
+import java.util.zip.GZIPInputStream
+import java.util.zip.GZIPOutputStream
 
 private val logger = KotlinLogging.logger {}
 
+// Payloads are gzip compressed JSON. Gzip streams start with these two bytes, which a JSON document
+// can't start with, so payloads written before compression was introduced remain readable.
+private const val GZIP_MAGIC_FIRST_BYTE = 0x1f
+private const val GZIP_MAGIC_SECOND_BYTE = 0x8b
+
 /**
  * Writes and reads activity payloads to and from the configured object store.
- * Currently just handles JSON serialization, but can be updated as necessary.
+ * Payloads are streamed as JSON, gzip compressed unless [compressPayloads] is false.
  * */
 class ActivityPayloadStorageClient(
   private val storageClientRaw: StorageClient,
   private val jsonSerde: JsonSerde,
   private val metricClient: MetricClient,
+  private val compressPayloads: Boolean,
 ) {
   /**
    * It reads the object from the location described by the given [uri] and unmarshals it from JSON.
@@ -42,8 +53,8 @@ class ActivityPayloadStorageClient(
   ): T? {
     metricClient.count(OssMetricsRegistry.ACTIVITY_PAYLOAD_READ_FROM_DOC_STORE, 1)
 
-    return storageClientRaw.read(uri.id)
-      ?.let { jsonSerde.deserialize(it, target) }
+    return storageClientRaw.readStream(uri.id)
+      ?.use { jsonSerde.deserialize(decompressIfNeeded(it), target) }
   }
 
   /**
@@ -58,7 +69,12 @@ class ActivityPayloadStorageClient(
   ) {
     metricClient.count(OssMetricsRegistry.ACTIVITY_PAYLOAD_WRITTEN_TO_DOC_STORE, 1)
 
-    return storageClientRaw.write(uri.id, jsonSerde.serialize(payload))
+    return storageClientRaw.writeStream(uri.id) { outputStream ->
+      // the storage client closes its stream, so the serializer must only close the streams wrapping it
+      val shieldedStream = CloseShieldOutputStream(outputStream)
+      val payloadStream = if (compressPayloads) GZIPOutputStream(shieldedStream) else shieldedStream
+      payloadStream.use { jsonSerde.serialize(payload, it) }
+    }
   }
 
   /**
@@ -122,3 +138,16 @@ class ActivityPayloadStorageClient(
     return expected
   }
 }
+
+/**
+ * Returns a stream on the JSON of a payload, decompressing the payload if it was compressed.
+ */
+internal fun decompressIfNeeded(payloadStream: InputStream): InputStream {
+  val stream = if (payloadStream.markSupported()) payloadStream else BufferedInputStream(payloadStream)
+  stream.mark(2)
+  val firstByte = stream.read()
+  val secondByte = stream.read()
+  stream.reset()
+
+  return if (firstByte == GZIP_MAGIC_FIRST_BYTE && secondByte == GZIP_MAGIC_SECOND_BYTE) GZIPInputStream(stream) else stream
+}
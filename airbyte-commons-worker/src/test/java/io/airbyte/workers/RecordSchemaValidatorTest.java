@@ -5,21 +5,36 @@
 package io.airbyte.workers;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.json.RawJsonNode;
 import io.airbyte.config.StandardSync;
 import io.airbyte.persistence.job.models.ReplicationInput;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteStreamNameNamespacePair;
+import io.airbyte.validation.json.JsonSchemaValidator;
 import io.airbyte.workers.test_utils.AirbyteMessageUtils;
 import io.airbyte.workers.test_utils.TestConfigHelpers;
+import java.io.IOException;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -35,7 +50,7 @@ class RecordSchemaValidatorTest {
   private static final AirbyteMessage INVALID_RECORD_1 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, 3);
   private static final AirbyteMessage INVALID_RECORD_2 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, ImmutableMap.of(FIELD_NAME, true));
 
-  private ConcurrentHashMap<AirbyteStreamNameNamespacePair, ImmutablePair<Set<String>, Integer>> validationErrors;
+  private ConcurrentHashMap<AirbyteStreamNameNamespacePair, StreamValidationErrors> validationErrors;
   private ConcurrentHashMap<AirbyteStreamNameNamespacePair, Set<String>> uncountedValidationErrors;
 
   @BeforeEach
@@ -77,7 +92,7 @@ class RecordSchemaValidatorTest {
         validationErrors));
     executorService.awaitTermination(3, TimeUnit.SECONDS);
     assertEquals(1, validationErrors.size());
-    assertEquals(2, (int) validationErrors.get(AIRBYTE_STREAM_NAME_NAMESPACE_PAIR).getRight());
+    assertEquals(2, (int) validationErrors.get(AIRBYTE_STREAM_NAME_NAMESPACE_PAIR).getInvalidRecordCount());
   }
 
   @Test
@@ -96,4 +111,126 @@ class RecordSchemaValidatorTest {
     assertEquals(2, uncountedValidationErrors.get(AIRBYTE_STREAM_NAME_NAMESPACE_PAIR).size());
   }
 
+  @Test
+  void testValidateRawRecord() {
+    final var recordSchemaValidator = new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(replicationInput.getCatalog()),
+        MoreExecutors.newDirectExecutorService());
+    final AirbyteMessage rawRecord = AirbyteMessageUtils.createRecordMessage(STREAM_NAME,
+        new RawJsonNode(Jsons.serialize(INVALID_RECORD_1.getRecord().getData())), Instant.EPOCH);
+
+    recordSchemaValidator.validateSchema(rawRecord.getRecord(), AIRBYTE_STREAM_NAME_NAMESPACE_PAIR, validationErrors);
+
+    // raw passthrough records are parsed for validation, their data is left untouched
+    assertEquals(1, (int) validationErrors.get(AIRBYTE_STREAM_NAME_NAMESPACE_PAIR).getInvalidRecordCount());
+    assertTrue(rawRecord.getRecord().getData() instanceof RawJsonNode);
+  }
+
+  @Test
+  void testSamplingAfterCleanWindow() {
+    final JsonSchemaValidator jsonSchemaValidator = mock(JsonSchemaValidator.class);
+    when(jsonSchemaValidator.validateInitializedSchema(any(), any())).thenReturn(Set.of());
+    final var recordSchemaValidator = new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(replicationInput.getCatalog()),
+        MoreExecutors.newDirectExecutorService(), jsonSchemaValidator, 1, 10);
+
+    for (int i = 0; i < 11_000; i++) {
+      recordSchemaValidator.validateSchema(VALID_RECORD.getRecord(), AIRBYTE_STREAM_NAME_NAMESPACE_PAIR, validationErrors);
+    }
+
+    // the first 10 000 records are all validated, then one out of 10
+    verify(jsonSchemaValidator, times(10_100)).validateInitializedSchema(any(), any());
+    assertEquals(0, validationErrors.size());
+  }
+
+  @Test
+  void testSamplingStopsOnceAStreamHasErrors() {
+    final JsonSchemaValidator jsonSchemaValidator = mock(JsonSchemaValidator.class);
+    when(jsonSchemaValidator.validateInitializedSchema(any(), any())).thenReturn(Set.of());
+    when(jsonSchemaValidator.validateInitializedSchema(any(), eq(INVALID_RECORD_1.getRecord().getData()))).thenReturn(Set.of("invalid"));
+    final var recordSchemaValidator = new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(replicationInput.getCatalog()),
+        MoreExecutors.newDirectExecutorService(), jsonSchemaValidator, 1, 10);
+
+    for (int i = 0; i < 10_000; i++) {
+      recordSchemaValidator.validateSchema(VALID_RECORD.getRecord(), AIRBYTE_STREAM_NAME_NAMESPACE_PAIR, validationErrors);
+    }
+    recordSchemaValidator.validateSchema(INVALID_RECORD_1.getRecord(), AIRBYTE_STREAM_NAME_NAMESPACE_PAIR, validationErrors);
+    for (int i = 0; i < 100; i++) {
+      recordSchemaValidator.validateSchema(VALID_RECORD.getRecord(), AIRBYTE_STREAM_NAME_NAMESPACE_PAIR, validationErrors);
+    }
+
+    verify(jsonSchemaValidator, times(10_101)).validateInitializedSchema(any(), any());
+    assertEquals(1, validationErrors.get(AIRBYTE_STREAM_NAME_NAMESPACE_PAIR).getInvalidRecordCount());
+    assertEquals(Set.of("invalid"), validationErrors.get(AIRBYTE_STREAM_NAME_NAMESPACE_PAIR).getErrorMessages());
+  }
+
+  @Test
+  void testValidatesOnTheCallerWhenTheBacklogIsFull() throws Exception {
+    final CountDownLatch validating = new CountDownLatch(1);
+    final AtomicInteger validatedByCaller = new AtomicInteger();
+    final var recordSchemaValidator = new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(replicationInput.getCatalog()),
+        null, blockingValidator(Thread.currentThread(), validating, validatedByCaller), 1, 1);
+
+    // one more record than the validation thread and its backlog can hold
+    for (int i = 0; i < 1_002; i++) {
+      recordSchemaValidator.validateSchema(VALID_RECORD.getRecord(), AIRBYTE_STREAM_NAME_NAMESPACE_PAIR, validationErrors);
+    }
+    validating.countDown();
+    recordSchemaValidator.close();
+
+    assertTrue(validatedByCaller.get() > 0);
+    assertEquals(0, recordSchemaValidator.getSkippedValidations());
+  }
+
+  @Test
+  void testSkipsValidationsWhenTheBacklogIsFullAndSampling() throws Exception {
+    final CountDownLatch validating = new CountDownLatch(1);
+    final AtomicInteger validatedByCaller = new AtomicInteger();
+    final var recordSchemaValidator = new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(replicationInput.getCatalog()),
+        null, blockingValidator(Thread.currentThread(), validating, validatedByCaller), 1, 10);
+
+    for (int i = 0; i < 1_002; i++) {
+      recordSchemaValidator.validateSchema(VALID_RECORD.getRecord(), AIRBYTE_STREAM_NAME_NAMESPACE_PAIR, validationErrors);
+    }
+    validating.countDown();
+    recordSchemaValidator.close();
+
+    assertEquals(0, validatedByCaller.get());
+    assertTrue(recordSchemaValidator.getSkippedValidations() > 0);
+  }
+
+  /**
+   * Blocks the validation thread until validating is released, and counts the records validated by
+   * the caller thread.
+   */
+  private static JsonSchemaValidator blockingValidator(final Thread caller,
+                                                       final CountDownLatch validating,
+                                                       final AtomicInteger validatedByCaller) {
+    final JsonSchemaValidator jsonSchemaValidator = mock(JsonSchemaValidator.class);
+    when(jsonSchemaValidator.validateInitializedSchema(any(), any())).thenAnswer(invocation -> {
+      if (Thread.currentThread() == caller) {
+        validatedByCaller.incrementAndGet();
+      } else {
+        validating.await();
+      }
+      return Set.of();
+    });
+    return jsonSchemaValidator;
+  }
+
+  @Test
+  void testValidateInvalidSchemaWithSeveralThreads() throws IOException, InterruptedException {
+    final var recordSchemaValidator = new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(replicationInput.getCatalog()), 4, 1);
+    final List<AirbyteMessage> messagesToValidate = new ArrayList<>(Arrays.asList(INVALID_RECORD_1, INVALID_RECORD_2, VALID_RECORD));
+
+    messagesToValidate.forEach(message -> recordSchemaValidator.validateSchema(
+        message.getRecord(),
+        AIRBYTE_STREAM_NAME_NAMESPACE_PAIR,
+        validationErrors));
+
+    // wait for the pending validations before checking the errors
+    Thread.sleep(1000);
+    recordSchemaValidator.close();
+    assertEquals(1, validationErrors.size());
+    assertEquals(2, validationErrors.get(AIRBYTE_STREAM_NAME_NAMESPACE_PAIR).getInvalidRecordCount());
+  }
+
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.general.performance;
+
+import io.airbyte.config.ReplicationOutput;
+import io.airbyte.config.WorkerSourceConfig;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.workers.RecordSchemaValidator;
+import io.airbyte.workers.general.BufferedReplicationWorker;
+import io.airbyte.workers.general.BufferedReplicationWorkerType;
+import io.airbyte.workers.general.ReplicationFeatureFlagReader;
+import io.airbyte.workers.general.ReplicationWorker;
+import io.airbyte.workers.general.ReplicationWorkerHelper;
+import io.airbyte.workers.general.performance.SyntheticRecords.RecordShape;
+import io.airbyte.workers.helper.AirbyteMessageDataExtractor;
+import io.airbyte.workers.helper.StreamStatusCompletionTracker;
+import io.airbyte.workers.internal.AirbyteDestination;
+import io.airbyte.workers.internal.AirbyteMapper;
+import io.airbyte.workers.internal.AirbyteSource;
+import io.airbyte.workers.internal.DestinationTimeoutMonitor;
+import io.airbyte.workers.internal.FieldSelector;
+import io.airbyte.workers.internal.HeartbeatMonitor;
+import io.airbyte.workers.internal.HeartbeatTimeoutChaperone;
+import io.airbyte.workers.internal.bookkeeping.AirbyteMessageTracker;
+import io.airbyte.workers.internal.bookkeeping.events.ReplicationAirbyteMessageEventPublishingHelper;
+import io.airbyte.workers.internal.syncpersistence.SyncPersistence;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs whole syncs through the {@link BufferedReplicationWorker}, from an in memory source
+ * generating {@link SyntheticRecords} to a destination dropping everything.
+ * <p>
+ * An operation is a sync of {@link #RECORDS_PER_SYNC} records, ops/s reads as records/s. Run the
+ * main method or the jmh gradle task, the gc profiler reports the allocation rate.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BufferedReplicationWorkerBenchmark extends ReplicationWorkerPerformanceTest {
+
+  private static final int RECORDS_PER_SYNC = 10_000;
+  private static final int POOL_SIZE = 100;
+
+  @Param({"NARROW", "WIDE", "NESTED", "BLOB"})
+  public RecordShape shape;
+
+  @Param({"BUFFERED_WITH_LINKED_BLOCKING_QUEUE", "BUFFERED_WITH_RING_BUFFER"})
+  public BufferedReplicationWorkerType workerType;
+
+  @Benchmark
+  @OperationsPerInvocation(RECORDS_PER_SYNC)
+  public ReplicationOutput sync() throws InterruptedException {
+    final HeartbeatMonitor heartbeatMonitor = new HeartbeatMonitor(DEFAULT_HEARTBEAT_FRESHNESS_THRESHOLD);
+    return runSync(new GeneratedAirbyteSource(shape, RECORDS_PER_SYNC), heartbeatMonitor, SyntheticRecords.catalog(shape));
+  }
+
+  @Override
+  public ReplicationWorker getReplicationWorker(final String jobId,
+                                                final int attempt,
+                                                final AirbyteSource source,
+                                                final AirbyteMapper mapper,
+                                                final AirbyteDestination destination,
+                                                final AirbyteMessageTracker messageTracker,
+                                                final SyncPersistence syncPersistence,
+                                                final RecordSchemaValidator recordSchemaValidator,
+                                                final FieldSelector fieldSelector,
+                                                final HeartbeatTimeoutChaperone srcHeartbeatTimeoutChaperone,
+                                                final ReplicationFeatureFlagReader replicationFeatureFlagReader,
+                                                final AirbyteMessageDataExtractor airbyteMessageDataExtractor,
+                                                final ReplicationAirbyteMessageEventPublishingHelper messageEventPublishingHelper,
+                                                final ReplicationWorkerHelper replicationWorkerHelper,
+                                                final DestinationTimeoutMonitor destinationTimeoutMonitor,
+                                                final StreamStatusCompletionTracker streamStatusCompletionTracker) {
+    return new BufferedReplicationWorker(jobId, attempt, source, destination, syncPersistence, recordSchemaValidator,
+        srcHeartbeatTimeoutChaperone, replicationFeatureFlagReader, replicationWorkerHelper, destinationTimeoutMonitor,
+        workerType, streamStatusCompletionTracker);
+  }
+
+  /**
+   * In memory source emitting a fixed number of records. The record data is generated once and
+   * shared, the messages are new for every record since the worker updates them in place.
+   */
+  private static class GeneratedAirbyteSource implements AirbyteSource {
+
+    private final AirbyteMessage[] pool;
+    private final int recordCount;
+    private int emitted;
+
+    GeneratedAirbyteSource(final RecordShape shape, final int recordCount) {
+      this.pool = new AirbyteMessage[POOL_SIZE];
+      for (int i = 0; i < POOL_SIZE; i++) {
+        pool[i] = SyntheticRecords.recordMessage(shape, i);
+      }
+      this.recordCount = recordCount;
+    }
+
+    @Override
+    public void start(final WorkerSourceConfig sourceConfig, final Path jobRoot, final UUID connectionId) {}
+
+    @Override
+    public boolean isFinished() {
+      return emitted >= recordCount;
+    }
+
+    @Override
+    public int getExitValue() {
+      return 0;
+    }
+
+    @Override
+    public Optional<AirbyteMessage> attemptRead() {
+      if (isFinished()) {
+        return Optional.empty();
+      }
+      final AirbyteRecordMessage template = pool[emitted++ % POOL_SIZE].getRecord();
+      return Optional.of(new AirbyteMessage()
+          .withType(AirbyteMessage.Type.RECORD)
+          .withRecord(new AirbyteRecordMessage()
+              .withStream(template.getStream())
+              .withNamespace(template.getNamespace())
+              .withEmittedAt(template.getEmittedAt())
+              .withData(template.getData())));
+    }
+
+    @Override
+    public void close() {}
+
+    @Override
+    public void cancel() {}
+
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(BufferedReplicationWorkerBenchmark.class.getSimpleName())
+        .addProfiler("gc")
+        .build()).run();
+  }
+
+}
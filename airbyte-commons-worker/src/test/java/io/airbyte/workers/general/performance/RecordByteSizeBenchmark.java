@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.general.performance;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the cost of measuring the size of a record when serializing it (what
+ * {@link Jsons#getEstimatedByteSize(JsonNode)} used to do) against walking the tree.
+ * <p>
+ * Run the main method, the gc profiler reports the allocation rate (gc.alloc.rate.norm is the
+ * number of bytes allocated per measured record).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecordByteSizeBenchmark {
+
+  @Param({"1024", "10240", "1048576"})
+  public int recordSize;
+
+  private JsonNode record;
+
+  @Setup
+  public void setup() {
+    record = buildRecord(recordSize);
+  }
+
+  @Benchmark
+  public int serializedLength() {
+    return Jsons.serialize(record).length();
+  }
+
+  @Benchmark
+  public int estimatedByteSize() {
+    return Jsons.getEstimatedByteSize(record);
+  }
+
+  /**
+   * Build a record of roughly the requested serialized size, made of a mix of the usual column types.
+   */
+  static JsonNode buildRecord(final int targetSize) {
+    final ObjectNode node = JsonNodeFactory.instance.objectNode();
+    addColumns(node, 0);
+    final int columnsSize = Jsons.serialize(node).length();
+    for (int i = 1; i < targetSize / columnsSize; i++) {
+      addColumns(node, i);
+    }
+    return node;
+  }
+
+  private static void addColumns(final ObjectNode node, final int i) {
+    node.put("id_" + i, (long) i * 7919);
+    node.put("amount_" + i, new BigDecimal("12345.67").add(BigDecimal.valueOf(i)));
+    node.put("name_" + i, "some \"quoted\" text for column " + i);
+    node.put("active_" + i, i % 2 == 0);
+    node.putNull("deleted_at_" + i);
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(RecordByteSizeBenchmark.class.getSimpleName())
+        .addProfiler("gc")
+        .build()).run();
+  }
+
+}
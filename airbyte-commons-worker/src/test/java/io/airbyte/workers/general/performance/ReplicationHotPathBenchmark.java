@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.general.performance;
+
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.analytics.TrackingClient;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.json.RawJsonNode;
+import io.airbyte.commons.protocol.serde.AirbyteMessageV1Deserializer;
+import io.airbyte.config.Configs.DeploymentMode;
+import io.airbyte.config.JobSyncConfig.NamespaceDefinitionType;
+import io.airbyte.featureflag.TestClient;
+import io.airbyte.metrics.lib.NotImplementedMetricClient;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteStreamNameNamespacePair;
+import io.airbyte.workers.RecordSchemaValidator;
+import io.airbyte.workers.WorkerMetricReporter;
+import io.airbyte.workers.general.performance.SyntheticRecords.RecordShape;
+import io.airbyte.workers.internal.DefaultAirbyteMessageBufferedWriter;
+import io.airbyte.workers.internal.FieldSelector;
+import io.airbyte.workers.internal.NamespacingMapper;
+import io.airbyte.workers.internal.VersionedAirbyteStreamFactory;
+import io.airbyte.workers.internal.bookkeeping.ParallelStreamStatsTracker;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks each step a record goes through in the replication worker, for every
+ * {@link RecordShape}: reading it from the source output, mapping it, selecting its fields,
+ * counting it and writing it to the destination input.
+ * <p>
+ * Every operation handles a single record, so ops/s reads as records/s. Records are cycled through
+ * from a pool generated up front. Run the main method or the jmh gradle task, the gc profiler reports
+ * the allocation rate (gc.alloc.rate.norm is the number of bytes allocated per record).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReplicationHotPathBenchmark {
+
+  private static final int POOL_SIZE = 100;
+
+  @Param({"NARROW", "WIDE", "NESTED", "BLOB"})
+  public RecordShape shape;
+
+  private String[] serializedMessages;
+  private String serializedBatch;
+  private AirbyteMessage[] messages;
+  private JsonNode[] rawData;
+  private int next;
+
+  private AirbyteMessageV1Deserializer deserializer;
+  private VersionedAirbyteStreamFactory<?> streamFactory;
+  private NamespacingMapper mapper;
+  private FieldSelector fieldSelector;
+  private RecordSchemaValidator recordSchemaValidator;
+  private ParallelStreamStatsTracker statsTracker;
+  private DefaultAirbyteMessageBufferedWriter writer;
+
+  @Setup
+  public void setup() {
+    serializedMessages = new String[POOL_SIZE];
+    messages = new AirbyteMessage[POOL_SIZE];
+    rawData = new JsonNode[POOL_SIZE];
+    final StringBuilder batch = new StringBuilder();
+    for (int i = 0; i < POOL_SIZE; i++) {
+      serializedMessages[i] = SyntheticRecords.serializedRecordMessage(shape, i);
+      messages[i] = SyntheticRecords.recordMessage(shape, i);
+      rawData[i] = new RawJsonNode(Jsons.serialize(messages[i].getRecord().getData()));
+      batch.append(serializedMessages[i]).append('\n');
+    }
+    serializedBatch = batch.toString();
+
+    deserializer = new AirbyteMessageV1Deserializer();
+    streamFactory = VersionedAirbyteStreamFactory.noMigrationVersionedAirbyteStreamFactory();
+    mapper = new NamespacingMapper(NamespaceDefinitionType.CUSTOMFORMAT, "${SOURCE_NAMESPACE}_raw", "dst_");
+    recordSchemaValidator = new RecordSchemaValidator(Map.of(
+        new AirbyteStreamNameNamespacePair(SyntheticRecords.STREAM_NAME, SyntheticRecords.STREAM_NAMESPACE),
+        SyntheticRecords.catalog(shape).getStreams().get(0).getStream().getJsonSchema()));
+    fieldSelector = new FieldSelector(recordSchemaValidator, new WorkerMetricReporter(new NotImplementedMetricClient(), "benchmark:0.1"), true, false);
+    fieldSelector.populateFields(SyntheticRecords.catalog(shape, true));
+    statsTracker = new ParallelStreamStatsTracker(new NotImplementedMetricClient(), mock(TrackingClient.class), new TestClient(Map.of()),
+        DeploymentMode.OSS, UUID.randomUUID(), UUID.randomUUID(), 1L, 0);
+    writer = new DefaultAirbyteMessageBufferedWriter(new BufferedWriter(Writer.nullWriter()));
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    recordSchemaValidator.close();
+    writer.close();
+  }
+
+  @Benchmark
+  public Object deserialize() {
+    return deserializer.deserializeExact(serializedMessages[nextIndex()]);
+  }
+
+  /**
+   * Reads a batch of messages through the same stream factory sources use, including the line
+   * splitting and the protocol validation.
+   */
+  @Benchmark
+  @OperationsPerInvocation(POOL_SIZE)
+  public void readFromStreamFactory(final Blackhole blackhole) {
+    streamFactory.create(new BufferedReader(new StringReader(serializedBatch))).forEach(blackhole::consume);
+  }
+
+  @Benchmark
+  public AirbyteMessage mapMessage() {
+    final AirbyteMessage message = messages[nextIndex()];
+    // mapping renames the stream in place, put the source names back first
+    message.getRecord().withStream(SyntheticRecords.STREAM_NAME).withNamespace(SyntheticRecords.STREAM_NAMESPACE);
+    return mapper.mapMessage(message);
+  }
+
+  /**
+   * Selects the fields of a parsed record. The record is copied first because the selection happens
+   * in place, the copy is part of the measure.
+   */
+  @Benchmark
+  public AirbyteMessage filterSelectedFields() {
+    final AirbyteMessage message = recordWithData(messages[nextIndex()].getRecord().getData().deepCopy());
+    fieldSelector.filterSelectedFields(message);
+    return message;
+  }
+
+  @Benchmark
+  public AirbyteMessage filterSelectedFieldsOfRawRecord() {
+    final AirbyteMessage message = recordWithData(rawData[nextIndex()]);
+    fieldSelector.filterSelectedFields(message);
+    return message;
+  }
+
+  @Benchmark
+  public void updateStats() {
+    statsTracker.updateStats(messages[nextIndex()].getRecord());
+  }
+
+  @Benchmark
+  public void writeMessage() throws IOException {
+    writer.write(messages[nextIndex()]);
+  }
+
+  private int nextIndex() {
+    final int index = next;
+    next = index + 1 == POOL_SIZE ? 0 : index + 1;
+    return index;
+  }
+
+  private static AirbyteMessage recordWithData(final JsonNode data) {
+    return new AirbyteMessage()
+        .withType(AirbyteMessage.Type.RECORD)
+        .withRecord(new AirbyteRecordMessage()
+            .withStream(SyntheticRecords.STREAM_NAME)
+            .withNamespace(SyntheticRecords.STREAM_NAMESPACE)
+            .withData(data));
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(ReplicationHotPathBenchmark.class.getSimpleName())
+        .addProfiler("gc")
+        .build()).run();
+  }
+
+}
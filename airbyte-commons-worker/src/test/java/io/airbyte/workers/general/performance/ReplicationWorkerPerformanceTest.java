@@ -29,6 +29,7 @@ import io.airbyte.metrics.lib.NotImplementedMetricClient;
 import io.airbyte.persistence.job.models.ReplicationInput;
 import io.airbyte.protocol.models.AirbyteStreamNameNamespacePair;
 import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.Field;
 import io.airbyte.protocol.models.JsonSchemaType;
 import io.airbyte.workers.RecordSchemaValidator;
@@ -74,6 +75,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -127,20 +129,6 @@ public abstract class ReplicationWorkerPerformanceTest {
   // @Measurement(iterations = 2)
   public void executeOneSync() throws InterruptedException {
     log.warn("availableProcessors {}", Runtime.getRuntime().availableProcessors());
-    final var perDestination = new EmptyAirbyteDestination();
-    final var messageTracker = mock(AirbyteMessageTracker.class);
-    final var analyticsMessageTracker = mock(AnalyticsMessageTracker.class);
-    final var syncPersistence = mock(SyncPersistence.class);
-    final var connectorConfigUpdater = mock(ConnectorConfigUpdater.class);
-    final var metricReporter = new WorkerMetricReporter(new NotImplementedMetricClient(), "test-image:0.01");
-    final var dstNamespaceMapper = new NamespacingMapper(NamespaceDefinitionType.DESTINATION, "", "");
-    final var validator = new RecordSchemaValidator(Map.of(
-        new AirbyteStreamNameNamespacePair("s1", null),
-        CatalogHelpers.fieldsToJsonSchema(io.airbyte.protocol.models.Field.of("data", JsonSchemaType.STRING))));
-    final var airbyteMessageDataExtractor = new AirbyteMessageDataExtractor();
-    final var replicationFeatureFlagReader = mock(ReplicationFeatureFlagReader.class);
-    when(replicationFeatureFlagReader.readReplicationFeatureFlags()).thenReturn(new ReplicationFeatureFlags(false, 0, 4, false));
-
     // final IntegrationLauncher integrationLauncher = new LimitedIntegrationLauncher(new
     // LimitedThinRecordSourceProcess());
     final IntegrationLauncher integrationLauncher = new LimitedIntegrationLauncher(new LimitedFatRecordSourceProcess());
@@ -156,6 +144,43 @@ public abstract class ReplicationWorkerPerformanceTest {
     final var versionedAbSource =
         new DefaultAirbyteSource(integrationLauncher, versionFac, heartbeatMonitor, migratorFactory.getProtocolSerializer(new Version("0.2.0")),
             new EnvVariableFeatureFlags(), mock(MetricClient.class));
+    // The stream fields here are intended to match the records emitted by the
+    // LimitedFatRecordSourceProcess class.
+    final ReplicationOutput output = runSync(versionedAbSource, heartbeatMonitor,
+        CatalogHelpers.createConfiguredAirbyteCatalog("s1", null, Field.of("data", JsonSchemaType.STRING)));
+
+    final var summary = output.getReplicationAttemptSummary();
+    final var mbRead = summary.getBytesSynced() / 1_000_000;
+    final var timeTakenMs = (summary.getEndTime() - summary.getStartTime());
+    final var timeTakenSec = timeTakenMs / 1000.0;
+    final var recReadSec = summary.getRecordsSynced() / timeTakenSec;
+    log.info("MBs read: {}, Time taken sec: {}, MB/s: {}, records/s: {}", mbRead, timeTakenSec, mbRead / timeTakenSec, recReadSec);
+  }
+
+  /**
+   * Run a whole sync of the given source into a destination dropping all the messages.
+   *
+   * @param source source of the sync
+   * @param heartbeatMonitor heartbeat monitor of the source
+   * @param catalog catalog of the sync, the schema of its streams is used for validation
+   * @return the output of the replication
+   */
+  public ReplicationOutput runSync(final AirbyteSource source, final HeartbeatMonitor heartbeatMonitor, final ConfiguredAirbyteCatalog catalog)
+      throws InterruptedException {
+    final var perDestination = new EmptyAirbyteDestination();
+    final var messageTracker = mock(AirbyteMessageTracker.class);
+    final var analyticsMessageTracker = mock(AnalyticsMessageTracker.class);
+    final var syncPersistence = mock(SyncPersistence.class);
+    final var connectorConfigUpdater = mock(ConnectorConfigUpdater.class);
+    final var metricReporter = new WorkerMetricReporter(new NotImplementedMetricClient(), "test-image:0.01");
+    final var dstNamespaceMapper = new NamespacingMapper(NamespaceDefinitionType.DESTINATION, "", "");
+    final var validator = new RecordSchemaValidator(catalog.getStreams().stream().collect(Collectors.toMap(
+        s -> new AirbyteStreamNameNamespacePair(s.getStream().getName(), s.getStream().getNamespace()),
+        s -> s.getStream().getJsonSchema())));
+    final var airbyteMessageDataExtractor = new AirbyteMessageDataExtractor();
+    final var replicationFeatureFlagReader = mock(ReplicationFeatureFlagReader.class);
+    when(replicationFeatureFlagReader.readReplicationFeatureFlags()).thenReturn(new ReplicationFeatureFlags(false, 0, 4, false, 1000, 100 * 1024 * 1024));
+
     final var workspaceID = UUID.randomUUID();
     final FeatureFlagClient featureFlagClient = new TestClient(Map.of("heartbeat.failSync", false));
     final HeartbeatTimeoutChaperone heartbeatTimeoutChaperone = new HeartbeatTimeoutChaperone(heartbeatMonitor,
@@ -202,7 +227,7 @@ public abstract class ReplicationWorkerPerformanceTest {
     final StreamStatusCompletionTracker streamStatusCompletionTracker = mock(StreamStatusCompletionTracker.class);
 
     final var worker = getReplicationWorker("1", 0,
-        versionedAbSource,
+        source,
         dstNamespaceMapper,
         perDestination,
         messageTracker,
@@ -220,12 +245,7 @@ public abstract class ReplicationWorkerPerformanceTest {
     final Thread workerThread = new Thread(() -> {
       try {
         final var ignoredPath = Path.of("/");
-        final ReplicationInput testInput = new ReplicationInput().withCatalog(
-            // The stream fields here are intended to match the records emitted by the
-            // LimitedFatRecordSourceProcess
-            // class.
-            CatalogHelpers.createConfiguredAirbyteCatalog("s1", null, Field.of("data", JsonSchemaType.STRING)))
-            .withWorkspaceId(UUID.randomUUID());
+        final ReplicationInput testInput = new ReplicationInput().withCatalog(catalog).withWorkspaceId(UUID.randomUUID());
         output.set(worker.run(testInput, ignoredPath));
       } catch (final WorkerException e) {
         throw new RuntimeException(e);
@@ -234,12 +254,7 @@ public abstract class ReplicationWorkerPerformanceTest {
 
     workerThread.start();
     workerThread.join();
-    final var summary = output.get().getReplicationAttemptSummary();
-    final var mbRead = summary.getBytesSynced() / 1_000_000;
-    final var timeTakenMs = (summary.getEndTime() - summary.getStartTime());
-    final var timeTakenSec = timeTakenMs / 1000.0;
-    final var recReadSec = summary.getRecordsSynced() / timeTakenSec;
-    log.info("MBs read: {}, Time taken sec: {}, MB/s: {}, records/s: {}", mbRead, timeTakenSec, mbRead / timeTakenSec, recReadSec);
+    return output.get();
   }
 
 }
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.general.performance;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.Field;
+import io.airbyte.protocol.models.JsonSchemaType;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * Deterministic record generators for the replication benchmarks.
+ * <p>
+ * Each {@link RecordShape} stresses a different part of the pipeline: narrow records are dominated
+ * by the per message overhead, wide records by the number of fields, nested records by the depth of
+ * the tree and blob records by the size of a single value.
+ */
+public final class SyntheticRecords {
+
+  public static final String STREAM_NAME = "benchmark_stream";
+  public static final String STREAM_NAMESPACE = "benchmark";
+
+  private static final JsonNodeFactory FACTORY = JsonNodeFactory.instance;
+  private static final int WIDE_COLUMN_GROUPS = 50;
+  private static final int NESTED_ITEMS = 10;
+  private static final int BLOB_SIZE = 256 * 1024;
+
+  /**
+   * The shapes of records we generate.
+   */
+  public enum RecordShape {
+    NARROW,
+    WIDE,
+    NESTED,
+    BLOB
+  }
+
+  private record Column(String name, JsonSchemaType type, LongFunction<JsonNode> value) {}
+
+  private SyntheticRecords() {}
+
+  /**
+   * Data of the i-th record of a shape. The same index always gives the same data.
+   */
+  public static ObjectNode data(final RecordShape shape, final long i) {
+    final ObjectNode node = FACTORY.objectNode();
+    for (final Column column : columns(shape)) {
+      node.set(column.name(), column.value().apply(i));
+    }
+    return node;
+  }
+
+  /**
+   * The i-th record message of a shape.
+   */
+  public static AirbyteMessage recordMessage(final RecordShape shape, final long i) {
+    return new AirbyteMessage()
+        .withType(AirbyteMessage.Type.RECORD)
+        .withRecord(new AirbyteRecordMessage()
+            .withStream(STREAM_NAME)
+            .withNamespace(STREAM_NAMESPACE)
+            .withEmittedAt(1_700_000_000_000L + i)
+            .withData(data(shape, i)));
+  }
+
+  /**
+   * The i-th record message of a shape, serialized the way a source emits it.
+   */
+  public static String serializedRecordMessage(final RecordShape shape, final long i) {
+    return Jsons.serialize(recordMessage(shape, i));
+  }
+
+  /**
+   * Catalog describing all the columns of a shape.
+   */
+  public static ConfiguredAirbyteCatalog catalog(final RecordShape shape) {
+    return catalog(shape, false);
+  }
+
+  /**
+   * Catalog describing the columns of a shape. With selectEveryOtherColumn, only half of the columns
+   * are part of the catalog, which is what field selection keeps.
+   */
+  public static ConfiguredAirbyteCatalog catalog(final RecordShape shape, final boolean selectEveryOtherColumn) {
+    final List<Column> columns = columns(shape);
+    final List<Field> fields = new ArrayList<>();
+    for (int i = 0; i < columns.size(); i += selectEveryOtherColumn ? 2 : 1) {
+      fields.add(Field.of(columns.get(i).name(), columns.get(i).type()));
+    }
+    return CatalogHelpers.createConfiguredAirbyteCatalog(STREAM_NAME, STREAM_NAMESPACE, fields.toArray(new Field[0]));
+  }
+
+  private static List<Column> columns(final RecordShape shape) {
+    return switch (shape) {
+      case NARROW -> List.of(
+          new Column("id", JsonSchemaType.INTEGER, FACTORY::numberNode),
+          new Column("name", JsonSchemaType.STRING, i -> FACTORY.textNode("customer " + i)),
+          new Column("amount", JsonSchemaType.NUMBER, i -> FACTORY.numberNode(BigDecimal.valueOf(i * 100 + 99, 2))),
+          new Column("active", JsonSchemaType.BOOLEAN, i -> FACTORY.booleanNode(i % 2 == 0)),
+          new Column("updated_at", JsonSchemaType.STRING, i -> FACTORY.textNode("2024-01-01T00:00:00." + (i % 1000) + "Z")));
+      case WIDE -> {
+        final List<Column> columns = new ArrayList<>();
+        for (int group = 0; group < WIDE_COLUMN_GROUPS; group++) {
+          final int g = group;
+          columns.add(new Column("int_" + g, JsonSchemaType.INTEGER, i -> FACTORY.numberNode(i * WIDE_COLUMN_GROUPS + g)));
+          columns.add(new Column("str_" + g, JsonSchemaType.STRING, i -> FACTORY.textNode("value \"" + g + "\" of " + i)));
+          columns.add(new Column("num_" + g, JsonSchemaType.NUMBER, i -> FACTORY.numberNode(i + g / 100.0)));
+          columns.add(new Column("bool_" + g, JsonSchemaType.BOOLEAN, i -> FACTORY.booleanNode((i + g) % 3 == 0)));
+        }
+        yield columns;
+      }
+      case NESTED -> List.of(
+          new Column("id", JsonSchemaType.INTEGER, FACTORY::numberNode),
+          new Column("customer", JsonSchemaType.OBJECT, SyntheticRecords::customer),
+          new Column("items", JsonSchemaType.ARRAY, SyntheticRecords::items),
+          new Column("tags", JsonSchemaType.ARRAY, i -> FACTORY.arrayNode().add("tag_" + i % 7).add("tag_" + i % 11).add("tag_" + i % 13)));
+      // the blob is not selected when selecting every other column, so that field selection can skip it
+      case BLOB -> List.of(
+          new Column("id", JsonSchemaType.INTEGER, FACTORY::numberNode),
+          new Column("payload", JsonSchemaType.STRING, SyntheticRecords::blob),
+          new Column("name", JsonSchemaType.STRING, i -> FACTORY.textNode("document " + i)),
+          new Column("updated_at", JsonSchemaType.STRING, i -> FACTORY.textNode("2024-01-01T00:00:00Z")));
+    };
+  }
+
+  private static JsonNode customer(final long i) {
+    final ObjectNode address = FACTORY.objectNode()
+        .put("street", i + " Main Street")
+        .put("city", "Springfield")
+        .put("zip", String.format("%05d", i % 100_000));
+    final ObjectNode customer = FACTORY.objectNode()
+        .put("name", "customer " + i)
+        .put("email", "customer" + i + "@example.com");
+    customer.set("address", address);
+    return customer;
+  }
+
+  private static JsonNode items(final long i) {
+    final ArrayNode items = FACTORY.arrayNode();
+    for (int item = 0; item < NESTED_ITEMS; item++) {
+      items.addObject()
+          .put("sku", "SKU-" + (i + item))
+          .put("quantity", item + 1)
+          .put("price", BigDecimal.valueOf(i % 1000 + item, 2));
+    }
+    return items;
+  }
+
+  private static JsonNode blob(final long i) {
+    final StringBuilder blob = new StringBuilder(BLOB_SIZE);
+    final String chunk = "lorem ipsum " + i + " \\ \"quoted\" ";
+    while (blob.length() < BLOB_SIZE) {
+      blob.append(chunk);
+    }
+    blob.setLength(BLOB_SIZE);
+    return FACTORY.textNode(blob.toString());
+  }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ByteLineReaderTest {
+
+  @Test
+  void testSplitsLines() {
+    final ByteLineReader reader = readerOf("first\nsecond\r\n\nlast", 4);
+
+    assertEquals(List.of("first", "second", "", "last"), reader.lines().map(ByteLineReaderTest::decode).toList());
+  }
+
+  @Test
+  void testTrailingNewLineDoesNotProduceAnEmptyLine() throws IOException {
+    final ByteLineReader reader = readerOf("only\n", 2);
+
+    assertEquals("only", decode(reader.readLine()));
+    assertNull(reader.readLine());
+  }
+
+  @Test
+  void testMultiByteCharactersAcrossChunks() {
+    final ByteLineReader reader = readerOf("héllo wörld\n日本語", 3);
+
+    assertEquals(List.of("héllo wörld", "日本語"), reader.lines().map(ByteLineReaderTest::decode).toList());
+  }
+
+  @Test
+  void testEmptyStream() throws IOException {
+    assertNull(readerOf("", 8).readLine());
+  }
+
+  private static ByteLineReader readerOf(final String content, final int chunkSize) {
+    return new ByteLineReader(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), chunkSize);
+  }
+
+  private static String decode(final byte[] bytes) {
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+}
@@ -200,6 +200,23 @@ class DefaultAirbyteDestinationTest {
     });
   }
 
+  @Test
+  void testAcceptAllWritesTheBatchUnderASingleTimer() throws Exception {
+    final AirbyteDestination destination = new DefaultAirbyteDestination(integrationLauncher, destinationTimeoutMonitor, metricClient);
+    destination.start(DESTINATION_CONFIG, jobRoot);
+
+    destination.acceptAll(List.of(
+        AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "blue"),
+        AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "yellow")));
+    destination.notifyEndOfInput();
+
+    verify(destinationTimeoutMonitor, times(1)).startAcceptTimer();
+    verify(destinationTimeoutMonitor, times(1)).resetAcceptTimer();
+    final String written = outputStream.toString(StandardCharsets.UTF_8);
+    assertTrue(written.contains("blue"));
+    assertTrue(written.contains("yellow"));
+  }
+
   @Test
   void testCloseNotifiesLifecycle() throws Exception {
     final AirbyteDestination destination = new DefaultAirbyteDestination(integrationLauncher, destinationTimeoutMonitor, metricClient);
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.json.RawJsonNode;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteStreamNameNamespacePair;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.Field;
+import io.airbyte.protocol.models.JsonSchemaType;
+import io.airbyte.workers.RecordSchemaValidator;
+import io.airbyte.workers.WorkerMetricReporter;
+import io.airbyte.workers.test_utils.AirbyteMessageUtils;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FieldSelectorTest {
+
+  private static final String STREAM_NAME = "users";
+  private static final AirbyteStreamNameNamespacePair STREAM = new AirbyteStreamNameNamespacePair(STREAM_NAME, null);
+  private static final ConfiguredAirbyteCatalog CATALOG = CatalogHelpers.createConfiguredAirbyteCatalog(STREAM_NAME, null,
+      Field.of("id", JsonSchemaType.NUMBER), Field.of("name", JsonSchemaType.STRING));
+  private static final String RAW_DATA = "{\"id\": 1, \"name\": \"a\", \"extra\": true}";
+
+  private RecordSchemaValidator recordSchemaValidator;
+  private WorkerMetricReporter metricReporter;
+
+  @BeforeEach
+  void setup() {
+    recordSchemaValidator = mock(RecordSchemaValidator.class);
+    metricReporter = mock(WorkerMetricReporter.class);
+  }
+
+  @Test
+  void testRawRecordsAreValidated() {
+    final FieldSelector fieldSelector = fieldSelector(false);
+    final AirbyteMessage message = rawRecord();
+
+    fieldSelector.filterSelectedFields(message);
+    fieldSelector.validateSchema(message);
+    fieldSelector.reportMetrics(UUID.randomUUID());
+
+    verify(recordSchemaValidator).validateSchema(eq(message.getRecord()), eq(STREAM), any());
+    verify(metricReporter).trackUnexpectedFields(STREAM, Set.of("extra"));
+    assertEquals(RAW_DATA, ((RawJsonNode) message.getRecord().getData()).getRawJson());
+  }
+
+  @Test
+  void testRawRecordsAreProjectedThenValidated() {
+    final FieldSelector fieldSelector = fieldSelector(true);
+    final AirbyteMessage message = rawRecord();
+
+    fieldSelector.filterSelectedFields(message);
+    fieldSelector.validateSchema(message);
+    fieldSelector.reportMetrics(UUID.randomUUID());
+
+    assertTrue(message.getRecord().getData() instanceof RawJsonNode);
+    assertEquals(Jsons.deserialize("{\"id\": 1, \"name\": \"a\"}"), RawJsonNode.materialize(message.getRecord().getData()));
+    verify(recordSchemaValidator).validateSchema(eq(message.getRecord()), eq(STREAM), any());
+    // the unselected fields were projected away before looking for unexpected ones
+    verify(metricReporter, never()).trackUnexpectedFields(any(), any());
+  }
+
+  private FieldSelector fieldSelector(final boolean fieldSelectionEnabled) {
+    final FieldSelector fieldSelector = new FieldSelector(recordSchemaValidator, metricReporter, fieldSelectionEnabled, false);
+    fieldSelector.populateFields(CATALOG);
+    return fieldSelector;
+  }
+
+  private static AirbyteMessage rawRecord() {
+    return AirbyteMessageUtils.createRecordMessage(STREAM_NAME, new RawJsonNode(RAW_DATA), Instant.EPOCH);
+  }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.json.RawJsonNode;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SelectedFieldsProjectorTest {
+
+  private final SelectedFieldsProjector projector = new SelectedFieldsProjector(List.of("id", "name", "nested"));
+
+  @Test
+  void testProjectParsedRecordInPlace() {
+    final JsonNode data = Jsons.deserialize("""
+                                            {"id": 1, "name": "a", "blob": "skipped", "nested": {"blob": [1, 2]}}""");
+
+    assertSame(data, projector.project(data));
+    assertEquals(Jsons.deserialize("""
+                                   {"id": 1, "name": "a", "nested": {"blob": [1, 2]}}"""), data);
+  }
+
+  @Test
+  void testProjectRawRecord() {
+    final String blob = "x".repeat(1_000);
+    final RawJsonNode data = new RawJsonNode("""
+                                             {"blob": {"a": [1, {"b": "%s"}]}, "id": 12345678901234567890.5, "name" : "quote \\" and \\\\",
+                                              "other": [], "nested": {"k": ["v", null, true]}}""".formatted(blob));
+
+    final JsonNode projected = projector.project(data);
+
+    assertTrue(projected instanceof RawJsonNode);
+    assertEquals(Jsons.deserialize("""
+                                   {"id": 12345678901234567890.5, "name": "quote \\" and \\\\", "nested": {"k": ["v", null, true]}}"""),
+        ((RawJsonNode) projected).materialize());
+  }
+
+  @Test
+  void testProjectRawRecordWithStringsAboveTheParserLimit() {
+    // Strings are copied or skipped without being decoded, so the string length limit of the parser
+    // never applies.
+    final SelectedFieldsProjector limitedProjector =
+        new SelectedFieldsProjector(List.of("id", "name"), StreamReadConstraints.builder().maxStringLength(10).build());
+    final String blob = "x".repeat(100);
+    final RawJsonNode data = new RawJsonNode("{\"id\": 1, \"name\": \"" + blob + "\", \"blob\": \"" + blob + "\"}");
+
+    final JsonNode projected = ((RawJsonNode) limitedProjector.project(data)).materialize();
+
+    assertEquals(Jsons.deserialize("{\"id\": 1, \"name\": \"" + blob + "\"}"), projected);
+  }
+
+  @Test
+  void testProjectRawRecordWithoutSelectedFields() {
+    final JsonNode projected = projector.project(new RawJsonNode("{\"blob\": \"skipped\"}"));
+
+    assertEquals(Jsons.emptyObject(), ((RawJsonNode) projected).materialize());
+  }
+
+  @Test
+  void testProjectUnexpectedData() {
+    assertThrows(RuntimeException.class, () -> projector.project(Jsons.jsonNode(List.of(1))));
+    assertThrows(RuntimeException.class, () -> projector.project(new RawJsonNode("[1]")));
+  }
+
+}
@@ -233,6 +233,47 @@ class VersionedAirbyteStreamFactoryTest {
       Assertions.assertThat(getFactory().toAirbyteMessage(messageLine)).isNotEmpty();
     }
 
+    @Test
+    void testStreamingParserValid() {
+      final AirbyteMessage record1 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green");
+      final AirbyteMessage record2 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME,
+          new BigDecimal("1234567890.1234567890"));
+
+      final Stream<AirbyteMessage> messageStream =
+          stringToMessageStreamWithStreamingParser(Jsons.serialize(record1) + "\r\n" + Jsons.serialize(record2) + "\n");
+
+      assertEquals(List.of(record1, record2), messageStream.collect(Collectors.toList()));
+    }
+
+    @Test
+    void testStreamingParserLoggingLine() {
+      final String invalidRecord = "invalid line";
+
+      final Stream<AirbyteMessage> messageStream = stringToMessageStreamWithStreamingParser(invalidRecord);
+
+      assertEquals(Collections.emptyList(), messageStream.collect(Collectors.toList()));
+      verify(logger).info(invalidRecord);
+    }
+
+    @Test
+    void testStreamingParserMalformedRecordShouldOnlyDebugLog() {
+      final String invalidRecord = "{\"type\":\"RECORD\", \"record\": {\"stream\": \"transactions\", \"data\": {\"amount\": \"100.00\"";
+
+      stringToMessageStreamWithStreamingParser(invalidRecord).collect(Collectors.toList());
+      verifyBlankedRecordRecordWarning();
+      verify(logger).debug(invalidRecord);
+    }
+
+    private Stream<AirbyteMessage> stringToMessageStreamWithStreamingParser(final String inputString) {
+      final InputStream inputStream = new ByteArrayInputStream(inputString.getBytes(StandardCharsets.UTF_8));
+
+      final var stream = getFactory()
+          .withStreamingParser(true)
+          .createFromInputStream(inputStream);
+      verify(logger).info("Reading messages from protocol version {}{} using the streaming parser", "0.2.0", "");
+      return stream;
+    }
+
     private Stream<AirbyteMessage> stringToMessageStream(final String inputString) {
       final InputStream inputStream = new ByteArrayInputStream(inputString.getBytes(StandardCharsets.UTF_8));
       final BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
@@ -345,6 +386,23 @@ class VersionedAirbyteStreamFactoryTest {
       assertEquals(2, messageCount);
     }
 
+    @Test
+    void testCreateWithVersionDetectionWithStreamingParser() {
+      final Version initialVersion = new Version("0.0.0");
+      final VersionedAirbyteStreamFactory<?> streamFactory =
+          new VersionedAirbyteStreamFactory<>(serDeProvider, migratorFactory, initialVersion, Optional.empty(), Optional.empty(),
+              new VersionedAirbyteStreamFactory.InvalidLineFailureConfiguration(false),
+              gsonPksExtractor)
+                  .withDetectVersion(true)
+                  .withStreamingParser(true);
+
+      final Stream<AirbyteMessage> stream = streamFactory.createFromInputStream(
+          ClassLoaderUtils.getDefaultClassLoader().getResourceAsStream("version-detection/logs-with-version.jsonl"));
+
+      final long messageCount = stream.toList().size();
+      assertEquals(1, messageCount);
+    }
+
     BufferedReader getBuffereredReader(final String resourceFile) {
       return new BufferedReader(
           new InputStreamReader(
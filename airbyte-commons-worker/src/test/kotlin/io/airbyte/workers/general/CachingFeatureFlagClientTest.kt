@@ -1,5 +1,6 @@
 package io.airbyte.workers.general
 
+import io.airbyte.featureflag.ProcessRateLimitedMessage
 import io.airbyte.featureflag.TestClient
 import io.airbyte.featureflag.UseStreamStatusTracker2024
 import io.airbyte.featureflag.Workspace
@@ -36,4 +37,18 @@ class CachingFeatureFlagClientTest {
     val result3 = client.boolVariation(UseStreamStatusTracker2024, context)
     Assertions.assertTrue(result3)
   }
+
+  @Test
+  fun snapshotsTheCachedValues() {
+    val context = Workspace(UUID.randomUUID())
+
+    every { rawClient.boolVariation(any(), any()) } returns true
+    Assertions.assertTrue(client.boolVariation(UseStreamStatusTracker2024, context))
+
+    every { rawClient.boolVariation(any(), any()) } returns false
+    val snapshot = client.snapshot(listOf(UseStreamStatusTracker2024, ProcessRateLimitedMessage), context)
+    Assertions.assertTrue(snapshot.boolVariation(UseStreamStatusTracker2024))
+    Assertions.assertFalse(snapshot.boolVariation(ProcessRateLimitedMessage))
+    Assertions.assertFalse(client.boolVariation(ProcessRateLimitedMessage, context))
+  }
 }
@@ -1,6 +1,7 @@
 package io.airbyte.workers.internal.bookkeeping.streamstatus
 
 import io.airbyte.api.client.model.generated.StreamStatusRateLimitedMetadata
+import io.airbyte.featureflag.FeatureFlagSnapshot
 import io.airbyte.metrics.lib.MetricClient
 import io.airbyte.protocol.models.AirbyteMessage
 import io.airbyte.protocol.models.AirbyteRecordMessage
@@ -48,10 +49,11 @@ class StreamStatusTrackerTest {
     metricClient = mockk()
     ffClient = mockk()
 
+    every { ffClient.snapshot(any(), any()) } answers { FeatureFlagSnapshot.ofBooleans(firstArg(), secondArg()) { true } }
+
     tracker = StreamStatusTracker(dataExtractor, store, eventPublisher, metricClient, ffClient)
     tracker.init(Fixtures.ctx)
 
-    every { ffClient.boolVariation(any(), any()) } returns true
     every { dataExtractor.getStreamFromMessage(any()) } returns Fixtures.streamDescriptor
     every { store.get(any()) } returns null
   }
@@ -1,5 +1,6 @@
 package io.airbyte.workers.storage
 
+import com.google.cloud.WriteChannel
 import com.google.cloud.storage.Blob
 import com.google.cloud.storage.BlobId
 import com.google.cloud.storage.BlobInfo
@@ -11,6 +12,7 @@ import io.airbyte.config.storage.S3StorageConfig
 import io.airbyte.config.storage.StorageBucketConfig
 import io.mockk.every
 import io.mockk.mockk
+import io.mockk.slot
 import io.mockk.verify
 import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.Assertions.assertFalse
@@ -18,6 +20,7 @@ import org.junit.jupiter.api.Assertions.assertNotNull
 import org.junit.jupiter.api.Assertions.assertNull
 import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
 import org.junit.jupiter.api.io.TempDir
 import software.amazon.awssdk.core.ResponseBytes
 import software.amazon.awssdk.core.sync.RequestBody
@@ -109,6 +112,32 @@ class GcsStorageClientTest {
     verify { gcsClient.create(BlobInfo.newBuilder(blobId).build(), DOC1.toByteArray()) }
   }
 
+  @Test
+  fun `read missing doc stream`() {
+    val gcsClient: Storage = mockk()
+    val client = GcsStorageClient(config = config, type = DocumentType.STATE, gcsClient = gcsClient)
+
+    every { gcsClient.get(client.blobId(KEY)) } returns null
+    assertNull(client.readStream(KEY), "key $KEY should be null")
+  }
+
+  @Test
+  fun `failed doc stream write leaves no doc`() {
+    val gcsClient: Storage = mockk()
+    val client = GcsStorageClient(config = config, type = DocumentType.STATE, gcsClient = gcsClient)
+
+    val blobId = client.blobId(KEY)
+    every { gcsClient.writer(BlobInfo.newBuilder(blobId).build()) } returns
+      mockk<WriteChannel> {
+        every { isOpen } returns true
+        every { close() } returns Unit
+      }
+    every { gcsClient.delete(blobId) } returns true
+
+    assertThrows<IllegalStateException> { client.writeStream(KEY) { throw IllegalStateException("bang") } }
+    verify { gcsClient.delete(blobId) }
+  }
+
   @Test
   fun `delete doc`() {
     val gcsClient: Storage = mockk()
@@ -157,6 +186,36 @@ class LocalStorageClientTest {
       assertNull(this, "key $KEY should not exist")
     }
   }
+
+  @Test
+  fun `happy path with streams`(
+    @TempDir tempDir: Path,
+  ) {
+    val config = LocalStorageConfig(buckets = buckets, root = tempDir.toString())
+    val client = LocalStorageClient(config = config, type = DocumentType.STATE)
+
+    assertNull(client.readStream(KEY), "key $KEY should not exist")
+
+    client.writeStream(KEY) { it.write(DOC1.toByteArray()) }
+    assertEquals(DOC1, client.readStream(KEY)?.use { it.readBytes().decodeToString() })
+    assertEquals(DOC1, client.read(KEY))
+  }
+
+  @Test
+  fun `failed write leaves no doc`(
+    @TempDir tempDir: Path,
+  ) {
+    val config = LocalStorageConfig(buckets = buckets, root = tempDir.toString())
+    val client = LocalStorageClient(config = config, type = DocumentType.STATE)
+
+    assertThrows<IllegalStateException> {
+      client.writeStream(KEY) {
+        it.write(DOC1.toByteArray())
+        throw IllegalStateException("bang")
+      }
+    }
+    assertNull(client.readStream(KEY), "key $KEY should not exist")
+  }
 }
 
 class MinioStorageClientTest {
@@ -341,4 +400,37 @@ class S3StorageClientTest {
     every { s3Client.deleteObject(deleteRequest) } returns mockk()
     assertTrue(client.delete(KEY))
   }
+
+  @Test
+  fun `write doc stream`() {
+    val s3Client: S3Client = mockk()
+    val client = S3StorageClient(config = config, type = DocumentType.STATE, s3Client = s3Client)
+
+    val request =
+      PutObjectRequest.builder()
+        .bucket(buckets.state)
+        .key(client.key(KEY))
+        .build()
+    val body = slot<RequestBody>()
+    every { s3Client.putObject(request, capture(body)) } returns mockk()
+
+    client.writeStream(KEY) { it.write(DOC1.toByteArray()) }
+
+    assertEquals(DOC1, body.captured.contentStreamProvider().newStream().use { it.readBytes().decodeToString() })
+  }
+
+  @Test
+  fun `read missing doc stream`() {
+    val s3Client: S3Client = mockk()
+    val client = S3StorageClient(config = config, type = DocumentType.STATE, s3Client = s3Client)
+
+    val request =
+      GetObjectRequest.builder()
+        .bucket(buckets.state)
+        .key(client.key(KEY))
+        .build()
+
+    every { s3Client.getObject(request) } throws NoSuchKeyException.builder().build()
+    assertNull(client.readStream(KEY), "key $KEY should be null")
+  }
 }
@@ -9,11 +9,17 @@ import io.airbyte.workers.storage.StorageClient
 import io.mockk.every
 import io.mockk.impl.annotations.MockK
 import io.mockk.junit5.MockKExtension
+import io.mockk.slot
 import io.mockk.verify
 import org.junit.jupiter.api.Assertions
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.extension.ExtendWith
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+import java.io.InputStream
+import java.io.OutputStream
+import java.util.zip.GZIPInputStream
 
 @ExtendWith(MockKExtension::class)
 class ActivityPayloadStorageClientTest {
@@ -32,13 +38,13 @@ class ActivityPayloadStorageClientTest {
 
   @BeforeEach
   fun setup() {
-    client = ActivityPayloadStorageClient(storageClientRaw, serde, metricClient)
+    client = ActivityPayloadStorageClient(storageClientRaw, serde, metricClient, true)
 
     every { metricClient.count(any(), any(), *anyVararg()) } returns Unit
 
-    every { storageClientRaw.write(any(), any()) } returns Unit
+    every { storageClientRaw.writeStream(any(), any()) } returns Unit
 
-    every { storageClientRaw.read(any()) } returns ""
+    every { storageClientRaw.readStream(any()) } answers { ByteArrayInputStream(ByteArray(0)) }
   }
 
   @Test
@@ -47,11 +53,11 @@ class ActivityPayloadStorageClientTest {
     val refreshOutput = RefreshSchemaActivityOutput()
 
     every {
-      storageClientRaw.read("sync-output")
-    } returns "serialized-sync-output"
+      storageClientRaw.readStream("sync-output")
+    } returns "serialized-sync-output".byteInputStream()
 
     every {
-      serde.deserialize("serialized-sync-output", StandardSyncOutput::class.java)
+      serde.deserialize(any<InputStream>(), StandardSyncOutput::class.java)
     } returns syncOutput
 
     val result1 = client.readJSON<StandardSyncOutput>(ActivityPayloadURI("sync-output"))
@@ -59,11 +65,11 @@ class ActivityPayloadStorageClientTest {
     Assertions.assertEquals(syncOutput, result1)
 
     every {
-      storageClientRaw.read("refresh-output")
-    } returns "serialized-refresh-output"
+      storageClientRaw.readStream("refresh-output")
+    } returns "serialized-refresh-output".byteInputStream()
 
     every {
-      serde.deserialize("serialized-refresh-output", RefreshSchemaActivityOutput::class.java)
+      serde.deserialize(any<InputStream>(), RefreshSchemaActivityOutput::class.java)
     } returns refreshOutput
 
     val result2 = client.readJSON<RefreshSchemaActivityOutput>(ActivityPayloadURI("refresh-output"))
@@ -74,7 +80,7 @@ class ActivityPayloadStorageClientTest {
   @Test
   fun `readJSON handles null`() {
     every {
-      storageClientRaw.read("sync-output")
+      storageClientRaw.readStream("sync-output")
     } returns null
 
     val result = client.readJSON<StandardSyncOutput>(ActivityPayloadURI("sync-output"))
@@ -83,16 +89,46 @@ class ActivityPayloadStorageClientTest {
   }
 
   @Test
-  fun `writeJSON serializes to json and writes to a given uri`() {
+  fun `writeJSON serializes to compressed json and writes to a given uri`() {
     val syncOutput = StandardSyncOutput().withAdditionalProperty("some", "unique-value-1")
 
     every {
-      serde.serialize(syncOutput)
-    } returns "serialized-sync-output"
+      serde.serialize(syncOutput, any<OutputStream>())
+    } answers { secondArg<OutputStream>().write("serialized-sync-output".toByteArray()) }
 
     client.writeJSON(ActivityPayloadURI("sync-output"), syncOutput)
 
-    verify { storageClientRaw.write("sync-output", "serialized-sync-output") }
+    val written = ByteArrayOutputStream().also(captureWriter("sync-output")).toByteArray()
+    Assertions.assertEquals("serialized-sync-output", GZIPInputStream(ByteArrayInputStream(written)).readBytes().decodeToString())
+  }
+
+  @Test
+  fun `writeJSON writes uncompressed json when compression is disabled`() {
+    val uncompressingClient = ActivityPayloadStorageClient(storageClientRaw, serde, metricClient, false)
+    val syncOutput = StandardSyncOutput().withAdditionalProperty("some", "unique-value-1")
+
+    every {
+      serde.serialize(syncOutput, any<OutputStream>())
+    } answers { secondArg<OutputStream>().write("serialized-sync-output".toByteArray()) }
+
+    uncompressingClient.writeJSON(ActivityPayloadURI("sync-output"), syncOutput)
+
+    val written = ByteArrayOutputStream().also(captureWriter("sync-output")).toByteArray()
+    Assertions.assertEquals("serialized-sync-output", written.decodeToString())
+  }
+
+  @Test
+  fun `readJSON reads both compressed and uncompressed json`() {
+    val serdeClient = ActivityPayloadStorageClient(storageClientRaw, JsonSerde(), metricClient, true)
+    val syncOutput = StandardSyncOutput().withAdditionalProperty("some", "unique-value-1")
+
+    serdeClient.writeJSON(ActivityPayloadURI("compressed"), syncOutput)
+    val compressed = ByteArrayOutputStream().also(captureWriter("compressed")).toByteArray()
+    every { storageClientRaw.readStream("compressed") } returns ByteArrayInputStream(compressed)
+    every { storageClientRaw.readStream("uncompressed") } returns JsonSerde().serialize(syncOutput).byteInputStream()
+
+    Assertions.assertEquals(syncOutput, serdeClient.readJSON<StandardSyncOutput>(ActivityPayloadURI("compressed")))
+    Assertions.assertEquals(syncOutput, serdeClient.readJSON<StandardSyncOutput>(ActivityPayloadURI("uncompressed")))
   }
 
   @Test
@@ -100,7 +136,7 @@ class ActivityPayloadStorageClientTest {
     val uri = ActivityPayloadURI("id", "version")
     val syncOutput = StandardSyncOutput().withAdditionalProperty("some", "unique-value-1")
 
-    every { serde.deserialize(any(), StandardSyncOutput::class.java) } returns syncOutput
+    every { serde.deserialize(any<InputStream>(), StandardSyncOutput::class.java) } returns syncOutput
 
     client.validateOutput(uri, StandardSyncOutput::class.java, syncOutput, comparator, listOf())
 
@@ -115,7 +151,7 @@ class ActivityPayloadStorageClientTest {
     val syncOutput1 = StandardSyncOutput().withAdditionalProperty("some", "unique-value-1")
     val syncOutput2 = StandardSyncOutput().withAdditionalProperty("some", "unique-value-2")
 
-    every { serde.deserialize(any(), StandardSyncOutput::class.java) } returns syncOutput2
+    every { serde.deserialize(any<InputStream>(), StandardSyncOutput::class.java) } returns syncOutput2
 
     client.validateOutput(uri, StandardSyncOutput::class.java, syncOutput1, comparator, listOf())
 
@@ -129,7 +165,7 @@ class ActivityPayloadStorageClientTest {
     val uri = ActivityPayloadURI("id", "version")
     val syncOutput = StandardSyncOutput().withAdditionalProperty("some", "unique-value-1")
 
-    every { storageClientRaw.read(uri.id) } returns null
+    every { storageClientRaw.readStream(uri.id) } returns null
 
     client.validateOutput(uri, StandardSyncOutput::class.java, syncOutput, comparator, listOf())
 
@@ -155,7 +191,7 @@ class ActivityPayloadStorageClientTest {
     val uri = ActivityPayloadURI("id", "version")
     val syncOutput = StandardSyncOutput().withAdditionalProperty("some", "unique-value-1")
 
-    every { storageClientRaw.read(uri.id) } throws RuntimeException("yikes")
+    every { storageClientRaw.readStream(uri.id) } throws RuntimeException("yikes")
 
     client.validateOutput(uri, StandardSyncOutput::class.java, syncOutput, comparator, listOf())
 
@@ -163,4 +199,10 @@ class ActivityPayloadStorageClientTest {
       metricClient.count(OssMetricsRegistry.PAYLOAD_FAILURE_READ, 1, *anyVararg())
     }
   }
+
+  private fun captureWriter(id: String): (OutputStream) -> Unit {
+    val writer = slot<(OutputStream) -> Unit>()
+    verify { storageClientRaw.writeStream(id, capture(writer)) }
+    return writer.captured
+  }
 }
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.concurrency;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.ToLongFunction;
+
+/**
+ * Wraps a count bounded {@link ClosableQueue} to also bound it by the estimated size in bytes of the
+ * elements it holds.
+ * <p>
+ * An element is only accepted if it fits in the remaining byte budget, or if the queue doesn't hold
+ * any byte yet so that a single element larger than the budget can still go through. When it
+ * doesn't fit, the producer parks until a consumer frees some space, the queue is closed or the
+ * timeout elapses. The size of each element is computed once, when it is added.
+ * <p>
+ * Like the queues used by the replication worker, this is meant to have a single consumer thread.
+ * Elements left over by a drain capped in bytes are kept aside by the consumer and handed out first
+ * afterwards; they still count towards the size and bytes of the queue.
+ */
+public class ByteBoundedQueue<T> implements ClosableQueue<T> {
+
+  private static final int DEFAULT_ADD_TIME_OUT_DURATION_SECONDS = 5;
+
+  /**
+   * An element of the underlying queue along with its estimated size.
+   */
+  public record Entry<T>(T element, long bytes) {}
+
+  private final ClosableQueue<Entry<T>> queue;
+  private final ToLongFunction<T> sizeEstimator;
+  private final int maxSize;
+  private final long maxBytes;
+  private final long timeOutNanos;
+  private final AtomicLong bytes;
+  // Only used by the consumer thread: entries drained from the underlying queue in a batch and not
+  // handed out yet, because of the byte cap of the drain.
+  private final ArrayDeque<Entry<T>> drainBuffer;
+  // Size of the drain buffer, also read by other threads through size().
+  private volatile int drainBufferSize;
+
+  private volatile Thread waitingProducer;
+
+  /**
+   * Build a byte bounded queue.
+   *
+   * @param queue count bounded queue holding the elements and their size
+   * @param maxSize maximum number of elements the underlying queue accepts
+   * @param maxBytes maximum estimated bytes held by the queue
+   * @param sizeEstimator estimates the size of an element in bytes
+   * @param addTimeOutDurationInSeconds how long add waits for space before giving up
+   */
+  public ByteBoundedQueue(final ClosableQueue<Entry<T>> queue,
+                          final int maxSize,
+                          final long maxBytes,
+                          final ToLongFunction<T> sizeEstimator,
+                          final OptionalInt addTimeOutDurationInSeconds) {
+    this.queue = queue;
+    this.maxSize = maxSize;
+    this.maxBytes = maxBytes;
+    this.sizeEstimator = sizeEstimator;
+    this.timeOutNanos = TimeUnit.SECONDS.toNanos(addTimeOutDurationInSeconds.orElse(DEFAULT_ADD_TIME_OUT_DURATION_SECONDS));
+    this.bytes = new AtomicLong();
+    this.drainBuffer = new ArrayDeque<>();
+  }
+
+  @Override
+  public T poll() throws InterruptedException {
+    final Entry<T> entry = drainBuffer.isEmpty() ? queue.poll() : takeFromDrainBuffer();
+    if (entry == null) {
+      return null;
+    }
+    release(entry.bytes());
+    return entry.element();
+  }
+
+  @Override
+  public int drainTo(final Collection<? super T> sink, final int maxElements) throws InterruptedException {
+    return drainTo(sink, maxElements, Long.MAX_VALUE);
+  }
+
+  /**
+   * Like {@link #drainTo(Collection, int)}, but also stops once the transferred elements add up to
+   * maxBytes, so that a batch of large elements doesn't hold on to more memory than the caller can
+   * afford. The first element is always transferred, even if it is larger than maxBytes.
+   * <p>
+   * The elements are drained from the underlying queue in a single batch. The ones past the byte cap
+   * are transferred first by the next poll or drain, which then doesn't wait. Otherwise, the first
+   * element is waited for as long as the underlying queue waits on {@link ClosableQueue#drainTo},
+   * which may be not at all.
+   *
+   * @param sink collection to add the elements to
+   * @param maxElements maximum number of elements to transfer
+   * @param maxBytes maximum estimated bytes to transfer
+   * @return the number of elements transferred
+   * @throws InterruptedException if interrupted while waiting for the first element
+   */
+  public int drainTo(final Collection<? super T> sink, final int maxElements, final long maxBytes) throws InterruptedException {
+    final int missing = maxElements - drainBuffer.size();
+    // Only wait for elements if none were left over by the previous drain.
+    if (missing > 0 && (drainBuffer.isEmpty() || queue.size() > 0)) {
+      queue.drainTo(drainBuffer, missing);
+      drainBufferSize = drainBuffer.size();
+    }
+
+    int drained = 0;
+    long drainedBytes = 0;
+    while (drained < maxElements && drainedBytes < maxBytes && !drainBuffer.isEmpty()) {
+      final Entry<T> entry = drainBuffer.pollFirst();
+      sink.add(entry.element());
+      drainedBytes += entry.bytes();
+      drained++;
+    }
+    drainBufferSize = drainBuffer.size();
+    if (drained > 0) {
+      release(drainedBytes);
+    }
+    return drained;
+  }
+
+  @Override
+  public boolean add(final T e) throws InterruptedException {
+    if (e == null) {
+      throw new NullPointerException();
+    }
+    final long size = sizeEstimator.applyAsLong(e);
+    if (!awaitBytes(size)) {
+      return false;
+    }
+
+    // Reserve the bytes before publishing the element so that a concurrent poll never releases
+    // bytes that haven't been counted yet.
+    bytes.addAndGet(size);
+    final boolean added = queue.add(new Entry<>(e, size));
+    if (!added) {
+      release(size);
+    }
+    return added;
+  }
+
+  @Override
+  public int size() {
+    return queue.size() + drainBufferSize;
+  }
+
+  /**
+   * Estimated bytes currently held by the queue.
+   */
+  public long getBytes() {
+    return bytes.get();
+  }
+
+  public long getMaxBytes() {
+    return maxBytes;
+  }
+
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  @Override
+  public boolean isDone() {
+    return drainBufferSize == 0 && queue.isDone();
+  }
+
+  @Override
+  public void close() {
+    queue.close();
+    final Thread producer = waitingProducer;
+    if (producer != null) {
+      LockSupport.unpark(producer);
+    }
+  }
+
+  @Override
+  public boolean isClosed() {
+    return queue.isClosed();
+  }
+
+  private Entry<T> takeFromDrainBuffer() {
+    final Entry<T> entry = drainBuffer.pollFirst();
+    drainBufferSize = drainBuffer.size();
+    return entry;
+  }
+
+  private boolean fits(final long size) {
+    final long current = bytes.get();
+    return current <= 0 || current + size <= maxBytes;
+  }
+
+  private boolean awaitBytes(final long size) throws InterruptedException {
+    if (fits(size)) {
+      return true;
+    }
+
+    final long deadline = System.nanoTime() + timeOutNanos;
+    waitingProducer = Thread.currentThread();
+    try {
+      while (true) {
+        // Checked after publishing waitingProducer so that a release happening in between unparks us.
+        if (fits(size)) {
+          return true;
+        }
+        final long remaining = deadline - System.nanoTime();
+        if (isClosed() || remaining <= 0) {
+          return false;
+        }
+        LockSupport.parkNanos(this, remaining);
+        if (Thread.interrupted()) {
+          throw new InterruptedException();
+        }
+      }
+    } finally {
+      waitingProducer = null;
+    }
+  }
+
+  private void release(final long size) {
+    bytes.addAndGet(-size);
+    final Thread producer = waitingProducer;
+    if (producer != null) {
+      LockSupport.unpark(producer);
+    }
+  }
+
+}
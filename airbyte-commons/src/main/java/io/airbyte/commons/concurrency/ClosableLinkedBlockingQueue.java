@@ -4,6 +4,7 @@
 
 package io.airbyte.commons.concurrency;
 
+import java.util.Collection;
 import java.util.OptionalInt;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
@@ -36,6 +37,19 @@ public class ClosableLinkedBlockingQueue<T> implements ClosableQueue<T> {
     return queue.poll(timeOutDuration, TimeUnit.SECONDS);
   }
 
+  @Override
+  public int drainTo(final Collection<? super T> sink, final int maxElements) throws InterruptedException {
+    if (maxElements <= 0) {
+      return 0;
+    }
+    final T first = poll();
+    if (first == null) {
+      return 0;
+    }
+    sink.add(first);
+    return 1 + queue.drainTo(sink, maxElements - 1);
+  }
+
   @Override
   public boolean add(final T e) throws InterruptedException {
     try {
@@ -4,10 +4,35 @@
 
 package io.airbyte.commons.concurrency;
 
+import java.util.Collection;
+
 public interface ClosableQueue<T> {
 
   T poll() throws InterruptedException;
 
+  /**
+   * Removes up to maxElements elements from the queue and adds them to the sink, in order. Waits for
+   * the first element the same way {@link #poll()} does, the following ones are only taken if they
+   * are already available.
+   *
+   * @param sink collection to add the elements to
+   * @param maxElements maximum number of elements to transfer
+   * @return the number of elements transferred
+   * @throws InterruptedException if interrupted while waiting for the first element
+   */
+  default int drainTo(final Collection<? super T> sink, final int maxElements) throws InterruptedException {
+    int drained = 0;
+    while (drained < maxElements && (drained == 0 || size() > 0)) {
+      final T e = poll();
+      if (e == null) {
+        break;
+      }
+      sink.add(e);
+      drained++;
+    }
+    return drained;
+  }
+
   boolean add(final T e) throws InterruptedException;
 
   int size();
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.concurrency;
+
+import java.util.Collection;
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A bounded single-producer/single-consumer queue backed by a preallocated array ring buffer.
+ * <p>
+ * Only one thread may call {@link #add(Object)} and only one thread may call {@link #poll()}.
+ * Under that contract, the queue doesn't need any lock: the producer owns the tail index, the
+ * consumer owns the head index and each side only reads the other one's index to detect an empty or
+ * full buffer. When the buffer is empty (resp. full), the consumer (resp. producer) parks until the
+ * other side unparks it, the queue is closed or the timeout elapses, instead of sleeping for a fixed
+ * duration.
+ * <p>
+ * {@link #close()} may be called from any thread. Closing from another thread than the producer is
+ * meant to abort: an element being added concurrently may never be polled.
+ */
+public class SpscRingBufferQueue<T> implements ClosableQueue<T> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(SpscRingBufferQueue.class);
+  private static final int DEFAULT_POLL_TIME_OUT_DURATION_SECONDS = 5;
+
+  private final Object[] buffer;
+  private final int mask;
+  private final int capacity;
+  private final long timeOutNanos;
+
+  // Index of the next element to poll, only written by the consumer.
+  private final AtomicLong head;
+  // Index of the next element to add, only written by the producer.
+  private final AtomicLong tail;
+  // Last head seen by the producer, saves reading the consumer's index while the buffer has room.
+  private long producerCachedHead;
+  // Last tail seen by the consumer, saves reading the producer's index while the buffer has elements.
+  private long consumerCachedTail;
+
+  private volatile boolean closed;
+  private volatile Thread waitingProducer;
+  private volatile Thread waitingConsumer;
+
+  public SpscRingBufferQueue(final int maxQueueSize, final OptionalInt pollTimeOutDurationInSeconds) {
+    if (maxQueueSize <= 0) {
+      throw new IllegalArgumentException("maxQueueSize must be positive, got " + maxQueueSize);
+    }
+    LOGGER.info("Using SpscRingBufferQueue");
+    final int arraySize = Integer.highestOneBit(maxQueueSize) == maxQueueSize ? maxQueueSize : Integer.highestOneBit(maxQueueSize) << 1;
+    this.buffer = new Object[arraySize];
+    this.mask = arraySize - 1;
+    this.capacity = maxQueueSize;
+    this.timeOutNanos = TimeUnit.SECONDS.toNanos(pollTimeOutDurationInSeconds.orElse(DEFAULT_POLL_TIME_OUT_DURATION_SECONDS));
+    this.head = new AtomicLong();
+    this.tail = new AtomicLong();
+  }
+
+  /**
+   * Retrieves and removes the head of this queue, waiting up to the timeout for an element to become
+   * available. Returns immediately if the queue is closed and empty.
+   *
+   * @return the head of this queue, or null if the queue is empty
+   * @throws InterruptedException if interrupted while waiting
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public T poll() throws InterruptedException {
+    final long currentHead = head.get();
+    if (currentHead >= consumerCachedTail) {
+      consumerCachedTail = tail.get();
+      if (currentHead >= consumerCachedTail && !awaitElement(currentHead)) {
+        return null;
+      }
+    }
+
+    final int index = (int) currentHead & mask;
+    final T e = (T) buffer[index];
+    buffer[index] = null;
+    head.set(currentHead + 1);
+    unpark(waitingProducer);
+    return e;
+  }
+
+  /**
+   * Moves all the available elements, up to maxElements, to the sink while publishing the new head
+   * and waking up the producer only once.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public int drainTo(final Collection<? super T> sink, final int maxElements) throws InterruptedException {
+    if (maxElements <= 0) {
+      return 0;
+    }
+    final long currentHead = head.get();
+    consumerCachedTail = tail.get();
+    if (currentHead >= consumerCachedTail && !awaitElement(currentHead)) {
+      return 0;
+    }
+
+    final int count = (int) Math.min(maxElements, consumerCachedTail - currentHead);
+    for (int i = 0; i < count; i++) {
+      final int index = (int) (currentHead + i) & mask;
+      sink.add((T) buffer[index]);
+      buffer[index] = null;
+    }
+    head.set(currentHead + count);
+    unpark(waitingProducer);
+    return count;
+  }
+
+  /**
+   * Inserts the specified element at the tail of this queue, waiting up to the timeout for space to
+   * become available.
+   *
+   * @param e the element to add
+   * @return true if the element was added, false if the queue is closed or still full after the
+   *         timeout
+   * @throws InterruptedException if interrupted while waiting
+   */
+  @Override
+  public boolean add(final T e) throws InterruptedException {
+    if (e == null) {
+      throw new NullPointerException();
+    }
+    if (closed) {
+      return false;
+    }
+
+    final long currentTail = tail.get();
+    if (currentTail - producerCachedHead >= capacity) {
+      producerCachedHead = head.get();
+      if (currentTail - producerCachedHead >= capacity && !awaitSpace(currentTail)) {
+        return false;
+      }
+    }
+
+    buffer[(int) currentTail & mask] = e;
+    // Volatile write: it must not be reordered with the read of waitingConsumer below, otherwise the
+    // consumer could park right after having checked an outdated tail.
+    tail.set(currentTail + 1);
+    unpark(waitingConsumer);
+    return true;
+  }
+
+  @Override
+  public int size() {
+    // Read head first so that a concurrent poll can only make the result smaller than the actual size.
+    final long currentHead = head.get();
+    return (int) Math.max(0, tail.get() - currentHead);
+  }
+
+  /**
+   * Returns true if the queue is done. A queue is done when closed and empty.
+   */
+  @Override
+  public boolean isDone() {
+    return closed && size() == 0;
+  }
+
+  /**
+   * Close the queue and wake up any waiting thread.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    unpark(waitingProducer);
+    unpark(waitingConsumer);
+  }
+
+  /**
+   * Returns true if the queue is closed.
+   */
+  @Override
+  public boolean isClosed() {
+    return closed;
+  }
+
+  private boolean awaitElement(final long currentHead) throws InterruptedException {
+    final long deadline = System.nanoTime() + timeOutNanos;
+    waitingConsumer = Thread.currentThread();
+    try {
+      while (true) {
+        // Checked after publishing waitingConsumer so that an add happening in between unparks us.
+        consumerCachedTail = tail.get();
+        if (currentHead < consumerCachedTail) {
+          return true;
+        }
+        final long remaining = deadline - System.nanoTime();
+        if (closed || remaining <= 0) {
+          return false;
+        }
+        LockSupport.parkNanos(this, remaining);
+        if (Thread.interrupted()) {
+          throw new InterruptedException();
+        }
+      }
+    } finally {
+      waitingConsumer = null;
+    }
+  }
+
+  private boolean awaitSpace(final long currentTail) throws InterruptedException {
+    final long deadline = System.nanoTime() + timeOutNanos;
+    waitingProducer = Thread.currentThread();
+    try {
+      while (true) {
+        // Checked after publishing waitingProducer so that a poll happening in between unparks us.
+        producerCachedHead = head.get();
+        if (currentTail - producerCachedHead < capacity) {
+          return !closed;
+        }
+        final long remaining = deadline - System.nanoTime();
+        if (closed || remaining <= 0) {
+          return false;
+        }
+        LockSupport.parkNanos(this, remaining);
+        if (Thread.interrupted()) {
+          throw new InterruptedException();
+        }
+      }
+    } finally {
+      waitingProducer = null;
+    }
+  }
+
+  private static void unpark(final Thread thread) {
+    if (thread != null) {
+      LockSupport.unpark(thread);
+    }
+  }
+
+}
@@ -1,5 +1,8 @@
 package io.airbyte.commons.json
 
+import java.io.InputStream
+import java.io.OutputStream
+
 /**
  * Serde: _Ser_ialization + _de_serialization
  *
@@ -10,10 +13,24 @@ class JsonSerde {
     return Jsons.serialize(obj)
   }
 
+  fun <T> serialize(
+    obj: T,
+    outputStream: OutputStream,
+  ) {
+    Jsons.serialize(obj, outputStream)
+  }
+
   fun <T> deserialize(
     json: String,
     target: Class<T>,
   ): T? {
     return Jsons.deserialize(json, target)
   }
+
+  fun <T> deserialize(
+    inputStream: InputStream,
+    target: Class<T>,
+  ): T? {
+    return Jsons.deserialize(inputStream, target)
+  }
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Computes the length of the compact JSON serialization of a {@link JsonNode} by walking the tree,
+ * without serializing it.
+ * <p>
+ * The result matches {@code Jsons.serialize(node).length()}, that is the number of chars written by
+ * Jackson with the default escaping rules (quotes, backslashes and control characters are escaped,
+ * non-ASCII characters are not) and with BigDecimals written as plain strings. Apart from floating
+ * point numbers, which are rare since we deserialize to BigDecimal, this does not allocate.
+ */
+public final class JsonSizeEstimator {
+
+  // Escaped length of the first 128 chars, 0 meaning the char is not escaped.
+  private static final int[] ASCII_ESCAPE_LENGTHS = new int[128];
+
+  static {
+    for (int i = 0; i < 32; i++) {
+      // written as a 6 chars unicode escape sequence
+      ASCII_ESCAPE_LENGTHS[i] = 6;
+    }
+    ASCII_ESCAPE_LENGTHS['\b'] = 2;
+    ASCII_ESCAPE_LENGTHS['\t'] = 2;
+    ASCII_ESCAPE_LENGTHS['\n'] = 2;
+    ASCII_ESCAPE_LENGTHS['\f'] = 2;
+    ASCII_ESCAPE_LENGTHS['\r'] = 2;
+    ASCII_ESCAPE_LENGTHS['"'] = 2;
+    ASCII_ESCAPE_LENGTHS['\\'] = 2;
+  }
+
+  private static final int NULL_LENGTH = 4;
+  private static final int TRUE_LENGTH = 4;
+  private static final int FALSE_LENGTH = 5;
+
+  private JsonSizeEstimator() {}
+
+  /**
+   * Get the length of the compact JSON serialization of a node.
+   *
+   * @param node node to measure
+   * @return the number of chars of the serialized node
+   */
+  public static long serializedLength(final JsonNode node) {
+    if (node == null) {
+      return NULL_LENGTH;
+    }
+
+    switch (node.getNodeType()) {
+      case OBJECT -> {
+        // braces
+        long length = 2;
+        boolean first = true;
+        final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+          final Map.Entry<String, JsonNode> field = fields.next();
+          if (!first) {
+            // comma
+            length++;
+          }
+          first = false;
+          // quoted key and colon
+          length += stringLength(field.getKey()) + 1 + serializedLength(field.getValue());
+        }
+        return length;
+      }
+      case ARRAY -> {
+        // brackets
+        long length = 2;
+        for (int i = 0; i < node.size(); i++) {
+          if (i > 0) {
+            // comma
+            length++;
+          }
+          length += serializedLength(node.get(i));
+        }
+        return length;
+      }
+      case STRING -> {
+        return stringLength(node.textValue());
+      }
+      case NUMBER -> {
+        return numberLength(node);
+      }
+      case BOOLEAN -> {
+        return node.booleanValue() ? TRUE_LENGTH : FALSE_LENGTH;
+      }
+      case NULL -> {
+        return NULL_LENGTH;
+      }
+      case POJO -> {
+        if (node instanceof RawJsonNode) {
+          return ((RawJsonNode) node).getRawJson().length();
+        }
+        return Jsons.serialize(node).length();
+      }
+      default -> {
+        // binary and missing nodes, they do not show up in records.
+        return Jsons.serialize(node).length();
+      }
+    }
+  }
+
+  private static long stringLength(final String value) {
+    // quotes
+    long length = 2;
+    for (int i = 0; i < value.length(); i++) {
+      final char c = value.charAt(i);
+      if (c < ASCII_ESCAPE_LENGTHS.length && ASCII_ESCAPE_LENGTHS[c] > 0) {
+        length += ASCII_ESCAPE_LENGTHS[c];
+      } else {
+        length++;
+      }
+    }
+    return length;
+  }
+
+  private static long numberLength(final JsonNode node) {
+    if (node.isIntegralNumber() && node.canConvertToLong()) {
+      return longLength(node.longValue());
+    } else if (node.isBigDecimal()) {
+      return bigDecimalPlainLength(node.decimalValue());
+    } else if (node.isDouble() && Double.isFinite(node.doubleValue())) {
+      return Double.toString(node.doubleValue()).length();
+    } else if (node.isFloat() && Float.isFinite(node.floatValue())) {
+      return Float.toString(node.floatValue()).length();
+    }
+    // BigIntegers that do not fit in a long, NaN and infinite values.
+    return Jsons.serialize(node).length();
+  }
+
+  private static int longLength(final long value) {
+    if (value == Long.MIN_VALUE) {
+      return 20;
+    }
+    int length = value < 0 ? 2 : 1;
+    long remaining = Math.abs(value);
+    while (remaining >= 10) {
+      remaining /= 10;
+      length++;
+    }
+    return length;
+  }
+
+  /**
+   * Length of {@link BigDecimal#toPlainString()}.
+   */
+  private static int bigDecimalPlainLength(final BigDecimal value) {
+    final int sign = value.signum() < 0 ? 1 : 0;
+    final int precision = value.precision();
+    final int scale = value.scale();
+    if (scale == 0) {
+      return sign + precision;
+    } else if (scale < 0) {
+      if (value.signum() == 0) {
+        return value.toPlainString().length();
+      }
+      // unscaled digits followed by -scale zeros
+      return sign + precision - scale;
+    } else if (precision > scale) {
+      // digits with a decimal point
+      return sign + precision + 1;
+    } else {
+      // "0." followed by zeros and the digits
+      return sign + 2 + scale;
+    }
+  }
+
+}
@@ -25,6 +25,8 @@ import com.google.common.base.Preconditions;
 import io.airbyte.commons.jackson.MoreMappers;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -86,6 +88,21 @@ public class Jsons {
     }
   }
 
+  /**
+   * Serialize an object as JSON to an output stream, without materializing the JSON as a string.
+   *
+   * @param object to serialize
+   * @param outputStream to write the JSON to
+   * @param <T> type of object
+   */
+  public static <T> void serialize(final T object, final OutputStream outputStream) {
+    try {
+      OBJECT_MAPPER.writeValue(outputStream, object);
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   /**
    * Deserialize a JSON string to an object with a type.
    *
@@ -118,6 +135,22 @@ public class Jsons {
     }
   }
 
+  /**
+   * Deserialize the JSON read from an input stream to an object with a type.
+   *
+   * @param inputStream to read the JSON from
+   * @param klass of object
+   * @param <T> type of object
+   * @return deserialized JSON as type declare in klass
+   */
+  public static <T> T deserialize(final InputStream inputStream, final Class<T> klass) {
+    try {
+      return OBJECT_MAPPER.readValue(inputStream, klass);
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   /**
    * Deserialize a JSON file to an object with a type.
    *
@@ -195,6 +228,23 @@ public class Jsons {
     }
   }
 
+  /**
+   * Deserialize UTF-8 encoded JSON bytes to an object using the exact ObjectMapper. The bytes are
+   * parsed directly, without being decoded into an intermediate String first.
+   *
+   * @param jsonBytes to deserialize.
+   * @param klass to deserialize to.
+   * @param <T> type of input object.
+   * @return optional as type T.
+   */
+  public static <T> Optional<T> tryDeserializeExact(final byte[] jsonBytes, final Class<T> klass) {
+    try {
+      return Optional.of(OBJECT_MAPPER_EXACT.readValue(jsonBytes, klass));
+    } catch (final Throwable e) {
+      return Optional.empty();
+    }
+  }
+
   /**
    * Convert an object to {@link JsonNode}.
    *
@@ -315,14 +365,13 @@ public class Jsons {
   }
 
   /**
-   * Use string length as an estimation for byte size, because all ASCII characters are one byte long
-   * in UTF-8, and ASCII characters cover most of the use cases. To be more precise, we can convert
-   * the string to byte[] and use the length of the byte[]. However, this conversion is expensive in
-   * memory consumption. Given that the byte size of the serialized JSON is already an estimation of
-   * the actual size of the JSON object, using a cheap operation seems an acceptable compromise.
+   * Use the length of the serialized JSON string as an estimation for byte size, because all ASCII
+   * characters are one byte long in UTF-8, and ASCII characters cover most of the use cases. The
+   * length is computed by {@link JsonSizeEstimator} which walks the tree instead of serializing it,
+   * since this is called for every record of a sync.
    */
   public static int getEstimatedByteSize(final JsonNode jsonNode) {
-    return serialize(jsonNode).length();
+    return Math.toIntExact(JsonSizeEstimator.serializedLength(jsonNode));
   }
 
   /**
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.POJONode;
+import com.fasterxml.jackson.databind.util.RawValue;
+
+/**
+ * A {@link JsonNode} that holds an already serialized JSON value without parsing it into a tree.
+ * Serializing this node writes the original JSON verbatim.
+ * <p>
+ * This is meant for payloads that are only forwarded, such as record data that is neither inspected
+ * nor modified by the platform. Since the content is opaque, navigation methods (get, at, path...)
+ * will not see its fields. Use {@link #materialize()} when the content needs to be inspected.
+ */
+public class RawJsonNode extends POJONode {
+
+  private final String rawJson;
+
+  public RawJsonNode(final String rawJson) {
+    super(new RawValue(rawJson));
+    this.rawJson = rawJson;
+  }
+
+  /**
+   * The raw JSON, as emitted by the producer of the payload.
+   */
+  public String getRawJson() {
+    return rawJson;
+  }
+
+  /**
+   * Parse the raw JSON into a regular {@link JsonNode} tree.
+   *
+   * @return the parsed tree
+   */
+  public JsonNode materialize() {
+    return Jsons.deserialize(rawJson);
+  }
+
+  /**
+   * Parse a node into a regular {@link JsonNode} tree if it is a {@link RawJsonNode}, otherwise
+   * return it as is.
+   *
+   * @param node node to materialize
+   * @return the node as a regular tree
+   */
+  public static JsonNode materialize(final JsonNode node) {
+    return node instanceof RawJsonNode ? ((RawJsonNode) node).materialize() : node;
+  }
+
+}
@@ -72,6 +72,24 @@ class BoundedConcurrentLinkedQueueTest {
     assertEquals(0, queue.size());
   }
 
+  @Test
+  void testDrainTo() throws InterruptedException {
+    final BoundedConcurrentLinkedQueue<Record> queue = getQueue(defaultMaxSize);
+
+    queue.add(record1);
+    queue.add(record2);
+    queue.add(record3);
+
+    final List<Record> drained = new ArrayList<>();
+    assertEquals(2, queue.drainTo(drained, 2));
+    assertEquals(List.of(record1, record2), drained);
+    assertEquals(1, queue.size());
+
+    assertEquals(1, queue.drainTo(drained, 2));
+    assertEquals(List.of(record1, record2, record3), drained);
+    assertEquals(0, queue.drainTo(drained, 2));
+  }
+
   @Test
   void testAddReturnsFalseIfQueueIsFull() {
     final BoundedConcurrentLinkedQueue<Record> queue = getQueue(1);
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.concurrency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class ByteBoundedQueueTest {
+
+  private static final int maxSize = 10;
+  private static final long maxBytes = 100;
+
+  private ByteBoundedQueue<String> getQueue() {
+    return new ByteBoundedQueue<>(new SpscRingBufferQueue<>(maxSize, OptionalInt.of(1)), maxSize, maxBytes, String::length, OptionalInt.of(1));
+  }
+
+  @Test
+  void testBytesAreTrackedOnAddAndPoll() throws InterruptedException {
+    final ByteBoundedQueue<String> queue = getQueue();
+
+    assertTrue(queue.add("a".repeat(30)));
+    assertTrue(queue.add("b".repeat(20)));
+    assertEquals(50, queue.getBytes());
+    assertEquals(2, queue.size());
+
+    assertEquals("a".repeat(30), queue.poll());
+    assertEquals(20, queue.getBytes());
+
+    final List<String> drained = new ArrayList<>();
+    assertEquals(1, queue.drainTo(drained, 10));
+    assertEquals(0, queue.getBytes());
+    assertNull(queue.poll());
+  }
+
+  @Test
+  void testDrainStopsAtTheByteCap() throws InterruptedException {
+    final ByteBoundedQueue<String> queue = getQueue();
+    assertTrue(queue.add("a".repeat(30)));
+    assertTrue(queue.add("b".repeat(30)));
+    assertTrue(queue.add("c".repeat(30)));
+
+    final List<String> drained = new ArrayList<>();
+    assertEquals(2, queue.drainTo(drained, 10, 40));
+    assertEquals(List.of("a".repeat(30), "b".repeat(30)), drained);
+    assertEquals(30, queue.getBytes());
+
+    // the first element is always transferred
+    drained.clear();
+    assertEquals(1, queue.drainTo(drained, 10, 10));
+    assertEquals(0, queue.getBytes());
+  }
+
+  @Test
+  void testElementsPastTheByteCapAreHandedOutFirst() throws InterruptedException {
+    final ByteBoundedQueue<String> queue = getQueue();
+    assertTrue(queue.add("a".repeat(30)));
+    assertTrue(queue.add("b".repeat(30)));
+    assertTrue(queue.add("c".repeat(10)));
+
+    final List<String> drained = new ArrayList<>();
+    assertEquals(1, queue.drainTo(drained, 10, 30));
+    // the remaining elements are still held by the queue
+    assertEquals(2, queue.size());
+    assertEquals(40, queue.getBytes());
+
+    assertTrue(queue.add("d".repeat(10)));
+    assertEquals("b".repeat(30), queue.poll());
+
+    drained.clear();
+    assertEquals(2, queue.drainTo(drained, 10, 100));
+    assertEquals(List.of("c".repeat(10), "d".repeat(10)), drained);
+    assertEquals(0, queue.size());
+    assertEquals(0, queue.getBytes());
+  }
+
+  @Test
+  void testQueueIsNotDoneWhileElementsPastTheByteCapRemain() throws InterruptedException {
+    final ByteBoundedQueue<String> queue = getQueue();
+    assertTrue(queue.add("a".repeat(30)));
+    assertTrue(queue.add("b".repeat(30)));
+    queue.close();
+
+    final List<String> drained = new ArrayList<>();
+    assertEquals(1, queue.drainTo(drained, 10, 10));
+    assertFalse(queue.isDone());
+
+    assertEquals(1, queue.drainTo(drained, 10, 10));
+    assertTrue(queue.isDone());
+  }
+
+  @Test
+  void testAddTimesOutWhenOverTheByteBudget() throws InterruptedException {
+    final ByteBoundedQueue<String> queue = getQueue();
+
+    assertTrue(queue.add("a".repeat(80)));
+    assertFalse(queue.add("b".repeat(30)));
+    assertEquals(1, queue.size());
+    assertEquals(80, queue.getBytes());
+  }
+
+  @Test
+  void testElementLargerThanTheBudgetIsAcceptedWhenEmpty() throws InterruptedException {
+    final ByteBoundedQueue<String> queue = getQueue();
+
+    assertTrue(queue.add("a".repeat(500)));
+    assertEquals(500, queue.getBytes());
+  }
+
+  @Test
+  @Timeout(value = 5,
+           unit = TimeUnit.SECONDS)
+  void testPollWakesUpWaitingProducer() throws Exception {
+    final ByteBoundedQueue<String> queue =
+        new ByteBoundedQueue<>(new SpscRingBufferQueue<>(maxSize, OptionalInt.of(60)), maxSize, maxBytes, String::length, OptionalInt.of(60));
+    assertTrue(queue.add("a".repeat(80)));
+
+    final CompletableFuture<Boolean> added = CompletableFuture.supplyAsync(() -> {
+      try {
+        return queue.add("b".repeat(30));
+      } catch (final InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+    });
+    Thread.sleep(100);
+    assertFalse(added.isDone());
+
+    assertEquals("a".repeat(80), queue.poll());
+    assertTrue(added.get());
+    assertEquals(30, queue.getBytes());
+  }
+
+  @Test
+  void testCloseRejectsNewElements() throws InterruptedException {
+    final ByteBoundedQueue<String> queue = getQueue();
+
+    assertTrue(queue.add("a"));
+    queue.close();
+    assertFalse(queue.add("b"));
+    assertEquals(1, queue.getBytes());
+    assertFalse(queue.isDone());
+
+    queue.poll();
+    assertTrue(queue.isDone());
+  }
+
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.concurrency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class SpscRingBufferQueueTest {
+
+  private static final int defaultMaxSize = 3;
+
+  private record Record(int value) {}
+
+  private final Record record1 = new Record(1);
+  private final Record record2 = new Record(2);
+  private final Record record3 = new Record(3);
+
+  private SpscRingBufferQueue<Record> getQueue(final int maxSize) {
+    return new SpscRingBufferQueue<>(maxSize, OptionalInt.of(1));
+  }
+
+  @Test
+  void testBasicAddPollBehavior() throws InterruptedException {
+    final SpscRingBufferQueue<Record> queue = getQueue(defaultMaxSize);
+
+    final List<Record> records = List.of(
+        new Record(1),
+        new Record(2),
+        new Record(3),
+        new Record(4));
+
+    final List<Boolean> insertionResults = new ArrayList<>();
+    for (final Record record : records) {
+      insertionResults.add(queue.add(record));
+    }
+
+    // The last item is false because defaultMax size is 3 so the last insert should time out
+    assertEquals(List.of(true, true, true, false), insertionResults);
+
+    queue.close();
+
+    final List<Record> readRecords = new ArrayList<>();
+    while (!queue.isDone()) {
+      readRecords.add(queue.poll());
+    }
+    assertEquals(records.subList(0, 3), readRecords);
+  }
+
+  @Test
+  void testBasicAddPoll() throws InterruptedException {
+    final SpscRingBufferQueue<Record> queue = getQueue(2);
+
+    assertEquals(0, queue.size());
+    queue.add(record1);
+    assertEquals(1, queue.size());
+    queue.add(record2);
+    assertEquals(2, queue.size());
+
+    assertEquals(record1, queue.poll());
+    assertEquals(1, queue.size());
+    assertEquals(record2, queue.poll());
+    assertEquals(0, queue.size());
+
+    assertNull(queue.poll());
+    // Extra poll shouldn't decrement the size
+    assertEquals(0, queue.size());
+  }
+
+  @Test
+  void testWrapsAroundTheBuffer() throws InterruptedException {
+    final SpscRingBufferQueue<Record> queue = getQueue(defaultMaxSize);
+
+    for (int i = 0; i < 10; i++) {
+      assertTrue(queue.add(new Record(i)));
+      assertTrue(queue.add(new Record(-i)));
+      assertEquals(new Record(i), queue.poll());
+      assertEquals(new Record(-i), queue.poll());
+    }
+    assertEquals(0, queue.size());
+  }
+
+  @Test
+  void testDrainTo() throws InterruptedException {
+    final SpscRingBufferQueue<Record> queue = getQueue(defaultMaxSize);
+
+    queue.add(record1);
+    queue.add(record2);
+    queue.add(record3);
+
+    final List<Record> drained = new ArrayList<>();
+    assertEquals(2, queue.drainTo(drained, 2));
+    assertEquals(List.of(record1, record2), drained);
+    assertEquals(1, queue.size());
+
+    // the freed slots can be reused, and a drain wraps around the end of the buffer
+    queue.add(record1);
+    queue.add(record2);
+    drained.clear();
+    assertEquals(3, queue.drainTo(drained, 10));
+    assertEquals(List.of(record3, record1, record2), drained);
+
+    queue.close();
+    assertEquals(0, queue.drainTo(drained, 10));
+    assertTrue(queue.isDone());
+  }
+
+  @Test
+  void testAQueueIsDoneIfItIsEmptyAndClosed() throws InterruptedException {
+    final SpscRingBufferQueue<Record> queue = getQueue(2);
+
+    queue.add(record3);
+    assertFalse(queue.isDone());
+    queue.add(record1);
+    assertFalse(queue.isDone());
+
+    queue.poll();
+    queue.poll();
+    assertFalse(queue.isDone());
+
+    queue.add(record2);
+    assertFalse(queue.isDone());
+
+    assertFalse(queue.isClosed());
+    queue.close();
+    assertTrue(queue.isClosed());
+    assertFalse(queue.isDone());
+
+    queue.poll();
+    assertTrue(queue.isDone());
+  }
+
+  @Test
+  void testAddToClosedQueueFails() throws InterruptedException {
+    final SpscRingBufferQueue<Record> queue = getQueue(defaultMaxSize);
+
+    assertTrue(queue.add(record1));
+    queue.close();
+    assertFalse(queue.add(record2));
+    assertEquals(1, queue.size());
+  }
+
+  @Test
+  void testAddingNullDoesntIncrementSize() throws InterruptedException {
+    final SpscRingBufferQueue<Record> queue = getQueue(defaultMaxSize);
+
+    queue.add(record3);
+    assertThrows(NullPointerException.class, () -> queue.add(null));
+    queue.add(record2);
+    assertEquals(2, queue.size());
+  }
+
+  @Test
+  @Timeout(value = 5,
+           unit = TimeUnit.SECONDS)
+  void testCloseWakesUpWaitingConsumer() throws Exception {
+    final SpscRingBufferQueue<Record> queue = new SpscRingBufferQueue<>(defaultMaxSize, OptionalInt.of(60));
+
+    final CompletableFuture<Record> polled = CompletableFuture.supplyAsync(() -> {
+      try {
+        return queue.poll();
+      } catch (final InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+    });
+    Thread.sleep(100);
+    queue.close();
+
+    assertNull(polled.get());
+    assertTrue(queue.isDone());
+  }
+
+  @Test
+  @Timeout(value = 10,
+           unit = TimeUnit.SECONDS)
+  void testProducerAndConsumerThreads() throws Exception {
+    final int count = 100_000;
+    final SpscRingBufferQueue<Record> queue = new SpscRingBufferQueue<>(16, OptionalInt.of(60));
+
+    final CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> {
+      try {
+        for (int i = 0; i < count; i++) {
+          assertTrue(queue.add(new Record(i)));
+        }
+      } catch (final InterruptedException e) {
+        throw new RuntimeException(e);
+      } finally {
+        queue.close();
+      }
+    });
+
+    final List<Record> readRecords = new ArrayList<>(count);
+    while (!queue.isDone()) {
+      final Record record = queue.poll();
+      if (record != null) {
+        readRecords.add(record);
+      }
+    }
+    producer.get();
+
+    assertEquals(count, readRecords.size());
+    for (int i = 0; i < count; i++) {
+      assertEquals(i, readRecords.get(i).value());
+    }
+  }
+
+}
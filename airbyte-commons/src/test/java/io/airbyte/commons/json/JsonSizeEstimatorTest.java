@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class JsonSizeEstimatorTest {
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "{}",
+    "[]",
+    "{\"string_key\":\"abc\",\"array_key\":[\"item1\", \"item2\"],\"nested\":{\"a\":null,\"b\":true,\"c\":false}}",
+    "{\"escaped\":\"quote \\\" backslash \\\\ newline \\n tab \\t control \\u0001 slash /\"}",
+    "{\"unicode\":\"Zoë 日本語 \\ud83d\\ude00\"}",
+    "{\"ints\":[0, 7, -7, 10, 9223372036854775807, -9223372036854775808, 123456789012345678901234567890]}",
+    "[1.0, 0.05, -0.001, 1.10, 12345.6789, 1e3, 1E-7, -2.5e+10, 0.000]",
+    "{\"\":\"\",\"k\\\"ey\":[[],{}]}"
+  })
+  void testMatchesSerializedLength(final String json) {
+    final JsonNode node = Jsons.tryDeserializeExact(json, JsonNode.class).orElseThrow();
+
+    assertEquals(Jsons.serialize(node).length(), JsonSizeEstimator.serializedLength(node));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"0", "0.00", "-1", "100", "1E+3", "-1.5E+2", "0E+3", "0E-5", "123.456", "-0.000123"})
+  void testBigDecimals(final String value) {
+    final JsonNode node = JsonNodeFactory.instance.numberNode(new BigDecimal(value));
+
+    assertEquals(Jsons.serialize(node).length(), JsonSizeEstimator.serializedLength(node));
+  }
+
+  @ParameterizedTest
+  @ValueSource(doubles = {0.0, -0.0, 1.5, 1e21, 1e-7, Double.MAX_VALUE, Double.NaN})
+  void testDoubles(final double value) {
+    final ObjectNode node = JsonNodeFactory.instance.objectNode();
+    node.put("double", value);
+    node.put("float", (float) value);
+    node.put("bigInteger", BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.TEN));
+
+    assertEquals(Jsons.serialize(node).length(), JsonSizeEstimator.serializedLength(node));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"{\"a\": 1}", "[1, 2 , 3]"})
+  void testRawJsonNode(final String json) {
+    assertEquals(json.length(), JsonSizeEstimator.serializedLength(new RawJsonNode(json)));
+  }
+
+}
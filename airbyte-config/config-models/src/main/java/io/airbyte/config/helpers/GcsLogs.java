@@ -5,16 +5,15 @@
 package io.airbyte.config.helpers;
 
 import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.Blob.BlobSourceOption;
 import com.google.cloud.storage.Storage;
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.collect.Lists;
 import io.airbyte.featureflag.FeatureFlagClient;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
@@ -65,32 +64,30 @@ public class GcsLogs implements CloudLogs {
   }
 
   private List<String> tailCloudLogSerially(final List<Blob> descendingTimestampBlobs, final String logPath, final int numLines) throws IOException {
-    final var inMemoryData = new ByteArrayOutputStream();
-    final List<String> lines = new ArrayList<>();
-    // iterate through blobs in descending order (oldest first)
-    for (Blob blob : descendingTimestampBlobs) {
-      inMemoryData.reset();
-
-      blob.downloadTo(inMemoryData);
-
-      final String[] currFileLines = inMemoryData.toString(StandardCharsets.UTF_8).split("\n");
-      // Iterate through the lines in reverse order. This ensures we keep the newer messages over the
-      // older messages if we hit the numLines limit.
-      for (var j = currFileLines.length - 1; j >= 0; j--) {
-        lines.add(currFileLines[j]);
-        if (lines.size() >= numLines) {
-          break;
-        }
-      }
-
-      if (lines.size() >= numLines) {
+    final var logTail = new LogTail(numLines);
+    // iterate through blobs in descending order (newest first)
+    for (final Blob blob : descendingTimestampBlobs) {
+      if (logTail.isComplete()) {
         break;
       }
+      try (final ReadChannel reader = blob.reader()) {
+        logTail.readObject(blob.getSize(), (offset, length) -> readRange(reader, offset, length));
+      }
     }
 
     LOGGER.debug("Done retrieving GCS logs: {}.", logPath);
-    // finally reverse the lines so they're returned in ascending order
-    return Lists.reverse(lines);
+    return logTail.getLines();
+  }
+
+  private static byte[] readRange(final ReadChannel reader, final long offset, final int length) throws IOException {
+    reader.seek(offset);
+    reader.limit(offset + length);
+    final ByteBuffer buffer = ByteBuffer.allocate(length);
+    int read = 0;
+    while (buffer.hasRemaining() && read >= 0) {
+      read = reader.read(buffer);
+    }
+    return Arrays.copyOf(buffer.array(), buffer.position());
   }
 
   @Override
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Collects the last lines of a log stored as a sequence of objects. The objects are read backwards,
+ * newest first, one block at a time, so only the blocks holding the requested lines are downloaded
+ * and at most the requested lines are kept in memory.
+ */
+@SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+final class LogTail {
+
+  /**
+   * Reads a range of an object.
+   */
+  @FunctionalInterface
+  interface RangeReader {
+
+    /**
+     * Returns the {@code length} bytes of the object starting at {@code offset}.
+     */
+    byte[] read(long offset, int length) throws IOException;
+
+  }
+
+  private static final int DEFAULT_BLOCK_SIZE = 256 * 1024;
+
+  private final int numLines;
+  private final int blockSize;
+  private final Deque<String> lines = new ArrayDeque<>();
+
+  LogTail(final int numLines) {
+    this(numLines, DEFAULT_BLOCK_SIZE);
+  }
+
+  @VisibleForTesting
+  LogTail(final int numLines, final int blockSize) {
+    this.numLines = numLines;
+    this.blockSize = blockSize;
+  }
+
+  boolean isComplete() {
+    return lines.size() >= numLines;
+  }
+
+  /**
+   * Prepends the lines of an object to the lines collected so far, so objects must be read from the
+   * newest to the oldest. Stops reading once enough lines are collected.
+   */
+  void readObject(final long size, final RangeReader reader) throws IOException {
+    // chunks of the line being read, in order, as the line can span several blocks
+    final Deque<byte[]> partialLine = new ArrayDeque<>();
+    long blockEnd = size;
+    while (blockEnd > 0 && !isComplete()) {
+      final long blockStart = Math.max(0, blockEnd - blockSize);
+      final int length = (int) (blockEnd - blockStart);
+      final byte[] block = reader.read(blockStart, length);
+      if (block.length != length) {
+        throw new IOException("Read %d bytes at offset %d of the log object instead of %d".formatted(block.length, blockStart, length));
+      }
+
+      int lineEnd = block.length;
+      if (blockEnd == size && block[lineEnd - 1] == '\n') {
+        // the newline ending the object doesn't start another line
+        lineEnd--;
+      }
+      for (int i = lineEnd - 1; i >= 0 && !isComplete(); i--) {
+        if (block[i] == '\n') {
+          partialLine.addFirst(Arrays.copyOfRange(block, i + 1, lineEnd));
+          addLine(partialLine);
+          lineEnd = i;
+        }
+      }
+      partialLine.addFirst(Arrays.copyOfRange(block, 0, lineEnd));
+      blockEnd = blockStart;
+    }
+
+    if (size > 0 && blockEnd == 0 && !isComplete()) {
+      addLine(partialLine);
+    }
+  }
+
+  /**
+   * Returns the collected lines, oldest first.
+   */
+  List<String> getLines() {
+    return new ArrayList<>(lines);
+  }
+
+  private void addLine(final Deque<byte[]> lineChunks) {
+    final var bytes = new ByteArrayOutputStream();
+    lineChunks.forEach(chunk -> bytes.write(chunk, 0, chunk.length));
+    lineChunks.clear();
+
+    final String line = bytes.toString(StandardCharsets.UTF_8);
+    lines.addFirst(line.endsWith("\r") ? line.substring(0, line.length() - 1) : line);
+  }
+
+}
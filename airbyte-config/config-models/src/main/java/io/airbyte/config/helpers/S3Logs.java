@@ -8,13 +8,9 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import io.airbyte.commons.string.Strings;
 import io.airbyte.featureflag.FeatureFlagClient;
-import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
@@ -27,6 +23,7 @@ import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Object;
 
 /**
  * S3 logs.
@@ -89,27 +86,19 @@ public class S3Logs implements CloudLogs {
 
     final var s3Bucket = configs.getStorageConfig().getBuckets().getLog();
     LOGGER.debug("Start making S3 list request.");
-    final List<String> ascendingTimestampKeys = getAscendingObjectKeys(s3Client, logPath, s3Bucket);
-    final var descendingTimestampKeys = Lists.reverse(ascendingTimestampKeys);
-
-    final var lines = new ArrayList<String>();
-    int linesRead = 0;
+    final List<S3Object> ascendingTimestampObjects = getAscendingObjects(s3Client, logPath, s3Bucket);
 
+    final var logTail = new LogTail(numLines);
     LOGGER.debug("Start getting S3 objects.");
-    while (linesRead <= numLines && !descendingTimestampKeys.isEmpty()) {
-      final var poppedKey = descendingTimestampKeys.remove(0);
-      final List<String> currFileLinesReversed = Lists.reverse(getCurrFile(s3Client, s3Bucket, poppedKey));
-      for (final var line : currFileLinesReversed) {
-        if (linesRead == numLines) {
-          break;
-        }
-        lines.add(0, line);
-        linesRead++;
+    for (final S3Object object : Lists.reverse(ascendingTimestampObjects)) {
+      if (logTail.isComplete()) {
+        break;
       }
+      logTail.readObject(object.size(), (offset, length) -> getObjectRange(s3Client, s3Bucket, object.key(), offset, length));
     }
 
     LOGGER.debug("Done retrieving S3 logs: {}.", logPath);
-    return lines;
+    return logTail.getLines();
   }
 
   @Override
@@ -141,35 +130,28 @@ public class S3Logs implements CloudLogs {
   }
 
   private static List<String> getAscendingObjectKeys(final S3Client s3Client, final String logPath, final String s3Bucket) {
+    return getAscendingObjects(s3Client, logPath, s3Bucket).stream().map(S3Object::key).toList();
+  }
+
+  private static List<S3Object> getAscendingObjects(final S3Client s3Client, final String logPath, final String s3Bucket) {
     final var listObjReq = ListObjectsV2Request.builder().bucket(s3Bucket).prefix(logPath).build();
-    final var ascendingTimestampObjs = new ArrayList<String>();
+    final var ascendingTimestampObjs = new ArrayList<S3Object>();
 
     // Objects are returned in lexicographical order.
     for (final var page : s3Client.listObjectsV2Paginator(listObjReq)) {
-      for (final var objMetadata : page.contents()) {
-        ascendingTimestampObjs.add(objMetadata.key());
-      }
+      ascendingTimestampObjs.addAll(page.contents());
     }
     return ascendingTimestampObjs;
   }
 
-  private static List<String> getCurrFile(final S3Client s3Client, final String s3Bucket, final String poppedKey) throws IOException {
+  private static byte[] getObjectRange(final S3Client s3Client, final String s3Bucket, final String key, final long offset, final int length) {
     final var getObjReq = GetObjectRequest.builder()
-        .key(poppedKey)
+        .key(key)
         .bucket(s3Bucket)
+        .range("bytes=%d-%d".formatted(offset, offset + length - 1))
         .build();
 
-    final var data = s3Client.getObjectAsBytes(getObjReq).asByteArray();
-    final var is = new ByteArrayInputStream(data);
-    final var currentFileLines = new ArrayList<String>();
-    try (final var reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
-      String temp = reader.readLine();
-      while (temp != null) {
-        currentFileLines.add(temp);
-        temp = reader.readLine();
-      }
-    }
-    return currentFileLines;
+    return s3Client.getObjectAsBytes(getObjReq).asByteArray();
   }
 
 }
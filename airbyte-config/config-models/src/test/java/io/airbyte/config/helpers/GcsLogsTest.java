@@ -12,13 +12,15 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
+import com.google.cloud.RestorableState;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.Blob.BlobSourceOption;
 import com.google.cloud.storage.Storage;
 import io.airbyte.config.storage.GcsStorageConfig;
 import io.airbyte.featureflag.TestClient;
 import java.io.IOException;
-import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -82,6 +84,7 @@ class GcsLogsTest {
   private static AtomicInteger blobIndex = new AtomicInteger(0);
 
   private Blob mockBlob(String content, int latencyMs) {
+    final byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
     Blob blob = mock(Blob.class);
     doAnswer(i -> {
       Thread.sleep(latencyMs);
@@ -90,13 +93,75 @@ class GcsLogsTest {
     }).when(blob).downloadTo(Mockito.any(Path.class));
     doAnswer(i -> {
       Thread.sleep(latencyMs);
-      ((OutputStream) i.getArgument(0)).write(content.getBytes(StandardCharsets.UTF_8));
-      return null;
-    }).when(blob).downloadTo(Mockito.any(OutputStream.class));
+      return new ByteArrayReadChannel(bytes);
+    }).when(blob).reader();
+    when(blob.getSize()).thenReturn((long) bytes.length);
     when(blob.getName()).thenReturn("blob" + blobIndex.incrementAndGet());
     return blob;
   }
 
+  /**
+   * Serves the ranged reads of a blob from memory.
+   */
+  private static final class ByteArrayReadChannel implements ReadChannel {
+
+    private final byte[] bytes;
+    private long position;
+    private long limit = Long.MAX_VALUE;
+    private boolean open = true;
+
+    ByteArrayReadChannel(final byte[] bytes) {
+      this.bytes = bytes;
+    }
+
+    @Override
+    public int read(final ByteBuffer dst) {
+      final int end = (int) Math.min(bytes.length, limit);
+      if (position >= end) {
+        return -1;
+      }
+      final int length = Math.min(dst.remaining(), end - (int) position);
+      dst.put(bytes, (int) position, length);
+      position += length;
+      return length;
+    }
+
+    @Override
+    public void seek(final long position) {
+      this.position = position;
+    }
+
+    @Override
+    public ReadChannel limit(final long limit) {
+      this.limit = limit;
+      return this;
+    }
+
+    @Override
+    public long limit() {
+      return limit;
+    }
+
+    @Override
+    public void setChunkSize(final int chunkSize) {}
+
+    @Override
+    public RestorableState<ReadChannel> capture() {
+      return null;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return open;
+    }
+
+    @Override
+    public void close() {
+      open = false;
+    }
+
+  }
+
   @Test
   void testTailCloudLogNoLatency() throws IOException {
     checkCloudLogTail(3, 3, 0);
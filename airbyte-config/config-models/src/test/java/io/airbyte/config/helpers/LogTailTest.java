@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LogTailTest {
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 7, 1024})
+  void testReadsAllLinesWhateverTheBlockSize(final int blockSize) throws IOException {
+    final var logTail = new LogTail(Integer.MAX_VALUE, blockSize);
+
+    readObject(logTail, "line 4\nline 5\n");
+    readObject(logTail, "line 1\nline 2 is longer\nline 3\n");
+
+    assertEquals(List.of("line 1", "line 2 is longer", "line 3", "line 4", "line 5"), logTail.getLines());
+    assertFalse(logTail.isComplete());
+  }
+
+  @Test
+  void testKeepsOnlyTheLastLines() throws IOException {
+    final var logTail = new LogTail(3, 4);
+
+    readObject(logTail, "line 4\nline 5\n");
+    assertFalse(logTail.isComplete());
+    readObject(logTail, "line 1\nline 2\nline 3\n");
+
+    assertTrue(logTail.isComplete());
+    assertEquals(List.of("line 3", "line 4", "line 5"), logTail.getLines());
+  }
+
+  @Test
+  void testStopsReadingOnceComplete() throws IOException {
+    final var logTail = new LogTail(1, 4);
+    final var bytesRead = new AtomicLong();
+    final byte[] content = "line 1\nline 2\nline 3\nline 4\n".getBytes(StandardCharsets.UTF_8);
+
+    logTail.readObject(content.length, (offset, length) -> {
+      bytesRead.addAndGet(length);
+      return Arrays.copyOfRange(content, (int) offset, (int) offset + length);
+    });
+
+    assertEquals(List.of("line 4"), logTail.getLines());
+    assertEquals(8, bytesRead.get());
+  }
+
+  @Test
+  void testKeepsLinesWithoutTrailingNewlineAndEmptyLines() throws IOException {
+    final var logTail = new LogTail(Integer.MAX_VALUE, 3);
+
+    readObject(logTail, "line 3\r\n\nline 4");
+    readObject(logTail, "");
+    readObject(logTail, "\nline 2\n");
+
+    assertEquals(List.of("", "line 2", "line 3", "", "line 4"), logTail.getLines());
+  }
+
+  @Test
+  void testDecodesCharactersSplitAcrossBlocks() throws IOException {
+    final var logTail = new LogTail(Integer.MAX_VALUE, 1);
+
+    readObject(logTail, "héllo wörld\n日本語\n");
+
+    assertEquals(List.of("héllo wörld", "日本語"), logTail.getLines());
+  }
+
+  @Test
+  void testFailsOnShortReads() {
+    final var logTail = new LogTail(Integer.MAX_VALUE, 4);
+
+    assertThrows(IOException.class, () -> logTail.readObject(10, (offset, length) -> new byte[length - 1]));
+  }
+
+  private static void readObject(final LogTail logTail, final String content) throws IOException {
+    final byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+    logTail.readObject(bytes.length, (offset, length) -> Arrays.copyOfRange(bytes, (int) offset, (int) offset + length));
+  }
+
+}
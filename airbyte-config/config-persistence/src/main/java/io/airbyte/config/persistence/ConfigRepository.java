@@ -1337,6 +1337,24 @@ public class ConfigRepository {
     }
   }
 
+  /**
+   * Get the fingerprints of the streams of an actor catalog.
+   *
+   * @param actorCatalogId actor catalog id
+   * @return the fingerprint of each stream of the catalog, by stream descriptor
+   * @throws ConfigNotFoundException if the config does not exist
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  @Deprecated
+  public Map<StreamDescriptor, String> getActorCatalogStreamFingerprints(final UUID actorCatalogId)
+      throws IOException, ConfigNotFoundException {
+    try {
+      return catalogService.getActorCatalogStreamFingerprints(actorCatalogId);
+    } catch (final io.airbyte.data.exceptions.ConfigNotFoundException e) {
+      throw new ConfigNotFoundException(e.getType(), e.getConfigId());
+    }
+  }
+
   /**
    * Get most actor catalog for source.
    *
@@ -22,6 +22,7 @@ import io.airbyte.protocol.models.AirbyteStreamState;
 import io.airbyte.protocol.models.StreamDescriptor;
 import java.io.IOException;
 import java.time.OffsetDateTime;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -58,17 +59,7 @@ public class StatePersistence {
    * @throws IOException if there is an issue while interacting with the db.
    */
   public Optional<StateWrapper> getCurrentState(final UUID connectionId) throws IOException {
-    final List<StateRecord> records = this.database.query(ctx -> getStateRecords(ctx, connectionId));
-
-    if (records.isEmpty()) {
-      return Optional.empty();
-    }
-
-    return switch (getStateType(connectionId, records)) {
-      case GLOBAL -> Optional.of(buildGlobalState(records));
-      case STREAM -> Optional.of(buildStreamState(records));
-      default -> Optional.of(buildLegacyState(records));
-    };
+    return buildState(connectionId, this.database.query(ctx -> getStateRecords(ctx, connectionId)));
   }
 
   /**
@@ -84,7 +75,10 @@ public class StatePersistence {
    */
   public void updateOrCreateState(final UUID connectionId, final StateWrapper state)
       throws IOException {
-    final Optional<StateWrapper> previousState = getCurrentState(connectionId);
+    // The stored states are read once, both to check the type migration and to diff the new states
+    // against.
+    final List<StateRecord> records = this.database.query(ctx -> getStateRecords(ctx, connectionId));
+    final Optional<StateWrapper> previousState = buildState(connectionId, records);
     final StateType currentStateType = state.getStateType();
     final boolean isMigration = StateMessageHelper.isMigration(currentStateType, previousState);
 
@@ -95,18 +89,20 @@ public class StatePersistence {
           + "'. Migration of StateType need to go through an explicit reset.");
     }
 
+    final StateUpdateBatch stateUpdateBatch = new StateUpdateBatch(connectionId, getCurrentStates(records));
     this.database.transaction(ctx -> {
       if (isMigration) {
-        clearLegacyState(ctx, connectionId);
+        clearLegacyState(ctx, connectionId, stateUpdateBatch);
       }
       switch (state.getStateType()) {
-        case GLOBAL -> saveGlobalState(ctx, connectionId, state.getGlobal().getGlobal());
-        case STREAM -> saveStreamState(ctx, connectionId, state.getStateMessages());
-        case LEGACY -> saveLegacyState(ctx, connectionId, state.getLegacyState());
+        case GLOBAL -> saveGlobalState(ctx, connectionId, state.getGlobal().getGlobal(), stateUpdateBatch);
+        case STREAM -> saveStreamState(ctx, connectionId, state.getStateMessages(), stateUpdateBatch);
+        case LEGACY -> saveLegacyState(ctx, connectionId, state.getLegacyState(), stateUpdateBatch);
         default -> {
           // no op
         }
       }
+      stateUpdateBatch.save(ctx);
       return null;
     });
   }
@@ -128,14 +124,14 @@ public class StatePersistence {
     this.database.transaction(ctx -> ctx.deleteFrom(STATE).where(conditions).execute());
   }
 
-  private static void clearLegacyState(final DSLContext ctx, final UUID connectionId) {
-    final StateUpdateBatch stateUpdateBatch = new StateUpdateBatch();
+  private static void clearLegacyState(final DSLContext ctx, final UUID connectionId, final StateUpdateBatch stateUpdateBatch) {
     writeStateToDb(ctx, connectionId, null, null, StateType.LEGACY, null, stateUpdateBatch);
-    stateUpdateBatch.save(ctx);
   }
 
-  private static void saveGlobalState(final DSLContext ctx, final UUID connectionId, final AirbyteGlobalState globalState) {
-    final StateUpdateBatch stateUpdateBatch = new StateUpdateBatch();
+  private static void saveGlobalState(final DSLContext ctx,
+                                      final UUID connectionId,
+                                      final AirbyteGlobalState globalState,
+                                      final StateUpdateBatch stateUpdateBatch) {
     writeStateToDb(ctx, connectionId, null, null, StateType.GLOBAL, globalState.getSharedState(), stateUpdateBatch);
     for (final AirbyteStreamState streamState : globalState.getStreamStates()) {
       writeStateToDb(ctx,
@@ -146,11 +142,12 @@ public class StatePersistence {
           streamState.getStreamState(),
           stateUpdateBatch);
     }
-    stateUpdateBatch.save(ctx);
   }
 
-  private static void saveStreamState(final DSLContext ctx, final UUID connectionId, final List<AirbyteStateMessage> stateMessages) {
-    final StateUpdateBatch stateUpdateBatch = new StateUpdateBatch();
+  private static void saveStreamState(final DSLContext ctx,
+                                      final UUID connectionId,
+                                      final List<AirbyteStateMessage> stateMessages,
+                                      final StateUpdateBatch stateUpdateBatch) {
     for (final AirbyteStateMessage stateMessage : stateMessages) {
       final AirbyteStreamState streamState = stateMessage.getStream();
       writeStateToDb(ctx,
@@ -161,19 +158,18 @@ public class StatePersistence {
           streamState.getStreamState(),
           stateUpdateBatch);
     }
-    stateUpdateBatch.save(ctx);
   }
 
-  private static void saveLegacyState(final DSLContext ctx, final UUID connectionId, final JsonNode state) {
-    final StateUpdateBatch stateUpdateBatch = new StateUpdateBatch();
+  private static void saveLegacyState(final DSLContext ctx, final UUID connectionId, final JsonNode state, final StateUpdateBatch stateUpdateBatch) {
     writeStateToDb(ctx, connectionId, null, null, StateType.LEGACY, state, stateUpdateBatch);
-    stateUpdateBatch.save(ctx);
   }
 
   /**
    * Performs the actual SQL operation depending on the state.
    *
-   * If the state is null, it will delete the row, otherwise do an insert or update on conflict
+   * If the state is null, it will delete the row, otherwise do an insert or update on conflict. Which
+   * rows exist and what they hold is read from the current states of the batch rather than from the
+   * database, and rows that already hold the state are left untouched.
    */
   static void writeStateToDb(final DSLContext ctx,
                              final UUID connectionId,
@@ -182,18 +178,19 @@ public class StatePersistence {
                              final StateType stateType,
                              final JsonNode state,
                              final StateUpdateBatch stateUpdateBatch) {
+    final Optional<JsonNode> currentState = stateUpdateBatch.getCurrentState(streamName, namespace);
     if (state != null) {
-      final boolean hasState = ctx.fetchExists(STATE,
-          STATE.CONNECTION_ID.eq(connectionId),
-          PersistenceHelpers.isNullOrEquals(STATE.STREAM_NAME, streamName),
-          PersistenceHelpers.isNullOrEquals(STATE.NAMESPACE, namespace));
-
       // NOTE: the legacy code was storing a State object instead of just the State data field. We kept
       // the same behavior for consistency.
-      final JSONB jsonbState = JSONB.valueOf(Jsons.serialize(stateType != StateType.LEGACY ? state : new State().withState(state)));
+      final String serializedState = Jsons.serialize(stateType != StateType.LEGACY ? state : new State().withState(state));
+      // Compared once parsed since the database doesn't give the json back as it was written.
+      if (currentState.isPresent() && currentState.get().equals(Jsons.deserialize(serializedState))) {
+        return;
+      }
+      final JSONB jsonbState = JSONB.valueOf(serializedState);
       final OffsetDateTime now = OffsetDateTime.now();
 
-      if (!hasState) {
+      if (currentState.isEmpty()) {
         stateUpdateBatch.getCreatedStreamStates().add(
             ctx.insertInto(STATE)
                 .columns(
@@ -216,18 +213,13 @@ public class StatePersistence {
                     Enums.convertTo(stateType, io.airbyte.db.instance.configs.jooq.generated.enums.StateType.class)));
 
       } else {
-        stateUpdateBatch.getUpdatedStreamStates().add(
-            ctx.update(STATE)
-                .set(STATE.UPDATED_AT, now)
-                .set(STATE.STATE_, jsonbState)
-                .where(
-                    STATE.CONNECTION_ID.eq(connectionId),
-                    PersistenceHelpers.isNullOrEquals(STATE.STREAM_NAME, streamName),
-                    PersistenceHelpers.isNullOrEquals(STATE.NAMESPACE, namespace)));
+        stateUpdateBatch.getUpdatedStreamStates().add(DSL.row(streamName, namespace, jsonbState));
       }
 
-    } else {
-      // If the state is null, we remove the state instead of keeping a null row
+    } else if (currentState.isPresent()) {
+      // If the state is null, we remove the state instead of keeping a null row. The row is gone for the
+      // rest of the batch, so that a later state of the same stream is inserted again.
+      stateUpdateBatch.getCurrentStates().remove(new StateUpdateBatch.StreamKey(streamName, namespace));
       stateUpdateBatch.getDeletedStreamStates().add(
           ctx.deleteFrom(STATE)
               .where(
@@ -237,6 +229,38 @@ public class StatePersistence {
     }
   }
 
+  /**
+   * Build the state of a connection from its state records.
+   *
+   * @param connectionId connection id
+   * @param records the state records of the connection
+   * @return the state, empty if there are no records
+   */
+  private static Optional<StateWrapper> buildState(final UUID connectionId, final List<StateRecord> records) {
+    if (records.isEmpty()) {
+      return Optional.empty();
+    }
+
+    return switch (getStateType(connectionId, records)) {
+      case GLOBAL -> Optional.of(buildGlobalState(records));
+      case STREAM -> Optional.of(buildStreamState(records));
+      default -> Optional.of(buildLegacyState(records));
+    };
+  }
+
+  /**
+   * Index the state records of a connection by stream.
+   *
+   * @param records the state records of the connection
+   * @return the stored states by stream, the shared and legacy states have no stream name nor
+   *         namespace
+   */
+  private static Map<StateUpdateBatch.StreamKey, JsonNode> getCurrentStates(final List<StateRecord> records) {
+    final Map<StateUpdateBatch.StreamKey, JsonNode> currentStates = new HashMap<>();
+    records.forEach(r -> currentStates.put(new StateUpdateBatch.StreamKey(r.streamName, r.namespace), r.state));
+    return currentStates;
+  }
+
   /**
    * Get the StateType for a given list of StateRecords.
    *
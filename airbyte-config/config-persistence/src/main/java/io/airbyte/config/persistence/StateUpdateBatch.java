@@ -4,23 +4,92 @@
 
 package io.airbyte.config.persistence;
 
+import static io.airbyte.db.instance.configs.jooq.generated.Tables.STATE;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 import lombok.Getter;
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.JSONB;
 import org.jooq.Query;
+import org.jooq.Record3;
+import org.jooq.Row3;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
 
 @Getter
 class StateUpdateBatch {
 
-  private final List<Query> updatedStreamStates = new ArrayList<>();
+  /**
+   * Identifies a state row of a connection. Both fields are null for the shared global state and the
+   * legacy state.
+   */
+  record StreamKey(String streamName, String namespace) {}
+
+  private final UUID connectionId;
+  private final Map<StreamKey, JsonNode> currentStates;
+  // Stream name, namespace and new state of the rows to update.
+  private final List<Row3<String, String, JSONB>> updatedStreamStates = new ArrayList<>();
   private final List<Query> createdStreamStates = new ArrayList<>();
   private final List<Query> deletedStreamStates = new ArrayList<>();
 
+  /**
+   * Build a batch of state updates.
+   *
+   * @param connectionId the connection of the states
+   * @param currentStates the states stored before the batch, by stream
+   */
+  StateUpdateBatch(final UUID connectionId, final Map<StreamKey, JsonNode> currentStates) {
+    this.connectionId = connectionId;
+    this.currentStates = currentStates;
+  }
+
+  Optional<JsonNode> getCurrentState(final String streamName, final String namespace) {
+    return Optional.ofNullable(currentStates.get(new StreamKey(streamName, namespace)));
+  }
+
+  /**
+   * Write the batch. The deletes go first, since a migration deletes the legacy row before inserting
+   * a shared state with the same key.
+   */
   void save(final DSLContext ctx) {
-    ctx.batch(updatedStreamStates).execute();
-    ctx.batch(createdStreamStates).execute();
-    ctx.batch(deletedStreamStates).execute();
+    if (!deletedStreamStates.isEmpty()) {
+      ctx.batch(deletedStreamStates).execute();
+    }
+    if (!updatedStreamStates.isEmpty()) {
+      saveUpdatedStreamStates(ctx);
+    }
+    if (!createdStreamStates.isEmpty()) {
+      ctx.batch(createdStreamStates).execute();
+    }
+  }
+
+  /**
+   * Update all the changed rows with a single UPDATE ... FROM (VALUES ...) statement.
+   */
+  @SuppressWarnings("unchecked")
+  private void saveUpdatedStreamStates(final DSLContext ctx) {
+    final Table<Record3<String, String, JSONB>> updates = DSL.values(updatedStreamStates.toArray(new Row3[0]))
+        .as("updates", "stream_name", "namespace", "state");
+    final Field<String> streamName = updates.field("stream_name", String.class);
+    final Field<String> namespace = updates.field("namespace", String.class);
+    final Field<JSONB> state = updates.field("state", JSONB.class);
+
+    ctx.update(STATE)
+        .set(STATE.UPDATED_AT, OffsetDateTime.now())
+        .set(STATE.STATE_, state)
+        .from(updates)
+        .where(
+            STATE.CONNECTION_ID.eq(connectionId),
+            STATE.STREAM_NAME.isNotDistinctFrom(streamName),
+            STATE.NAMESPACE.isNotDistinctFrom(namespace))
+        .execute();
   }
 
 }
@@ -54,6 +54,8 @@ import io.airbyte.data.services.impls.jooq.OperationServiceJooqImpl;
 import io.airbyte.data.services.impls.jooq.OrganizationServiceJooqImpl;
 import io.airbyte.data.services.impls.jooq.SourceServiceJooqImpl;
 import io.airbyte.data.services.impls.jooq.WorkspaceServiceJooqImpl;
+import io.airbyte.data.services.shared.StandardSyncSummary;
+import io.airbyte.data.services.shared.StandardSyncSummaryQuery;
 import io.airbyte.db.instance.configs.jooq.generated.enums.AutoPropagationStatus;
 import io.airbyte.db.instance.configs.jooq.generated.enums.NotificationType;
 import io.airbyte.db.instance.configs.jooq.generated.tables.records.NotificationConfigurationRecord;
@@ -80,6 +82,7 @@ class StandardSyncPersistenceTest extends BaseConfigDatabaseTest {
   private static final UUID workspaceId = UUID.randomUUID();
 
   private ConfigRepository configRepository;
+  private ConnectionService connectionService;
   private StandardSyncPersistence standardSyncPersistence;
 
   private StandardSourceDefinition sourceDef1;
@@ -107,7 +110,7 @@ class StandardSyncPersistenceTest extends BaseConfigDatabaseTest {
     final SecretPersistenceConfigService secretPersistenceConfigService = mock(SecretPersistenceConfigService.class);
     final ScopedConfigurationService scopedConfigurationService = mock(ScopedConfigurationService.class);
 
-    final ConnectionService connectionService = new ConnectionServiceJooqImpl(database);
+    connectionService = new ConnectionServiceJooqImpl(database);
     final ActorDefinitionService actorDefinitionService = new ActorDefinitionServiceJooqImpl(database);
     final ActorDefinitionVersionUpdater actorDefinitionVersionUpdater =
         new ActorDefinitionVersionUpdater(featureFlagClient, connectionService, actorDefinitionService, scopedConfigurationService);
@@ -398,6 +401,35 @@ class StandardSyncPersistenceTest extends BaseConfigDatabaseTest {
     assertEquals(activeSyncsForDestination1.get(0), sync1.getConnectionId());
   }
 
+  @Test
+  void testListWorkspaceStandardSyncSummaries() throws IOException {
+    createBaseObjects();
+
+    final StandardSync sync1 = createStandardSync(source1, destination1);
+    standardSyncPersistence.writeStandardSync(sync1.withName("b-connection").withSourceCatalogId(UUID.randomUUID()).withBreakingChange(true));
+    final StandardSync sync2 = createStandardSync(source2, destination2);
+    standardSyncPersistence.writeStandardSync(sync2.withName("a-connection"));
+    final StandardSync sync3 = createStandardSync(source2, destination2);
+    standardSyncPersistence.writeStandardSync(sync3.withName("c-other"));
+    final StandardSync deprecatedSync = createStandardSync(source1, destination1);
+    standardSyncPersistence.writeStandardSync(deprecatedSync.withStatus(Status.DEPRECATED));
+
+    final List<StandardSyncSummary> summaries =
+        connectionService.listWorkspaceStandardSyncSummaries(new StandardSyncSummaryQuery(workspaceId, null, null, null, false, null, 0));
+    assertEquals(List.of(sync2.getConnectionId(), sync1.getConnectionId(), sync3.getConnectionId()),
+        summaries.stream().map(StandardSyncSummary::connectionId).toList());
+    assertEquals(new StandardSyncSummary(sync1.getConnectionId(), "b-connection", Status.ACTIVE, source1.getSourceId(),
+        destination1.getDestinationId(), true, null, null, null, sync1.getSourceCatalogId(), true), summaries.get(1));
+
+    final List<StandardSyncSummary> filtered = connectionService.listWorkspaceStandardSyncSummaries(
+        new StandardSyncSummaryQuery(workspaceId, List.of(source2.getSourceId()), null, "CONNECTION", false, null, 0));
+    assertEquals(List.of(sync2.getConnectionId()), filtered.stream().map(StandardSyncSummary::connectionId).toList());
+
+    final List<StandardSyncSummary> page =
+        connectionService.listWorkspaceStandardSyncSummaries(new StandardSyncSummaryQuery(workspaceId, null, null, null, false, 1, 1));
+    assertEquals(List.of(sync1.getConnectionId()), page.stream().map(StandardSyncSummary::connectionId).toList());
+  }
+
   @Test
   void testDisableConnectionsById() throws IOException, JsonValidationException, ConfigNotFoundException {
     createBaseObjects();
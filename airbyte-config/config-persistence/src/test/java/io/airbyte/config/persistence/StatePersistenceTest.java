@@ -49,9 +49,11 @@ import io.airbyte.test.utils.BaseConfigDatabaseTest;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.sql.SQLException;
+import java.time.OffsetDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -431,6 +433,69 @@ class StatePersistenceTest extends BaseConfigDatabaseTest {
     assertEquals(state4, state5);
   }
 
+  @Test
+  void testUnchangedStreamStatesAreNotRewritten() throws IOException, SQLException {
+    final StateWrapper state0 = new StateWrapper()
+        .withStateType(StateType.STREAM)
+        .withStateMessages(Arrays.asList(
+            new AirbyteStateMessage()
+                .withType(AirbyteStateType.STREAM)
+                .withStream(new AirbyteStreamState()
+                    .withStreamDescriptor(new StreamDescriptor().withName("s1").withNamespace("n1"))
+                    .withStreamState(Jsons.deserialize("{\"cursor\": 1, \"nested\": {\"a\": [1, 2]}}"))),
+            new AirbyteStateMessage()
+                .withType(AirbyteStateType.STREAM)
+                .withStream(new AirbyteStreamState()
+                    .withStreamDescriptor(new StreamDescriptor().withName("s2"))
+                    .withStreamState(Jsons.deserialize(STREAM_STATE_2)))));
+    statePersistence.updateOrCreateState(connectionId, state0);
+    final Map<String, OffsetDateTime> updatedAt0 = getStateUpdatedAt();
+
+    // Writing the same states again along with a change to s2 only touches s2
+    final StateWrapper state1 = clone(state0);
+    state1.getStateMessages().get(1).getStream().withStreamState(Jsons.deserialize("\"updated state s2\""));
+    statePersistence.updateOrCreateState(connectionId, state1);
+    final Map<String, OffsetDateTime> updatedAt1 = getStateUpdatedAt();
+
+    assertEquals(state1, statePersistence.getCurrentState(connectionId).orElseThrow());
+    Assertions.assertEquals(updatedAt0.get("s1"), updatedAt1.get("s1"));
+    Assertions.assertNotEquals(updatedAt0.get("s2"), updatedAt1.get("s2"));
+  }
+
+  @Test
+  void testAllChangedGlobalStatesAreUpdatedAtOnce() throws IOException {
+    final StateWrapper state0 = new StateWrapper()
+        .withStateType(StateType.GLOBAL)
+        .withGlobal(new AirbyteStateMessage()
+            .withType(AirbyteStateType.GLOBAL)
+            .withGlobal(new AirbyteGlobalState()
+                .withSharedState(Jsons.deserialize("\"shared\""))
+                .withStreamStates(Arrays.asList(
+                    new AirbyteStreamState()
+                        .withStreamDescriptor(new StreamDescriptor().withName("s1").withNamespace("n1"))
+                        .withStreamState(Jsons.deserialize(STATE_ONE)),
+                    new AirbyteStreamState()
+                        .withStreamDescriptor(new StreamDescriptor().withName("s1"))
+                        .withStreamState(Jsons.deserialize(STATE_TWO))))));
+    statePersistence.updateOrCreateState(connectionId, state0);
+
+    // The shared state and both stream states change, the stream without namespace included
+    final StateWrapper state1 = clone(state0);
+    state1.getGlobal().getGlobal().withSharedState(Jsons.deserialize("\"shared updated\""));
+    state1.getGlobal().getGlobal().getStreamStates().get(0).withStreamState(Jsons.deserialize("\"s1 n1 updated\""));
+    state1.getGlobal().getGlobal().getStreamStates().get(1).withStreamState(Jsons.deserialize("\"s1 updated\""));
+    statePersistence.updateOrCreateState(connectionId, state1);
+
+    assertEquals(state1, statePersistence.getCurrentState(connectionId).orElseThrow());
+  }
+
+  private Map<String, OffsetDateTime> getStateUpdatedAt() throws SQLException {
+    return database.query(ctx -> ctx.select(DSL.field("stream_name", String.class), DSL.field("updated_at", OffsetDateTime.class))
+        .from(DSL.table(STATE))
+        .where(DSL.field("connection_id").eq(connectionId))
+        .fetchMap(DSL.field("stream_name", String.class), DSL.field("updated_at", OffsetDateTime.class)));
+  }
+
   @Test
   void testStreamPartialUpdates() throws IOException {
     final StateWrapper state0 = new StateWrapper()
@@ -164,29 +164,57 @@ object SecretsHelpers {
     secretPersistence: ReadOnlySecretPersistence,
   ): JsonNode {
     return if (partialConfig != null) {
-      val config = partialConfig.deepCopy<JsonNode>()
+      // read all the secrets of the config at once, so that the persistence can read them concurrently
+      val coordinates = mutableSetOf<SecretCoordinate>()
+      collectSecretCoordinates(partialConfig, coordinates)
+      val secrets = secretPersistence.readAll(coordinates)
+      replaceSecretCoordinates(partialConfig.deepCopy(), secrets)
+    } else {
+      JsonNodeFactory.instance.objectNode()
+    }
+  }
 
-      // if the entire config is a secret coordinate object
-      if (config.has(COORDINATE_FIELD)) {
-        val coordinateNode = config[COORDINATE_FIELD]
-        val coordinate: SecretCoordinate = getCoordinateFromTextNode(coordinateNode)
-        return TextNode(getOrThrowSecretValue(secretPersistence, coordinate))
+  private fun collectSecretCoordinates(
+    config: JsonNode,
+    coordinates: MutableSet<SecretCoordinate>,
+  ) {
+    // if the entire config is a secret coordinate object
+    if (config.has(COORDINATE_FIELD)) {
+      coordinates.add(getCoordinateFromTextNode(config[COORDINATE_FIELD]))
+      return
+    }
+
+    // otherwise iterate through all object fields
+    config.fields().forEachRemaining { (_, fieldNode): Map.Entry<String, JsonNode> ->
+      if (fieldNode is ArrayNode) {
+        fieldNode.forEach { collectSecretCoordinates(it, coordinates) }
+      } else if (fieldNode is ObjectNode) {
+        collectSecretCoordinates(fieldNode, coordinates)
       }
+    }
+  }
+
+  private fun replaceSecretCoordinates(
+    config: JsonNode,
+    secrets: Map<SecretCoordinate, String>,
+  ): JsonNode {
+    // if the entire config is a secret coordinate object
+    if (config.has(COORDINATE_FIELD)) {
+      val coordinate: SecretCoordinate = getCoordinateFromTextNode(config[COORDINATE_FIELD])
+      return TextNode(getOrThrowSecretValue({ secrets[it] ?: "" }, coordinate))
+    }
 
-      // otherwise iterate through all object fields
-      config.fields().forEachRemaining { (fieldName, fieldNode): Map.Entry<String, JsonNode> ->
-        if (fieldNode is ArrayNode) {
-          for (i in 0 until fieldNode.size()) {
-            fieldNode[i] = combineConfig(fieldNode[i], secretPersistence)
-          }
-        } else if (fieldNode is ObjectNode) {
-          (config as ObjectNode).replace(fieldName, combineConfig(fieldNode, secretPersistence))
+    // otherwise iterate through all object fields
+    config.fields().forEachRemaining { (fieldName, fieldNode): Map.Entry<String, JsonNode> ->
+      if (fieldNode is ArrayNode) {
+        for (i in 0 until fieldNode.size()) {
+          fieldNode[i] = replaceSecretCoordinates(fieldNode[i], secrets)
         }
+      } else if (fieldNode is ObjectNode) {
+        (config as ObjectNode).replace(fieldName, replaceSecretCoordinates(fieldNode, secrets))
       }
-      config
-    } else {
-      JsonNodeFactory.instance.objectNode()
     }
+    return config
   }
 
   /**
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.secrets.persistence
+
+import com.google.common.base.Ticker
+import com.google.common.cache.Cache
+import com.google.common.cache.CacheBuilder
+import com.google.common.util.concurrent.ThreadFactoryBuilder
+import io.airbyte.config.secrets.SecretCoordinate
+import io.airbyte.metrics.lib.MetricClient
+import io.airbyte.metrics.lib.OssMetricsRegistry
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.annotation.Value
+import io.micronaut.context.event.BeanCreatedEvent
+import io.micronaut.context.event.BeanCreatedEventListener
+import jakarta.inject.Singleton
+import java.time.Duration
+import java.time.Instant
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+
+/**
+ * Decorates a [SecretPersistence] with a cache of the secrets read from it, bounded in size and
+ * age. Secrets missing from the cache when several secrets are read at once are read concurrently.
+ *
+ * A secret is removed from the cache when it is written, deleted or disabled through this
+ * persistence. Secrets which aren't found aren't cached, so that a secret created afterwards is
+ * read as soon as it exists.
+ */
+class CachingSecretPersistence(
+  private val secretPersistence: SecretPersistence,
+  ttl: Duration,
+  maxSize: Long,
+  private val executor: ExecutorService,
+  private val metricClient: MetricClient?,
+  ticker: Ticker = Ticker.systemTicker(),
+) : SecretPersistence {
+  private val secrets: Cache<SecretCoordinate, String> =
+    CacheBuilder.newBuilder()
+      .expireAfterWrite(ttl)
+      .maximumSize(maxSize)
+      .ticker(ticker)
+      .build()
+
+  override fun initialize() {
+    secretPersistence.initialize()
+  }
+
+  override fun read(coordinate: SecretCoordinate): String {
+    val cachedSecret = secrets.getIfPresent(coordinate)
+    if (cachedSecret != null) {
+      recordLookups(hits = 1, misses = 0)
+      return cachedSecret
+    }
+
+    recordLookups(hits = 0, misses = 1)
+    return secretPersistence.read(coordinate).also { cacheIfFound(coordinate, it) }
+  }
+
+  override fun readAll(coordinates: Collection<SecretCoordinate>): Map<SecretCoordinate, String> {
+    val cachedSecrets = secrets.getAllPresent(coordinates)
+    val missingCoordinates = coordinates.filterNot { cachedSecrets.containsKey(it) }.toSet()
+    recordLookups(hits = cachedSecrets.size, misses = missingCoordinates.size)
+
+    val readSecrets =
+      if (missingCoordinates.size == 1) {
+        // no need to hand a single read over to another thread
+        missingCoordinates.associateWith { secretPersistence.read(it) }
+      } else {
+        missingCoordinates
+          .associateWith { executor.submit(Callable { secretPersistence.read(it) }) }
+          .mapValues { (_, secret) -> awaitSecret(secret) }
+      }
+    readSecrets.forEach { (coordinate, secret) -> cacheIfFound(coordinate, secret) }
+
+    return cachedSecrets + readSecrets
+  }
+
+  override fun write(
+    coordinate: SecretCoordinate,
+    payload: String,
+  ) {
+    try {
+      secretPersistence.write(coordinate, payload)
+    } finally {
+      secrets.invalidate(coordinate)
+    }
+  }
+
+  override fun writeWithExpiry(
+    coordinate: SecretCoordinate,
+    payload: String,
+    expiry: Instant?,
+  ) {
+    try {
+      secretPersistence.writeWithExpiry(coordinate, payload, expiry)
+    } finally {
+      secrets.invalidate(coordinate)
+    }
+  }
+
+  override fun delete(coordinate: SecretCoordinate) {
+    try {
+      secretPersistence.delete(coordinate)
+    } finally {
+      secrets.invalidate(coordinate)
+    }
+  }
+
+  override fun disable(coordinate: SecretCoordinate) {
+    try {
+      secretPersistence.disable(coordinate)
+    } finally {
+      secrets.invalidate(coordinate)
+    }
+  }
+
+  private fun cacheIfFound(
+    coordinate: SecretCoordinate,
+    secret: String,
+  ) {
+    if (secret.isNotBlank()) {
+      secrets.put(coordinate, secret)
+    }
+  }
+
+  private fun recordLookups(
+    hits: Int,
+    misses: Int,
+  ) {
+    if (hits > 0) {
+      metricClient?.count(OssMetricsRegistry.SECRETS_CACHE_HIT, hits.toLong())
+    }
+    if (misses > 0) {
+      metricClient?.count(OssMetricsRegistry.SECRETS_CACHE_MISS, misses.toLong())
+    }
+  }
+
+  private fun awaitSecret(secret: Future<String>): String {
+    try {
+      return secret.get()
+    } catch (e: ExecutionException) {
+      // surface the failure of the read as if it had been made on this thread
+      throw e.cause as? RuntimeException ?: RuntimeException(e.cause)
+    }
+  }
+}
+
+/**
+ * Wraps the configured [SecretPersistence] in a [CachingSecretPersistence], unless the cache is
+ * disabled with `airbyte.secret.cache.enabled`.
+ */
+@Singleton
+@Requires(property = "airbyte.secret.cache.enabled", notEquals = "false")
+class CachingSecretPersistenceDecorator(
+  @Value("\${airbyte.secret.cache.ttl:5m}") private val ttl: Duration,
+  @Value("\${airbyte.secret.cache.max-size:10000}") private val maxSize: Long,
+  @Value("\${airbyte.secret.cache.read-parallelism:8}") readParallelism: Int,
+  private val metricClient: MetricClient?,
+) : BeanCreatedEventListener<SecretPersistence> {
+  private val executor: ExecutorService =
+    Executors.newFixedThreadPool(
+      readParallelism,
+      ThreadFactoryBuilder().setNameFormat("secret-reader-%d").setDaemon(true).build(),
+    )
+
+  override fun onCreated(event: BeanCreatedEvent<SecretPersistence>): SecretPersistence {
+    return CachingSecretPersistence(event.bean, ttl, maxSize, executor, metricClient)
+  }
+}
@@ -13,6 +13,17 @@ import java.time.Instant
  */
 fun interface ReadOnlySecretPersistence {
   fun read(coordinate: SecretCoordinate): String
+
+  /**
+   * Reads several secrets at once. Persistences that can read secrets concurrently or in bulk should
+   * override this, by default the secrets are read one after the other.
+   *
+   * @param coordinates the coordinates of the secrets to read
+   * @return the payload of each secret, by coordinate
+   */
+  fun readAll(coordinates: Collection<SecretCoordinate>): Map<SecretCoordinate, String> {
+    return coordinates.associateWith { read(it) }
+  }
 }
 
 /**
@@ -159,6 +159,7 @@ internal class SecretsHelpersTest {
     val testCase = SimpleTestCase()
     val secretPersistence: ReadOnlySecretPersistence = mockk()
     every { secretPersistence.read(any()) } returns ""
+    every { secretPersistence.readAll(any()) } answers { firstArg<Collection<SecretCoordinate>>().associateWith { "" } }
 
     Assertions.assertThrows(
       RuntimeException::class.java,
@@ -5,6 +5,7 @@
 package io.airbyte.config.secrets.hydration
 
 import io.airbyte.commons.json.Jsons
+import io.airbyte.config.secrets.SecretCoordinate
 import io.airbyte.config.secrets.persistence.SecretPersistence
 import io.mockk.every
 import io.mockk.mockk
@@ -18,6 +19,7 @@ class RealSecretsHydratorTest {
     val secretValue = "secret_value"
     val secretPersistence: SecretPersistence = mockk()
     every { secretPersistence.read(any()) } returns secretValue
+    every { secretPersistence.readAll(any()) } answers { firstArg<Collection<SecretCoordinate>>().associateWith { secretValue } }
     val hydrator = RealSecretsHydrator(secretPersistence)
     val partialConfig = Jsons.jsonNode(mapOf("_secret" to coordinate))
     val hydratedConfig = hydrator.hydrateFromDefaultSecretPersistence(partialConfig)
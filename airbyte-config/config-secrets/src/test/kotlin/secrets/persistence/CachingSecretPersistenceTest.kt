@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.secrets.persistence
+
+import com.google.common.base.Ticker
+import io.airbyte.config.secrets.SecretCoordinate
+import io.airbyte.metrics.lib.MetricClient
+import io.airbyte.metrics.lib.OssMetricsRegistry
+import io.mockk.every
+import io.mockk.just
+import io.mockk.mockk
+import io.mockk.runs
+import io.mockk.verify
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertThrows
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import java.time.Duration
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
+class CachingSecretPersistenceTest {
+  private val coordinate1 = SecretCoordinate("secret_1", 1)
+  private val coordinate2 = SecretCoordinate("secret_2", 1)
+  private val coordinate3 = SecretCoordinate("secret_3", 1)
+
+  private lateinit var secretPersistence: SecretPersistence
+  private lateinit var metricClient: MetricClient
+  private lateinit var executor: ExecutorService
+  private lateinit var ticker: FakeTicker
+  private lateinit var cachingSecretPersistence: CachingSecretPersistence
+
+  @BeforeEach
+  fun setUp() {
+    secretPersistence = mockk()
+    metricClient = mockk(relaxed = true)
+    executor = Executors.newFixedThreadPool(2)
+    ticker = FakeTicker()
+    cachingSecretPersistence = CachingSecretPersistence(secretPersistence, Duration.ofMinutes(5), 100, executor, metricClient, ticker)
+
+    every { secretPersistence.read(coordinate1) } returns "secret 1"
+    every { secretPersistence.read(coordinate2) } returns "secret 2"
+    every { secretPersistence.read(coordinate3) } returns "secret 3"
+  }
+
+  @AfterEach
+  fun tearDown() {
+    executor.shutdownNow()
+  }
+
+  @Test
+  fun `secrets are read once until they expire`() {
+    assertEquals("secret 1", cachingSecretPersistence.read(coordinate1))
+    assertEquals("secret 1", cachingSecretPersistence.read(coordinate1))
+    verify(exactly = 1) { secretPersistence.read(coordinate1) }
+    verify(exactly = 1) { metricClient.count(OssMetricsRegistry.SECRETS_CACHE_MISS, 1) }
+    verify(exactly = 1) { metricClient.count(OssMetricsRegistry.SECRETS_CACHE_HIT, 1) }
+
+    ticker.advance(Duration.ofMinutes(6))
+
+    assertEquals("secret 1", cachingSecretPersistence.read(coordinate1))
+    verify(exactly = 2) { secretPersistence.read(coordinate1) }
+  }
+
+  @Test
+  fun `secrets which are not found are not cached`() {
+    every { secretPersistence.read(coordinate1) } returns "" andThen "secret 1"
+
+    assertEquals("", cachingSecretPersistence.read(coordinate1))
+    assertEquals("secret 1", cachingSecretPersistence.read(coordinate1))
+  }
+
+  @Test
+  fun `secrets missing from the cache are all read`() {
+    cachingSecretPersistence.read(coordinate1)
+
+    val secrets = cachingSecretPersistence.readAll(listOf(coordinate1, coordinate2, coordinate3))
+
+    assertEquals(mapOf(coordinate1 to "secret 1", coordinate2 to "secret 2", coordinate3 to "secret 3"), secrets)
+    verify(exactly = 1) { secretPersistence.read(coordinate1) }
+    verify(exactly = 1) { secretPersistence.read(coordinate2) }
+    verify(exactly = 1) { secretPersistence.read(coordinate3) }
+    verify(exactly = 1) { metricClient.count(OssMetricsRegistry.SECRETS_CACHE_HIT, 1) }
+    verify(exactly = 1) { metricClient.count(OssMetricsRegistry.SECRETS_CACHE_MISS, 2) }
+
+    assertEquals(secrets, cachingSecretPersistence.readAll(listOf(coordinate1, coordinate2, coordinate3)))
+    verify(exactly = 1) { secretPersistence.read(coordinate2) }
+    verify(exactly = 1) { metricClient.count(OssMetricsRegistry.SECRETS_CACHE_HIT, 3) }
+  }
+
+  @Test
+  fun `failures to read secrets are rethrown`() {
+    every { secretPersistence.read(coordinate2) } throws IllegalStateException("unavailable")
+
+    assertThrows(IllegalStateException::class.java) { cachingSecretPersistence.readAll(listOf(coordinate1, coordinate2)) }
+  }
+
+  @Test
+  fun `written and deleted secrets are evicted`() {
+    every { secretPersistence.write(any(), any()) } just runs
+    every { secretPersistence.delete(any()) } just runs
+    cachingSecretPersistence.readAll(listOf(coordinate1, coordinate2))
+
+    cachingSecretPersistence.write(coordinate1, "new secret 1")
+    cachingSecretPersistence.delete(coordinate2)
+    cachingSecretPersistence.readAll(listOf(coordinate1, coordinate2))
+
+    verify(exactly = 2) { secretPersistence.read(coordinate1) }
+    verify(exactly = 2) { secretPersistence.read(coordinate2) }
+  }
+
+  private class FakeTicker : Ticker() {
+    private var nanos = 0L
+
+    override fun read(): Long = nanos
+
+    fun advance(duration: Duration) {
+      nanos += duration.toNanos()
+    }
+  }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import io.airbyte.connector_builder.exceptions.CdkProcessException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of long-lived CDK worker processes, so that requests don't pay for starting a Python process
+ * and importing the CDK.
+ * <p>
+ * Each worker handles one request at a time and is recycled after a number of requests, to bound
+ * the memory leaked by custom components. Idle workers are periodically health checked and the
+ * unresponsive ones are replaced. Workers are stopped and replaced on the health check thread, so
+ * that requests don't wait for a process to exit or to be launched. Requests wait for an idle worker in a bounded queue, and are
+ * rejected once the queue is full rather than piling up behind slow test reads.
+ */
+public class CdkProcessPool implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CdkProcessPool.class);
+
+  /**
+   * Starts a new worker process.
+   */
+  @FunctionalInterface
+  public interface WorkerLauncher {
+
+    CdkWorkerProcess launch() throws IOException;
+
+  }
+
+  private final WorkerLauncher launcher;
+  private final int size;
+  private final int maxRequestsPerWorker;
+  private final Duration acquireTimeout;
+  private final Duration requestTimeout;
+  private final Duration healthCheckTimeout;
+  private final BlockingQueue<CdkWorkerProcess> idleWorkers = new LinkedBlockingQueue<>();
+  // Workers to stop and replace on the health check thread.
+  private final BlockingQueue<CdkWorkerProcess> retiringWorkers = new LinkedBlockingQueue<>();
+  private final AtomicInteger liveWorkers = new AtomicInteger();
+  // Requests being handled or waiting for a worker.
+  private final Semaphore admissions;
+  private final ScheduledExecutorService healthCheckExecutor;
+  private volatile boolean closed;
+
+  public CdkProcessPool(final WorkerLauncher launcher,
+                        final int size,
+                        final int maxQueuedRequests,
+                        final int maxRequestsPerWorker,
+                        final Duration acquireTimeout,
+                        final Duration requestTimeout,
+                        final Duration healthCheckInterval,
+                        final Duration healthCheckTimeout) {
+    this.launcher = launcher;
+    this.size = size;
+    this.maxRequestsPerWorker = maxRequestsPerWorker;
+    this.acquireTimeout = acquireTimeout;
+    this.requestTimeout = requestTimeout;
+    this.healthCheckTimeout = healthCheckTimeout;
+    this.admissions = new Semaphore(size + maxQueuedRequests);
+
+    // Launching a worker only spawns its process, which then imports the CDK while it is idle.
+    fillUp();
+
+    this.healthCheckExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      final Thread thread = new Thread(runnable, "cdk-process-pool-health-check");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.healthCheckExecutor.scheduleWithFixedDelay(this::healthCheck, healthCheckInterval.toMillis(), healthCheckInterval.toMillis(),
+        TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Send a request to an idle worker and return its response.
+   */
+  public String execute(final String request) throws IOException {
+    if (closed) {
+      throw new CdkProcessException("The CDK process pool is closed.");
+    }
+    if (!admissions.tryAcquire()) {
+      throw new CdkProcessException("Too many Connector Builder requests are waiting for a CDK process. Please try again later.");
+    }
+
+    try {
+      final CdkWorkerProcess worker = borrow();
+      boolean succeeded = false;
+      try {
+        final String response = worker.handle(request, requestTimeout);
+        succeeded = true;
+        return response;
+      } finally {
+        release(worker, succeeded);
+      }
+    } finally {
+      admissions.release();
+    }
+  }
+
+  private CdkWorkerProcess borrow() {
+    final long deadline = System.nanoTime() + acquireTimeout.toNanos();
+    try {
+      while (true) {
+        final CdkWorkerProcess worker = idleWorkers.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        if (worker == null) {
+          throw new CdkProcessException(String.format("No CDK process became available within %s.", acquireTimeout));
+        }
+        if (worker.isAlive()) {
+          return worker;
+        }
+        replace(worker);
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CdkProcessException("Interrupted while waiting for a CDK process.");
+    }
+  }
+
+  private void release(final CdkWorkerProcess worker, final boolean succeeded) {
+    // A failed request may have left the worker in an unknown state, so it isn't reused.
+    if (succeeded && worker.isAlive() && worker.getHandledRequests() < maxRequestsPerWorker) {
+      makeIdle(worker);
+    } else {
+      replace(worker);
+    }
+  }
+
+  /**
+   * Return a worker to the idle ones, unless the pool was closed in the meantime.
+   */
+  private void makeIdle(final CdkWorkerProcess worker) {
+    idleWorkers.offer(worker);
+    // close() may have stopped the idle workers before this one was offered, in which case it is
+    // stopped here. Only one of them removes it from the idle workers.
+    if (closed && idleWorkers.remove(worker)) {
+      retire(worker);
+    }
+  }
+
+  private void replace(final CdkWorkerProcess worker) {
+    retiringWorkers.offer(worker);
+    try {
+      healthCheckExecutor.execute(this::replaceRetiringWorkers);
+    } catch (final RejectedExecutionException e) {
+      // The pool is closed, the worker is only stopped.
+      replaceRetiringWorkers();
+    }
+  }
+
+  private void replaceRetiringWorkers() {
+    CdkWorkerProcess worker;
+    while ((worker = retiringWorkers.poll()) != null) {
+      retire(worker);
+    }
+    if (!closed) {
+      fillUp();
+    }
+  }
+
+  private void retire(final CdkWorkerProcess worker) {
+    worker.close();
+    liveWorkers.decrementAndGet();
+  }
+
+  /**
+   * Launch workers until the pool is full. Workers which failed to launch are launched again by the
+   * next health check.
+   */
+  private synchronized void fillUp() {
+    while (liveWorkers.get() < size) {
+      try {
+        idleWorkers.offer(launcher.launch());
+        liveWorkers.incrementAndGet();
+      } catch (final IOException e) {
+        LOGGER.error("Failed to launch a CDK process", e);
+        return;
+      }
+    }
+  }
+
+  /**
+   * Ping the workers which are idle, replace the unresponsive ones and launch the missing ones.
+   */
+  void healthCheck() {
+    final int idle = idleWorkers.size();
+    for (int i = 0; i < idle && !closed; i++) {
+      final CdkWorkerProcess worker = idleWorkers.poll();
+      if (worker == null) {
+        break;
+      }
+      try {
+        worker.ping(healthCheckTimeout);
+        makeIdle(worker);
+      } catch (final Exception e) {
+        LOGGER.warn("Replacing unresponsive CDK process: {}", e.getMessage());
+        retire(worker);
+      }
+    }
+    if (!closed) {
+      fillUp();
+    }
+  }
+
+  // Visible for testing.
+  int getIdleWorkers() {
+    return idleWorkers.size();
+  }
+
+  // Visible for testing: waits for the workers being replaced.
+  void awaitReplacements() throws InterruptedException, ExecutionException {
+    healthCheckExecutor.submit(() -> {}).get();
+  }
+
+  /**
+   * Stop the idle workers. The busy ones are stopped once they are done with their request.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    healthCheckExecutor.shutdownNow();
+    CdkWorkerProcess worker;
+    while ((worker = idleWorkers.poll()) != null) {
+      retire(worker);
+    }
+    // Replacements dropped by the shutdown of the executor.
+    replaceRetiringWorkers();
+  }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import io.airbyte.connector_builder.exceptions.CdkProcessException;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Wrapper for a long-lived Python process of the {@link CdkProcessPool}, which handles one request
+ * at a time over its stdin and stdout. Requests and responses are single JSON lines.
+ */
+public class CdkWorkerProcess implements AutoCloseable {
+
+  private static final String PING_REQUEST = "{\"command\": \"__ping\"}";
+  // How long a closed process gets to finish its current request and exit before it is killed.
+  private static final Duration EXIT_TIMEOUT = Duration.ofSeconds(10);
+
+  private final Process process;
+  private final BufferedWriter stdin;
+  private final BufferedReader stdout;
+  private final ExecutorService readExecutor;
+  private int handledRequests;
+
+  public CdkWorkerProcess(final Process process, final ExecutorService readExecutor) {
+    this.process = process;
+    this.stdin = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+    this.stdout = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+    this.readExecutor = readExecutor;
+  }
+
+  /**
+   * Send a request to the process and wait for its response. Counts towards the requests after
+   * which the pool recycles the process.
+   */
+  public String handle(final String request, final Duration timeout) throws IOException {
+    final String response = exchange(request, timeout);
+    handledRequests++;
+    return response;
+  }
+
+  /**
+   * Check that the process is still responsive.
+   */
+  public void ping(final Duration timeout) throws IOException {
+    exchange(PING_REQUEST, timeout);
+  }
+
+  /**
+   * The process is killed if it doesn't respond within the timeout, as its response would otherwise
+   * be read by the next request.
+   */
+  private String exchange(final String request, final Duration timeout) throws IOException {
+    stdin.write(request);
+    stdin.newLine();
+    stdin.flush();
+
+    final CompletableFuture<String> response = CompletableFuture.supplyAsync(() -> {
+      try {
+        return stdout.readLine();
+      } catch (final IOException e) {
+        throw new CdkProcessException("Failed to read the response of the CDK worker process: " + e.getMessage());
+      }
+    }, readExecutor);
+
+    try {
+      final String line = response.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+      if (line == null) {
+        kill();
+        throw new CdkProcessException("CDK worker process exited before responding.");
+      }
+      return line;
+    } catch (final TimeoutException e) {
+      kill();
+      throw new CdkProcessException(String.format("CDK worker process did not respond within %s.", timeout));
+    } catch (final InterruptedException e) {
+      kill();
+      Thread.currentThread().interrupt();
+      throw new CdkProcessException("Interrupted while waiting for the CDK worker process.");
+    } catch (final ExecutionException e) {
+      kill();
+      throw new CdkProcessException("Failed to read the response of the CDK worker process: " + e.getCause().getMessage());
+    }
+  }
+
+  public boolean isAlive() {
+    return process.isAlive();
+  }
+
+  public int getHandledRequests() {
+    return handledRequests;
+  }
+
+  /**
+   * Stop the process. Closing its stdin lets it exit once it is done with the current request, if
+   * any, and clean up its files. It is killed if it didn't exit in time.
+   */
+  @Override
+  public void close() {
+    closeStdin();
+    try {
+      if (process.waitFor(EXIT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+        return;
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    process.destroyForcibly();
+  }
+
+  /**
+   * Stop the process without waiting for it, as it is unresponsive.
+   */
+  private void kill() {
+    closeStdin();
+    process.destroyForcibly();
+  }
+
+  private void closeStdin() {
+    try {
+      stdin.close();
+    } catch (final IOException e) {
+      // the process is killed if it doesn't exit
+    }
+  }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import datadog.trace.api.Trace;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.connector_builder.TracingHelper;
+import io.airbyte.connector_builder.exceptions.AirbyteCdkInvalidInputException;
+import io.airbyte.connector_builder.exceptions.CdkProcessException;
+import io.airbyte.connector_builder.exceptions.CdkUnknownException;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteTraceMessage;
+import java.io.IOException;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Communicates with the CDK's Connector Builder handler through the long-lived Python processes of
+ * a {@link CdkProcessPool}, rather than launching a Python process per request.
+ */
+public class PooledPythonCdkCommandRunner implements SynchronousCdkCommandRunner {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PooledPythonCdkCommandRunner.class);
+
+  private final CdkProcessPool pool;
+
+  public PooledPythonCdkCommandRunner(final CdkProcessPool pool) {
+    this.pool = pool;
+  }
+
+  /**
+   * Send the command to a pooled CDK process, and return the parsed AirbyteRecordMessage returned by
+   * the CDK.
+   */
+  @Override
+  @Trace(operationName = TracingHelper.CONNECTOR_BUILDER_OPERATION_NAME)
+  public AirbyteRecordMessage runCommand(
+                                         final String cdkCommand,
+                                         final String configContents,
+                                         final String catalogContents,
+                                         final String stateContents)
+      throws IOException {
+    final String request = Jsons.serialize(Map.of(
+        "command", cdkCommand,
+        "config", configContents,
+        "catalog", catalogContents,
+        "state", stateContents));
+    final String response = pool.execute(request);
+
+    final AirbyteMessage message = Jsons.tryDeserialize(response)
+        .flatMap(node -> Jsons.tryObject(node, AirbyteMessage.class))
+        .orElseThrow(() -> new CdkProcessException(String.format("The CDK command `%s` returned an invalid response: %s", cdkCommand, response)));
+
+    if (message.getType() == AirbyteMessage.Type.RECORD && message.getRecord() != null) {
+      return message.getRecord();
+    }
+
+    if (message.getType() == AirbyteMessage.Type.TRACE && message.getTrace() != null) {
+      final AirbyteTraceMessage traceMessage = message.getTrace();
+      LOGGER.debug(
+          "Error response from CDK: {}\n{}",
+          traceMessage.getError().getMessage(),
+          traceMessage.getError().getStackTrace());
+      throw new AirbyteCdkInvalidInputException(
+          String.format("AirbyteTraceMessage response from CDK: %s", traceMessage.getError().getMessage()), traceMessage);
+    }
+
+    final String errorMessage = String.format("The CDK command `%s` completed properly but no records nor trace were found.", cdkCommand);
+    LOGGER.error(errorMessage);
+    throw new CdkUnknownException(errorMessage);
+  }
+
+}
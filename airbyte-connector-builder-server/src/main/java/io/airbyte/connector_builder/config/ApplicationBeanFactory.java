@@ -6,20 +6,30 @@ package io.airbyte.connector_builder.config;
 
 import com.google.common.io.Resources;
 import io.airbyte.commons.envvar.EnvVar;
+import io.airbyte.connector_builder.command_runner.CdkProcessPool;
+import io.airbyte.connector_builder.command_runner.CdkWorkerProcess;
+import io.airbyte.connector_builder.command_runner.PooledPythonCdkCommandRunner;
 import io.airbyte.connector_builder.command_runner.SynchronousCdkCommandRunner;
 import io.airbyte.connector_builder.command_runner.SynchronousPythonCdkCommandRunner;
 import io.airbyte.connector_builder.exceptions.ConnectorBuilderException;
 import io.airbyte.connector_builder.file_writer.AirbyteFileWriterImpl;
 import io.airbyte.workers.internal.VersionedAirbyteStreamFactory;
+import io.micronaut.context.annotation.Bean;
 import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.File;
+import java.io.IOException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 /**
@@ -28,6 +38,9 @@ import java.util.stream.Collectors;
 @Factory
 public class ApplicationBeanFactory {
 
+  private static final String CDK_POOL_ENABLED_PROPERTY = "airbyte.connector-builder-server.cdk-pool.enabled";
+  private static final String CDK_WORKER_SCRIPT = "cdk_worker.py";
+
   private String getPython() {
     final var cdkPython = EnvVar.CDK_PYTHON.fetch();
     if (cdkPython == null) {
@@ -48,6 +61,8 @@ public class ApplicationBeanFactory {
    * Defines the instantiation of the SynchronousPythonCdkCommandRunner.
    */
   @Singleton
+  @Requires(property = CDK_POOL_ENABLED_PROPERTY,
+            notEquals = "true")
   public SynchronousCdkCommandRunner synchronousPythonCdkCommandRunner() {
     return new SynchronousPythonCdkCommandRunner(
         new AirbyteFileWriterImpl(),
@@ -58,6 +73,60 @@ public class ApplicationBeanFactory {
         this.getPythonPath());
   }
 
+  /**
+   * Defines the instantiation of the pool of long-lived CDK processes. The processes run a worker
+   * script shipped with the server, which loads the CDK entrypoint once and then serves requests over
+   * its stdin and stdout.
+   */
+  @Singleton
+  @Bean(preDestroy = "close")
+  @Requires(property = CDK_POOL_ENABLED_PROPERTY,
+            value = "true")
+  public CdkProcessPool cdkProcessPool(@Value("${airbyte.connector-builder-server.cdk-pool.size}") final int size,
+                                       @Value("${airbyte.connector-builder-server.cdk-pool.max-queued-requests}") final int maxQueuedRequests,
+                                       @Value("${airbyte.connector-builder-server.cdk-pool.max-requests-per-process}") final int maxRequests,
+                                       @Value("${airbyte.connector-builder-server.cdk-pool.acquire-timeout}") final Duration acquireTimeout,
+                                       @Value("${airbyte.connector-builder-server.cdk-pool.request-timeout}") final Duration requestTimeout,
+                                       @Value("${airbyte.connector-builder-server.cdk-pool.health-check-interval}") final Duration checkInterval,
+                                       @Value("${airbyte.connector-builder-server.cdk-pool.health-check-timeout}") final Duration checkTimeout)
+      throws IOException {
+    final String workerScript = new AirbyteFileWriterImpl().write("cdk_worker",
+        Resources.toString(Resources.getResource(CDK_WORKER_SCRIPT), StandardCharsets.UTF_8));
+    final String python = this.getPython();
+    final String cdkEntrypoint = this.getCdkEntrypoint();
+    final String pythonPath = this.getPythonPath();
+    final ExecutorService readExecutor = Executors.newCachedThreadPool(runnable -> {
+      final Thread thread = new Thread(runnable, "cdk-process-pool-reader");
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    return new CdkProcessPool(
+        () -> {
+          final ProcessBuilder processBuilder = new ProcessBuilder(python, workerScript, cdkEntrypoint)
+              .redirectError(ProcessBuilder.Redirect.INHERIT);
+          processBuilder.environment().put("PYTHONPATH", pythonPath);
+          return new CdkWorkerProcess(processBuilder.start(), readExecutor);
+        },
+        size,
+        maxQueuedRequests,
+        maxRequests,
+        acquireTimeout,
+        requestTimeout,
+        checkInterval,
+        checkTimeout);
+  }
+
+  /**
+   * Defines the instantiation of the PooledPythonCdkCommandRunner.
+   */
+  @Singleton
+  @Requires(property = CDK_POOL_ENABLED_PROPERTY,
+            value = "true")
+  public SynchronousCdkCommandRunner pooledPythonCdkCommandRunner(final CdkProcessPool cdkProcessPool) {
+    return new PooledPythonCdkCommandRunner(cdkProcessPool);
+  }
+
   private String getPythonPath() {
     final String pathToConnectors = getPathToConnectors();
     final List<String> subdirectories = listSubdirectories(pathToConnectors);
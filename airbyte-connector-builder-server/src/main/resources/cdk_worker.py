@@ -0,0 +1,78 @@
+#
+# Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+#
+
+"""
+Long-lived worker serving Connector Builder requests for the CDK process pool.
+
+The CDK's Connector Builder entrypoint is loaded once, so that its imports are not paid for by every request. Each
+request is a JSON line on stdin of the form {"command": ..., "config": ..., "catalog": ..., "state": ...}, where the
+values are the contents of the files the entrypoint expects. Each response is a single JSON line on stdout: the
+AirbyteMessage returned by the entrypoint, or {"pong": true} for a `__ping` health check. Anything printed while
+handling a request is redirected to stderr so that it can't be mistaken for a response.
+
+Usage: python cdk_worker.py <path to the CDK's connector_builder/main.py>
+"""
+
+import contextlib
+import importlib.util
+import json
+import os
+import sys
+import tempfile
+
+from airbyte_cdk.utils.traced_exception import AirbyteTracedException
+
+PING_COMMAND = "__ping"
+
+
+def load_entrypoint(path):
+    spec = importlib.util.spec_from_file_location("connector_builder_entrypoint", path)
+    module = importlib.util.module_from_spec(spec)
+    spec.loader.exec_module(module)
+    return module
+
+
+def write(directory, name, contents):
+    path = os.path.join(directory, name)
+    with open(path, "w", encoding="utf-8") as file:
+        file.write(contents)
+    return path
+
+
+def handle(entrypoint, directory, request):
+    # The entrypoint only reads its arguments from files. They are written to the worker's own directory rather than
+    # to a new temporary file per request, and are deleted once the request is handled, as the config holds secrets.
+    paths = []
+    try:
+        for name in ("config", "catalog", "state"):
+            paths.append(write(directory, f"{name}.json", request[name]))
+        args = ["read", "--config", paths[0], "--catalog", paths[1], "--state", paths[2]]
+        with contextlib.redirect_stdout(sys.stderr):
+            return str(entrypoint.handle_request(args))
+    except Exception as exc:
+        error = AirbyteTracedException.from_exception(exc, message=f"Error handling request: {str(exc)}")
+        return error.as_airbyte_message().json(exclude_unset=True)
+    finally:
+        for path in paths:
+            with contextlib.suppress(FileNotFoundError):
+                os.remove(path)
+
+
+def main(entrypoint_path):
+    entrypoint = load_entrypoint(entrypoint_path)
+    with tempfile.TemporaryDirectory(prefix="cdk-worker-") as directory:
+        for line in sys.stdin:
+            if not line.strip():
+                continue
+            request = json.loads(line)
+            if request.get("command") == PING_COMMAND:
+                response = json.dumps({"pong": True})
+            else:
+                response = handle(entrypoint, directory, request)
+            sys.stdout.write(response + "\n")
+            sys.stdout.flush()
+
+
+if __name__ == "__main__":
+    main(sys.argv[1])
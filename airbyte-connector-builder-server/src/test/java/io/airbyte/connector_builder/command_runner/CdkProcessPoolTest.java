@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.connector_builder.exceptions.CdkProcessException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class CdkProcessPoolTest {
+
+  private static final String REQUEST = "{\"command\": \"test_read\"}";
+  private static final String RESPONSE = "{\"type\": \"RECORD\"}";
+  private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+  private final List<CdkWorkerProcess> launched = new CopyOnWriteArrayList<>();
+  private CdkProcessPool pool;
+
+  @AfterEach
+  void tearDown() {
+    if (pool != null) {
+      pool.close();
+    }
+  }
+
+  @Test
+  void testWorkersAreReused() throws IOException {
+    pool = pool(1, 0, 10, this::respondingWorker);
+
+    assertEquals(RESPONSE, pool.execute(REQUEST));
+    assertEquals(RESPONSE, pool.execute(REQUEST));
+
+    assertEquals(1, launched.size());
+  }
+
+  @Test
+  void testWorkersAreRecycledAfterMaxRequests() throws Exception {
+    pool = pool(1, 0, 2, this::respondingWorker);
+
+    pool.execute(REQUEST);
+    pool.execute(REQUEST);
+    pool.execute(REQUEST);
+    pool.awaitReplacements();
+
+    assertEquals(2, launched.size());
+    verify(launched.get(0)).close();
+  }
+
+  @Test
+  void testFailedWorkersAreReplaced() throws Exception {
+    pool = pool(1, 0, 10, () -> {
+      final CdkWorkerProcess worker = launch();
+      when(worker.handle(anyString(), any())).thenThrow(new CdkProcessException("CDK worker process exited before responding."));
+      return worker;
+    });
+
+    assertThrows(CdkProcessException.class, () -> pool.execute(REQUEST));
+    pool.awaitReplacements();
+
+    assertEquals(2, launched.size());
+    verify(launched.get(0)).close();
+    assertEquals(1, pool.getIdleWorkers());
+  }
+
+  @Test
+  void testWorkersAreNotStoppedOnTheRequestThread() throws Exception {
+    final CountDownLatch stopping = new CountDownLatch(1);
+    final CountDownLatch stopped = new CountDownLatch(1);
+    pool = pool(1, 0, 1, () -> {
+      final CdkWorkerProcess worker = respondingWorker();
+      doAnswer(invocation -> {
+        stopping.countDown();
+        stopped.await();
+        return null;
+      }).when(worker).close();
+      return worker;
+    });
+
+    // returns while the recycled worker is still exiting
+    assertEquals(RESPONSE, pool.execute(REQUEST));
+    assertTrue(stopping.await(5, TimeUnit.SECONDS));
+
+    stopped.countDown();
+    pool.awaitReplacements();
+    assertEquals(2, launched.size());
+    assertEquals(1, pool.getIdleWorkers());
+  }
+
+  @Test
+  void testRequestsAreRejectedOnceTheQueueIsFull() throws Exception {
+    final CountDownLatch handling = new CountDownLatch(1);
+    final CountDownLatch done = new CountDownLatch(1);
+    pool = pool(1, 0, 10, () -> {
+      final CdkWorkerProcess worker = launch();
+      when(worker.handle(anyString(), any())).thenAnswer(invocation -> {
+        handling.countDown();
+        done.await();
+        return RESPONSE;
+      });
+      return worker;
+    });
+
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      final Future<String> busy = executor.submit(() -> pool.execute(REQUEST));
+      assertTrue(handling.await(5, TimeUnit.SECONDS));
+
+      assertThrows(CdkProcessException.class, () -> pool.execute(REQUEST));
+
+      done.countDown();
+      assertEquals(RESPONSE, busy.get(5, TimeUnit.SECONDS));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testHealthCheckReplacesUnresponsiveWorkers() throws IOException {
+    pool = pool(2, 0, 10, this::respondingWorker);
+    doThrow(new CdkProcessException("CDK worker process did not respond within PT5S.")).when(launched.get(0)).ping(any());
+
+    pool.healthCheck();
+
+    assertEquals(3, launched.size());
+    verify(launched.get(0)).close();
+    verify(launched.get(1), never()).close();
+    assertEquals(2, pool.getIdleWorkers());
+  }
+
+  @Test
+  void testWorkersPingedWhileThePoolClosesAreStopped() throws IOException {
+    pool = pool(1, 0, 10, this::respondingWorker);
+    doAnswer(invocation -> {
+      pool.close();
+      return null;
+    }).when(launched.get(0)).ping(any());
+
+    pool.healthCheck();
+
+    verify(launched.get(0)).close();
+    assertEquals(0, pool.getIdleWorkers());
+    assertEquals(1, launched.size());
+  }
+
+  private CdkProcessPool pool(final int size, final int maxQueuedRequests, final int maxRequests, final CdkProcessPool.WorkerLauncher launcher) {
+    return new CdkProcessPool(launcher, size, maxQueuedRequests, maxRequests, TIMEOUT, TIMEOUT, Duration.ofHours(1), TIMEOUT);
+  }
+
+  private CdkWorkerProcess respondingWorker() throws IOException {
+    final CdkWorkerProcess worker = launch();
+    final AtomicInteger handledRequests = new AtomicInteger();
+    when(worker.getHandledRequests()).thenAnswer(invocation -> handledRequests.get());
+    when(worker.handle(anyString(), any())).thenAnswer(invocation -> {
+      handledRequests.incrementAndGet();
+      return RESPONSE;
+    });
+    return worker;
+  }
+
+  private CdkWorkerProcess launch() {
+    final CdkWorkerProcess worker = mock(CdkWorkerProcess.class);
+    when(worker.isAlive()).thenReturn(true);
+    launched.add(worker);
+    return worker;
+  }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.connector_builder.exceptions.CdkProcessException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CdkWorkerProcessTest {
+
+  private Process process;
+  private ByteArrayOutputStream stdin;
+  private ExecutorService readExecutor;
+
+  @BeforeEach
+  void setUp() {
+    process = mock(Process.class);
+    stdin = new ByteArrayOutputStream();
+    when(process.getOutputStream()).thenReturn(stdin);
+    when(process.getInputStream()).thenReturn(new ByteArrayInputStream(new byte[0]));
+    readExecutor = Executors.newCachedThreadPool();
+  }
+
+  @AfterEach
+  void tearDown() {
+    readExecutor.shutdownNow();
+  }
+
+  @Test
+  void testCloseLetsTheProcessExit() throws InterruptedException {
+    when(process.waitFor(anyLong(), any())).thenReturn(true);
+
+    new CdkWorkerProcess(process, readExecutor).close();
+
+    verify(process).waitFor(anyLong(), any());
+    verify(process, never()).destroyForcibly();
+  }
+
+  @Test
+  void testCloseKillsAProcessWhichDoesNotExit() throws InterruptedException {
+    when(process.waitFor(anyLong(), any())).thenReturn(false);
+
+    new CdkWorkerProcess(process, readExecutor).close();
+
+    verify(process).destroyForcibly();
+  }
+
+  @Test
+  void testUnresponsiveProcessIsKilledWithoutWaiting() throws IOException, InterruptedException {
+    // a response which never comes
+    final PipedOutputStream stdout = new PipedOutputStream();
+    when(process.getInputStream()).thenReturn(new PipedInputStream(stdout));
+    final CdkWorkerProcess worker = new CdkWorkerProcess(process, readExecutor);
+
+    assertThrows(CdkProcessException.class, () -> worker.handle("{}", Duration.ofMillis(100)));
+
+    verify(process).destroyForcibly();
+    verify(process, never()).waitFor(anyLong(), any());
+  }
+
+}
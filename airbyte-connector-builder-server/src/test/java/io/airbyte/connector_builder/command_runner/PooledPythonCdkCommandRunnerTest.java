@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.connector_builder.command_runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.connector_builder.exceptions.AirbyteCdkInvalidInputException;
+import io.airbyte.connector_builder.exceptions.CdkProcessException;
+import io.airbyte.connector_builder.exceptions.CdkUnknownException;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.io.IOException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class PooledPythonCdkCommandRunnerTest {
+
+  private static final String COMMAND = "resolve_manifest";
+  private static final String CONFIG = "{\n  \"__command\": \"resolve_manifest\"\n}";
+  private static final String RECORD = "{\"type\": \"RECORD\", "
+      + "\"record\": {\"stream\": \"resolve_manifest\", \"data\": {\"manifest\": {}}, \"emitted_at\": 1}}";
+  private static final String TRACE = "{\"type\": \"TRACE\", \"trace\": {\"type\": \"ERROR\", \"emitted_at\": 1.0, "
+      + "\"error\": {\"message\": \"Error handling request.\", \"failure_type\": \"system_error\"}}}";
+
+  private CdkProcessPool pool;
+  private PooledPythonCdkCommandRunner runner;
+
+  @BeforeEach
+  void setUp() {
+    pool = mock(CdkProcessPool.class);
+    runner = new PooledPythonCdkCommandRunner(pool);
+  }
+
+  @Test
+  void testRecordIsReturned() throws IOException {
+    when(pool.execute(anyString())).thenReturn(RECORD);
+
+    final AirbyteRecordMessage record = runner.runCommand(COMMAND, CONFIG, "", "");
+
+    assertEquals("resolve_manifest", record.getStream());
+    final ArgumentCaptor<String> request = ArgumentCaptor.forClass(String.class);
+    verify(pool).execute(request.capture());
+    // the request must fit on a single line of the worker's stdin
+    assertEquals(-1, request.getValue().indexOf('\n'));
+    final JsonNode requestNode = Jsons.deserialize(request.getValue());
+    assertEquals(COMMAND, requestNode.get("command").asText());
+    assertEquals(CONFIG, requestNode.get("config").asText());
+  }
+
+  @Test
+  void testTraceThrowsInvalidInput() throws IOException {
+    when(pool.execute(anyString())).thenReturn(TRACE);
+
+    assertThrows(AirbyteCdkInvalidInputException.class, () -> runner.runCommand(COMMAND, CONFIG, "", ""));
+  }
+
+  @Test
+  void testInvalidResponseThrows() throws IOException {
+    when(pool.execute(anyString())).thenReturn("Traceback (most recent call last):");
+
+    assertThrows(CdkProcessException.class, () -> runner.runCommand(COMMAND, CONFIG, "", ""));
+  }
+
+  @Test
+  void testResponseWithoutRecordNorTraceThrows() throws IOException {
+    when(pool.execute(anyString())).thenReturn("{\"type\": \"LOG\", \"log\": {\"level\": \"INFO\", \"message\": \"done\"}}");
+
+    assertThrows(CdkUnknownException.class, () -> runner.runCommand(COMMAND, CONFIG, "", ""));
+  }
+
+}
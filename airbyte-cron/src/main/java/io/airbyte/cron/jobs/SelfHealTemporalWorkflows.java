@@ -12,13 +12,25 @@ import io.airbyte.metrics.lib.MetricAttribute;
 import io.airbyte.metrics.lib.MetricClient;
 import io.airbyte.metrics.lib.MetricTags;
 import io.airbyte.metrics.lib.OssMetricsRegistry;
+import io.micronaut.context.annotation.Value;
 import io.micronaut.scheduling.annotation.Scheduled;
 import io.temporal.api.enums.v1.WorkflowExecutionStatus;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Temporal cleaner. Resets failed workflow executions.
+ * <p>
+ * Each run only looks at the executions which closed since the previous successful run, minus an
+ * overlap covering the delay before closed executions become visible. The mark is only kept in
+ * memory, so the first run after a start looks at the whole history, which heals the workflows that
+ * failed while the cron was down.
  */
 @Singleton
 @Slf4j
@@ -26,19 +38,60 @@ public class SelfHealTemporalWorkflows {
 
   private final TemporalClient temporalClient;
   private final MetricClient metricClient;
+  private final Duration visibilityOverlap;
+  private final ExecutorService repairExecutor;
+  private final Clock clock;
 
-  public SelfHealTemporalWorkflows(final TemporalClient temporalClient, final MetricClient metricClient) {
+  /**
+   * Only the executions closed at or after this time are looked at. Only updated once a run
+   * succeeded, so that the executions of a failed run are looked at again.
+   */
+  private Instant closedSince = Instant.EPOCH;
+
+  @Inject
+  public SelfHealTemporalWorkflows(final TemporalClient temporalClient,
+                                   final MetricClient metricClient,
+                                   @Value("${airbyte.cron.self-heal-temporal.visibility-overlap:PT1M}") final Duration visibilityOverlap,
+                                   @Value("${airbyte.cron.self-heal-temporal.repair-parallelism:4}") final int repairParallelism) {
+    this(temporalClient, metricClient, visibilityOverlap,
+        Executors.newFixedThreadPool(repairParallelism, runnable -> {
+          final Thread thread = new Thread(runnable, "self-heal-temporal");
+          thread.setDaemon(true);
+          return thread;
+        }),
+        Clock.systemUTC());
+  }
+
+  // Visible for testing.
+  SelfHealTemporalWorkflows(final TemporalClient temporalClient,
+                            final MetricClient metricClient,
+                            final Duration visibilityOverlap,
+                            final ExecutorService repairExecutor,
+                            final Clock clock) {
     log.debug("Creating temporal self-healing");
     this.temporalClient = temporalClient;
     this.metricClient = metricClient;
+    this.visibilityOverlap = visibilityOverlap;
+    this.repairExecutor = repairExecutor;
+    this.clock = clock;
   }
 
   @Trace(operationName = SCHEDULED_TRACE_OPERATION_NAME)
   @Scheduled(fixedRate = "10s")
   void cleanTemporal() {
     metricClient.count(OssMetricsRegistry.CRON_JOB_RUN_BY_CRON_TYPE, 1, new MetricAttribute(MetricTags.CRON_TYPE, "self_heal_temporal"));
-    final var numRestarted = temporalClient.restartClosedWorkflowByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED);
+    final Instant runStart = clock.instant();
+    final var numRestarted =
+        temporalClient.restartClosedWorkflowByStatus(WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED, closedSince, repairExecutor);
     metricClient.count(OssMetricsRegistry.WORKFLOWS_HEALED, numRestarted);
+
+    // the workflows restarted by this run are running, so looking at them again in the overlap is harmless
+    closedSince = runStart.minus(visibilityOverlap);
+  }
+
+  // Visible for testing.
+  Instant getClosedSince() {
+    return closedSince;
   }
 
 }
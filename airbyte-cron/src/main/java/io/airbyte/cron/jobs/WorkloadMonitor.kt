@@ -11,7 +11,9 @@ import io.airbyte.metrics.lib.OssMetricsRegistry
 import io.airbyte.workload.api.client.model.generated.ExpiredDeadlineWorkloadListRequest
 import io.airbyte.workload.api.client.model.generated.LongRunningWorkloadRequest
 import io.airbyte.workload.api.client.model.generated.Workload
-import io.airbyte.workload.api.client.model.generated.WorkloadFailureRequest
+import io.airbyte.workload.api.client.model.generated.WorkloadFailureBatchRequest
+import io.airbyte.workload.api.client.model.generated.WorkloadListCursor
+import io.airbyte.workload.api.client.model.generated.WorkloadListResponse
 import io.airbyte.workload.api.client.model.generated.WorkloadStatus
 import io.github.oshai.kotlinlogging.KotlinLogging
 import io.micronaut.context.annotation.Property
@@ -34,6 +36,7 @@ open class WorkloadMonitor(
   private val workloadApiClient: WorkloadApiClient,
   @Property(name = "airbyte.workload.monitor.non-sync-workload-timeout") private val nonSyncWorkloadTimeout: Duration,
   @Property(name = "airbyte.workload.monitor.sync-workload-timeout") private val syncWorkloadTimeout: Duration,
+  @Property(name = "airbyte.workload.monitor.page-size") private val pageSize: Int,
   private val metricClient: MetricClient,
   private val timeProvider: (ZoneId) -> OffsetDateTime = OffsetDateTime::now,
 ) {
@@ -56,14 +59,16 @@ open class WorkloadMonitor(
   open fun cancelNotStartedWorkloads() {
     logger.info { "Checking for not started workloads." }
     val oldestStartedTime = timeProvider(ZoneOffset.UTC)
-    val notStartedWorkloads =
+    failAllPages("Not started within time limit", CHECK_START) { after ->
       workloadApiClient.workloadApi.workloadListWithExpiredDeadline(
         ExpiredDeadlineWorkloadListRequest(
           oldestStartedTime,
           status = listOf(WorkloadStatus.CLAIMED),
+          pageSize = pageSize,
+          after = after,
         ),
       )
-    failWorkloads(notStartedWorkloads.workloads, "Not started within time limit", CHECK_START)
+    }
   }
 
   @Trace
@@ -77,15 +82,16 @@ open class WorkloadMonitor(
   open fun cancelNotClaimedWorkloads() {
     logger.info { "Checking for not claimed workloads." }
     val oldestClaimTime = timeProvider(ZoneOffset.UTC)
-    val notClaimedWorkloads =
+    failAllPages("Not claimed within time limit", CHECK_CLAIMS) { after ->
       workloadApiClient.workloadApi.workloadListWithExpiredDeadline(
         ExpiredDeadlineWorkloadListRequest(
           oldestClaimTime,
           status = listOf(WorkloadStatus.PENDING),
+          pageSize = pageSize,
+          after = after,
         ),
       )
-
-    failWorkloads(notClaimedWorkloads.workloads, "Not claimed within time limit", CHECK_CLAIMS)
+    }
   }
 
   @Trace
@@ -99,15 +105,16 @@ open class WorkloadMonitor(
   open fun cancelNotHeartbeatingWorkloads() {
     logger.info { "Checking for non heartbeating workloads." }
     val oldestHeartbeatTime = timeProvider(ZoneOffset.UTC)
-    val nonHeartbeatingWorkloads =
+    failAllPages("No heartbeat within time limit", CHECK_HEARTBEAT) { after ->
       workloadApiClient.workloadApi.workloadListWithExpiredDeadline(
         ExpiredDeadlineWorkloadListRequest(
           oldestHeartbeatTime,
           status = listOf(WorkloadStatus.RUNNING, WorkloadStatus.LAUNCHED),
+          pageSize = pageSize,
+          after = after,
         ),
       )
-
-    failWorkloads(nonHeartbeatingWorkloads.workloads, "No heartbeat within time limit", CHECK_HEARTBEAT)
+    }
   }
 
   @Trace
@@ -120,14 +127,16 @@ open class WorkloadMonitor(
   @Scheduled(fixedRate = "\${airbyte.workload.monitor.non-sync-age-check-rate}")
   open fun cancelRunningForTooLongNonSyncWorkloads() {
     logger.info { "Checking for workloads running for too long with timeout value $nonSyncWorkloadTimeout" }
-    val nonHeartbeatingWorkloads =
+    val createdBefore = timeProvider(ZoneOffset.UTC).minus(nonSyncWorkloadTimeout)
+    failAllPages("Non sync workload timeout", CHECK_NON_SYNC_TIMEOUT) { after ->
       workloadApiClient.workloadApi.workloadListOldNonSync(
         LongRunningWorkloadRequest(
-          createdBefore = timeProvider(ZoneOffset.UTC).minus(nonSyncWorkloadTimeout),
+          createdBefore = createdBefore,
+          pageSize = pageSize,
+          after = after,
         ),
       )
-
-    failWorkloads(nonHeartbeatingWorkloads.workloads, "Non sync workload timeout", CHECK_NON_SYNC_TIMEOUT)
+    }
   }
 
   @Trace
@@ -140,14 +149,33 @@ open class WorkloadMonitor(
   @Scheduled(fixedRate = "\${airbyte.workload.monitor.sync-age-check-rate}")
   open fun cancelRunningForTooLongSyncWorkloads() {
     logger.info { "Checking for sync workloads running for too long with timeout value $syncWorkloadTimeout" }
-    val nonHeartbeatingWorkloads =
+    val createdBefore = timeProvider(ZoneOffset.UTC).minus(syncWorkloadTimeout)
+    failAllPages("Sync workload timeout", CHECK_SYNC_TIMEOUT) { after ->
       workloadApiClient.workloadApi.workloadListOldSync(
         LongRunningWorkloadRequest(
-          createdBefore = timeProvider(ZoneOffset.UTC).minus(syncWorkloadTimeout),
+          createdBefore = createdBefore,
+          pageSize = pageSize,
+          after = after,
         ),
       )
+    }
+  }
 
-    failWorkloads(nonHeartbeatingWorkloads.workloads, "Sync workload timeout", CHECK_SYNC_TIMEOUT)
+  /**
+   * Fails the workloads of every page returned by [listPage], one page at a time. Failed workloads drop out of the listed
+   * ones, but the pages are keyed on the last listed workload, so the workloads which couldn't be failed are not listed again.
+   */
+  private fun failAllPages(
+    reason: String,
+    source: String,
+    listPage: (WorkloadListCursor?) -> WorkloadListResponse,
+  ) {
+    var after: WorkloadListCursor? = null
+    do {
+      val page = listPage(after)
+      failWorkloads(page.workloads, reason, source)
+      after = page.nextPage
+    } while (after != null)
   }
 
   private fun failWorkloads(
@@ -155,23 +183,32 @@ open class WorkloadMonitor(
     reason: String,
     source: String,
   ) {
-    workloads.map {
-      var status = "fail"
+    if (workloads.isEmpty()) {
+      return
+    }
+
+    val failedWorkloadIds =
       try {
-        logger.info { "Cancelling workload ${it.id}, reason: $reason" }
-        workloadApiClient.workloadApi.workloadFailure(WorkloadFailureRequest(workloadId = it.id, reason = reason, source = source))
-        status = "ok"
+        logger.info { "Cancelling ${workloads.size} workload(s), reason: $reason" }
+        workloadApiClient.workloadApi.workloadFailureBatch(
+          WorkloadFailureBatchRequest(workloadIds = workloads.map { it.id }, reason = reason, source = source),
+        ).failedWorkloadIds.toSet()
       } catch (e: Exception) {
-        logger.warn(e) { "Failed to cancel workload ${it.id}" }
-      } finally {
+        logger.warn(e) { "Failed to cancel workloads ${workloads.map { it.id }}" }
+        setOf()
+      }
+
+    workloads
+      .groupingBy { Pair(if (failedWorkloadIds.contains(it.id)) "ok" else "fail", it.type.value) }
+      .eachCount()
+      .forEach { (statusAndType, count) ->
         metricClient.count(
           OssMetricsRegistry.WORKLOADS_CANCEL,
-          1,
+          count.toLong(),
           MetricAttribute(MetricTags.CANCELLATION_SOURCE, source),
-          MetricAttribute(MetricTags.STATUS, status),
-          MetricAttribute(MetricTags.WORKLOAD_TYPE, it.type.value),
+          MetricAttribute(MetricTags.STATUS, statusAndType.first),
+          MetricAttribute(MetricTags.WORKLOAD_TYPE, statusAndType.second),
         )
       }
-    }
   }
 }
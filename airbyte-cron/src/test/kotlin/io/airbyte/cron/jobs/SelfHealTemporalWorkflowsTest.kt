@@ -0,0 +1,80 @@
+package io.airbyte.cron.jobs
+
+import io.airbyte.commons.temporal.TemporalClient
+import io.airbyte.metrics.lib.MetricClient
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import io.temporal.api.enums.v1.WorkflowExecutionStatus
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertThrows
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import java.time.Clock
+import java.time.Duration
+import java.time.Instant
+import java.util.concurrent.ExecutorService
+
+class SelfHealTemporalWorkflowsTest {
+  private val visibilityOverlap = Duration.ofMinutes(1)
+  private val startTime = Instant.parse("2024-05-01T12:00:00Z")
+
+  private lateinit var temporalClient: TemporalClient
+  private lateinit var repairExecutor: ExecutorService
+  private lateinit var clock: Clock
+  private lateinit var selfHeal: SelfHealTemporalWorkflows
+
+  @BeforeEach
+  fun setup() {
+    temporalClient = mockk()
+    repairExecutor = mockk()
+    clock = mockk()
+    every { clock.instant() } returns startTime
+
+    selfHeal = SelfHealTemporalWorkflows(temporalClient, mockk(relaxed = true), visibilityOverlap, repairExecutor, clock)
+  }
+
+  @Test
+  fun `the first run looks at the whole history`() {
+    every { temporalClient.restartClosedWorkflowByStatus(any(), any(), any()) } returns 0
+
+    selfHeal.cleanTemporal()
+
+    verify {
+      temporalClient.restartClosedWorkflowByStatus(
+        WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED,
+        Instant.EPOCH,
+        repairExecutor,
+      )
+    }
+  }
+
+  @Test
+  fun `the next run only looks at the workflows closed since the previous one`() {
+    val nextRunTime = startTime.plusSeconds(10)
+    every { temporalClient.restartClosedWorkflowByStatus(any(), any(), any()) } returns 1
+    every { clock.instant() } returns nextRunTime
+
+    selfHeal.cleanTemporal()
+    selfHeal.cleanTemporal()
+
+    verify {
+      temporalClient.restartClosedWorkflowByStatus(
+        WorkflowExecutionStatus.WORKFLOW_EXECUTION_STATUS_FAILED,
+        nextRunTime.minus(visibilityOverlap),
+        repairExecutor,
+      )
+    }
+    assertEquals(nextRunTime.minus(visibilityOverlap), selfHeal.closedSince)
+  }
+
+  @Test
+  fun `a failed run is retried from the same point`() {
+    every { temporalClient.restartClosedWorkflowByStatus(any(), any(), any()) } throws IllegalStateException("unavailable")
+    every { clock.instant() } returns startTime.plusSeconds(10)
+
+    assertThrows(IllegalStateException::class.java) { selfHeal.cleanTemporal() }
+
+    assertEquals(Instant.EPOCH, selfHeal.closedSince)
+  }
+}
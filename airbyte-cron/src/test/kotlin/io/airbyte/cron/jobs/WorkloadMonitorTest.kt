@@ -8,6 +8,9 @@ import io.airbyte.metrics.lib.OssMetricsRegistry
 import io.airbyte.workload.api.client.generated.WorkloadApi
 import io.airbyte.workload.api.client.model.generated.ExpiredDeadlineWorkloadListRequest
 import io.airbyte.workload.api.client.model.generated.Workload
+import io.airbyte.workload.api.client.model.generated.WorkloadFailureBatchRequest
+import io.airbyte.workload.api.client.model.generated.WorkloadFailureBatchResponse
+import io.airbyte.workload.api.client.model.generated.WorkloadListCursor
 import io.airbyte.workload.api.client.model.generated.WorkloadListResponse
 import io.airbyte.workload.api.client.model.generated.WorkloadStatus
 import io.airbyte.workload.api.client.model.generated.WorkloadType
@@ -48,6 +51,7 @@ class WorkloadMonitorTest {
         workloadApiClient = workloadApiClient,
         nonSyncWorkloadTimeout = nonSyncTimeout,
         syncWorkloadTimeout = syncTimeout,
+        pageSize = PAGE_SIZE,
         metricClient = metricClient,
         timeProvider = { _: ZoneId -> currentTime },
       )
@@ -58,7 +62,7 @@ class WorkloadMonitorTest {
     val expiredWorkloads = WorkloadListResponse(workloads = listOf(getWorkload("1"), getWorkload("2"), getWorkload("3")))
     currentTime = OffsetDateTime.now()
     every { workloadApi.workloadListWithExpiredDeadline(any()) } returns expiredWorkloads
-    every { workloadApi.workloadFailure(any()) } returns Unit andThenThrows ServerException() andThen Unit
+    failAllBut("2")
 
     workloadMonitor.cancelNotStartedWorkloads()
 
@@ -68,14 +72,12 @@ class WorkloadMonitorTest {
           it.status == listOf(WorkloadStatus.CLAIMED) && it.deadline == currentTime
         },
       )
-      workloadApi.workloadFailure(match { it.workloadId == "1" })
-      workloadApi.workloadFailure(match { it.workloadId == "2" })
-      workloadApi.workloadFailure(match { it.workloadId == "3" })
+      workloadApi.workloadFailureBatch(match { it.workloadIds == listOf("1", "2", "3") })
     }
-    verify(exactly = 2) {
+    verify(exactly = 1) {
       metricClient.count(
         OssMetricsRegistry.WORKLOADS_CANCEL,
-        1,
+        2,
         MetricAttribute(MetricTags.CANCELLATION_SOURCE, "workload-monitor-start"),
         MetricAttribute(MetricTags.STATUS, "ok"),
         MetricAttribute(MetricTags.WORKLOAD_TYPE, "sync"),
@@ -97,7 +99,7 @@ class WorkloadMonitorTest {
     val expiredWorkloads = WorkloadListResponse(workloads = listOf(getWorkload("a"), getWorkload("b"), getWorkload("c")))
     currentTime = OffsetDateTime.now()
     every { workloadApi.workloadListWithExpiredDeadline(any()) } returns expiredWorkloads
-    every { workloadApi.workloadFailure(any()) } throws ServerException() andThen Unit andThen Unit
+    failAllBut("a")
 
     workloadMonitor.cancelNotClaimedWorkloads()
 
@@ -107,14 +109,12 @@ class WorkloadMonitorTest {
           it.status == listOf(WorkloadStatus.PENDING) && it.deadline == currentTime
         },
       )
-      workloadApi.workloadFailure(match { it.workloadId == "a" })
-      workloadApi.workloadFailure(match { it.workloadId == "b" })
-      workloadApi.workloadFailure(match { it.workloadId == "c" })
+      workloadApi.workloadFailureBatch(match { it.workloadIds == listOf("a", "b", "c") })
     }
-    verify(exactly = 2) {
+    verify(exactly = 1) {
       metricClient.count(
         OssMetricsRegistry.WORKLOADS_CANCEL,
-        1,
+        2,
         MetricAttribute(MetricTags.CANCELLATION_SOURCE, "workload-monitor-claim"),
         MetricAttribute(MetricTags.STATUS, "ok"),
         MetricAttribute(MetricTags.WORKLOAD_TYPE, "sync"),
@@ -140,10 +140,11 @@ class WorkloadMonitorTest {
         ExpiredDeadlineWorkloadListRequest(
           deadline = currentTime,
           status = listOf(WorkloadStatus.RUNNING, WorkloadStatus.LAUNCHED),
+          pageSize = PAGE_SIZE,
         ),
       )
     } returns expiredWorkloads
-    every { workloadApi.workloadFailure(any()) } returns Unit andThenThrows ServerException() andThen Unit
+    failAllBut("4")
 
     workloadMonitor.cancelNotHeartbeatingWorkloads()
 
@@ -153,14 +154,12 @@ class WorkloadMonitorTest {
           it.status == listOf(WorkloadStatus.RUNNING, WorkloadStatus.LAUNCHED) && it.deadline == currentTime
         },
       )
-      workloadApi.workloadFailure(match { it.workloadId == "3" })
-      workloadApi.workloadFailure(match { it.workloadId == "4" })
-      workloadApi.workloadFailure(match { it.workloadId == "5" })
+      workloadApi.workloadFailureBatch(match { it.workloadIds == listOf("3", "4", "5") })
     }
-    verify(exactly = 2) {
+    verify(exactly = 1) {
       metricClient.count(
         OssMetricsRegistry.WORKLOADS_CANCEL,
-        1,
+        2,
         MetricAttribute(MetricTags.CANCELLATION_SOURCE, "workload-monitor-heartbeat"),
         MetricAttribute(MetricTags.STATUS, "ok"),
         MetricAttribute(MetricTags.WORKLOAD_TYPE, "sync"),
@@ -182,7 +181,7 @@ class WorkloadMonitorTest {
     val expiredWorkloads = WorkloadListResponse(workloads = listOf(getWorkload("3"), getWorkload("4"), getWorkload("5")))
     currentTime = OffsetDateTime.now()
     every { workloadApi.workloadListOldNonSync(any()) } returns expiredWorkloads
-    every { workloadApi.workloadFailure(any()) } returns Unit andThenThrows ServerException() andThen Unit
+    failAllBut("4")
 
     workloadMonitor.cancelRunningForTooLongNonSyncWorkloads()
 
@@ -192,14 +191,12 @@ class WorkloadMonitorTest {
           it.createdBefore == currentTime.minus(nonSyncTimeout)
         },
       )
-      workloadApi.workloadFailure(match { it.workloadId == "3" })
-      workloadApi.workloadFailure(match { it.workloadId == "4" })
-      workloadApi.workloadFailure(match { it.workloadId == "5" })
+      workloadApi.workloadFailureBatch(match { it.workloadIds == listOf("3", "4", "5") })
     }
-    verify(exactly = 2) {
+    verify(exactly = 1) {
       metricClient.count(
         OssMetricsRegistry.WORKLOADS_CANCEL,
-        1,
+        2,
         MetricAttribute(MetricTags.CANCELLATION_SOURCE, "workload-monitor-non-sync-timeout"),
         MetricAttribute(MetricTags.STATUS, "ok"),
         MetricAttribute(MetricTags.WORKLOAD_TYPE, "sync"),
@@ -221,7 +218,7 @@ class WorkloadMonitorTest {
     val expiredWorkloads = WorkloadListResponse(workloads = listOf(getWorkload("3"), getWorkload("4"), getWorkload("5")))
     currentTime = OffsetDateTime.now()
     every { workloadApi.workloadListOldSync(any()) } returns expiredWorkloads
-    every { workloadApi.workloadFailure(any()) } returns Unit andThenThrows ServerException() andThen Unit
+    failAllBut("4")
 
     workloadMonitor.cancelRunningForTooLongSyncWorkloads()
 
@@ -231,14 +228,12 @@ class WorkloadMonitorTest {
           it.createdBefore == currentTime.minus(syncTimeout)
         },
       )
-      workloadApi.workloadFailure(match { it.workloadId == "3" })
-      workloadApi.workloadFailure(match { it.workloadId == "4" })
-      workloadApi.workloadFailure(match { it.workloadId == "5" })
+      workloadApi.workloadFailureBatch(match { it.workloadIds == listOf("3", "4", "5") })
     }
-    verify(exactly = 2) {
+    verify(exactly = 1) {
       metricClient.count(
         OssMetricsRegistry.WORKLOADS_CANCEL,
-        1,
+        2,
         MetricAttribute(MetricTags.CANCELLATION_SOURCE, "workload-monitor-sync-timeout"),
         MetricAttribute(MetricTags.STATUS, "ok"),
         MetricAttribute(MetricTags.WORKLOAD_TYPE, "sync"),
@@ -255,10 +250,70 @@ class WorkloadMonitorTest {
     }
   }
 
+  @Test
+  fun `test cancel expired workloads page by page`() {
+    val nextPage = WorkloadListCursor(OffsetDateTime.now(), "2")
+    currentTime = OffsetDateTime.now()
+    every { workloadApi.workloadListWithExpiredDeadline(match { it.after == null }) } returns
+      WorkloadListResponse(workloads = listOf(getWorkload("1"), getWorkload("2")), nextPage = nextPage)
+    every { workloadApi.workloadListWithExpiredDeadline(match { it.after == nextPage }) } returns
+      WorkloadListResponse(workloads = listOf(getWorkload("3")))
+    failAllBut()
+
+    workloadMonitor.cancelNotClaimedWorkloads()
+
+    verify(exactly = 2) { workloadApi.workloadListWithExpiredDeadline(match { it.pageSize == PAGE_SIZE }) }
+    verify { workloadApi.workloadFailureBatch(match { it.workloadIds == listOf("1", "2") }) }
+    verify { workloadApi.workloadFailureBatch(match { it.workloadIds == listOf("3") }) }
+  }
+
+  @Test
+  fun `test a failed batch is counted as failed and the next page is still cancelled`() {
+    val nextPage = WorkloadListCursor(OffsetDateTime.now(), "1")
+    currentTime = OffsetDateTime.now()
+    every { workloadApi.workloadListOldSync(match { it.after == null }) } returns
+      WorkloadListResponse(workloads = listOf(getWorkload("1")), nextPage = nextPage)
+    every { workloadApi.workloadListOldSync(match { it.after == nextPage }) } returns
+      WorkloadListResponse(workloads = listOf(getWorkload("2")))
+    every { workloadApi.workloadFailureBatch(any()) } throws ServerException() andThen WorkloadFailureBatchResponse(listOf("2"))
+
+    workloadMonitor.cancelRunningForTooLongSyncWorkloads()
+
+    verify { workloadApi.workloadFailureBatch(match { it.workloadIds == listOf("2") }) }
+    verify(exactly = 1) {
+      metricClient.count(
+        OssMetricsRegistry.WORKLOADS_CANCEL,
+        1,
+        MetricAttribute(MetricTags.CANCELLATION_SOURCE, "workload-monitor-sync-timeout"),
+        MetricAttribute(MetricTags.STATUS, "fail"),
+        MetricAttribute(MetricTags.WORKLOAD_TYPE, "sync"),
+      )
+    }
+    verify(exactly = 1) {
+      metricClient.count(
+        OssMetricsRegistry.WORKLOADS_CANCEL,
+        1,
+        MetricAttribute(MetricTags.CANCELLATION_SOURCE, "workload-monitor-sync-timeout"),
+        MetricAttribute(MetricTags.STATUS, "ok"),
+        MetricAttribute(MetricTags.WORKLOAD_TYPE, "sync"),
+      )
+    }
+  }
+
+  private fun failAllBut(vararg workloadIds: String) {
+    every { workloadApi.workloadFailureBatch(any()) } answers {
+      WorkloadFailureBatchResponse(firstArg<WorkloadFailureBatchRequest>().workloadIds.filterNot { workloadIds.contains(it) })
+    }
+  }
+
   fun getWorkload(id: String): Workload {
     return mockkClass(Workload::class).also {
       every { it.id } returns id
       every { it.type } returns WorkloadType.SYNC
     }
   }
+
+  companion object {
+    const val PAGE_SIZE = 100
+  }
 }
@@ -9,6 +9,7 @@ import io.airbyte.config.ActorCatalogFetchEvent;
 import io.airbyte.config.ActorCatalogWithUpdatedAt;
 import io.airbyte.data.exceptions.ConfigNotFoundException;
 import io.airbyte.protocol.models.AirbyteCatalog;
+import io.airbyte.protocol.models.StreamDescriptor;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
@@ -22,6 +23,8 @@ public interface CatalogService {
 
   ActorCatalog getActorCatalogById(UUID actorCatalogId) throws IOException, ConfigNotFoundException;
 
+  Map<StreamDescriptor, String> getActorCatalogStreamFingerprints(UUID actorCatalogId) throws IOException, ConfigNotFoundException;
+
   Optional<ActorCatalog> getActorCatalog(UUID actorId, String actorVersion, String configHash) throws IOException;
 
   Optional<ActorCatalogWithUpdatedAt> getMostRecentSourceActorCatalog(UUID sourceId) throws IOException;
@@ -8,6 +8,8 @@ import io.airbyte.config.Geography;
 import io.airbyte.config.StandardSync;
 import io.airbyte.data.exceptions.ConfigNotFoundException;
 import io.airbyte.data.services.shared.StandardSyncQuery;
+import io.airbyte.data.services.shared.StandardSyncSummary;
+import io.airbyte.data.services.shared.StandardSyncSummaryQuery;
 import io.airbyte.data.services.shared.StandardSyncsQueryPaginated;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.StreamDescriptor;
@@ -37,6 +39,8 @@ public interface ConnectionService {
 
   List<StandardSync> listWorkspaceStandardSyncs(StandardSyncQuery standardSyncQuery) throws IOException;
 
+  List<StandardSyncSummary> listWorkspaceStandardSyncSummaries(StandardSyncSummaryQuery standardSyncSummaryQuery) throws IOException;
+
   Map<UUID, List<StandardSync>> listWorkspaceStandardSyncsPaginated(List<UUID> workspaceIds, boolean includeDeleted, int pageSize, int rowOffset)
       throws IOException;
 
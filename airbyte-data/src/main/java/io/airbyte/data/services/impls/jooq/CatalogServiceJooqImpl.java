@@ -7,11 +7,16 @@ package io.airbyte.data.services.impls.jooq;
 import static io.airbyte.db.instance.configs.jooq.generated.Tables.ACTOR_CATALOG;
 import static io.airbyte.db.instance.configs.jooq.generated.Tables.ACTOR_CATALOG_FETCH_EVENT;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Charsets;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hashing;
 import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.protocol.CatalogDiffHelpers;
 import io.airbyte.config.ActorCatalog;
 import io.airbyte.config.ActorCatalogFetchEvent;
 import io.airbyte.config.ActorCatalogWithUpdatedAt;
@@ -21,6 +26,7 @@ import io.airbyte.data.services.CatalogService;
 import io.airbyte.db.Database;
 import io.airbyte.db.ExceptionWrappingDatabase;
 import io.airbyte.protocol.models.AirbyteCatalog;
+import io.airbyte.protocol.models.StreamDescriptor;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
@@ -35,6 +41,7 @@ import java.util.stream.Collectors;
 import org.jooq.DSLContext;
 import org.jooq.JSONB;
 import org.jooq.Record;
+import org.jooq.Record1;
 import org.jooq.Record2;
 import org.jooq.Result;
 import org.jooq.impl.DSL;
@@ -45,7 +52,15 @@ import org.slf4j.LoggerFactory;
 public class CatalogServiceJooqImpl implements CatalogService {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(CatalogServiceJooqImpl.class);
+  private static final int CATALOG_ID_CACHE_SIZE = 10_000;
+  private static final String STREAM_NAME = "name";
+  private static final String STREAM_NAMESPACE = "namespace";
+  private static final String STREAM_FINGERPRINT = "fingerprint";
+
   private final ExceptionWrappingDatabase database;
+  // Catalogs are never updated once stored, so the id of the catalog with a given SHA-256 can be
+  // cached for as long as it is used.
+  private final Cache<String, UUID> catalogIdsBySha256 = CacheBuilder.newBuilder().maximumSize(CATALOG_ID_CACHE_SIZE).build();
 
   @VisibleForTesting
   public CatalogServiceJooqImpl(@Named("configDatabase") final Database database) {
@@ -72,6 +87,49 @@ public class CatalogServiceJooqImpl implements CatalogService {
     throw new ConfigNotFoundException(ConfigSchema.ACTOR_CATALOG, actorCatalogId);
   }
 
+  /**
+   * Get the fingerprints of the streams of an actor catalog. Catalogs stored before the fingerprints
+   * were stored along with them get their fingerprints computed and backfilled.
+   *
+   * @param actorCatalogId actor catalog id
+   * @return the fingerprint of each stream of the catalog, by stream descriptor
+   * @throws ConfigNotFoundException if the config does not exist
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  @Override
+  public Map<StreamDescriptor, String> getActorCatalogStreamFingerprints(final UUID actorCatalogId)
+      throws IOException, ConfigNotFoundException {
+    // Only the fingerprints are read, the catalog is only fetched for the rows stored without them.
+    final Optional<Record1<JSONB>> record = database.query(ctx -> ctx.select(ACTOR_CATALOG.STREAM_FINGERPRINTS)
+        .from(ACTOR_CATALOG)
+        .where(ACTOR_CATALOG.ID.eq(actorCatalogId))
+        .fetchOptional());
+    if (record.isEmpty()) {
+      throw new ConfigNotFoundException(ConfigSchema.ACTOR_CATALOG, actorCatalogId);
+    }
+
+    final JSONB storedStreamFingerprints = record.get().value1();
+    if (storedStreamFingerprints != null) {
+      return deserializeStreamFingerprints(storedStreamFingerprints);
+    }
+
+    final JSONB storedCatalog = database.query(ctx -> ctx.select(ACTOR_CATALOG.CATALOG)
+        .from(ACTOR_CATALOG)
+        .where(ACTOR_CATALOG.ID.eq(actorCatalogId))
+        .fetchOne(ACTOR_CATALOG.CATALOG));
+    if (storedCatalog == null) {
+      throw new ConfigNotFoundException(ConfigSchema.ACTOR_CATALOG, actorCatalogId);
+    }
+    final AirbyteCatalog catalog = Jsons.deserialize(storedCatalog.data(), AirbyteCatalog.class);
+    final Map<StreamDescriptor, String> streamFingerprints = CatalogDiffHelpers.getStreamFingerprints(catalog);
+    database.query(ctx -> ctx.update(ACTOR_CATALOG)
+        .set(ACTOR_CATALOG.STREAM_FINGERPRINTS, serializeStreamFingerprints(streamFingerprints))
+        .where(ACTOR_CATALOG.ID.eq(actorCatalogId))
+        .and(ACTOR_CATALOG.STREAM_FINGERPRINTS.isNull())
+        .execute());
+    return streamFingerprints;
+  }
+
   /**
    * Get most actor catalog for source.
    *
@@ -178,18 +236,25 @@ public class CatalogServiceJooqImpl implements CatalogService {
       throws IOException {
     final OffsetDateTime timestamp = OffsetDateTime.now();
     final UUID fetchEventID = UUID.randomUUID();
-    return database.transaction(ctx -> {
-      final UUID catalogId = getOrInsertActorCatalog(catalog, ctx, timestamp);
+    final String canonicalCatalogJson = serializeCanonically(catalog);
+    final String catalogSha256 = canonicalCatalogJson != null ? generateSha256(canonicalCatalogJson) : null;
+    final UUID catalogId = database.transaction(ctx -> {
+      final UUID actorCatalogId = getOrInsertActorCatalog(catalog, canonicalCatalogJson, catalogSha256, ctx, timestamp);
       ctx.insertInto(ACTOR_CATALOG_FETCH_EVENT)
           .set(ACTOR_CATALOG_FETCH_EVENT.ID, fetchEventID)
           .set(ACTOR_CATALOG_FETCH_EVENT.ACTOR_ID, actorId)
-          .set(ACTOR_CATALOG_FETCH_EVENT.ACTOR_CATALOG_ID, catalogId)
+          .set(ACTOR_CATALOG_FETCH_EVENT.ACTOR_CATALOG_ID, actorCatalogId)
           .set(ACTOR_CATALOG_FETCH_EVENT.CONFIG_HASH, configurationHash)
           .set(ACTOR_CATALOG_FETCH_EVENT.ACTOR_VERSION, connectorVersion)
           .set(ACTOR_CATALOG_FETCH_EVENT.MODIFIED_AT, timestamp)
           .set(ACTOR_CATALOG_FETCH_EVENT.CREATED_AT, timestamp).execute();
-      return catalogId;
+      return actorCatalogId;
     });
+    // Only cached once committed, as an id inserted by a rolled back transaction doesn't exist.
+    if (catalogSha256 != null) {
+      catalogIdsBySha256.put(catalogSha256, catalogId);
+    }
+    return catalogId;
   }
 
   /**
@@ -229,47 +294,92 @@ public class CatalogServiceJooqImpl implements CatalogService {
    * Store an Airbyte catalog in DB if it is not present already. Checks in the config DB if the
    * catalog is present already, if so returns it identifier. If not present, it is inserted in DB
    * with a new identifier and that identifier is returned.
+   * <p>
+   * Catalogs are looked up by the SHA-256 of their canonical json first, which only requires a
+   * string comparison. Catalogs stored before that hash was introduced are looked up by their
+   * murmur3 hash, and get their SHA-256 backfilled when found.
    *
    * @param airbyteCatalog the catalog to be cached
+   * @param canonicalCatalogJson the canonical json of the catalog, or null if it can't be serialized
+   * @param catalogSha256 the SHA-256 of the canonical json, or null if it can't be serialized
    * @param context - db context
    * @param timestamp - timestamp
    * @return the db identifier for the cached catalog.
    */
   private UUID getOrInsertActorCatalog(final AirbyteCatalog airbyteCatalog,
+                                       final String canonicalCatalogJson,
+                                       final String catalogSha256,
                                        final DSLContext context,
                                        final OffsetDateTime timestamp) {
+    if (catalogSha256 != null) {
+      final UUID catalogId = catalogIdsBySha256.getIfPresent(catalogSha256);
+      if (catalogId != null) {
+        return catalogId;
+      }
+      final Optional<UUID> storedCatalogId = context.select(ACTOR_CATALOG.ID)
+          .from(ACTOR_CATALOG)
+          .where(ACTOR_CATALOG.CATALOG_SHA256.eq(catalogSha256))
+          .limit(1)
+          .fetchOptional(ACTOR_CATALOG.ID);
+      if (storedCatalogId.isPresent()) {
+        return storedCatalogId.get();
+      }
+    }
 
-    final String canonicalCatalogHash = generateCanonicalHash(airbyteCatalog);
-    UUID catalogId = lookupCatalogId(canonicalCatalogHash, airbyteCatalog, context);
+    final String canonicalCatalogHash = canonicalCatalogJson != null ? generateMurmur3Hash(canonicalCatalogJson) : null;
+    UUID catalogId = lookupCatalogId(canonicalCatalogHash, catalogSha256, airbyteCatalog, context);
     if (catalogId != null) {
+      backfillCatalogSha256(catalogId, catalogSha256, context);
       return catalogId;
     }
 
     final String oldCatalogHash = generateOldHash(airbyteCatalog);
-    catalogId = lookupCatalogId(oldCatalogHash, airbyteCatalog, context);
+    catalogId = lookupCatalogId(oldCatalogHash, catalogSha256, airbyteCatalog, context);
     if (catalogId != null) {
+      backfillCatalogSha256(catalogId, catalogSha256, context);
       return catalogId;
     }
 
-    return insertCatalog(airbyteCatalog, canonicalCatalogHash, context, timestamp);
+    return insertCatalog(airbyteCatalog, canonicalCatalogHash, catalogSha256, context, timestamp);
   }
 
-  private String generateCanonicalHash(final AirbyteCatalog airbyteCatalog) {
-    final HashFunction hashFunction = Hashing.murmur3_32_fixed();
+  private String serializeCanonically(final AirbyteCatalog airbyteCatalog) {
     try {
-      return hashFunction.hashBytes(Jsons.canonicalJsonSerialize(airbyteCatalog)
-          .getBytes(Charsets.UTF_8)).toString();
+      return Jsons.canonicalJsonSerialize(airbyteCatalog);
     } catch (final IOException e) {
       LOGGER.error("Failed to serialize AirbyteCatalog to canonical JSON", e);
       return null;
     }
   }
 
-  private UUID lookupCatalogId(final String catalogHash, final AirbyteCatalog airbyteCatalog, final DSLContext context) {
+  private String generateMurmur3Hash(final String canonicalCatalogJson) {
+    final HashFunction hashFunction = Hashing.murmur3_32_fixed();
+    return hashFunction.hashBytes(canonicalCatalogJson.getBytes(Charsets.UTF_8)).toString();
+  }
+
+  private String generateSha256(final String canonicalCatalogJson) {
+    return Hashing.sha256().hashBytes(canonicalCatalogJson.getBytes(Charsets.UTF_8)).toString();
+  }
+
+  private void backfillCatalogSha256(final UUID catalogId, final String catalogSha256, final DSLContext context) {
+    if (catalogSha256 == null) {
+      return;
+    }
+    context.update(ACTOR_CATALOG)
+        .set(ACTOR_CATALOG.CATALOG_SHA256, catalogSha256)
+        .where(ACTOR_CATALOG.ID.eq(catalogId))
+        .and(ACTOR_CATALOG.CATALOG_SHA256.isNull())
+        .execute();
+  }
+
+  private UUID lookupCatalogId(final String catalogHash,
+                               final String catalogSha256,
+                               final AirbyteCatalog airbyteCatalog,
+                               final DSLContext context) {
     if (catalogHash == null) {
       return null;
     }
-    return findAndReturnCatalogId(catalogHash, airbyteCatalog, context);
+    return findAndReturnCatalogId(catalogHash, catalogSha256 != null, airbyteCatalog, context);
   }
 
   private String generateOldHash(final AirbyteCatalog airbyteCatalog) {
@@ -279,6 +389,7 @@ public class CatalogServiceJooqImpl implements CatalogService {
 
   private UUID insertCatalog(final AirbyteCatalog airbyteCatalog,
                              final String catalogHash,
+                             final String catalogSha256,
                              final DSLContext context,
                              final OffsetDateTime timestamp) {
     final UUID catalogId = UUID.randomUUID();
@@ -286,13 +397,40 @@ public class CatalogServiceJooqImpl implements CatalogService {
         .set(ACTOR_CATALOG.ID, catalogId)
         .set(ACTOR_CATALOG.CATALOG, JSONB.valueOf(Jsons.serialize(airbyteCatalog)))
         .set(ACTOR_CATALOG.CATALOG_HASH, catalogHash)
+        .set(ACTOR_CATALOG.CATALOG_SHA256, catalogSha256)
+        .set(ACTOR_CATALOG.STREAM_FINGERPRINTS, serializeStreamFingerprints(CatalogDiffHelpers.getStreamFingerprints(airbyteCatalog)))
         .set(ACTOR_CATALOG.CREATED_AT, timestamp)
         .set(ACTOR_CATALOG.MODIFIED_AT, timestamp).execute();
     return catalogId;
   }
 
-  private UUID findAndReturnCatalogId(final String catalogHash, final AirbyteCatalog airbyteCatalog, final DSLContext context) {
-    final Map<UUID, AirbyteCatalog> catalogs = findCatalogByHash(catalogHash, context);
+  private static JSONB serializeStreamFingerprints(final Map<StreamDescriptor, String> streamFingerprints) {
+    final ArrayNode serializedStreamFingerprints = Jsons.arrayNode();
+    streamFingerprints.forEach((streamDescriptor, fingerprint) -> serializedStreamFingerprints.addObject()
+        .put(STREAM_NAME, streamDescriptor.getName())
+        .put(STREAM_NAMESPACE, streamDescriptor.getNamespace())
+        .put(STREAM_FINGERPRINT, fingerprint));
+    return JSONB.valueOf(Jsons.serialize(serializedStreamFingerprints));
+  }
+
+  private static Map<StreamDescriptor, String> deserializeStreamFingerprints(final JSONB serializedStreamFingerprints) {
+    final Map<StreamDescriptor, String> streamFingerprints = new HashMap<>();
+    for (final JsonNode streamFingerprint : Jsons.deserialize(serializedStreamFingerprints.data())) {
+      final JsonNode namespace = streamFingerprint.get(STREAM_NAMESPACE);
+      streamFingerprints.put(
+          new StreamDescriptor()
+              .withName(streamFingerprint.get(STREAM_NAME).asText())
+              .withNamespace(namespace == null || namespace.isNull() ? null : namespace.asText()),
+          streamFingerprint.get(STREAM_FINGERPRINT).asText());
+    }
+    return streamFingerprints;
+  }
+
+  private UUID findAndReturnCatalogId(final String catalogHash,
+                                      final boolean withoutSha256Only,
+                                      final AirbyteCatalog airbyteCatalog,
+                                      final DSLContext context) {
+    final Map<UUID, AirbyteCatalog> catalogs = findCatalogByHash(catalogHash, withoutSha256Only, context);
     for (final Map.Entry<UUID, AirbyteCatalog> entry : catalogs.entrySet()) {
       if (entry.getValue().equals(airbyteCatalog)) {
         return entry.getKey();
@@ -301,10 +439,14 @@ public class CatalogServiceJooqImpl implements CatalogService {
     return null;
   }
 
-  private Map<UUID, AirbyteCatalog> findCatalogByHash(final String catalogHash, final DSLContext context) {
+  private Map<UUID, AirbyteCatalog> findCatalogByHash(final String catalogHash, final boolean withoutSha256Only, final DSLContext context) {
+    // A catalog with a SHA-256 that wasn't matched is known to be a different catalog, so there is no
+    // need to compare it.
     final Result<Record2<UUID, JSONB>> records = context.select(ACTOR_CATALOG.ID, ACTOR_CATALOG.CATALOG)
         .from(ACTOR_CATALOG)
-        .where(ACTOR_CATALOG.CATALOG_HASH.eq(catalogHash)).fetch();
+        .where(ACTOR_CATALOG.CATALOG_HASH.eq(catalogHash))
+        .and(withoutSha256Only ? ACTOR_CATALOG.CATALOG_SHA256.isNull() : DSL.noCondition())
+        .fetch();
 
     final Map<UUID, AirbyteCatalog> result = new HashMap<>();
     for (final Record record : records) {
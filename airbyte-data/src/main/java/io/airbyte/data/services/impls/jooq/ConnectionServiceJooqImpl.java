@@ -28,6 +28,8 @@ import io.airbyte.config.helpers.ScheduleHelpers;
 import io.airbyte.data.exceptions.ConfigNotFoundException;
 import io.airbyte.data.services.ConnectionService;
 import io.airbyte.data.services.shared.StandardSyncQuery;
+import io.airbyte.data.services.shared.StandardSyncSummary;
+import io.airbyte.data.services.shared.StandardSyncSummaryQuery;
 import io.airbyte.data.services.shared.StandardSyncsQueryPaginated;
 import io.airbyte.db.Database;
 import io.airbyte.db.ExceptionWrappingDatabase;
@@ -237,6 +239,52 @@ public class ConnectionServiceJooqImpl implements ConnectionService {
     return getStandardSyncsFromResult(connectionAndOperationIdsResult, getNotificationConfigurationByConnectionIds(connectionIds));
   }
 
+  /**
+   * List the summaries of the connections of a workspace. Only the columns of the summary are read,
+   * so that listing doesn't load the configured catalogs.
+   *
+   * @param standardSyncSummaryQuery query
+   * @return list of connection summaries, sorted by name
+   * @throws IOException if there is an issue while interacting with db.
+   */
+  @Override
+  public List<StandardSyncSummary> listWorkspaceStandardSyncSummaries(final StandardSyncSummaryQuery standardSyncSummaryQuery)
+      throws IOException {
+    final Result<Record> result = database.query(ctx -> {
+      final var query = ctx
+          .select(
+              CONNECTION.ID,
+              CONNECTION.NAME,
+              CONNECTION.STATUS,
+              CONNECTION.SOURCE_ID,
+              CONNECTION.DESTINATION_ID,
+              CONNECTION.MANUAL,
+              CONNECTION.SCHEDULE,
+              CONNECTION.SCHEDULE_TYPE,
+              CONNECTION.SCHEDULE_DATA,
+              CONNECTION.SOURCE_CATALOG_ID,
+              CONNECTION.BREAKING_CHANGE)
+          .from(CONNECTION)
+          // join with source actors so that we can filter by workspaceId
+          .join(ACTOR).on(CONNECTION.SOURCE_ID.eq(ACTOR.ID))
+          .where(ACTOR.WORKSPACE_ID.eq(standardSyncSummaryQuery.workspaceId())
+              .and(standardSyncSummaryQuery.destinationId() == null || standardSyncSummaryQuery.destinationId().isEmpty() ? noCondition()
+                  : CONNECTION.DESTINATION_ID.in(standardSyncSummaryQuery.destinationId()))
+              .and(standardSyncSummaryQuery.sourceId() == null || standardSyncSummaryQuery.sourceId().isEmpty() ? noCondition()
+                  : CONNECTION.SOURCE_ID.in(standardSyncSummaryQuery.sourceId()))
+              .and(standardSyncSummaryQuery.nameContains() == null || standardSyncSummaryQuery.nameContains().isBlank() ? noCondition()
+                  : CONNECTION.NAME.containsIgnoreCase(standardSyncSummaryQuery.nameContains()))
+              .and(standardSyncSummaryQuery.includeDeleted() ? noCondition() : CONNECTION.STATUS.notEqual(StatusType.deprecated)))
+          // sorted on a unique key so that pages don't overlap
+          .orderBy(CONNECTION.NAME, CONNECTION.ID);
+      return standardSyncSummaryQuery.pageSize() == null
+          ? query.offset(standardSyncSummaryQuery.rowOffset()).fetch()
+          : query.limit(standardSyncSummaryQuery.pageSize()).offset(standardSyncSummaryQuery.rowOffset()).fetch();
+    });
+
+    return result.map(DbConverter::buildStandardSyncSummary);
+  }
+
   /**
    * List connections. Paginated.
    */
@@ -837,6 +885,8 @@ public class ConnectionServiceJooqImpl implements ConnectionService {
 
   private List<StandardSync> getStandardSyncsFromResult(final Result<Record> connectionAndOperationIdsResult,
                                                         final List<NotificationConfigurationRecord> allNeededNotificationConfigurations) {
+    final Map<UUID, List<NotificationConfigurationRecord>> notificationConfigurationsByConnectionId =
+        groupByConnectionId(allNeededNotificationConfigurations);
     final List<StandardSync> standardSyncs = new ArrayList<>();
 
     for (final Record record : connectionAndOperationIdsResult) {
@@ -847,10 +897,8 @@ public class ConnectionServiceJooqImpl implements ConnectionService {
           ? Collections.emptyList()
           : Arrays.stream(operationIdsFromRecord.split(OPERATION_IDS_AGG_DELIMITER)).map(UUID::fromString).toList();
 
-      final UUID connectionId = record.get(CONNECTION.ID);
-      final List<NotificationConfigurationRecord> notificationConfigurationsForConnection = allNeededNotificationConfigurations.stream()
-          .filter(notificationConfiguration -> notificationConfiguration.getConnectionId().equals(connectionId))
-          .toList();
+      final List<NotificationConfigurationRecord> notificationConfigurationsForConnection =
+          notificationConfigurationsByConnectionId.getOrDefault(record.get(CONNECTION.ID), Collections.emptyList());
       standardSyncs.add(DbConverter.buildStandardSync(record, operationIds, notificationConfigurationsForConnection));
     }
 
@@ -863,9 +911,16 @@ public class ConnectionServiceJooqImpl implements ConnectionService {
         .fetch());
   }
 
+  private static Map<UUID, List<NotificationConfigurationRecord>> groupByConnectionId(
+                                                                                   final List<NotificationConfigurationRecord> notificationConfigurations) {
+    return notificationConfigurations.stream().collect(Collectors.groupingBy(NotificationConfigurationRecord::getConnectionId));
+  }
+
   @SuppressWarnings("LineLength")
   private Map<UUID, List<StandardSync>> getWorkspaceIdToStandardSyncsFromResult(final Result<Record> connectionAndOperationIdsResult,
                                                                                 final List<NotificationConfigurationRecord> allNeededNotificationConfigurations) {
+    final Map<UUID, List<NotificationConfigurationRecord>> notificationConfigurationsByConnectionId =
+        groupByConnectionId(allNeededNotificationConfigurations);
     final Map<UUID, List<StandardSync>> workspaceIdToStandardSync = new HashMap<>();
 
     for (final Record record : connectionAndOperationIdsResult) {
@@ -876,10 +931,8 @@ public class ConnectionServiceJooqImpl implements ConnectionService {
           ? Collections.emptyList()
           : Arrays.stream(operationIdsFromRecord.split(OPERATION_IDS_AGG_DELIMITER)).map(UUID::fromString).toList();
 
-      final UUID connectionId = record.get(CONNECTION.ID);
-      final List<NotificationConfigurationRecord> notificationConfigurationsForConnection = allNeededNotificationConfigurations.stream()
-          .filter(notificationConfiguration -> notificationConfiguration.getConnectionId().equals(connectionId))
-          .toList();
+      final List<NotificationConfigurationRecord> notificationConfigurationsForConnection =
+          notificationConfigurationsByConnectionId.getOrDefault(record.get(CONNECTION.ID), Collections.emptyList());
       workspaceIdToStandardSync.computeIfAbsent(
           record.get(ACTOR.WORKSPACE_ID), v -> new ArrayList<>())
           .add(DbConverter.buildStandardSync(record, operationIds, notificationConfigurationsForConnection));
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.data.services.shared;
+
+import io.airbyte.config.Schedule;
+import io.airbyte.config.ScheduleData;
+import io.airbyte.config.StandardSync;
+import io.airbyte.config.StandardSync.ScheduleType;
+import io.airbyte.config.StandardSync.Status;
+import java.util.UUID;
+
+/**
+ * The fields of a connection shown in list views. Unlike a {@link StandardSync}, it doesn't carry
+ * the configured catalog, which is most of the size of a connection.
+ *
+ * @param connectionId connection id
+ * @param name connection name
+ * @param status connection status
+ * @param sourceId source id
+ * @param destinationId destination id
+ * @param manual legacy manual flag
+ * @param schedule legacy schedule
+ * @param scheduleType schedule type
+ * @param scheduleData schedule data
+ * @param sourceCatalogId id of the source catalog the connection was last configured with
+ * @param breakingChange whether the source schema has a breaking change
+ */
+public record StandardSyncSummary(UUID connectionId,
+                                  String name,
+                                  Status status,
+                                  UUID sourceId,
+                                  UUID destinationId,
+                                  Boolean manual,
+                                  Schedule schedule,
+                                  ScheduleType scheduleType,
+                                  ScheduleData scheduleData,
+                                  UUID sourceCatalogId,
+                                  Boolean breakingChange) {
+
+  /**
+   * Builds a {@link StandardSync} with the fields of the summary, so that the summary can go through
+   * the converters of full connections. The catalog and the rest of the configuration are not set.
+   *
+   * @return partial standard sync
+   */
+  public StandardSync toPartialStandardSync() {
+    return new StandardSync()
+        .withConnectionId(connectionId)
+        .withName(name)
+        .withStatus(status)
+        .withSourceId(sourceId)
+        .withDestinationId(destinationId)
+        .withManual(manual)
+        .withSchedule(schedule)
+        .withScheduleType(scheduleType)
+        .withScheduleData(scheduleData)
+        .withSourceCatalogId(sourceCatalogId)
+        .withBreakingChange(breakingChange);
+  }
+
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.data.services.shared;
+
+import jakarta.annotation.Nonnull;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Query object for listing the connection summaries of a workspace, sorted by name.
+ *
+ * @param workspaceId workspace to fetch connections for
+ * @param sourceId fetch connections with this source id
+ * @param destinationId fetch connections with this destination id
+ * @param nameContains string to search name contains by
+ * @param includeDeleted include tombstoned connections
+ * @param pageSize limit, all the connections are returned when null
+ * @param rowOffset offset
+ */
+public record StandardSyncSummaryQuery(@Nonnull UUID workspaceId,
+                                       List<UUID> sourceId,
+                                       List<UUID> destinationId,
+                                       String nameContains,
+                                       boolean includeDeleted,
+                                       Integer pageSize,
+                                       int rowOffset) {
+
+}
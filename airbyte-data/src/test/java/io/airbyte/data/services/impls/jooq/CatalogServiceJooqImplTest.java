@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.data.services.impls.jooq;
+
+import static io.airbyte.db.instance.configs.jooq.generated.Tables.ACTOR_CATALOG;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.hash.Hashing;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.protocol.CatalogDiffHelpers;
+import io.airbyte.data.exceptions.ConfigNotFoundException;
+import io.airbyte.protocol.models.AirbyteCatalog;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.Field;
+import io.airbyte.protocol.models.JsonSchemaType;
+import io.airbyte.protocol.models.StreamDescriptor;
+import io.airbyte.test.utils.BaseConfigDatabaseTest;
+import io.airbyte.validation.json.JsonValidationException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+import org.jooq.JSONB;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CatalogServiceJooqImplTest extends BaseConfigDatabaseTest {
+
+  private static final String CONNECTOR_VERSION = "1.2.0";
+  private static final String CONFIG_HASH = "ConfigHash";
+
+  private CatalogServiceJooqImpl catalogService;
+  private UUID sourceId;
+
+  @BeforeEach
+  void setUp() throws JsonValidationException, ConfigNotFoundException, IOException {
+    catalogService = new CatalogServiceJooqImpl(database);
+
+    final JooqTestDbSetupHelper jooqTestDbSetupHelper = new JooqTestDbSetupHelper();
+    jooqTestDbSetupHelper.setupForVersionUpgradeTest();
+    sourceId = jooqTestDbSetupHelper.getSource().getSourceId();
+  }
+
+  @Test
+  void testWriteSameCatalogReusesIt() throws IOException, SQLException {
+    final AirbyteCatalog catalog = createCatalog(UUID.randomUUID().toString());
+
+    final UUID catalogId = catalogService.writeActorCatalogFetchEvent(catalog, sourceId, CONNECTOR_VERSION, CONFIG_HASH);
+    // a new service doesn't have the catalog cached, so it has to be found by its SHA-256
+    final UUID otherCatalogId = new CatalogServiceJooqImpl(database).writeActorCatalogFetchEvent(catalog, sourceId, "1.3.0", CONFIG_HASH);
+    final UUID cachedCatalogId = catalogService.writeActorCatalogFetchEvent(catalog, sourceId, "1.4.0", CONFIG_HASH);
+
+    assertEquals(catalogId, otherCatalogId);
+    assertEquals(catalogId, cachedCatalogId);
+    assertEquals(sha256(catalog), getCatalogSha256(catalogId));
+  }
+
+  @Test
+  void testWriteDifferentCatalogsInsertsThem() throws IOException {
+    final UUID catalogId = catalogService.writeActorCatalogFetchEvent(createCatalog("stream_a"), sourceId, CONNECTOR_VERSION, CONFIG_HASH);
+    final UUID otherCatalogId = catalogService.writeActorCatalogFetchEvent(createCatalog("stream_b"), sourceId, CONNECTOR_VERSION, CONFIG_HASH);
+
+    assertNotEquals(catalogId, otherCatalogId);
+  }
+
+  @Test
+  void testWriteCatalogBackfillsSha256OfExistingCatalog() throws IOException, SQLException {
+    final AirbyteCatalog catalog = createCatalog(UUID.randomUUID().toString());
+    // a catalog stored before its SHA-256 was stored along with it
+    final UUID existingCatalogId = UUID.randomUUID();
+    final OffsetDateTime timestamp = OffsetDateTime.now();
+    database.query(ctx -> ctx.insertInto(ACTOR_CATALOG)
+        .set(ACTOR_CATALOG.ID, existingCatalogId)
+        .set(ACTOR_CATALOG.CATALOG, JSONB.valueOf(Jsons.serialize(catalog)))
+        .set(ACTOR_CATALOG.CATALOG_HASH, Hashing.murmur3_32_fixed().hashBytes(canonicalJson(catalog)).toString())
+        .set(ACTOR_CATALOG.CREATED_AT, timestamp)
+        .set(ACTOR_CATALOG.MODIFIED_AT, timestamp)
+        .execute());
+
+    final UUID catalogId = catalogService.writeActorCatalogFetchEvent(catalog, sourceId, CONNECTOR_VERSION, CONFIG_HASH);
+
+    assertEquals(existingCatalogId, catalogId);
+    assertEquals(sha256(catalog), getCatalogSha256(existingCatalogId));
+  }
+
+  @Test
+  void testGetStreamFingerprintsOfWrittenCatalog() throws IOException, ConfigNotFoundException {
+    final AirbyteCatalog catalog = createCatalog(UUID.randomUUID().toString());
+
+    final UUID catalogId = catalogService.writeActorCatalogFetchEvent(catalog, sourceId, CONNECTOR_VERSION, CONFIG_HASH);
+
+    assertEquals(CatalogDiffHelpers.getStreamFingerprints(catalog), catalogService.getActorCatalogStreamFingerprints(catalogId));
+  }
+
+  @Test
+  void testGetStreamFingerprintsBackfillsThemForExistingCatalog() throws IOException, SQLException, ConfigNotFoundException {
+    final AirbyteCatalog catalog = createCatalog(UUID.randomUUID().toString());
+    // a catalog stored before its stream fingerprints were stored along with it
+    final UUID existingCatalogId = UUID.randomUUID();
+    final OffsetDateTime timestamp = OffsetDateTime.now();
+    database.query(ctx -> ctx.insertInto(ACTOR_CATALOG)
+        .set(ACTOR_CATALOG.ID, existingCatalogId)
+        .set(ACTOR_CATALOG.CATALOG, JSONB.valueOf(Jsons.serialize(catalog)))
+        .set(ACTOR_CATALOG.CATALOG_HASH, Hashing.murmur3_32_fixed().hashBytes(canonicalJson(catalog)).toString())
+        .set(ACTOR_CATALOG.CREATED_AT, timestamp)
+        .set(ACTOR_CATALOG.MODIFIED_AT, timestamp)
+        .execute());
+
+    final Map<StreamDescriptor, String> streamFingerprints = catalogService.getActorCatalogStreamFingerprints(existingCatalogId);
+
+    assertEquals(CatalogDiffHelpers.getStreamFingerprints(catalog), streamFingerprints);
+    assertNotNull(database.query(ctx -> ctx.select(ACTOR_CATALOG.STREAM_FINGERPRINTS)
+        .from(ACTOR_CATALOG)
+        .where(ACTOR_CATALOG.ID.eq(existingCatalogId))
+        .fetchOne(ACTOR_CATALOG.STREAM_FINGERPRINTS)));
+    assertEquals(streamFingerprints, catalogService.getActorCatalogStreamFingerprints(existingCatalogId));
+  }
+
+  @Test
+  void testGetStreamFingerprintsOfMissingCatalog() {
+    assertThrows(ConfigNotFoundException.class, () -> catalogService.getActorCatalogStreamFingerprints(UUID.randomUUID()));
+  }
+
+  private static AirbyteCatalog createCatalog(final String streamName) {
+    return CatalogHelpers.createAirbyteCatalog(streamName, Field.of("name", JsonSchemaType.STRING));
+  }
+
+  private static byte[] canonicalJson(final AirbyteCatalog catalog) throws IOException {
+    return Jsons.canonicalJsonSerialize(catalog).getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static String sha256(final AirbyteCatalog catalog) throws IOException {
+    return Hashing.sha256().hashBytes(canonicalJson(catalog)).toString();
+  }
+
+  private String getCatalogSha256(final UUID catalogId) throws SQLException {
+    return database.query(ctx -> ctx.select(ACTOR_CATALOG.CATALOG_SHA256)
+        .from(ACTOR_CATALOG)
+        .where(ACTOR_CATALOG.ID.eq(catalogId))
+        .fetchOne(ACTOR_CATALOG.CATALOG_SHA256));
+  }
+
+}
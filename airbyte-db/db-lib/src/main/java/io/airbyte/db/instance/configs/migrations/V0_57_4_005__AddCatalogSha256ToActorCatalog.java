@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.configs.migrations;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Adds the SHA-256 of the canonical json of a catalog to the `actor_catalog` table, so that an
+ * existing catalog can be found without comparing the catalogs themselves. The column is nullable
+ * as it is only backfilled when a catalog is looked up.
+ */
+public class V0_57_4_005__AddCatalogSha256ToActorCatalog extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V0_57_4_005__AddCatalogSha256ToActorCatalog.class);
+
+  private static final String ACTOR_CATALOG = "actor_catalog";
+  private static final String CATALOG_SHA256 = "catalog_sha256";
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    // Warning: please do not use any jOOQ generated code to write a migration.
+    // As database schema changes, the generated jOOQ code can be deprecated. So
+    // old migration may not compile if there is any generated code.
+    final DSLContext ctx = DSL.using(context.getConnection());
+    addCatalogSha256Column(ctx);
+  }
+
+  @VisibleForTesting
+  static void addCatalogSha256Column(final DSLContext ctx) {
+    ctx.alterTable(ACTOR_CATALOG)
+        .addColumnIfNotExists(DSL.field(CATALOG_SHA256, SQLDataType.VARCHAR(64).nullable(true)))
+        .execute();
+    ctx.createIndexIfNotExists("actor_catalog_catalog_sha256_idx")
+        .on(ACTOR_CATALOG, CATALOG_SHA256)
+        .execute();
+  }
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.configs.migrations;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Adds the fingerprints of the streams of a catalog to the `actor_catalog` table, so that catalog
+ * diffs only need to walk the streams whose fingerprint changed. The column is nullable as it is
+ * only backfilled when the fingerprints of a catalog are read.
+ */
+public class V0_57_4_006__AddStreamFingerprintsToActorCatalog extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V0_57_4_006__AddStreamFingerprintsToActorCatalog.class);
+
+  private static final String ACTOR_CATALOG = "actor_catalog";
+  private static final String STREAM_FINGERPRINTS = "stream_fingerprints";
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    // Warning: please do not use any jOOQ generated code to write a migration.
+    // As database schema changes, the generated jOOQ code can be deprecated. So
+    // old migration may not compile if there is any generated code.
+    final DSLContext ctx = DSL.using(context.getConnection());
+    addStreamFingerprintsColumn(ctx);
+  }
+
+  @VisibleForTesting
+  static void addStreamFingerprintsColumn(final DSLContext ctx) {
+    ctx.alterTable(ACTOR_CATALOG)
+        .addColumnIfNotExists(DSL.field(STREAM_FINGERPRINTS, SQLDataType.JSONB.nullable(true)))
+        .execute();
+  }
+
+}
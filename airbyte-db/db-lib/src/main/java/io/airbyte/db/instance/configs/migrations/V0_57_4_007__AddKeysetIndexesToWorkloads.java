@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.configs.migrations;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Adds the indexes backing the keyset pagination of the active workloads, by deadline and by
+ * creation date. They only cover the active workloads, which are the only ones the workload
+ * monitor and the launcher page through.
+ */
+public class V0_57_4_007__AddKeysetIndexesToWorkloads extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V0_57_4_007__AddKeysetIndexesToWorkloads.class);
+
+  private static final String ACTIVE_STATUSES = "status IN ('pending', 'claimed', 'launched', 'running')";
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    final DSLContext ctx = DSL.using(context.getConnection());
+    addKeysetIndexes(ctx);
+  }
+
+  static void addKeysetIndexes(final DSLContext ctx) {
+    // the workload table is written constantly, so the indexes are built without locking it
+    ctx.query("CREATE INDEX CONCURRENTLY IF NOT EXISTS active_workload_by_deadline_idx ON workload(deadline, id) WHERE "
+        + ACTIVE_STATUSES).execute();
+    ctx.query("CREATE INDEX CONCURRENTLY IF NOT EXISTS active_workload_by_created_at_idx ON workload(created_at, id) WHERE "
+        + ACTIVE_STATUSES).execute();
+  }
+
+  // This prevents flyway from automatically wrapping the migration in a transaction.
+  // This is important because indexes cannot be created concurrently (i.e. without locking) from
+  // within a transaction.
+  @Override
+  public boolean canExecuteInTransaction() {
+    return false;
+  }
+
+}
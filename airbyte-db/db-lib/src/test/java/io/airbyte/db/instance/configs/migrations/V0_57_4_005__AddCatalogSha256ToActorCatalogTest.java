@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.configs.migrations;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.table;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.db.factory.FlywayFactory;
+import io.airbyte.db.instance.configs.AbstractConfigsDatabaseTest;
+import io.airbyte.db.instance.configs.ConfigsDatabaseMigrator;
+import io.airbyte.db.instance.development.DevDatabaseMigrator;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class V0_57_4_005__AddCatalogSha256ToActorCatalogTest extends AbstractConfigsDatabaseTest {
+
+  @BeforeEach
+  void beforeEach() {
+    final Flyway flyway =
+        FlywayFactory.create(dataSource, "V0_57_4_005__AddCatalogSha256ToActorCatalogTest", ConfigsDatabaseMigrator.DB_IDENTIFIER,
+            ConfigsDatabaseMigrator.MIGRATION_FILE_LOCATION);
+    final ConfigsDatabaseMigrator configsDbMigrator = new ConfigsDatabaseMigrator(database, flyway);
+
+    final BaseJavaMigration previousMigration = new V0_57_4_004__AddDeclarativeManifestImageVersionTable();
+    final DevDatabaseMigrator devConfigsDbMigrator = new DevDatabaseMigrator(configsDbMigrator, previousMigration.getVersion());
+    devConfigsDbMigrator.createBaseline();
+  }
+
+  @Test
+  void test() {
+    final DSLContext dslContext = getDslContext();
+    final Set<String> actorCatalogIndexesBeforeMigration = dslContext.select()
+        .from(table("pg_indexes"))
+        .where(field("tablename").eq("actor_catalog"))
+        .fetch()
+        .stream()
+        .map(c -> c.getValue("indexname", String.class))
+        .collect(Collectors.toSet());
+    assertFalse(actorCatalogIndexesBeforeMigration.contains("actor_catalog_catalog_sha256_idx"));
+
+    V0_57_4_005__AddCatalogSha256ToActorCatalog.addCatalogSha256Column(dslContext);
+
+    final Set<String> actorCatalogIndexesAfterMigration = dslContext.select()
+        .from(table("pg_indexes"))
+        .where(field("tablename").eq("actor_catalog"))
+        .fetch()
+        .stream()
+        .map(c -> c.getValue("indexname", String.class))
+        .collect(Collectors.toSet());
+    assertTrue(actorCatalogIndexesAfterMigration.contains("actor_catalog_catalog_sha256_idx"));
+  }
+
+}
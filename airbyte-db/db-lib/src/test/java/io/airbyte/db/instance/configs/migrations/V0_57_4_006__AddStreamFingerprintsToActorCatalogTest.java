@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.configs.migrations;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.db.factory.FlywayFactory;
+import io.airbyte.db.instance.configs.AbstractConfigsDatabaseTest;
+import io.airbyte.db.instance.configs.ConfigsDatabaseMigrator;
+import io.airbyte.db.instance.development.DevDatabaseMigrator;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class V0_57_4_006__AddStreamFingerprintsToActorCatalogTest extends AbstractConfigsDatabaseTest {
+
+  @BeforeEach
+  void beforeEach() {
+    final Flyway flyway =
+        FlywayFactory.create(dataSource, "V0_57_4_006__AddStreamFingerprintsToActorCatalogTest", ConfigsDatabaseMigrator.DB_IDENTIFIER,
+            ConfigsDatabaseMigrator.MIGRATION_FILE_LOCATION);
+    final ConfigsDatabaseMigrator configsDbMigrator = new ConfigsDatabaseMigrator(database, flyway);
+
+    final BaseJavaMigration previousMigration = new V0_57_4_005__AddCatalogSha256ToActorCatalog();
+    final DevDatabaseMigrator devConfigsDbMigrator = new DevDatabaseMigrator(configsDbMigrator, previousMigration.getVersion());
+    devConfigsDbMigrator.createBaseline();
+  }
+
+  @Test
+  void test() {
+    final DSLContext context = getDslContext();
+    assertFalse(columnExists(context, "stream_fingerprints", "actor_catalog"));
+
+    V0_57_4_006__AddStreamFingerprintsToActorCatalog.addStreamFingerprintsColumn(context);
+
+    assertTrue(columnExists(context, "stream_fingerprints", "actor_catalog"));
+  }
+
+  private static boolean columnExists(final DSLContext ctx, final String columnName, final String tableName) {
+    return ctx.fetchExists(DSL.select()
+        .from("information_schema.columns")
+        .where(DSL.field("table_name").eq(tableName)
+            .and(DSL.field("column_name").eq(columnName))));
+  }
+
+}
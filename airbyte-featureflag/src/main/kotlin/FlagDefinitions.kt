@@ -186,6 +186,8 @@ object WriteOutputCatalogToObjectStorage : Temporary<Boolean>(key = "platform.wr
 
 object UseCustomK8sInitCheck : Temporary<Boolean>(key = "platform.use-custom-k8s-init-check", default = true)
 
+object UsePodInformerForLaunchWaits : Temporary<Boolean>(key = "platform.use-pod-informer-for-launch-waits", default = false)
+
 object ConnectionFieldLimitOverride : Permanent<Int>(key = "connection-field-limit-override", default = -1)
 
 object DeleteDanglingSecrets : Temporary<Boolean>(key = "platform.delete-dangling-secrets", default = false)
@@ -195,3 +197,28 @@ object EnableResumableFullRefresh : Temporary<Boolean>(key = "platform.enable-re
 object AlwaysRunCheckBeforeSync : Permanent<Boolean>(key = "platform.always-run-check-before-sync", default = false)
 
 object UseStreamStatusTracker2024 : Temporary<Boolean>(key = "use-stream-status-tracker-2024", default = false)
+
+object UseStreamingMessageParser : Temporary<Boolean>(key = "platform.use-streaming-message-parser", default = false)
+
+object RawRecordPassthrough : Temporary<Boolean>(key = "platform.raw-record-passthrough", default = false)
+
+/**
+ * Maximum number of messages held by each queue of the buffered replication worker.
+ */
+object ReplicationQueueMaxMessages : Permanent<Int>(key = "platform.replication-queue-max-messages", default = 1000)
+
+/**
+ * Maximum estimated size in megabytes of the messages held by each queue of the buffered replication worker.
+ * A value <= 0 derives the limit from the memory available to the orchestrator.
+ */
+object ReplicationQueueMaxMegabytes : Permanent<Int>(key = "platform.replication-queue-max-megabytes", default = -1)
+
+/**
+ * Number of threads validating records against the stream schemas during a sync.
+ */
+object RecordSchemaValidationThreads : Permanent<Int>(key = "platform.record-schema-validation-threads", default = 2)
+
+/**
+ * Once a stream has been valid for a while, only one record out of this interval is validated. 1 validates every record.
+ */
+object RecordSchemaValidationSamplingInterval : Permanent<Int>(key = "platform.record-schema-validation-sampling-interval", default = 1)
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.featureflag
+
+import org.slf4j.LoggerFactory
+import java.time.Duration
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.ScheduledFuture
+import java.util.concurrent.TimeUnit
+
+/**
+ * The values of a declared set of [flags] for a [context], evaluated once by a [FeatureFlagClient].
+ *
+ * Reading a flag from a snapshot doesn't call the underlying client, nor allocate, which makes it suitable
+ * for code evaluating flags for every record of a sync. Reading a flag which wasn't declared returns its default value.
+ *
+ * The values are evaluated again when [refresh] is called, or every [refreshInterval] if one is given, until
+ * the snapshot is closed.
+ */
+class FeatureFlagSnapshot private constructor(
+  val context: Context,
+  refreshInterval: Duration?,
+  private val evaluate: () -> Map<String, Any>,
+) : AutoCloseable {
+  @JvmOverloads
+  constructor(
+    client: FeatureFlagClient,
+    flags: Collection<Flag<*>>,
+    context: Context,
+    refreshInterval: Duration? = null,
+  ) : this(context, refreshInterval, { evaluateFlags(client, context, flags) })
+
+  @Volatile
+  private var values: Map<String, Any> = evaluate()
+
+  private val scheduledRefresh: ScheduledFuture<*>? =
+    refreshInterval?.let {
+      refresher.scheduleWithFixedDelay(::refreshQuietly, it.toMillis(), it.toMillis(), TimeUnit.MILLISECONDS)
+    }
+
+  /** Returns the boolean value of the [flag] at the time of the last evaluation. */
+  fun boolVariation(flag: Flag<Boolean>): Boolean = values[flag.key] as? Boolean ?: flag.default
+
+  /** Returns the string value of the [flag] at the time of the last evaluation. */
+  fun stringVariation(flag: Flag<String>): String = values[flag.key] as? String ?: flag.default
+
+  /** Returns the int value of the [flag] at the time of the last evaluation. */
+  fun intVariation(flag: Flag<Int>): Int = values[flag.key] as? Int ?: flag.default
+
+  /**
+   * Evaluates the flags of this snapshot again.
+   *
+   * The new values replace the previous ones all at once, so that readers never see a mix of both.
+   */
+  fun refresh() {
+    values = evaluate()
+  }
+
+  /** Stops the scheduled refresh of this snapshot, if any. The last values remain readable. */
+  override fun close() {
+    scheduledRefresh?.cancel(false)
+  }
+
+  private fun refreshQuietly() {
+    try {
+      refresh()
+    } catch (e: Exception) {
+      // keep the previous values rather than cancelling the schedule
+      log.warn("Failed to refresh the feature flags for {}", context, e)
+    }
+  }
+
+  companion object {
+    private val log = LoggerFactory.getLogger(FeatureFlagSnapshot::class.java)
+
+    /** Shared by all the snapshots, as a refresh only calls the [FeatureFlagClient]. */
+    private val refresher: ScheduledExecutorService =
+      Executors.newSingleThreadScheduledExecutor { runnable ->
+        Thread(runnable, "feature-flag-snapshot-refresher").apply { isDaemon = true }
+      }
+
+    /**
+     * Returns a snapshot of the boolean [flags] for the [context], evaluated once by [variation].
+     *
+     * For wrappers of a [FeatureFlagClient] which must serve the same values as the snapshot, such as caching ones.
+     */
+    @JvmStatic
+    fun ofBooleans(
+      flags: Collection<Flag<Boolean>>,
+      context: Context,
+      variation: (Flag<Boolean>) -> Boolean,
+    ): FeatureFlagSnapshot = FeatureFlagSnapshot(context, null) { flags.associate { it.key to variation(it) } }
+
+    @Suppress("UNCHECKED_CAST")
+    private fun evaluateFlags(
+      client: FeatureFlagClient,
+      context: Context,
+      flags: Collection<Flag<*>>,
+    ): Map<String, Any> =
+      flags.associate { flag ->
+        flag.key to
+          when (flag.default) {
+            is Boolean -> client.boolVariation(flag as Flag<Boolean>, context)
+            is Int -> client.intVariation(flag as Flag<Int>, context)
+            is String -> client.stringVariation(flag as Flag<String>, context)
+            else -> throw IllegalArgumentException("flag ${flag.key} has an unsupported type")
+          }
+      }
+  }
+}
+
+/**
+ * Evaluates the [flags] for the [context] once, returning a [FeatureFlagSnapshot] of their values.
+ *
+ * If a [refreshInterval] is given, the values are evaluated again on that schedule until the snapshot is closed.
+ */
+@JvmOverloads
+fun FeatureFlagClient.snapshot(
+  flags: Collection<Flag<*>>,
+  context: Context,
+  refreshInterval: Duration? = null,
+): FeatureFlagSnapshot = FeatureFlagSnapshot(this, flags, context, refreshInterval)
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+package io.airbyte.featureflag
+
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.jupiter.api.Test
+import java.time.Duration
+import java.util.UUID
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+class FeatureFlagSnapshotTest {
+  private val ctx = Workspace(UUID.randomUUID())
+  private val boolFlag = Temporary(key = "snapshot-bool", default = false)
+  private val stringFlag = Temporary(key = "snapshot-string", default = "default")
+  private val intFlag = Temporary(key = "snapshot-int", default = 1)
+
+  @Test
+  fun `verify the flags are evaluated once`() {
+    val client: TestClient = mockk()
+    every { client.boolVariation(boolFlag, ctx) } returns true
+    every { client.stringVariation(stringFlag, ctx) } returns "value"
+    every { client.intVariation(intFlag, ctx) } returns 5
+
+    val snapshot = client.snapshot(listOf(boolFlag, stringFlag, intFlag), ctx)
+    repeat(3) {
+      assertTrue(snapshot.boolVariation(boolFlag))
+      assertEquals("value", snapshot.stringVariation(stringFlag))
+      assertEquals(5, snapshot.intVariation(intFlag))
+    }
+
+    verify(exactly = 1) { client.boolVariation(boolFlag, ctx) }
+    verify(exactly = 1) { client.stringVariation(stringFlag, ctx) }
+    verify(exactly = 1) { client.intVariation(intFlag, ctx) }
+  }
+
+  @Test
+  fun `verify undeclared flags return their default`() {
+    val snapshot = TestClient(mapOf(boolFlag.key to true)).snapshot(listOf(), ctx)
+
+    assertFalse(snapshot.boolVariation(boolFlag))
+    assertEquals("default", snapshot.stringVariation(stringFlag))
+    assertEquals(1, snapshot.intVariation(intFlag))
+  }
+
+  @Test
+  fun `verify refresh evaluates the flags again`() {
+    val client: TestClient = mockk()
+    every { client.boolVariation(boolFlag, ctx) } returns false andThen true
+
+    val snapshot = client.snapshot(listOf(boolFlag), ctx)
+    assertFalse(snapshot.boolVariation(boolFlag))
+
+    snapshot.refresh()
+    assertTrue(snapshot.boolVariation(boolFlag))
+  }
+
+  @Test
+  fun `verify scheduled refresh evaluates the flags again`() {
+    // the refreshes are sequential, so the value of the second evaluation is set once the third one starts
+    val refreshed = CountDownLatch(3)
+    val client: TestClient = mockk()
+    every { client.boolVariation(boolFlag, ctx) } answers {
+      refreshed.countDown()
+      refreshed.count < 2L
+    }
+
+    client.snapshot(listOf(boolFlag), ctx, Duration.ofMillis(10)).use { snapshot ->
+      assertTrue(refreshed.await(10, TimeUnit.SECONDS))
+      assertTrue(snapshot.boolVariation(boolFlag))
+    }
+  }
+
+  @Test
+  fun `verify failed refreshes keep the previous values`() {
+    val refreshed = CountDownLatch(2)
+    val client: TestClient = mockk()
+    every { client.intVariation(intFlag, ctx) } answers {
+      refreshed.countDown()
+      if (refreshed.count == 0L) throw IllegalStateException("unavailable") else 5
+    }
+
+    client.snapshot(listOf(intFlag), ctx, Duration.ofMillis(10)).use { snapshot ->
+      assertTrue(refreshed.await(10, TimeUnit.SECONDS))
+      assertEquals(5, snapshot.intVariation(intFlag))
+    }
+  }
+}
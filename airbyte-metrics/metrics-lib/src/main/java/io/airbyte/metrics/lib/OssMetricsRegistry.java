@@ -231,6 +231,12 @@ public enum OssMetricsRegistry implements MetricsRegistry {
   REPLICATION_RECORDS_SYNCED(MetricEmittingApps.WORKER,
       "replication_records_synced",
       "number of records synced during replication"),
+  REPLICATION_QUEUE_MESSAGES_FILL_RATIO(MetricEmittingApps.WORKER,
+      "replication_queue_messages_fill_ratio",
+      "ratio of the maximum number of messages held by a replication queue. Tagged by queue name."),
+  REPLICATION_QUEUE_BYTES_FILL_RATIO(MetricEmittingApps.WORKER,
+      "replication_queue_bytes_fill_ratio",
+      "ratio of the maximum estimated bytes held by a replication queue. Tagged by queue name."),
   REPLICATION_WORKER_CREATED(MetricEmittingApps.WORKER,
       "replication_worker_created",
       "number of replication worker created"),
@@ -454,6 +460,12 @@ public enum OssMetricsRegistry implements MetricsRegistry {
   DELETE_SECRET_DEFAULT_STORE(MetricEmittingApps.SERVER,
       "delete_secret_default_store",
       "A secret was created in the default configured secret store."),
+  SECRETS_CACHE_HIT(MetricEmittingApps.SERVER,
+      "secrets_cache_hit",
+      "A secret was read from the secrets cache."),
+  SECRETS_CACHE_MISS(MetricEmittingApps.SERVER,
+      "secrets_cache_miss",
+      "A secret wasn't in the secrets cache and was read from the secret store."),
 
   CATALOG_SIZE_VALIDATION_ERROR(MetricEmittingApps.SERVER,
       "catalog_size_validation_error",
@@ -37,11 +37,11 @@ import io.airbyte.config.JobOutput.OutputType;
 import io.airbyte.config.NormalizationSummary;
 import io.airbyte.config.StreamSyncStats;
 import io.airbyte.config.SyncStats;
-import io.airbyte.config.persistence.PersistenceHelpers;
 import io.airbyte.db.Database;
 import io.airbyte.db.ExceptionWrappingDatabase;
 import io.airbyte.db.instance.configs.jooq.generated.Tables;
 import io.airbyte.db.instance.jobs.jooq.generated.tables.records.JobsRecord;
+import io.airbyte.db.instance.jobs.jooq.generated.tables.records.StreamStatsRecord;
 import io.airbyte.metrics.lib.ApmTraceUtils;
 import io.airbyte.persistence.job.models.Attempt;
 import io.airbyte.persistence.job.models.AttemptNormalizationStatus;
@@ -68,8 +68,10 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -81,9 +83,9 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.jooq.DSLContext;
 import org.jooq.JSONB;
-import org.jooq.Query;
 import org.jooq.Record;
 import org.jooq.RecordMapper;
+import org.jooq.Row13;
 import org.jooq.Result;
 import org.jooq.SortField;
 import org.jooq.TableField;
@@ -107,6 +109,9 @@ public class DefaultJobPersistence implements JobPersistence {
   private static final String METADATA_KEY_COL = "key";
   private static final String METADATA_VAL_COL = "value";
   private static final String AIRBYTE_METADATA_TABLE = "airbyte_metadata";
+  // Each stream stats row of an upsert takes 13 bind parameters, out of the 65,535 a statement can have.
+  @VisibleForTesting
+  static final int STREAM_STATS_UPSERT_CHUNK_SIZE = 2_000;
   private static final String ORDER_BY_JOB_TIME_ATTEMPT_TIME =
       "ORDER BY jobs.created_at DESC, jobs.id DESC, attempts.created_at ASC, attempts.id ASC ";
   private static final String ORDER_BY_JOB_CREATED_AT_DESC = "ORDER BY jobs.created_at DESC ";
@@ -220,59 +225,82 @@ public class DefaultJobPersistence implements JobPersistence {
                                                   final Long attemptId,
                                                   final UUID connectionId,
                                                   final DSLContext ctx) {
-    final List<Query> queries = new ArrayList<>();
-
-    // Upserts require the onConflict statement that does not work as the table currently has duplicate
-    // records on the null
-    // namespace value. This is a valid state and not a bug.
-    // Upserts are possible if we upgrade to Postgres 15. However this requires downtime. A simpler
-    // solution to prevent O(N) existence checks, where N in the
-    // number of streams, is to fetch all streams for the attempt. Existence checks are in memory,
-    // letting us do only 2 queries in total.
-    final Set<StreamDescriptor> existingStreams = ctx.select(STREAM_STATS.STREAM_NAME, STREAM_STATS.STREAM_NAMESPACE)
-        .from(STREAM_STATS)
+    // The stream stats of the attempt are fetched once, so that the streams are matched in memory
+    // rather than with an existence check per stream. Only the new streams and the ones whose stats
+    // moved since the last write are written.
+    // The rows are upserted on their id, which is known for the existing rows. An upsert on the
+    // stream key isn't possible: the table has duplicate rows with a null namespace, which is a valid
+    // state, and null namespaces never conflict before Postgres 15. The upserts are chunked to stay
+    // well below the bind parameter limit of Postgres.
+    final Map<StreamDescriptor, List<StreamStatsRecord>> existingStreams = ctx.selectFrom(STREAM_STATS)
         .where(STREAM_STATS.ATTEMPT_ID.eq(attemptId))
-        .fetchSet(r -> new StreamDescriptor().withName(r.get(STREAM_STATS.STREAM_NAME)).withNamespace(r.get(STREAM_STATS.STREAM_NAMESPACE)));
-
-    Optional.ofNullable(perStreamStats).orElse(Collections.emptyList()).forEach(
-        streamStats -> {
-          final var isExisting =
-              existingStreams.contains(new StreamDescriptor().withName(streamStats.getStreamName()).withNamespace(streamStats.getStreamNamespace()));
-          final var stats = streamStats.getStats();
-          if (isExisting) {
-            queries.add(
-                ctx.update(STREAM_STATS)
-                    .set(STREAM_STATS.UPDATED_AT, now)
-                    .set(STREAM_STATS.BYTES_EMITTED, stats.getBytesEmitted())
-                    .set(STREAM_STATS.RECORDS_EMITTED, stats.getRecordsEmitted())
-                    .set(STREAM_STATS.ESTIMATED_RECORDS, stats.getEstimatedRecords())
-                    .set(STREAM_STATS.ESTIMATED_BYTES, stats.getEstimatedBytes())
-                    .set(STREAM_STATS.BYTES_COMMITTED, stats.getBytesCommitted())
-                    .set(STREAM_STATS.RECORDS_COMMITTED, stats.getRecordsCommitted())
-                    .where(
-                        STREAM_STATS.ATTEMPT_ID.eq(attemptId),
-                        PersistenceHelpers.isNullOrEquals(STREAM_STATS.STREAM_NAME, streamStats.getStreamName()),
-                        PersistenceHelpers.isNullOrEquals(STREAM_STATS.STREAM_NAMESPACE, streamStats.getStreamNamespace())));
-          } else {
-            queries.add(
-                ctx.insertInto(STREAM_STATS)
-                    .set(STREAM_STATS.ID, UUID.randomUUID())
-                    .set(STREAM_STATS.ATTEMPT_ID, attemptId)
-                    .set(STREAM_STATS.CONNECTION_ID, connectionId)
-                    .set(STREAM_STATS.STREAM_NAME, streamStats.getStreamName())
-                    .set(STREAM_STATS.STREAM_NAMESPACE, streamStats.getStreamNamespace())
-                    .set(STREAM_STATS.CREATED_AT, now)
-                    .set(STREAM_STATS.UPDATED_AT, now)
-                    .set(STREAM_STATS.BYTES_EMITTED, stats.getBytesEmitted())
-                    .set(STREAM_STATS.RECORDS_EMITTED, stats.getRecordsEmitted())
-                    .set(STREAM_STATS.ESTIMATED_RECORDS, stats.getEstimatedRecords())
-                    .set(STREAM_STATS.ESTIMATED_BYTES, stats.getEstimatedBytes())
-                    .set(STREAM_STATS.BYTES_COMMITTED, stats.getBytesCommitted())
-                    .set(STREAM_STATS.RECORDS_COMMITTED, stats.getRecordsCommitted()));
-          }
-        });
+        .fetch()
+        .stream()
+        .collect(Collectors.groupingBy(r -> new StreamDescriptor().withName(r.getStreamName()).withNamespace(r.getStreamNamespace())));
+
+    // A stream reported twice would make the upsert hit the same row twice, which Postgres rejects. The
+    // stats are running totals, so the last ones win.
+    final Map<StreamDescriptor, SyncStats> statsByStream = new LinkedHashMap<>();
+    for (final StreamSyncStats streamStats : Optional.ofNullable(perStreamStats).orElse(Collections.emptyList())) {
+      statsByStream.put(new StreamDescriptor().withName(streamStats.getStreamName()).withNamespace(streamStats.getStreamNamespace()),
+          streamStats.getStats());
+    }
+
+    final List<Row13<UUID, Long, UUID, String, String, OffsetDateTime, OffsetDateTime, Long, Long, Long, Long, Long, Long>> rows = new ArrayList<>();
+    statsByStream.forEach((stream, stats) -> {
+      final List<StreamStatsRecord> existingRecords = existingStreams.get(stream);
+      if (existingRecords == null) {
+        rows.add(DSL.row(UUID.randomUUID(), attemptId, connectionId, stream.getName(), stream.getNamespace(), now, now,
+            stats.getBytesEmitted(), stats.getRecordsEmitted(), stats.getEstimatedRecords(), stats.getEstimatedBytes(), stats.getBytesCommitted(),
+            stats.getRecordsCommitted()));
+        return;
+      }
+      for (final StreamStatsRecord existing : existingRecords) {
+        if (hasSameStats(existing, stats)) {
+          continue;
+        }
+        rows.add(DSL.row(existing.getId(), attemptId, existing.getConnectionId(), existing.getStreamName(), existing.getStreamNamespace(),
+            existing.getCreatedAt(), now, stats.getBytesEmitted(), stats.getRecordsEmitted(), stats.getEstimatedRecords(), stats.getEstimatedBytes(),
+            stats.getBytesCommitted(), stats.getRecordsCommitted()));
+      }
+    });
+
+    for (final var chunk : Lists.partition(rows, STREAM_STATS_UPSERT_CHUNK_SIZE)) {
+      ctx.insertInto(STREAM_STATS,
+          STREAM_STATS.ID,
+          STREAM_STATS.ATTEMPT_ID,
+          STREAM_STATS.CONNECTION_ID,
+          STREAM_STATS.STREAM_NAME,
+          STREAM_STATS.STREAM_NAMESPACE,
+          STREAM_STATS.CREATED_AT,
+          STREAM_STATS.UPDATED_AT,
+          STREAM_STATS.BYTES_EMITTED,
+          STREAM_STATS.RECORDS_EMITTED,
+          STREAM_STATS.ESTIMATED_RECORDS,
+          STREAM_STATS.ESTIMATED_BYTES,
+          STREAM_STATS.BYTES_COMMITTED,
+          STREAM_STATS.RECORDS_COMMITTED)
+          .valuesOfRows(chunk)
+          .onConflict(STREAM_STATS.ID)
+          .doUpdate()
+          .set(STREAM_STATS.UPDATED_AT, DSL.excluded(STREAM_STATS.UPDATED_AT))
+          .set(STREAM_STATS.BYTES_EMITTED, DSL.excluded(STREAM_STATS.BYTES_EMITTED))
+          .set(STREAM_STATS.RECORDS_EMITTED, DSL.excluded(STREAM_STATS.RECORDS_EMITTED))
+          .set(STREAM_STATS.ESTIMATED_RECORDS, DSL.excluded(STREAM_STATS.ESTIMATED_RECORDS))
+          .set(STREAM_STATS.ESTIMATED_BYTES, DSL.excluded(STREAM_STATS.ESTIMATED_BYTES))
+          .set(STREAM_STATS.BYTES_COMMITTED, DSL.excluded(STREAM_STATS.BYTES_COMMITTED))
+          .set(STREAM_STATS.RECORDS_COMMITTED, DSL.excluded(STREAM_STATS.RECORDS_COMMITTED))
+          .execute();
+    }
+  }
 
-    ctx.batch(queries).execute();
+  private static boolean hasSameStats(final StreamStatsRecord record, final SyncStats stats) {
+    return Objects.equals(record.getBytesEmitted(), stats.getBytesEmitted())
+        && Objects.equals(record.getRecordsEmitted(), stats.getRecordsEmitted())
+        && Objects.equals(record.getEstimatedRecords(), stats.getEstimatedRecords())
+        && Objects.equals(record.getEstimatedBytes(), stats.getEstimatedBytes())
+        && Objects.equals(record.getBytesCommitted(), stats.getBytesCommitted())
+        && Objects.equals(record.getRecordsCommitted(), stats.getRecordsCommitted());
   }
 
   private static Map<JobAttemptPair, AttemptStats> hydrateSyncStats(final String jobIdsStr, final DSLContext ctx) {
@@ -305,22 +333,18 @@ public class DefaultJobPersistence implements JobPersistence {
    */
   private static void hydrateStreamStats(final String jobIdsStr, final DSLContext ctx, final Map<JobAttemptPair, AttemptStats> attemptStats) {
 
-    final var attemptOutputs = ctx.fetch("SELECT id, output FROM attempts WHERE job_id in (%s);".formatted(jobIdsStr));
+    // The backfilled streams are extracted on the database side so that the attempt outputs, which
+    // can be large, don't have to be fetched and deserialized.
+    final var backfilledStreamResults = ctx.fetch(
+        "SELECT backfilled.id, backfilled.stream ->> 'streamName' AS stream_name, backfilled.stream ->> 'streamNamespace' AS stream_namespace "
+            + "FROM ( SELECT id, jsonb_path_query(output, '$.sync.standardSyncSummary.streamStats[*] ? (@.wasBackfilled == true)') AS stream "
+            + "FROM attempts WHERE job_id IN ( " + jobIdsStr + ")) backfilled;");
     final Map<Long, Set<StreamDescriptor>> backFilledStreamsPerAttemptId = new HashMap<>();
-    for (final var result : attemptOutputs) {
-      final long attemptId = result.get(ATTEMPTS.ID);
-      final var backfilledStreams = backFilledStreamsPerAttemptId.computeIfAbsent(attemptId, (k) -> new HashSet<>());
-      final JSONB attemptOutput = result.get(ATTEMPTS.OUTPUT);
-      final JobOutput output = attemptOutput != null ? parseJobOutputFromString(attemptOutput.toString()) : null;
-      if (output != null && output.getSync() != null && output.getSync().getStandardSyncSummary() != null
-          && output.getSync().getStandardSyncSummary().getStreamStats() != null) {
-        for (final var streamSyncStats : output.getSync().getStandardSyncSummary().getStreamStats()) {
-          if (Boolean.TRUE == streamSyncStats.getWasBackfilled()) {
-            backfilledStreams
-                .add(new StreamDescriptor().withNamespace(streamSyncStats.getStreamNamespace()).withName(streamSyncStats.getStreamName()));
-          }
-        }
-      }
+    for (final var result : backfilledStreamResults) {
+      backFilledStreamsPerAttemptId.computeIfAbsent(result.get(ATTEMPTS.ID), (k) -> new HashSet<>())
+          .add(new StreamDescriptor()
+              .withNamespace(result.get(STREAM_STATS.STREAM_NAMESPACE))
+              .withName(result.get(STREAM_STATS.STREAM_NAME)));
     }
 
     final var streamResults = ctx.fetch(
@@ -810,9 +834,54 @@ public class DefaultJobPersistence implements JobPersistence {
                          final UUID connectionId,
                          final List<StreamSyncStats> streamStats)
       throws IOException {
+    writeStats(jobId, attemptNumber, estimatedRecords, estimatedBytes, recordsEmitted, bytesEmitted, recordsCommitted, bytesCommitted,
+        connectionId, streamStats, false);
+  }
+
+  @Override
+  public boolean writeRunningAttemptStats(final long jobId,
+                                          final int attemptNumber,
+                                          final Long estimatedRecords,
+                                          final Long estimatedBytes,
+                                          final Long recordsEmitted,
+                                          final Long bytesEmitted,
+                                          final Long recordsCommitted,
+                                          final Long bytesCommitted,
+                                          final UUID connectionId,
+                                          final List<StreamSyncStats> streamStats)
+      throws IOException {
+    return writeStats(jobId, attemptNumber, estimatedRecords, estimatedBytes, recordsEmitted, bytesEmitted, recordsCommitted, bytesCommitted,
+        connectionId, streamStats, true);
+  }
+
+  private boolean writeStats(final long jobId,
+                             final int attemptNumber,
+                             final Long estimatedRecords,
+                             final Long estimatedBytes,
+                             final Long recordsEmitted,
+                             final Long bytesEmitted,
+                             final Long recordsCommitted,
+                             final Long bytesCommitted,
+                             final UUID connectionId,
+                             final List<StreamSyncStats> streamStats,
+                             final boolean onlyIfRunning)
+      throws IOException {
     final OffsetDateTime now = OffsetDateTime.ofInstant(timeSupplier.get(), ZoneOffset.UTC);
-    jobDatabase.transaction(ctx -> {
-      final var attemptId = getAttemptId(jobId, attemptNumber, ctx);
+    return jobDatabase.transaction(ctx -> {
+      final Long attemptId;
+      if (onlyIfRunning) {
+        // The attempt row stays locked until the stats are written, so that writeOutput, which updates the row first,
+        // either waits for them or commits the final stats before the running ones are looked at.
+        final Optional<Record> attempt = ctx.fetch(
+            "SELECT id FROM attempts WHERE job_id = ? AND attempt_number = ? AND status = CAST(? AS ATTEMPT_STATUS) AND output IS NULL FOR UPDATE",
+            jobId, attemptNumber, toSqlName(AttemptStatus.RUNNING)).stream().findFirst();
+        if (attempt.isEmpty()) {
+          return false;
+        }
+        attemptId = attempt.get().get("id", Long.class);
+      } else {
+        attemptId = getAttemptId(jobId, attemptNumber, ctx);
+      }
 
       final var syncStats = new SyncStats()
           .withEstimatedRecords(estimatedRecords)
@@ -824,9 +893,8 @@ public class DefaultJobPersistence implements JobPersistence {
       saveToSyncStatsTable(now, syncStats, attemptId, ctx);
 
       saveToStreamStatsTableBatch(now, streamStats, attemptId, connectionId, ctx);
-      return null;
+      return true;
     });
-
   }
 
   @Override
@@ -187,6 +187,25 @@ public interface JobPersistence {
                   List<StreamSyncStats> streamStats)
       throws IOException;
 
+  /**
+   * Same as {@link #writeStats}, but only while the attempt is running and has no output yet. Stats
+   * written late, e.g. after being coalesced, would otherwise overwrite the final stats of the
+   * output.
+   *
+   * @return whether the stats were written
+   */
+  boolean writeRunningAttemptStats(long jobId,
+                                   int attemptNumber,
+                                   Long estimatedRecords,
+                                   Long estimatedBytes,
+                                   Long recordsEmitted,
+                                   Long bytesEmitted,
+                                   Long recordsCommitted,
+                                   Long bytesCommitted,
+                                   UUID connectionId,
+                                   List<StreamSyncStats> streamStats)
+      throws IOException;
+
   /**
    * Writes a summary of all failures that occurred during the attempt.
    *
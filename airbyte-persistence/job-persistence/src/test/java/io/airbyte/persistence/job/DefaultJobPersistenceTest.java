@@ -13,6 +13,7 @@ import static io.airbyte.persistence.job.DefaultJobPersistence.toSqlName;
 import static org.junit.Assert.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -76,8 +77,10 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import javax.sql.DataSource;
 import org.jooq.DSLContext;
 import org.jooq.Record;
@@ -715,6 +718,31 @@ class DefaultJobPersistenceTest {
 
     }
 
+    @Test
+    @DisplayName("Running attempt stats should not overwrite the stats of an attempt with an output")
+    void testWriteRunningAttemptStats() throws IOException {
+      final long jobId = jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+      final int attemptNumber = jobPersistence.createAttempt(jobId, LOG_PATH);
+      final var runningStreamStats = List.of(new StreamSyncStats().withStreamName("name1").withStreamNamespace("ns")
+          .withStats(new SyncStats().withBytesEmitted(500L).withRecordsEmitted(500L)));
+      assertTrue(jobPersistence.writeRunningAttemptStats(jobId, attemptNumber, null, null, 500L, 500L, null, null, CONNECTION_ID,
+          runningStreamStats));
+
+      final var finalStreamStats = List.of(new StreamSyncStats().withStreamName("name1").withStreamNamespace("ns")
+          .withStats(new SyncStats().withBytesEmitted(1000L).withRecordsEmitted(1000L)));
+      jobPersistence.writeOutput(jobId, attemptNumber, new JobOutput().withOutputType(JobOutput.OutputType.SYNC)
+          .withSync(new StandardSyncOutput().withStandardSyncSummary(new StandardSyncSummary()
+              .withTotalStats(new SyncStats().withBytesEmitted(1000L).withRecordsEmitted(1000L))
+              .withStreamStats(finalStreamStats))));
+
+      assertFalse(jobPersistence.writeRunningAttemptStats(jobId, attemptNumber, null, null, 500L, 500L, null, null, CONNECTION_ID,
+          runningStreamStats));
+
+      final AttemptStats stats = jobPersistence.getAttemptStats(jobId, attemptNumber);
+      assertEquals(1000, stats.combinedStats().getRecordsEmitted());
+      assertEquals(1000, stats.perStreamStats().get(0).getStats().getRecordsEmitted());
+    }
+
     @Test
     @DisplayName("Writing multiple stats of the same attempt id, stream name and namespace should update the previous record")
     void testWriteStatsUpsert() throws IOException, SQLException {
@@ -750,6 +778,70 @@ class DefaultJobPersistenceTest {
       assertNotEquals(streamStatsRec.get(STREAM_STATS.CREATED_AT), streamStatsRec.get(STREAM_STATS.UPDATED_AT));
     }
 
+    @Test
+    @DisplayName("Writing stats should only update the streams whose stats changed")
+    void testWriteStatsOnlyUpdatesChangedStreams() throws IOException, SQLException {
+      final long jobId = jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+      final int attemptNumber = jobPersistence.createAttempt(jobId, LOG_PATH);
+
+      final var unchangedStream = new StreamSyncStats().withStreamName("name1").withStreamNamespace("ns")
+          .withStats(new SyncStats().withBytesEmitted(500L).withRecordsEmitted(500L).withEstimatedBytes(10000L).withEstimatedRecords(2000L));
+      jobPersistence.writeStats(jobId, attemptNumber, 1000L, 1000L, 1000L, 1000L, 1000L, 1000L, CONNECTION_ID, List.of(unchangedStream,
+          new StreamSyncStats().withStreamName("name2").withStreamNamespace("ns")
+              .withStats(new SyncStats().withBytesEmitted(500L).withRecordsEmitted(500L).withEstimatedBytes(10000L).withEstimatedRecords(2000L))));
+
+      when(timeSupplier.get()).thenReturn(Instant.now().plusSeconds(60));
+      final var streamStats = List.of(unchangedStream,
+          new StreamSyncStats().withStreamName("name2").withStreamNamespace("ns")
+              .withStats(new SyncStats().withBytesEmitted(1000L).withRecordsEmitted(1000L).withEstimatedBytes(10000L).withEstimatedRecords(2000L)),
+          new StreamSyncStats().withStreamName("name3")
+              .withStats(new SyncStats().withBytesEmitted(10L).withRecordsEmitted(1L)));
+      jobPersistence.writeStats(jobId, attemptNumber, 2000L, 2000L, 2000L, 2000L, 2000L, 2000L, CONNECTION_ID, streamStats);
+
+      final var streamStatsRecords = jobDatabase.query(ctx -> {
+        final var attemptId = DefaultJobPersistence.getAttemptId(jobId, attemptNumber, ctx);
+        return ctx.fetch("SELECT * from stream_stats where attempt_id = ?", attemptId).stream()
+            .collect(Collectors.toMap(r -> r.get(STREAM_STATS.STREAM_NAME), Function.identity()));
+      });
+      assertEquals(streamStatsRecords.get("name1").get(STREAM_STATS.CREATED_AT), streamStatsRecords.get("name1").get(STREAM_STATS.UPDATED_AT));
+      assertNotEquals(streamStatsRecords.get("name2").get(STREAM_STATS.CREATED_AT), streamStatsRecords.get("name2").get(STREAM_STATS.UPDATED_AT));
+      assertEquals(1000L, streamStatsRecords.get("name2").get(STREAM_STATS.BYTES_EMITTED));
+
+      assertEquals(Set.copyOf(streamStats), Set.copyOf(jobPersistence.getAttemptStats(jobId, attemptNumber).perStreamStats()));
+    }
+
+    @Test
+    @DisplayName("Writing stats of more streams than fit in one upsert should write them all, once per stream")
+    void testWriteStatsOfManyStreams() throws IOException, SQLException {
+      final long jobId = jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+      final int attemptNumber = jobPersistence.createAttempt(jobId, LOG_PATH);
+      final int streamCount = 2 * DefaultJobPersistence.STREAM_STATS_UPSERT_CHUNK_SIZE + 1;
+
+      jobPersistence.writeStats(jobId, attemptNumber, 1000L, 1000L, 1000L, 1000L, 1000L, 1000L, CONNECTION_ID, IntStream.range(0, streamCount)
+          .mapToObj(i -> new StreamSyncStats().withStreamName("name" + i).withStreamNamespace("ns")
+              .withStats(new SyncStats().withBytesEmitted(100L).withRecordsEmitted(10L)))
+          .toList());
+
+      // Every stream moves, and the last one is reported twice
+      final List<StreamSyncStats> streamStats = new ArrayList<>(IntStream.range(0, streamCount)
+          .mapToObj(i -> new StreamSyncStats().withStreamName("name" + i).withStreamNamespace("ns")
+              .withStats(new SyncStats().withBytesEmitted(200L).withRecordsEmitted(20L)))
+          .toList());
+      streamStats.add(new StreamSyncStats().withStreamName("name" + (streamCount - 1)).withStreamNamespace("ns")
+          .withStats(new SyncStats().withBytesEmitted(300L).withRecordsEmitted(30L)));
+      jobPersistence.writeStats(jobId, attemptNumber, 2000L, 2000L, 2000L, 2000L, 2000L, 2000L, CONNECTION_ID, streamStats);
+
+      final var streamStatsRecords = jobDatabase.query(ctx -> {
+        final var attemptId = DefaultJobPersistence.getAttemptId(jobId, attemptNumber, ctx);
+        return ctx.fetch("SELECT * from stream_stats where attempt_id = ?", attemptId).stream()
+            .collect(Collectors.toMap(r -> r.get(STREAM_STATS.STREAM_NAME), r -> r.get(STREAM_STATS.BYTES_EMITTED)));
+      });
+      assertEquals(streamCount, streamStatsRecords.size());
+      assertEquals(200L, streamStatsRecords.get("name0"));
+      assertEquals(200L, streamStatsRecords.get("name" + DefaultJobPersistence.STREAM_STATS_UPSERT_CHUNK_SIZE));
+      assertEquals(300L, streamStatsRecords.get("name" + (streamCount - 1)));
+    }
+
     @Test
     @DisplayName("Writing multiple stats a stream with null namespace should write correctly without exceptions")
     void testWriteNullNamespace() throws IOException {
@@ -922,6 +1014,32 @@ class DefaultJobPersistenceTest {
       assertEquals(streamStatsUpdate3, actualStreamSyncStats3);
     }
 
+    @Test
+    @DisplayName("Retrieving stream stats should flag the streams backfilled according to the attempt output")
+    void testGetStatsWithBackfilledStreams() throws IOException {
+      final long jobId = jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+      final int attemptNumber = jobPersistence.createAttempt(jobId, LOG_PATH);
+
+      final var backfilledStream = new StreamSyncStats().withStreamName("s1").withStreamNamespace("ns1")
+          .withStats(new SyncStats().withBytesEmitted(10L).withRecordsEmitted(1L));
+      final var otherStream = new StreamSyncStats().withStreamName("s2")
+          .withStats(new SyncStats().withBytesEmitted(20L).withRecordsEmitted(2L));
+      jobPersistence.writeStats(jobId, attemptNumber, null, null, 3L, 30L, null, null, CONNECTION_ID, List.of(backfilledStream, otherStream));
+
+      final JobOutput jobOutput = new JobOutput().withOutputType(JobOutput.OutputType.SYNC)
+          .withSync(new StandardSyncOutput().withStandardSyncSummary(new StandardSyncSummary()
+              .withTotalStats(new SyncStats().withBytesEmitted(30L).withRecordsEmitted(3L))
+              .withStreamStats(List.of(
+                  Jsons.clone(backfilledStream).withWasBackfilled(true),
+                  Jsons.clone(otherStream).withWasBackfilled(false)))));
+      jobPersistence.writeOutput(jobId, attemptNumber, jobOutput);
+
+      final AttemptStats attemptStats = jobPersistence.getAttemptStats(List.of(jobId)).get(new JobAttemptPair(jobId, attemptNumber));
+
+      assertEquals(List.of(Jsons.clone(backfilledStream).withWasBackfilled(true)), getStreamSyncStats(attemptStats, "s1", "ns1"));
+      assertEquals(List.of(Jsons.clone(otherStream).withWasBackfilled(false)), getStreamSyncStats(attemptStats, "s2", null));
+    }
+
     private List<StreamSyncStats> getStreamSyncStats(final AttemptStats attemptStats, final String streamName, final String namespace) {
       return attemptStats.perStreamStats().stream()
           .filter(s -> s.getStreamName().equals(streamName) && (namespace == null || s.getStreamNamespace().equals(namespace)))
@@ -14,6 +14,7 @@ import io.airbyte.workers.storage.StorageClientFactory;
 import io.airbyte.workers.storage.activities.ActivityPayloadStorageClient;
 import io.airbyte.workers.storage.activities.OutputStorageClient;
 import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Value;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 
@@ -65,11 +66,13 @@ public class CloudStorageBeanFactory {
   public ActivityPayloadStorageClient activityPayloadStorageClient(
                                                                    @Named("payloadDocumentStore") final StorageClient storageClientRaw,
                                                                    final JsonSerde jsonSerde,
-                                                                   final MetricClient metricClient) {
+                                                                   final MetricClient metricClient,
+                                                                   @Value("${airbyte.activity.payload-compression-enabled:false}") final boolean compressPayloads) {
     return new ActivityPayloadStorageClient(
         storageClientRaw,
         jsonSerde,
-        metricClient);
+        metricClient,
+        compressPayloads);
   }
 
   @Singleton
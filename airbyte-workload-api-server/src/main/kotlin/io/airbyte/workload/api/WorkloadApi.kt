@@ -12,9 +12,15 @@ import io.airbyte.workload.api.domain.KnownExceptionInfo
 import io.airbyte.workload.api.domain.LongRunningWorkloadRequest
 import io.airbyte.workload.api.domain.Workload
 import io.airbyte.workload.api.domain.WorkloadCancelRequest
+import io.airbyte.workload.api.domain.WorkloadClaimBatchRequest
+import io.airbyte.workload.api.domain.WorkloadClaimBatchResponse
 import io.airbyte.workload.api.domain.WorkloadClaimRequest
 import io.airbyte.workload.api.domain.WorkloadCreateRequest
+import io.airbyte.workload.api.domain.WorkloadFailureBatchRequest
+import io.airbyte.workload.api.domain.WorkloadFailureBatchResponse
 import io.airbyte.workload.api.domain.WorkloadFailureRequest
+import io.airbyte.workload.api.domain.WorkloadHeartbeatBatchRequest
+import io.airbyte.workload.api.domain.WorkloadHeartbeatBatchResponse
 import io.airbyte.workload.api.domain.WorkloadHeartbeatRequest
 import io.airbyte.workload.api.domain.WorkloadLaunchedRequest
 import io.airbyte.workload.api.domain.WorkloadListRequest
@@ -159,6 +165,34 @@ open class WorkloadApi(
     workloadHandler.failWorkload(workloadFailureRequest.workloadId, workloadFailureRequest.source, workloadFailureRequest.reason)
   }
 
+  @PUT
+  @Path("/failure/batch")
+  @Consumes("application/json")
+  @Produces("application/json")
+  @Operation(summary = "Sets the status of many workloads to 'failure' at once.", tags = ["workload"])
+  @ApiResponses(
+    value = [
+      ApiResponse(
+        responseCode = "200",
+        description = "Returns the ids of the failed workloads. The workloads which were not found or are not active are left out.",
+        content = [Content(schema = Schema(implementation = WorkloadFailureBatchResponse::class))],
+      ),
+    ],
+  )
+  open fun workloadFailureBatch(
+    @RequestBody(
+      content = [Content(schema = Schema(implementation = WorkloadFailureBatchRequest::class))],
+    ) @Body workloadFailureBatchRequest: WorkloadFailureBatchRequest,
+  ): WorkloadFailureBatchResponse {
+    return WorkloadFailureBatchResponse(
+      workloadHandler.failWorkloads(
+        workloadFailureBatchRequest.workloadIds,
+        workloadFailureBatchRequest.source,
+        workloadFailureBatchRequest.reason,
+      ),
+    )
+  }
+
   @PUT
   @Path("/success")
   @Status(HttpStatus.NO_CONTENT)
@@ -313,6 +347,38 @@ open class WorkloadApi(
     return ClaimResponse(claimed)
   }
 
+  @PUT
+  @Path("/claim/batch")
+  @Consumes("application/json")
+  @Produces("application/json")
+  @Operation(summary = "Claim the execution of many pending workloads at once", tags = ["workload"])
+  @ApiResponses(
+    value = [
+      ApiResponse(
+        responseCode = "200",
+        description =
+          "Returns the claimed workloads, oldest first. Pending workloads being claimed by another dataplane are skipped, " +
+            "so fewer workloads than the limit may be returned.",
+        content = [Content(schema = Schema(implementation = WorkloadClaimBatchResponse::class))],
+      ),
+    ],
+  )
+  open fun workloadClaimBatch(
+    @RequestBody(
+      content = [Content(schema = Schema(implementation = WorkloadClaimBatchRequest::class))],
+    ) @Body workloadClaimBatchRequest: WorkloadClaimBatchRequest,
+  ): WorkloadClaimBatchResponse {
+    ApmTraceUtils.addTagsToTrace(mutableMapOf(DATA_PLANE_ID_TAG to workloadClaimBatchRequest.dataplaneId) as Map<String, Any>?)
+    return WorkloadClaimBatchResponse(
+      workloadHandler.claimWorkloads(
+        workloadClaimBatchRequest.dataplaneId,
+        workloadClaimBatchRequest.geography,
+        workloadClaimBatchRequest.limit,
+        workloadClaimBatchRequest.deadline ?: defaultDeadlineValues.claimStepDeadline(),
+      ),
+    )
+  }
+
   @PUT
   @Path("/launched")
   @Status(HttpStatus.NO_CONTENT)
@@ -407,6 +473,35 @@ open class WorkloadApi(
     workloadHandler.heartbeat(workloadHeartbeatRequest.workloadId, workloadHeartbeatRequest.deadline ?: defaultDeadlineValues.heartbeatDeadline())
   }
 
+  @PUT
+  @Path("/heartbeat/batch")
+  @Consumes("application/json")
+  @Produces("application/json")
+  @Operation(summary = "Heartbeat from many workloads at once", tags = ["workload"])
+  @ApiResponses(
+    value = [
+      ApiResponse(
+        responseCode = "200",
+        description =
+          "Successfully heartbeated the active workloads. Returns the ids of the workloads which were not found or " +
+            "should stop because they are no longer expected to be running.",
+        content = [Content(schema = Schema(implementation = WorkloadHeartbeatBatchResponse::class))],
+      ),
+    ],
+  )
+  open fun workloadHeartbeatBatch(
+    @RequestBody(
+      content = [Content(schema = Schema(implementation = WorkloadHeartbeatBatchRequest::class))],
+    ) @Body workloadHeartbeatBatchRequest: WorkloadHeartbeatBatchRequest,
+  ): WorkloadHeartbeatBatchResponse {
+    return WorkloadHeartbeatBatchResponse(
+      workloadHandler.heartbeatAll(
+        workloadHeartbeatBatchRequest.workloadIds,
+        workloadHeartbeatBatchRequest.deadline ?: defaultDeadlineValues.heartbeatDeadline(),
+      ),
+    )
+  }
+
   @POST
   @Path("/list")
   @Consumes("application/json")
@@ -426,12 +521,12 @@ open class WorkloadApi(
       content = [Content(schema = Schema(implementation = WorkloadListRequest::class))],
     ) @Body workloadListRequest: WorkloadListRequest,
   ): WorkloadListResponse {
-    return WorkloadListResponse(
-      workloadHandler.getWorkloads(
-        workloadListRequest.dataplane,
-        workloadListRequest.status,
-        workloadListRequest.updatedBefore,
-      ),
+    return workloadHandler.getWorkloads(
+      workloadListRequest.dataplane,
+      workloadListRequest.status,
+      workloadListRequest.updatedBefore,
+      workloadListRequest.pageSize,
+      workloadListRequest.after,
     )
   }
 
@@ -454,12 +549,12 @@ open class WorkloadApi(
       content = [Content(schema = Schema(implementation = ExpiredDeadlineWorkloadListRequest::class))],
     ) @Body expiredDeadlineWorkloadListRequest: ExpiredDeadlineWorkloadListRequest,
   ): WorkloadListResponse {
-    return WorkloadListResponse(
-      workloadHandler.getWorkloadsWithExpiredDeadline(
-        expiredDeadlineWorkloadListRequest.dataplane,
-        expiredDeadlineWorkloadListRequest.status,
-        expiredDeadlineWorkloadListRequest.deadline,
-      ),
+    return workloadHandler.getWorkloadsWithExpiredDeadline(
+      expiredDeadlineWorkloadListRequest.dataplane,
+      expiredDeadlineWorkloadListRequest.status,
+      expiredDeadlineWorkloadListRequest.deadline,
+      expiredDeadlineWorkloadListRequest.pageSize,
+      expiredDeadlineWorkloadListRequest.after,
     )
   }
 
@@ -482,12 +577,12 @@ open class WorkloadApi(
       content = [Content(schema = Schema(implementation = LongRunningWorkloadRequest::class))],
     ) @Body longRunningWorkloadRequest: LongRunningWorkloadRequest,
   ): WorkloadListResponse {
-    return WorkloadListResponse(
-      workloadHandler.getWorkloadsRunningCreatedBefore(
-        longRunningWorkloadRequest.dataplane,
-        listOf(WorkloadType.CHECK, WorkloadType.DISCOVER, WorkloadType.SPEC),
-        longRunningWorkloadRequest.createdBefore,
-      ),
+    return workloadHandler.getWorkloadsRunningCreatedBefore(
+      longRunningWorkloadRequest.dataplane,
+      listOf(WorkloadType.CHECK, WorkloadType.DISCOVER, WorkloadType.SPEC),
+      longRunningWorkloadRequest.createdBefore,
+      longRunningWorkloadRequest.pageSize,
+      longRunningWorkloadRequest.after,
     )
   }
 
@@ -510,12 +605,12 @@ open class WorkloadApi(
       content = [Content(schema = Schema(implementation = LongRunningWorkloadRequest::class))],
     ) @Body longRunningWorkloadRequest: LongRunningWorkloadRequest,
   ): WorkloadListResponse {
-    return WorkloadListResponse(
-      workloadHandler.getWorkloadsRunningCreatedBefore(
-        longRunningWorkloadRequest.dataplane,
-        listOf(WorkloadType.SYNC),
-        longRunningWorkloadRequest.createdBefore,
-      ),
+    return workloadHandler.getWorkloadsRunningCreatedBefore(
+      longRunningWorkloadRequest.dataplane,
+      listOf(WorkloadType.SYNC),
+      longRunningWorkloadRequest.createdBefore,
+      longRunningWorkloadRequest.pageSize,
+      longRunningWorkloadRequest.after,
     )
   }
 }
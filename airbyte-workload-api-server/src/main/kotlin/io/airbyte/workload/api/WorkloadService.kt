@@ -25,6 +25,7 @@ import io.airbyte.workload.metrics.StatsDRegistryConfigurer.Companion.WORKLOAD_I
 import io.airbyte.workload.metrics.StatsDRegistryConfigurer.Companion.WORKLOAD_PUBLISHER_OPERATION_NAME
 import io.airbyte.workload.metrics.StatsDRegistryConfigurer.Companion.WORKLOAD_TYPE_TAG
 import io.airbyte.workload.metrics.WorkloadApiMetricMetadata
+import io.micronaut.context.annotation.Value
 import jakarta.inject.Singleton
 import java.util.UUID
 
@@ -37,6 +38,7 @@ open class WorkloadService(
   private val messageProducer: TemporalMessageProducer<LauncherInputMessage>,
   private val metricPublisher: CustomMetricPublisher,
   private val featureFlagClient: FeatureFlagClient,
+  @Value("\${airbyte.workload-api.claim-batch-enabled:false}") private val claimBatchEnabled: Boolean,
 ) {
   companion object {
     const val CONNECTION_ID_LABEL_KEY = "connection_id"
@@ -56,6 +58,10 @@ open class WorkloadService(
   ) {
     // TODO feature flag geography
     ApmTraceUtils.addTagsToTrace(mutableMapOf(WORKLOAD_ID_TAG to workloadId) as Map<String, Any>?)
+    // The launchers claim the pending workloads themselves, publishing them would launch them twice.
+    if (claimBatchEnabled) {
+      return
+    }
     val queue = getQueueName(geography, labels, priority)
     // TODO: We could pass through created_at, but I'm use using system time for now.
     // This may get just replaced by tracing at some point if we manage to set it up properly.
@@ -6,4 +6,6 @@ data class ExpiredDeadlineWorkloadListRequest(
   var dataplane: List<String>? = null,
   var status: List<WorkloadStatus>? = null,
   var deadline: OffsetDateTime,
+  var pageSize: Int? = null,
+  var after: WorkloadListCursor? = null,
 )
@@ -0,0 +1,13 @@
+package io.airbyte.workload.api.domain
+
+import io.swagger.v3.oas.annotations.media.Schema
+import java.time.OffsetDateTime
+
+data class WorkloadClaimBatchRequest(
+  @Schema(required = true)
+  var dataplaneId: String = "",
+  var geography: String? = null,
+  @Schema(required = true)
+  var limit: Int = 0,
+  var deadline: OffsetDateTime? = null,
+)
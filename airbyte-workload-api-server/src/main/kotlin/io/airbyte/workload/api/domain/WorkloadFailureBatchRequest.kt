@@ -0,0 +1,10 @@
+package io.airbyte.workload.api.domain
+
+import io.swagger.v3.oas.annotations.media.Schema
+
+data class WorkloadFailureBatchRequest(
+  @Schema(required = true)
+  var workloadIds: List<String> = ArrayList(),
+  var source: String? = null,
+  var reason: String? = null,
+)
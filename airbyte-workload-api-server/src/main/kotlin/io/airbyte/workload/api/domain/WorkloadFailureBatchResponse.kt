@@ -0,0 +1,8 @@
+package io.airbyte.workload.api.domain
+
+import io.swagger.v3.oas.annotations.media.Schema
+
+data class WorkloadFailureBatchResponse(
+  @Schema(required = true)
+  var failedWorkloadIds: List<String> = ArrayList(),
+)
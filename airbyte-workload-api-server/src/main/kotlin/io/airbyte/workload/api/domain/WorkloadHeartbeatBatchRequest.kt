@@ -0,0 +1,10 @@
+package io.airbyte.workload.api.domain
+
+import io.swagger.v3.oas.annotations.media.Schema
+import java.time.OffsetDateTime
+
+data class WorkloadHeartbeatBatchRequest(
+  @Schema(required = true)
+  var workloadIds: List<String> = ArrayList(),
+  var deadline: OffsetDateTime? = null,
+)
@@ -0,0 +1,15 @@
+package io.airbyte.workload.api.domain
+
+import io.swagger.v3.oas.annotations.media.Schema
+import java.time.OffsetDateTime
+
+/**
+ * The position of the last workload of a page in a workload list: its deadline or creation date, depending on the order of
+ * the list, and its id.
+ */
+data class WorkloadListCursor(
+  @Schema(required = true)
+  var timestamp: OffsetDateTime,
+  @Schema(required = true)
+  var workloadId: String,
+)
@@ -6,4 +6,6 @@ data class WorkloadListRequest(
   var dataplane: List<String>? = null,
   var status: List<WorkloadStatus>? = null,
   var updatedBefore: OffsetDateTime? = null,
+  var pageSize: Int? = null,
+  var after: WorkloadListCursor? = null,
 )
@@ -2,4 +2,8 @@ package io.airbyte.workload.api.domain
 
 data class WorkloadListResponse(
   var workloads: List<Workload> = ArrayList(),
+  /**
+   * Where the next page starts, if the request was paginated and this page is full. Absent on the last page.
+   */
+  var nextPage: WorkloadListCursor? = null,
 )
@@ -3,6 +3,8 @@ package io.airbyte.workload.handler
 import io.airbyte.config.WorkloadType
 import io.airbyte.workload.api.domain.Workload
 import io.airbyte.workload.api.domain.WorkloadLabel
+import io.airbyte.workload.api.domain.WorkloadListCursor
+import io.airbyte.workload.api.domain.WorkloadListResponse
 import jakarta.transaction.Transactional
 import java.time.OffsetDateTime
 import java.util.UUID
@@ -15,17 +17,29 @@ import java.util.UUID
 interface WorkloadHandler {
   fun getWorkload(workloadId: String): ApiWorkload
 
+  /**
+   * Returns a page of the workloads matching the filters, ordered by creation date. Returns all of them if no [pageSize] is
+   * given.
+   */
   fun getWorkloads(
     dataplaneId: List<String>?,
     workloadStatus: List<ApiWorkloadStatus>?,
     updatedBefore: OffsetDateTime?,
-  ): List<Workload>
+    pageSize: Int?,
+    after: WorkloadListCursor?,
+  ): WorkloadListResponse
 
+  /**
+   * Returns a page of the workloads matching the filters whose deadline passed, ordered by deadline. Returns all of them if
+   * no [pageSize] is given.
+   */
   fun getWorkloadsWithExpiredDeadline(
     dataplaneId: List<String>?,
     workloadStatus: List<ApiWorkloadStatus>?,
     deadline: OffsetDateTime,
-  ): List<Workload>
+    pageSize: Int?,
+    after: WorkloadListCursor?,
+  ): WorkloadListResponse
 
   fun workloadAlreadyExists(workloadId: String): Boolean
 
@@ -47,6 +61,17 @@ interface WorkloadHandler {
     deadline: OffsetDateTime,
   ): Boolean
 
+  /**
+   * Claims up to [limit] pending workloads for the dataplane at once, optionally restricted to a geography. Returns the
+   * claimed workloads, oldest first.
+   */
+  fun claimWorkloads(
+    dataplaneId: String,
+    geography: String?,
+    limit: Int,
+    deadline: OffsetDateTime,
+  ): List<Workload>
+
   fun cancelWorkload(
     workloadId: String,
     source: String?,
@@ -59,6 +84,16 @@ interface WorkloadHandler {
     reason: String?,
   )
 
+  /**
+   * Fails the given workloads at once. Returns the ids of the failed workloads, leaving out the ones which don't exist or
+   * are no longer active.
+   */
+  fun failWorkloads(
+    workloadIds: List<String>,
+    source: String?,
+    reason: String?,
+  ): List<String>
+
   fun succeedWorkload(workloadId: String)
 
   fun setWorkloadStatusToRunning(
@@ -76,9 +111,24 @@ interface WorkloadHandler {
     deadline: OffsetDateTime,
   )
 
+  /**
+   * Heartbeats the given workloads at once. Returns the ids of the workloads which weren't heartbeated, because they
+   * don't exist or are no longer expected to be running.
+   */
+  fun heartbeatAll(
+    workloadIds: List<String>,
+    deadline: OffsetDateTime,
+  ): List<String>
+
+  /**
+   * Returns a page of the running workloads matching the filters, ordered by creation date. Returns all of them if no
+   * [pageSize] is given.
+   */
   fun getWorkloadsRunningCreatedBefore(
     dataplaneId: List<String>?,
     workloadType: List<ApiWorkloadType>?,
     createdBefore: OffsetDateTime?,
-  ): List<Workload>
+    pageSize: Int?,
+    after: WorkloadListCursor?,
+  ): WorkloadListResponse
 }
@@ -4,6 +4,8 @@ import io.airbyte.config.WorkloadType
 import io.airbyte.featureflag.FeatureFlagClient
 import io.airbyte.workload.api.domain.Workload
 import io.airbyte.workload.api.domain.WorkloadLabel
+import io.airbyte.workload.api.domain.WorkloadListCursor
+import io.airbyte.workload.api.domain.WorkloadListResponse
 import io.airbyte.workload.errors.ConflictException
 import io.airbyte.workload.errors.InvalidStatusTransitionException
 import io.airbyte.workload.errors.NotFoundException
@@ -42,15 +44,21 @@ class WorkloadHandlerImpl(
     dataplaneId: List<String>?,
     workloadStatus: List<ApiWorkloadStatus>?,
     updatedBefore: OffsetDateTime?,
-  ): List<Workload> {
+    pageSize: Int?,
+    after: WorkloadListCursor?,
+  ): WorkloadListResponse {
+    val limit = pageSize?.coerceAtLeast(1)
     val domainWorkloads =
       workloadRepository.search(
         dataplaneId,
         workloadStatus?.map { it.toDomain() },
         updatedBefore,
+        after?.timestamp,
+        after?.workloadId,
+        limit,
       )
 
-    return domainWorkloads.map { it.toApi() }
+    return domainWorkloads.toPage(limit) { it.createdAt }
   }
 
   override fun workloadAlreadyExists(workloadId: String): Boolean {
@@ -117,6 +125,11 @@ class WorkloadHandlerImpl(
     dataplaneId: String,
     deadline: OffsetDateTime,
   ): Boolean {
+    if (workloadRepository.claim(workloadId, dataplaneId, deadline) > 0) {
+      return true
+    }
+
+    // The workload wasn't claimed, read it to tell why.
     val workload = getDomainWorkload(workloadId)
 
     if (workload.dataplaneId != null && !workload.dataplaneId.equals(dataplaneId)) {
@@ -124,13 +137,6 @@ class WorkloadHandlerImpl(
     }
 
     when (workload.status) {
-      WorkloadStatus.PENDING ->
-        workloadRepository.update(
-          workloadId,
-          dataplaneId,
-          WorkloadStatus.CLAIMED,
-          deadline,
-        )
       WorkloadStatus.CLAIMED -> {}
       else -> throw InvalidStatusTransitionException(
         "Tried to claim a workload that is not pending. Workload id: $workloadId has status: ${workload.status}",
@@ -140,6 +146,26 @@ class WorkloadHandlerImpl(
     return true
   }
 
+  override fun claimWorkloads(
+    dataplaneId: String,
+    geography: String?,
+    limit: Int,
+    deadline: OffsetDateTime,
+  ): List<Workload> {
+    if (limit <= 0) {
+      return listOf()
+    }
+
+    val claimedWorkloadIds = workloadRepository.claimBatch(dataplaneId, geography, limit, deadline)
+    if (claimedWorkloadIds.isEmpty()) {
+      return listOf()
+    }
+
+    return workloadRepository.findByIdIn(claimedWorkloadIds)
+      .sortedBy { it.createdAt }
+      .map { it.toApi() }
+  }
+
   override fun cancelWorkload(
     workloadId: String,
     source: String?,
@@ -257,17 +283,16 @@ class WorkloadHandlerImpl(
     workloadId: String,
     deadline: OffsetDateTime,
   ) {
+    if (workloadRepository.heartbeat(workloadId, offsetDateTime(), deadline) > 0) {
+      return
+    }
+
+    // The workload wasn't heartbeated, read it to tell why.
     val workload: DomainWorkload = getDomainWorkload(workloadId)
 
     when (workload.status) {
-      WorkloadStatus.CLAIMED, WorkloadStatus.LAUNCHED, WorkloadStatus.RUNNING -> {
-        workloadRepository.update(
-          workloadId,
-          WorkloadStatus.RUNNING,
-          offsetDateTime(),
-          deadline,
-        )
-      }
+      WorkloadStatus.CLAIMED, WorkloadStatus.LAUNCHED, WorkloadStatus.RUNNING ->
+        logger.info { "Workload $workloadId was claimed concurrently with its heartbeat. Skipping..." }
       WorkloadStatus.CANCELLED, WorkloadStatus.FAILURE, WorkloadStatus.SUCCESS -> throw InvalidStatusTransitionException(
         "Heartbeat a workload in a terminal state",
       )
@@ -275,36 +300,97 @@ class WorkloadHandlerImpl(
     }
   }
 
+  override fun heartbeatAll(
+    workloadIds: List<String>,
+    deadline: OffsetDateTime,
+  ): List<String> {
+    val distinctWorkloadIds = workloadIds.distinct()
+    if (distinctWorkloadIds.isEmpty()) {
+      return listOf()
+    }
+
+    val heartbeatedWorkloadIds = workloadRepository.heartbeatAll(distinctWorkloadIds, offsetDateTime(), deadline).toSet()
+    return distinctWorkloadIds.filterNot { heartbeatedWorkloadIds.contains(it) }
+  }
+
   fun offsetDateTime(): OffsetDateTime = OffsetDateTime.now()
 
+  override fun failWorkloads(
+    workloadIds: List<String>,
+    source: String?,
+    reason: String?,
+  ): List<String> {
+    val distinctWorkloadIds = workloadIds.distinct()
+    if (distinctWorkloadIds.isEmpty()) {
+      return listOf()
+    }
+
+    val failedWorkloadIds = workloadRepository.failAll(distinctWorkloadIds, source, reason)
+    val skippedWorkloadIds = distinctWorkloadIds - failedWorkloadIds.toSet()
+    if (skippedWorkloadIds.isNotEmpty()) {
+      logger.info { "Workloads $skippedWorkloadIds don't exist or are no longer active. Skipped failing them." }
+    }
+    return failedWorkloadIds
+  }
+
   override fun getWorkloadsRunningCreatedBefore(
     dataplaneId: List<String>?,
     workloadType: List<ApiWorkloadType>?,
     createdBefore: OffsetDateTime?,
-  ): List<Workload> {
+    pageSize: Int?,
+    after: WorkloadListCursor?,
+  ): WorkloadListResponse {
+    val limit = pageSize?.coerceAtLeast(1)
     val domainWorkloads =
       workloadRepository.searchByTypeStatusAndCreationDate(
         dataplaneId,
         listOf(WorkloadStatus.RUNNING),
         workloadType?.map { it.toDomain() },
         createdBefore,
+        after?.timestamp,
+        after?.workloadId,
+        limit,
       )
 
-    return domainWorkloads.map { it.toApi() }
+    return domainWorkloads.toPage(limit) { it.createdAt }
   }
 
   override fun getWorkloadsWithExpiredDeadline(
     dataplaneId: List<String>?,
     workloadStatus: List<ApiWorkloadStatus>?,
     deadline: OffsetDateTime,
-  ): List<Workload> {
+    pageSize: Int?,
+    after: WorkloadListCursor?,
+  ): WorkloadListResponse {
+    val limit = pageSize?.coerceAtLeast(1)
     val domainWorkloads =
       workloadRepository.searchForExpiredWorkloads(
         dataplaneId,
         workloadStatus?.map { it.toDomain() },
         deadline,
+        after?.timestamp,
+        after?.workloadId,
+        limit,
       )
 
-    return domainWorkloads.map { it.toApi() }
+    return domainWorkloads.toPage(limit) { it.deadline }
+  }
+
+  /**
+   * Maps a page of workloads ordered by [sortedBy] and id. A full page points to the next one, which may be empty.
+   */
+  private fun List<DomainWorkload>.toPage(
+    pageSize: Int?,
+    sortedBy: (DomainWorkload) -> OffsetDateTime?,
+  ): WorkloadListResponse {
+    val last = lastOrNull()
+    val nextPage =
+      if (pageSize != null && last != null && size >= pageSize) {
+        sortedBy(last)?.let { WorkloadListCursor(it, last.id) }
+      } else {
+        null
+      }
+
+    return WorkloadListResponse(map { it.toApi() }, nextPage)
   }
 }
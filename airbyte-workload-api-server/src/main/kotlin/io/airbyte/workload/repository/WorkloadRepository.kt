@@ -20,32 +20,55 @@ interface WorkloadRepository : PageableRepository<Workload, String> {
     @Id id: String,
   ): Optional<Workload>
 
+  @Join(value = "workloadLabels", type = Join.Type.LEFT_FETCH)
+  fun findByIdIn(ids: List<String>): List<Workload>
+
+  /**
+   * Returns a page of the workloads matching the filters, ordered by creation date and id. The page starts after the
+   * workload identified by [afterCreatedAt] and [afterId], if given, and holds at most [limit] workloads, if given.
+   */
   @Query(
     """
       SELECT * FROM workload
       WHERE ((:dataplaneIds) IS NULL OR dataplane_id IN (:dataplaneIds))
       AND ((:statuses) IS NULL OR status = ANY(CAST(ARRAY[:statuses] AS workload_status[])))
       AND (CAST(:updatedBefore AS timestamptz) IS NULL OR updated_at < CAST(:updatedBefore AS timestamptz))
+      AND (CAST(:afterCreatedAt AS timestamptz) IS NULL OR (created_at, id) > (CAST(:afterCreatedAt AS timestamptz), CAST(:afterId AS varchar)))
+      ORDER BY created_at, id
+      LIMIT :limit
       """,
   )
   fun search(
     @Expandable dataplaneIds: List<String>?,
     @Expandable statuses: List<WorkloadStatus>?,
     updatedBefore: OffsetDateTime?,
+    afterCreatedAt: OffsetDateTime?,
+    afterId: String?,
+    limit: Int?,
   ): List<Workload>
 
+  /**
+   * Returns a page of the workloads matching the filters whose deadline passed, ordered by deadline and id. The page starts
+   * after the workload identified by [afterDeadline] and [afterId], if given, and holds at most [limit] workloads, if given.
+   */
   @Query(
     """
       SELECT * FROM workload
       WHERE ((:dataplaneIds) IS NULL OR dataplane_id IN (:dataplaneIds))
       AND ((:statuses) IS NULL OR status = ANY(CAST(ARRAY[:statuses] AS workload_status[])))
       AND (deadline < CAST(:deadline AS timestamptz))
+      AND (CAST(:afterDeadline AS timestamptz) IS NULL OR (deadline, id) > (CAST(:afterDeadline AS timestamptz), CAST(:afterId AS varchar)))
+      ORDER BY deadline, id
+      LIMIT :limit
       """,
   )
   fun searchForExpiredWorkloads(
     @Expandable dataplaneIds: List<String>?,
     @Expandable statuses: List<WorkloadStatus>?,
     deadline: OffsetDateTime,
+    afterDeadline: OffsetDateTime?,
+    afterId: String?,
+    limit: Int?,
   ): List<Workload>
 
   fun searchByMutexKeyAndStatusInList(
@@ -53,6 +76,10 @@ interface WorkloadRepository : PageableRepository<Workload, String> {
     statuses: List<WorkloadStatus>,
   ): List<Workload>
 
+  /**
+   * Returns a page of the workloads matching the filters, ordered by creation date and id. The page starts after the
+   * workload identified by [afterCreatedAt] and [afterId], if given, and holds at most [limit] workloads, if given.
+   */
   @Query(
     """
       SELECT * FROM workload
@@ -60,6 +87,9 @@ interface WorkloadRepository : PageableRepository<Workload, String> {
       AND ((:statuses) IS NULL OR status = ANY(CAST(ARRAY[:statuses] AS workload_status[])))
       AND ((:types) IS NULL OR type = ANY(CAST(ARRAY[:types] AS workload_type[])))
       AND (CAST(:createdBefore AS timestamptz) IS NULL OR created_at < CAST(:createdBefore AS timestamptz))
+      AND (CAST(:afterCreatedAt AS timestamptz) IS NULL OR (created_at, id) > (CAST(:afterCreatedAt AS timestamptz), CAST(:afterId AS varchar)))
+      ORDER BY created_at, id
+      LIMIT :limit
       """,
   )
   fun searchByTypeStatusAndCreationDate(
@@ -67,6 +97,9 @@ interface WorkloadRepository : PageableRepository<Workload, String> {
     @Expandable statuses: List<WorkloadStatus>?,
     @Expandable types: List<WorkloadType>?,
     createdBefore: OffsetDateTime?,
+    afterCreatedAt: OffsetDateTime?,
+    afterId: String?,
+    limit: Int?,
   ): List<Workload>
 
   fun update(
@@ -96,4 +129,122 @@ interface WorkloadRepository : PageableRepository<Workload, String> {
     status: WorkloadStatus,
     deadline: OffsetDateTime,
   )
+
+  /**
+   * Claims the workload for the dataplane if it is pending and not assigned to another dataplane, in a single statement so
+   * that competing dataplanes can't both claim it. Returns the number of claimed workloads, 0 or 1.
+   */
+  @Query(
+    """
+      UPDATE workload
+      SET dataplane_id = :dataplaneId, status = 'claimed', deadline = :deadline, updated_at = now()
+      WHERE id = :id
+      AND status = 'pending'
+      AND (dataplane_id IS NULL OR dataplane_id = :dataplaneId)
+      """,
+  )
+  fun claim(
+    id: String,
+    dataplaneId: String,
+    deadline: OffsetDateTime,
+  ): Int
+
+  /**
+   * Heartbeats the workload if it is claimed, launched or running, in a single statement. Returns the number of heartbeated
+   * workloads, 0 or 1.
+   */
+  @Query(
+    """
+      UPDATE workload
+      SET status = 'running', last_heartbeat_at = :lastHeartbeatAt, deadline = :deadline, updated_at = now()
+      WHERE id = :id
+      AND status IN ('claimed', 'launched', 'running')
+      """,
+  )
+  fun heartbeat(
+    id: String,
+    lastHeartbeatAt: OffsetDateTime,
+    deadline: OffsetDateTime,
+  ): Int
+
+  /**
+   * Heartbeats the workloads among the given ones which are claimed, launched or running, in a single statement. Returns
+   * the ids of the heartbeated workloads.
+   */
+  @Query(
+    """
+      WITH heartbeated AS (
+        UPDATE workload
+        SET status = 'running', last_heartbeat_at = :lastHeartbeatAt, deadline = :deadline, updated_at = now()
+        WHERE id IN (:ids)
+        AND status IN ('claimed', 'launched', 'running')
+        RETURNING id
+      )
+      SELECT id FROM heartbeated
+      """,
+  )
+  fun heartbeatAll(
+    @Expandable ids: List<String>,
+    lastHeartbeatAt: OffsetDateTime,
+    deadline: OffsetDateTime,
+  ): List<String>
+
+  /**
+   * Claims up to [limit] pending workloads for the dataplane, oldest first, in a single statement. The workloads locked by a
+   * concurrent claim are skipped rather than waited for, so that competing dataplanes claim distinct workloads. Returns the
+   * ids of the claimed workloads.
+   *
+   * The claim order ignores the workload priority: the priority only selects a launcher queue and isn't stored on the
+   * workload. High priority workloads wait for the older pending ones like any other workload.
+   */
+  @Query(
+    """
+      WITH claimable AS (
+        SELECT id FROM workload
+        WHERE status = 'pending'
+        AND (dataplane_id IS NULL OR dataplane_id = :dataplaneId)
+        AND (CAST(:geography AS varchar) IS NULL OR UPPER(geography) = UPPER(CAST(:geography AS varchar)))
+        ORDER BY created_at
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+      ),
+      claimed AS (
+        UPDATE workload
+        SET dataplane_id = :dataplaneId, status = 'claimed', deadline = :deadline, updated_at = now()
+        FROM claimable
+        WHERE workload.id = claimable.id
+        RETURNING workload.id
+      )
+      SELECT id FROM claimed
+      """,
+  )
+  fun claimBatch(
+    dataplaneId: String,
+    geography: String?,
+    limit: Int,
+    deadline: OffsetDateTime,
+  ): List<String>
+
+  /**
+   * Fails the workloads among the given ones which are active, in a single statement. Returns the ids of the failed
+   * workloads. The others are left untouched, and are the ids missing from the result.
+   */
+  @Query(
+    """
+      WITH failed AS (
+        UPDATE workload
+        SET status = 'failure', termination_source = :terminationSource, termination_reason = :terminationReason,
+          deadline = NULL, updated_at = now()
+        WHERE id IN (:ids)
+        AND status IN ('pending', 'claimed', 'launched', 'running')
+        RETURNING id
+      )
+      SELECT id FROM failed
+      """,
+  )
+  fun failAll(
+    @Expandable ids: List<String>,
+    terminationSource: String?,
+    terminationReason: String?,
+  ): List<String>
 }
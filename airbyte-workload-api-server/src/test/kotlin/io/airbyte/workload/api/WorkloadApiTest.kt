@@ -4,11 +4,15 @@ import io.airbyte.commons.json.Jsons
 import io.airbyte.commons.temporal.WorkflowClientWrapped
 import io.airbyte.workload.api.domain.KnownExceptionInfo
 import io.airbyte.workload.api.domain.WorkloadCancelRequest
+import io.airbyte.workload.api.domain.WorkloadClaimBatchRequest
 import io.airbyte.workload.api.domain.WorkloadClaimRequest
 import io.airbyte.workload.api.domain.WorkloadCreateRequest
+import io.airbyte.workload.api.domain.WorkloadFailureBatchRequest
 import io.airbyte.workload.api.domain.WorkloadFailureRequest
+import io.airbyte.workload.api.domain.WorkloadHeartbeatBatchRequest
 import io.airbyte.workload.api.domain.WorkloadHeartbeatRequest
 import io.airbyte.workload.api.domain.WorkloadListRequest
+import io.airbyte.workload.api.domain.WorkloadListResponse
 import io.airbyte.workload.api.domain.WorkloadRunningRequest
 import io.airbyte.workload.api.domain.WorkloadSuccessRequest
 import io.airbyte.workload.errors.InvalidStatusTransitionException
@@ -171,12 +175,45 @@ class WorkloadApiTest(
     )
   }
 
+  @Test
+  fun `test claim batch success`() {
+    every { workloadHandler.claimWorkloads("dataplane1", "auto", 5, any()) }.returns(emptyList())
+    testEndpointStatus(
+      HttpRequest.PUT("/api/v1/workload/claim/batch", Jsons.serialize(WorkloadClaimBatchRequest("dataplane1", "auto", 5))),
+      HttpStatus.OK,
+    )
+    verify { workloadHandler.claimWorkloads("dataplane1", "auto", 5, any()) }
+  }
+
+  @Test
+  fun `test heartbeat batch success`() {
+    every { workloadHandler.heartbeatAll(listOf("workload1", "workload2"), any()) }.returns(listOf("workload2"))
+    testEndpointStatus(
+      HttpRequest.PUT("/api/v1/workload/heartbeat/batch", Jsons.serialize(WorkloadHeartbeatBatchRequest(listOf("workload1", "workload2")))),
+      HttpStatus.OK,
+    )
+    verify { workloadHandler.heartbeatAll(listOf("workload1", "workload2"), any()) }
+  }
+
   @Test
   fun `test list success`() {
-    every { workloadHandler.getWorkloads(any(), any(), any()) }.returns(emptyList())
+    every { workloadHandler.getWorkloads(any(), any(), any(), any(), any()) }.returns(WorkloadListResponse())
     testEndpointStatus(HttpRequest.POST("/api/v1/workload/list", WorkloadListRequest()), HttpStatus.OK)
   }
 
+  @Test
+  fun `test failure batch success`() {
+    every { workloadHandler.failWorkloads(listOf("workload1", "workload2"), "source", "reason") }.returns(listOf("workload1"))
+    testEndpointStatus(
+      HttpRequest.PUT(
+        "/api/v1/workload/failure/batch",
+        Jsons.serialize(WorkloadFailureBatchRequest(listOf("workload1", "workload2"), "source", "reason")),
+      ),
+      HttpStatus.OK,
+    )
+    verify { workloadHandler.failWorkloads(listOf("workload1", "workload2"), "source", "reason") }
+  }
+
   @Test
   fun `test cancel success`() {
     every { workloadHandler.cancelWorkload(any(), any(), any()) } just Runs
@@ -15,6 +15,7 @@ import io.mockk.every
 import io.mockk.mockk
 import io.mockk.verify
 import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
 import org.junit.jupiter.params.ParameterizedTest
 import org.junit.jupiter.params.provider.Arguments
 import org.junit.jupiter.params.provider.MethodSource
@@ -52,13 +53,22 @@ class WorkloadServiceTest {
     priority: WorkloadPriority,
     expectedQueue: String,
   ) {
-    val workloadService = WorkloadService(messageProducer, metricPublisher, featureFlagClient)
+    val workloadService = WorkloadService(messageProducer, metricPublisher, featureFlagClient, false)
 
     workloadService.create(workloadId, workloadInput, labels, logPath, geography, mutexKey, workloadType, autoId, priority)
 
     verify { messageProducer.publish(eq(expectedQueue), any(), eq("wl-create_$workloadId")) }
   }
 
+  @Test
+  fun `Workloads are not published when the launchers claim batches`() {
+    val workloadService = WorkloadService(messageProducer, metricPublisher, featureFlagClient, true)
+
+    workloadService.create(workloadId, workloadInput, labels, logPath, geography, mutexKey, WorkloadType.SYNC, autoId, WorkloadPriority.DEFAULT)
+
+    verify(exactly = 0) { messageProducer.publish(any(), any(), any()) }
+  }
+
   companion object {
     const val REGULAR_QUEUE = "regularQueue"
     const val HIGH_PRIORITY_QUEUE = "highPriorityQueue"
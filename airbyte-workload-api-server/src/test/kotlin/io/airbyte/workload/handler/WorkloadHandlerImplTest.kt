@@ -2,6 +2,7 @@ package io.airbyte.workload.handler
 
 import io.airbyte.featureflag.TestClient
 import io.airbyte.workload.api.domain.WorkloadLabel
+import io.airbyte.workload.api.domain.WorkloadListCursor
 import io.airbyte.workload.errors.ConflictException
 import io.airbyte.workload.errors.InvalidStatusTransitionException
 import io.airbyte.workload.errors.NotFoundException
@@ -22,6 +23,7 @@ import io.mockk.spyk
 import io.mockk.verify
 import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertNull
 import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
@@ -182,8 +184,10 @@ class WorkloadHandlerImplTest {
         mutexKey = "mutex-this",
         type = WorkloadType.DISCOVER,
       )
-    every { workloadRepository.search(any(), any(), any()) }.returns(listOf(domainWorkload))
-    val workloads = workloadHandler.getWorkloads(listOf("dataplane1"), listOf(ApiWorkloadStatus.CLAIMED, ApiWorkloadStatus.FAILURE), null)
+    every { workloadRepository.search(any(), any(), any(), null, null, null) }.returns(listOf(domainWorkload))
+    val page = workloadHandler.getWorkloads(listOf("dataplane1"), listOf(ApiWorkloadStatus.CLAIMED, ApiWorkloadStatus.FAILURE), null, null, null)
+    val workloads = page.workloads
+    assertNull(page.nextPage)
     assertEquals(1, workloads.size)
     assertEquals(WORKLOAD_ID, workloads[0].id)
     assertEquals("a payload", workloads[0].inputPayload)
@@ -193,25 +197,18 @@ class WorkloadHandlerImplTest {
     assertEquals(io.airbyte.config.WorkloadType.DISCOVER, workloads[0].type)
   }
 
-  @ParameterizedTest
-  @EnumSource(value = WorkloadStatus::class, names = ["CLAIMED", "LAUNCHED", "RUNNING"])
-  fun `test successfulHeartbeat`(workloadStatus: WorkloadStatus) {
-    every { workloadRepository.findById(WORKLOAD_ID) }.returns(
-      Optional.of(
-        Fixtures.workload(
-          id = WORKLOAD_ID,
-          status = workloadStatus,
-        ),
-      ),
-    )
-    every { workloadRepository.update(eq(WORKLOAD_ID), any(), ofType(OffsetDateTime::class), eq(now.plusMinutes(10))) }.returns(Unit)
+  @Test
+  fun `test successfulHeartbeat`() {
+    every { workloadRepository.heartbeat(WORKLOAD_ID, now, now.plusMinutes(10)) }.returns(1)
     workloadHandler.heartbeat(WORKLOAD_ID, now.plusMinutes(10))
-    verify { workloadRepository.update(eq(WORKLOAD_ID), eq(WorkloadStatus.RUNNING), any(), eq(now.plusMinutes(10))) }
+    verify { workloadRepository.heartbeat(WORKLOAD_ID, now, now.plusMinutes(10)) }
+    verify(exactly = 0) { workloadRepository.findById(any()) }
   }
 
   @ParameterizedTest
   @EnumSource(value = WorkloadStatus::class, names = ["CANCELLED", "FAILURE", "SUCCESS", "PENDING"])
   fun `test nonAuthorizedHeartbeat`(workloadStatus: WorkloadStatus) {
+    every { workloadRepository.heartbeat(WORKLOAD_ID, now, now) }.returns(0)
     every { workloadRepository.findById(WORKLOAD_ID) }.returns(
       Optional.of(
         Fixtures.workload(
@@ -223,14 +220,62 @@ class WorkloadHandlerImplTest {
     assertThrows<InvalidStatusTransitionException> { workloadHandler.heartbeat(WORKLOAD_ID, now) }
   }
 
+  @Test
+  fun `test workload not found when heartbeating workload`() {
+    every { workloadRepository.heartbeat(WORKLOAD_ID, now, now) }.returns(0)
+    every { workloadRepository.findById(WORKLOAD_ID) }.returns(Optional.empty())
+    assertThrows<NotFoundException> { workloadHandler.heartbeat(WORKLOAD_ID, now) }
+  }
+
+  @Test
+  fun `test heartbeat all returns the workloads which were not heartbeated`() {
+    every { workloadRepository.heartbeatAll(listOf("workload1", "workload2", "workload3"), now, now.plusMinutes(10)) }
+      .returns(listOf("workload1", "workload3"))
+
+    val inactiveWorkloadIds = workloadHandler.heartbeatAll(listOf("workload1", "workload2", "workload3", "workload1"), now.plusMinutes(10))
+
+    assertEquals(listOf("workload2"), inactiveWorkloadIds)
+  }
+
+  @Test
+  fun `test heartbeat all without workloads`() {
+    assertEquals(listOf<String>(), workloadHandler.heartbeatAll(listOf(), now))
+    verify(exactly = 0) { workloadRepository.heartbeatAll(any(), any(), any()) }
+  }
+
+  @Test
+  fun `test claim workloads returns the claimed workloads oldest first`() {
+    every { workloadRepository.claimBatch(DATAPLANE_ID, "us", 2, now) }.returns(listOf("workload1", "workload2"))
+    every { workloadRepository.findByIdIn(listOf("workload1", "workload2")) }.returns(
+      listOf(
+        Fixtures.workload(id = "workload2", status = WorkloadStatus.CLAIMED, createdAt = now),
+        Fixtures.workload(id = "workload1", status = WorkloadStatus.CLAIMED, createdAt = now.minusMinutes(1)),
+      ),
+    )
+
+    val workloads = workloadHandler.claimWorkloads(DATAPLANE_ID, "us", 2, now)
+
+    assertEquals(listOf("workload1", "workload2"), workloads.map { it.id })
+  }
+
+  @Test
+  fun `test claim workloads without pending workloads`() {
+    every { workloadRepository.claimBatch(DATAPLANE_ID, null, 2, now) }.returns(listOf())
+
+    assertEquals(listOf<ApiWorkload>(), workloadHandler.claimWorkloads(DATAPLANE_ID, null, 2, now))
+    verify(exactly = 0) { workloadRepository.findByIdIn(any()) }
+  }
+
   @Test
   fun `test workload not found when claiming workload`() {
+    every { workloadRepository.claim(WORKLOAD_ID, DATAPLANE_ID, now) }.returns(0)
     every { workloadRepository.findById(WORKLOAD_ID) }.returns(Optional.empty())
     assertThrows<NotFoundException> { workloadHandler.claimWorkload(WORKLOAD_ID, DATAPLANE_ID, now) }
   }
 
   @Test
   fun `test claiming workload has already been claimed by another plane`() {
+    every { workloadRepository.claim(WORKLOAD_ID, DATAPLANE_ID, now) }.returns(0)
     every { workloadRepository.findById(WORKLOAD_ID) }.returns(
       Optional.of(
         Fixtures.workload(
@@ -243,23 +288,9 @@ class WorkloadHandlerImplTest {
     assertFalse(workloadHandler.claimWorkload(WORKLOAD_ID, DATAPLANE_ID, now))
   }
 
-  @Test
-  fun `test claiming pending workload has already been claimed by the same plane`() {
-    every { workloadRepository.update(WORKLOAD_ID, DATAPLANE_ID, WorkloadStatus.CLAIMED, eq(now.plusMinutes(20))) }.returns(Unit)
-    every { workloadRepository.findById(WORKLOAD_ID) }.returns(
-      Optional.of(
-        Fixtures.workload(
-          id = WORKLOAD_ID,
-          dataplaneId = DATAPLANE_ID,
-          status = WorkloadStatus.PENDING,
-        ),
-      ),
-    )
-    assertTrue(workloadHandler.claimWorkload(WORKLOAD_ID, DATAPLANE_ID, now.plusMinutes(20)))
-  }
-
   @Test
   fun `test claiming claimed workload has already been claimed by the same plane`() {
+    every { workloadRepository.claim(WORKLOAD_ID, DATAPLANE_ID, now) }.returns(0)
     every { workloadRepository.findById(WORKLOAD_ID) }.returns(
       Optional.of(
         Fixtures.workload(
@@ -274,6 +305,7 @@ class WorkloadHandlerImplTest {
 
   @Test
   fun `test claiming running workload has already been claimed by the same plane`() {
+    every { workloadRepository.claim(WORKLOAD_ID, DATAPLANE_ID, now) }.returns(0)
     every { workloadRepository.findById(WORKLOAD_ID) }.returns(
       Optional.of(
         Fixtures.workload(
@@ -289,6 +321,7 @@ class WorkloadHandlerImplTest {
   @ParameterizedTest
   @EnumSource(value = WorkloadStatus::class, names = ["RUNNING", "LAUNCHED", "SUCCESS", "FAILURE", "CANCELLED"])
   fun `test claiming workload that is not pending`(workloadStatus: WorkloadStatus) {
+    every { workloadRepository.claim(WORKLOAD_ID, DATAPLANE_ID, now) }.returns(0)
     every { workloadRepository.findById(WORKLOAD_ID) }.returns(
       Optional.of(
         Fixtures.workload(
@@ -302,20 +335,12 @@ class WorkloadHandlerImplTest {
 
   @Test
   fun `test successful claim`() {
-    every { workloadRepository.findById(WORKLOAD_ID) }.returns(
-      Optional.of(
-        Fixtures.workload(
-          id = WORKLOAD_ID,
-          dataplaneId = null,
-        ),
-      ),
-    )
-
-    every { workloadRepository.update(any(), any(), ofType(WorkloadStatus::class), eq(now.plusMinutes(20))) } just Runs
+    every { workloadRepository.claim(WORKLOAD_ID, DATAPLANE_ID, now.plusMinutes(20)) }.returns(1)
 
     assertTrue(workloadHandler.claimWorkload(WORKLOAD_ID, DATAPLANE_ID, now.plusMinutes(20)))
 
-    verify { workloadRepository.update(WORKLOAD_ID, DATAPLANE_ID, WorkloadStatus.CLAIMED, eq(now.plusMinutes(20))) }
+    verify { workloadRepository.claim(WORKLOAD_ID, DATAPLANE_ID, now.plusMinutes(20)) }
+    verify(exactly = 0) { workloadRepository.findById(any()) }
   }
 
   @Test
@@ -622,13 +647,13 @@ class WorkloadHandlerImplTest {
 
   @Test
   fun `test get workload running before`() {
-    every { workloadRepository.searchByTypeStatusAndCreationDate(any(), eq(listOf(WorkloadStatus.RUNNING)), any(), any()) }
+    every { workloadRepository.searchByTypeStatusAndCreationDate(any(), eq(listOf(WorkloadStatus.RUNNING)), any(), any(), any(), any(), any()) }
       .returns(listOf())
     val dataplaneIds = listOf("dataplaneId")
     val workloadTypes = listOf(ApiWorkloadType.CHECK)
     val createdAt = OffsetDateTime.now()
 
-    workloadHandler.getWorkloadsRunningCreatedBefore(dataplaneIds, workloadTypes, createdAt)
+    workloadHandler.getWorkloadsRunningCreatedBefore(dataplaneIds, workloadTypes, createdAt, null, null)
 
     verify {
       workloadRepository.searchByTypeStatusAndCreationDate(
@@ -636,10 +661,64 @@ class WorkloadHandlerImplTest {
         listOf(WorkloadStatus.RUNNING),
         listOf(WorkloadType.CHECK),
         createdAt,
+        null,
+        null,
+        null,
       )
     }
   }
 
+  @Test
+  fun `test a full page of expired workloads points to the next page`() {
+    val deadline = now.minusMinutes(5)
+    every {
+      workloadRepository.searchForExpiredWorkloads(null, listOf(WorkloadStatus.PENDING), now, deadline, "workload0", 2)
+    }.returns(
+      listOf(
+        Fixtures.workload(id = "workload1").apply { this.deadline = deadline },
+        Fixtures.workload(id = "workload2").apply { this.deadline = deadline.plusMinutes(1) },
+      ),
+    )
+
+    val page =
+      workloadHandler.getWorkloadsWithExpiredDeadline(
+        null,
+        listOf(ApiWorkloadStatus.PENDING),
+        now,
+        2,
+        WorkloadListCursor(deadline, "workload0"),
+      )
+
+    assertEquals(listOf("workload1", "workload2"), page.workloads.map { it.id })
+    assertEquals(WorkloadListCursor(deadline.plusMinutes(1), "workload2"), page.nextPage)
+  }
+
+  @Test
+  fun `test the last page of running workloads doesn't point to a next page`() {
+    val createdAt = now.minusDays(1)
+    every {
+      workloadRepository.searchByTypeStatusAndCreationDate(null, listOf(WorkloadStatus.RUNNING), null, now, null, null, 2)
+    }.returns(listOf(Fixtures.workload(id = "workload1", status = WorkloadStatus.RUNNING, createdAt = createdAt)))
+
+    val page = workloadHandler.getWorkloadsRunningCreatedBefore(null, null, now, 2, null)
+
+    assertEquals(listOf("workload1"), page.workloads.map { it.id })
+    assertNull(page.nextPage)
+  }
+
+  @Test
+  fun `test fail workloads returns the failed workloads`() {
+    every { workloadRepository.failAll(listOf("workload1", "workload2"), "source", "reason") }.returns(listOf("workload1"))
+
+    assertEquals(listOf("workload1"), workloadHandler.failWorkloads(listOf("workload1", "workload2", "workload1"), "source", "reason"))
+  }
+
+  @Test
+  fun `test fail workloads without workloads`() {
+    assertEquals(listOf<String>(), workloadHandler.failWorkloads(listOf(), "source", "reason"))
+    verify(exactly = 0) { workloadRepository.failAll(any(), any(), any()) }
+  }
+
   @Test
   fun `offsetDateTime method should always return current time`() {
     val workloadHandlerImpl = WorkloadHandlerImpl(mockk<WorkloadRepository>(), TestClient())
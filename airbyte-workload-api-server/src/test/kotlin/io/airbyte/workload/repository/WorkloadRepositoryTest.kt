@@ -87,7 +87,7 @@ internal class WorkloadRepositoryTest {
       statuses: List<WorkloadStatus>?,
       updatedBefore: OffsetDateTime?,
     ): MutableList<Workload> {
-      val workloads = workloadRepo.search(dataplaneIds, statuses, updatedBefore).toMutableList()
+      val workloads = workloadRepo.search(dataplaneIds, statuses, updatedBefore, null, null, null).toMutableList()
       workloads.sortWith(Comparator.comparing(Workload::id))
       return workloads
     }
@@ -98,7 +98,7 @@ internal class WorkloadRepositoryTest {
       types: List<WorkloadType>?,
       createdBefore: OffsetDateTime?,
     ): MutableList<Workload> {
-      val workloads = workloadRepo.searchByTypeStatusAndCreationDate(dataplaneIds, statuses, types, createdBefore).toMutableList()
+      val workloads = workloadRepo.searchByTypeStatusAndCreationDate(dataplaneIds, statuses, types, createdBefore, null, null, null).toMutableList()
       workloads.sortWith(Comparator.comparing(Workload::id))
       return workloads
     }
@@ -109,7 +109,7 @@ internal class WorkloadRepositoryTest {
     statuses: List<WorkloadStatus>?,
     deadline: OffsetDateTime,
   ): MutableList<Workload> {
-    val workloads = workloadRepo.searchForExpiredWorkloads(dataplaneIds, statuses, deadline).toMutableList()
+    val workloads = workloadRepo.searchForExpiredWorkloads(dataplaneIds, statuses, deadline, null, null, null).toMutableList()
     workloads.sortWith(Comparator.comparing(Workload::id))
     return workloads
   }
@@ -242,6 +242,160 @@ internal class WorkloadRepositoryTest {
     assertEquals("dataplaneId2", persistedWorkload.get().dataplaneId)
   }
 
+  @Test
+  fun `test claim`() {
+    workloadRepo.save(Fixtures.workload(id = "pending", dataplaneId = null, status = WorkloadStatus.PENDING))
+    workloadRepo.save(Fixtures.workload(id = "assigned", dataplaneId = "dataplane1", status = WorkloadStatus.PENDING))
+    workloadRepo.save(Fixtures.workload(id = "assignedElsewhere", dataplaneId = "dataplane2", status = WorkloadStatus.PENDING))
+    workloadRepo.save(Fixtures.workload(id = "running", dataplaneId = "dataplane1", status = WorkloadStatus.RUNNING))
+    val deadline = OffsetDateTime.now().plusMinutes(10)
+
+    assertEquals(1, workloadRepo.claim("pending", "dataplane1", deadline))
+    assertEquals(1, workloadRepo.claim("assigned", "dataplane1", deadline))
+    assertEquals(0, workloadRepo.claim("assignedElsewhere", "dataplane1", deadline))
+    assertEquals(0, workloadRepo.claim("running", "dataplane1", deadline))
+    assertEquals(0, workloadRepo.claim("missing", "dataplane1", deadline))
+    // a claimed workload can't be claimed again, even by another dataplane
+    assertEquals(0, workloadRepo.claim("pending", "dataplane2", deadline))
+
+    val claimedWorkload = workloadRepo.findById("pending").get()
+    assertEquals(WorkloadStatus.CLAIMED, claimedWorkload.status)
+    assertEquals("dataplane1", claimedWorkload.dataplaneId)
+    assertEquals(deadline.toEpochSecond(), claimedWorkload.deadline?.toEpochSecond())
+    assertEquals(WorkloadStatus.PENDING, workloadRepo.findById("assignedElsewhere").get().status)
+    assertEquals(WorkloadStatus.RUNNING, workloadRepo.findById("running").get().status)
+  }
+
+  @Test
+  fun `test claim batch`() {
+    workloadRepo.save(Fixtures.workload(id = "pending1", dataplaneId = null, status = WorkloadStatus.PENDING))
+    workloadRepo.save(Fixtures.workload(id = "pending2", dataplaneId = "dataplane1", status = WorkloadStatus.PENDING))
+    workloadRepo.save(Fixtures.workload(id = "pending3", dataplaneId = null, status = WorkloadStatus.PENDING))
+    workloadRepo.save(Fixtures.workload(id = "otherGeography", dataplaneId = null, status = WorkloadStatus.PENDING, geography = "EU"))
+    workloadRepo.save(Fixtures.workload(id = "assignedElsewhere", dataplaneId = "dataplane2", status = WorkloadStatus.PENDING))
+    workloadRepo.save(Fixtures.workload(id = "running", dataplaneId = null, status = WorkloadStatus.RUNNING))
+    val deadline = OffsetDateTime.now().plusMinutes(10)
+
+    // the oldest workloads are claimed first
+    assertEquals(listOf("pending1", "pending2"), workloadRepo.claimBatch("dataplane1", "us", 2, deadline).sorted())
+    assertEquals(listOf("pending3"), workloadRepo.claimBatch("dataplane1", "us", 2, deadline))
+    assertEquals(listOf<String>(), workloadRepo.claimBatch("dataplane1", "us", 2, deadline))
+    assertEquals(listOf("otherGeography"), workloadRepo.claimBatch("dataplane1", null, 2, deadline))
+
+    val claimedWorkload = workloadRepo.findById("pending1").get()
+    assertEquals(WorkloadStatus.CLAIMED, claimedWorkload.status)
+    assertEquals("dataplane1", claimedWorkload.dataplaneId)
+    assertEquals(deadline.toEpochSecond(), claimedWorkload.deadline?.toEpochSecond())
+    assertEquals(WorkloadStatus.PENDING, workloadRepo.findById("assignedElsewhere").get().status)
+    assertEquals(WorkloadStatus.RUNNING, workloadRepo.findById("running").get().status)
+  }
+
+  @Test
+  fun `test find by ids`() {
+    val label =
+      WorkloadLabel(
+        id = null,
+        key = "key1",
+        value = "value1",
+        workload = null,
+      )
+    workloadRepo.save(Fixtures.workload(id = "workload1", workloadLabels = listOf(label)))
+    workloadRepo.save(Fixtures.workload(id = "workload2"))
+    workloadRepo.save(Fixtures.workload(id = "workload3"))
+
+    val workloads = workloadRepo.findByIdIn(listOf("workload1", "workload2", "missing")).sortedBy { it.id }
+
+    assertEquals(listOf("workload1", "workload2"), workloads.map { it.id })
+    assertEquals("value1", workloads[0].workloadLabels!!.single().value)
+  }
+
+  @Test
+  fun `test expired workloads are paged by deadline and id`() {
+    val now = OffsetDateTime.now()
+    workloadRepo.save(Fixtures.workload(id = "b", status = WorkloadStatus.RUNNING, deadline = now.minusMinutes(3)))
+    workloadRepo.save(Fixtures.workload(id = "a", status = WorkloadStatus.RUNNING, deadline = now.minusMinutes(3)))
+    workloadRepo.save(Fixtures.workload(id = "c", status = WorkloadStatus.RUNNING, deadline = now.minusMinutes(2)))
+    workloadRepo.save(Fixtures.workload(id = "d", status = WorkloadStatus.RUNNING, deadline = now.minusMinutes(1)))
+    workloadRepo.save(Fixtures.workload(id = "notExpired", status = WorkloadStatus.RUNNING, deadline = now.plusMinutes(1)))
+    val statuses = listOf(WorkloadStatus.RUNNING)
+
+    val firstPage = workloadRepo.searchForExpiredWorkloads(null, statuses, now, null, null, 2)
+    assertEquals(listOf("a", "b"), firstPage.map { it.id })
+
+    val secondPage = workloadRepo.searchForExpiredWorkloads(null, statuses, now, firstPage.last().deadline, firstPage.last().id, 2)
+    assertEquals(listOf("c", "d"), secondPage.map { it.id })
+
+    val lastPage = workloadRepo.searchForExpiredWorkloads(null, statuses, now, secondPage.last().deadline, secondPage.last().id, 2)
+    assertEquals(listOf<String>(), lastPage.map { it.id })
+  }
+
+  @Test
+  fun `test workloads are paged by creation date and id`() {
+    workloadRepo.save(Fixtures.workload(id = "first", status = WorkloadStatus.CLAIMED))
+    workloadRepo.save(Fixtures.workload(id = "second", status = WorkloadStatus.CLAIMED))
+    workloadRepo.save(Fixtures.workload(id = "third", status = WorkloadStatus.CLAIMED))
+    workloadRepo.save(Fixtures.workload(id = "pending", status = WorkloadStatus.PENDING))
+    val statuses = listOf(WorkloadStatus.CLAIMED)
+
+    val firstPage = workloadRepo.search(null, statuses, null, null, null, 2)
+    assertEquals(listOf("first", "second"), firstPage.map { it.id })
+
+    val secondPage = workloadRepo.search(null, statuses, null, firstPage.last().createdAt, firstPage.last().id, 2)
+    assertEquals(listOf("third"), secondPage.map { it.id })
+  }
+
+  @Test
+  fun `test fail all`() {
+    workloadRepo.save(Fixtures.workload(id = "pending", status = WorkloadStatus.PENDING))
+    workloadRepo.save(Fixtures.workload(id = "running", status = WorkloadStatus.RUNNING))
+    workloadRepo.save(Fixtures.workload(id = "success", status = WorkloadStatus.SUCCESS))
+
+    val failedIds = workloadRepo.failAll(listOf("pending", "running", "success", "missing"), "source", "reason")
+
+    assertEquals(setOf("pending", "running"), failedIds.toSet())
+    val failedWorkload = workloadRepo.findById("running").get()
+    assertEquals(WorkloadStatus.FAILURE, failedWorkload.status)
+    assertEquals("source", failedWorkload.terminationSource)
+    assertEquals("reason", failedWorkload.terminationReason)
+    assertNull(failedWorkload.deadline)
+    assertEquals(WorkloadStatus.SUCCESS, workloadRepo.findById("success").get().status)
+  }
+
+  @Test
+  fun `test conditional heartbeat`() {
+    workloadRepo.save(Fixtures.workload(id = "claimed", status = WorkloadStatus.CLAIMED))
+    workloadRepo.save(Fixtures.workload(id = "pending", status = WorkloadStatus.PENDING))
+    workloadRepo.save(Fixtures.workload(id = "cancelled", status = WorkloadStatus.CANCELLED))
+    val now = OffsetDateTime.now()
+
+    assertEquals(1, workloadRepo.heartbeat("claimed", now, now.plusMinutes(10)))
+    assertEquals(0, workloadRepo.heartbeat("pending", now, now.plusMinutes(10)))
+    assertEquals(0, workloadRepo.heartbeat("cancelled", now, now.plusMinutes(10)))
+
+    val heartbeatedWorkload = workloadRepo.findById("claimed").get()
+    assertEquals(WorkloadStatus.RUNNING, heartbeatedWorkload.status)
+    assertEquals(now.toEpochSecond(), heartbeatedWorkload.lastHeartbeatAt?.toEpochSecond())
+    assertEquals(now.plusMinutes(10).toEpochSecond(), heartbeatedWorkload.deadline?.toEpochSecond())
+    assertNull(workloadRepo.findById("pending").get().lastHeartbeatAt)
+    assertEquals(WorkloadStatus.CANCELLED, workloadRepo.findById("cancelled").get().status)
+  }
+
+  @Test
+  fun `test heartbeat all`() {
+    workloadRepo.save(Fixtures.workload(id = "launched", status = WorkloadStatus.LAUNCHED))
+    workloadRepo.save(Fixtures.workload(id = "running", status = WorkloadStatus.RUNNING))
+    workloadRepo.save(Fixtures.workload(id = "success", status = WorkloadStatus.SUCCESS))
+    val now = OffsetDateTime.now()
+
+    val heartbeatedIds = workloadRepo.heartbeatAll(listOf("launched", "running", "success", "missing"), now, now.plusMinutes(10))
+
+    assertEquals(setOf("launched", "running"), heartbeatedIds.toSet())
+    assertEquals(WorkloadStatus.RUNNING, workloadRepo.findById("launched").get().status)
+    assertEquals(now.toEpochSecond(), workloadRepo.findById("running").get().lastHeartbeatAt?.toEpochSecond())
+    assertEquals(WorkloadStatus.SUCCESS, workloadRepo.findById("success").get().status)
+    assertNull(workloadRepo.findById("success").get().lastHeartbeatAt)
+  }
+
   @Test
   fun `test mutex search`() {
     val mutexKey = "mutex-search-test"
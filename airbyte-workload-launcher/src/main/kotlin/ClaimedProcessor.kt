@@ -12,6 +12,8 @@ import io.airbyte.api.client.WorkloadApiClient
 import io.airbyte.metrics.lib.ApmTraceUtils
 import io.airbyte.metrics.lib.MetricAttribute
 import io.airbyte.workload.api.client.generated.infrastructure.ServerException
+import io.airbyte.workload.api.client.model.generated.Workload
+import io.airbyte.workload.api.client.model.generated.WorkloadListCursor
 import io.airbyte.workload.api.client.model.generated.WorkloadListRequest
 import io.airbyte.workload.api.client.model.generated.WorkloadListResponse
 import io.airbyte.workload.api.client.model.generated.WorkloadStatus
@@ -48,34 +50,45 @@ class ClaimedProcessor(
   @Trace(operationName = RESUME_CLAIMED_OPERATION_NAME)
   fun retrieveAndProcess() {
     addTagsToTrace()
+    val workloads = mutableListOf<Workload>()
+    var after: WorkloadListCursor? = null
+    do {
+      val page = fetchClaimedPage(after)
+      workloads.addAll(page.workloads)
+      after = page.nextPage
+    } while (after != null)
+
+    logger.info { "Re-hydrating ${workloads.size} workload claim(s)..." }
+    claimProcessorTracker.trackNumberOfClaimsToResume(workloads.size)
+
+    val msgs = workloads.map { it.toLauncherInput() }
+
+    processMessages(msgs)
+  }
+
+  private fun fetchClaimedPage(after: WorkloadListCursor?): WorkloadListResponse {
     val workloadListRequest =
       WorkloadListRequest(
         listOf(dataplaneId),
         listOf(WorkloadStatus.CLAIMED),
+        pageSize = PAGE_SIZE,
+        after = after,
       )
 
-    val workloadList: WorkloadListResponse =
-      Failsafe.with(
-        RetryPolicy.builder<Any>()
-          .withBackoff(Duration.ofSeconds(20), Duration.ofDays(365))
-          .onRetry { logger.error { "Retrying to fetch workloads for dataplane $dataplaneId" } }
-          .abortOn { exception ->
-            when (exception) {
-              // This makes us to retry only on 5XX errors
-              is ServerException -> exception.statusCode / 100 != 5
-              else -> true
-            }
+    return Failsafe.with(
+      RetryPolicy.builder<Any>()
+        .withBackoff(Duration.ofSeconds(20), Duration.ofDays(365))
+        .onRetry { logger.error { "Retrying to fetch workloads for dataplane $dataplaneId" } }
+        .abortOn { exception ->
+          when (exception) {
+            // This makes us to retry only on 5XX errors
+            is ServerException -> exception.statusCode / 100 != 5
+            else -> true
           }
-          .build(),
-      )
-        .get { -> apiClient.workloadApi.workloadList(workloadListRequest) }
-
-    logger.info { "Re-hydrating ${workloadList.workloads.size} workload claim(s)..." }
-    claimProcessorTracker.trackNumberOfClaimsToResume(workloadList.workloads.size)
-
-    val msgs = workloadList.workloads.map { it.toLauncherInput() }
-
-    processMessages(msgs)
+        }
+        .build(),
+    )
+      .get { -> apiClient.workloadApi.workloadList(workloadListRequest) }
   }
 
   @VisibleForTesting
@@ -102,4 +115,8 @@ class ClaimedProcessor(
     commonTags[DATA_PLANE_ID_TAG] = dataplaneId
     ApmTraceUtils.addTagsToTrace(commonTags)
   }
+
+  companion object {
+    const val PAGE_SIZE = 500
+  }
 }
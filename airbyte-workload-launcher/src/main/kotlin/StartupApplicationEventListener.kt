@@ -8,7 +8,9 @@ import com.google.common.annotations.VisibleForTesting
 import io.airbyte.metrics.lib.ApmTraceUtils
 import io.airbyte.workload.launcher.metrics.CustomMetricPublisher
 import io.airbyte.workload.launcher.metrics.WorkloadLauncherMetricMetadata
+import io.airbyte.workload.launcher.pipeline.consumer.ClaimBatchConsumer
 import io.github.oshai.kotlinlogging.KotlinLogging
+import io.micronaut.context.annotation.Value
 import io.micronaut.context.event.ApplicationEventListener
 import io.micronaut.discovery.event.ServiceReadyEvent
 import io.temporal.worker.WorkerFactory
@@ -25,6 +27,8 @@ class StartupApplicationEventListener(
   @Named("highPriorityWorkerFactory") private val highPriorityWorkerFactory: WorkerFactory,
   private val claimProcessorTracker: ClaimProcessorTracker,
   private val customMetricPublisher: CustomMetricPublisher,
+  private val claimBatchConsumer: ClaimBatchConsumer,
+  @Value("\${airbyte.workload-launcher.claim-batch.enabled}") private val claimBatchEnabled: Boolean,
 ) : ApplicationEventListener<ServiceReadyEvent> {
   @VisibleForTesting
   var mainThread: Thread? = null
@@ -44,8 +48,13 @@ class StartupApplicationEventListener(
       thread {
         claimProcessorTracker.await()
 
-        workerFactory.start()
-        highPriorityWorkerFactory.start()
+        // Either claim batches of pending workloads or consume the launcher queues, as both would launch the same workloads.
+        if (claimBatchEnabled) {
+          claimBatchConsumer.consume()
+        } else {
+          workerFactory.start()
+          highPriorityWorkerFactory.start()
+        }
       }
   }
 }
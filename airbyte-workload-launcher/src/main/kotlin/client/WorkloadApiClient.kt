@@ -6,6 +6,8 @@ package io.airbyte.workload.launcher.client
 
 import io.airbyte.api.client.WorkloadApiClient
 import io.airbyte.workload.api.client.model.generated.ClaimResponse
+import io.airbyte.workload.api.client.model.generated.Workload
+import io.airbyte.workload.api.client.model.generated.WorkloadClaimBatchRequest
 import io.airbyte.workload.api.client.model.generated.WorkloadClaimRequest
 import io.airbyte.workload.api.client.model.generated.WorkloadFailureRequest
 import io.airbyte.workload.api.client.model.generated.WorkloadLaunchedRequest
@@ -75,4 +77,21 @@ class WorkloadApiClient(
 
     return result
   }
+
+  fun claimBatch(
+    geography: String?,
+    limit: Int,
+  ): List<Workload> {
+    val resp =
+      workloadApiClient.workloadApi.workloadClaimBatch(
+        WorkloadClaimBatchRequest(
+          dataplaneId = dataplaneId,
+          limit = limit,
+          geography = geography,
+        ),
+      )
+    logger.info { "Claimed ${resp.workloads.size} workload(s) via API for $dataplaneId" }
+
+    return resp.workloads
+  }
 }
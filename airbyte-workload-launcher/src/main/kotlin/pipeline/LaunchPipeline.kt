@@ -20,8 +20,8 @@ import io.micronaut.context.annotation.Value
 import jakarta.inject.Named
 import jakarta.inject.Singleton
 import reactor.core.publisher.Mono
-import reactor.core.scheduler.Schedulers
 import reactor.kotlin.core.publisher.toMono
+import java.util.concurrent.Semaphore
 import kotlin.time.TimeSource
 import kotlin.time.toJavaDuration
 
@@ -39,7 +39,17 @@ class LaunchPipeline(
   private val failureHandler: FailureHandler,
   private val metricPublisher: CustomMetricPublisher,
   private val ctxFactory: LogContextFactory,
+  @Value("\${airbyte.workload-launcher.max-concurrent-launches}") maxConcurrentLaunches: Int,
 ) {
+  // Bounds the launches started from the queues which are still waiting for their pods.
+  private val launchSlots = Semaphore(maxConcurrentLaunches)
+
+
+  /**
+   * Starts launching the workload of a message from the queues, and returns without waiting for its pods to start. The
+   * pipeline reports the workload as launched or failed once they did. Waits for a free slot while too many launches are
+   * in flight, so that the queue consumer stops taking messages.
+   */
   @Trace(operationName = LAUNCH_PIPELINE_OPERATION_NAME)
   fun accept(msg: LauncherInput) {
     val startTime = TimeSource.Monotonic.markNow()
@@ -47,26 +57,38 @@ class LaunchPipeline(
       WorkloadLauncherMetricMetadata.WORKLOAD_RECEIVED,
       MetricAttribute(MeterFilterFactory.WORKLOAD_TYPE_TAG, msg.workloadType.toString()),
     )
-    val disposable =
-      buildPipeline(msg)
-        .subscribeOn(Schedulers.immediate())
-        .subscribe()
-    metricPublisher.timer(
-      WorkloadLauncherMetricMetadata.WORKLOAD_LAUNCH_DURATION,
-      startTime.elapsedNow().toJavaDuration(),
-      MetricAttribute(MeterFilterFactory.WORKLOAD_TYPE_TAG, msg.workloadType.toString()),
-    )
-    disposable.dispose()
+    launchSlots.acquire()
+    buildPipeline(msg)
+      .doFinally {
+        launchSlots.release()
+        metricPublisher.timer(
+          WorkloadLauncherMetricMetadata.WORKLOAD_LAUNCH_DURATION,
+          startTime.elapsedNow().toJavaDuration(),
+          MetricAttribute(MeterFilterFactory.WORKLOAD_TYPE_TAG, msg.workloadType.toString()),
+        )
+      }
+      .subscribe(
+        {},
+        // The stage errors are handled by the pipeline, so this is an error of the handlers themselves.
+        { e -> logger.error(e) { "Failed to report the launch of workload ${msg.workloadId}." } },
+      )
   }
 
-  fun buildPipeline(msg: LauncherInput): Mono<LaunchStageIO> {
+  /**
+   * Builds the pipeline launching the workload of [msg]. The claim stage is skipped for workloads which the launcher
+   * [alreadyClaimed], such as the ones returned by a batch claim.
+   */
+  fun buildPipeline(
+    msg: LauncherInput,
+    alreadyClaimed: Boolean = false,
+  ): Mono<LaunchStageIO> {
     addTagsToTrace(msg)
     val loggingCtx = ctxFactory.create(msg)
     val input = LaunchStageIO(msg, loggingCtx)
 
     return input
       .toMono()
-      .flatMap(claim)
+      .let { if (alreadyClaimed) it else it.flatMap(claim) }
       .flatMap(check)
       .flatMap(build)
       .flatMap(mutex)
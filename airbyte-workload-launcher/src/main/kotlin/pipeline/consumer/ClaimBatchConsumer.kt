@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.launcher.pipeline.consumer
+
+import io.airbyte.metrics.lib.MetricAttribute
+import io.airbyte.workload.launcher.client.WorkloadApiClient
+import io.airbyte.workload.launcher.metrics.CustomMetricPublisher
+import io.airbyte.workload.launcher.metrics.MeterFilterFactory
+import io.airbyte.workload.launcher.metrics.WorkloadLauncherMetricMetadata
+import io.airbyte.workload.launcher.model.toLauncherInput
+import io.airbyte.workload.launcher.pipeline.LaunchPipeline
+import io.github.oshai.kotlinlogging.KotlinLogging
+import io.micronaut.context.annotation.Value
+import jakarta.annotation.PreDestroy
+import jakarta.inject.Singleton
+import reactor.core.scheduler.Schedulers
+import java.time.Duration
+import java.util.concurrent.Semaphore
+
+private val logger = KotlinLogging.logger {}
+
+/**
+ * Consumes workloads by claiming batches of pending workloads from the Workload API, rather than by receiving them one by
+ * one from the launcher queues and claiming each of them.
+ *
+ * At most `parallelism` workloads are processed at once. Each batch only claims as many workloads as there are free slots,
+ * so that claimed workloads never wait for a slot while another dataplane could have launched them.
+ */
+@Singleton
+class ClaimBatchConsumer(
+  private val apiClient: WorkloadApiClient,
+  private val pipe: LaunchPipeline,
+  private val metricPublisher: CustomMetricPublisher,
+  @Value("\${airbyte.workload-launcher.geography}") private val geography: String,
+  @Value("\${airbyte.workload-launcher.claim-batch.size}") private val batchSize: Int,
+  @Value("\${airbyte.workload-launcher.claim-batch.poll-interval}") private val pollInterval: Duration,
+  @Value("\${airbyte.workload-launcher.temporal.default-queue.parallelism}") parallelism: Int,
+) {
+  private val scheduler = Schedulers.newParallel("claim-batch-scheduler", parallelism)
+  private val slots = Semaphore(parallelism)
+
+  @Volatile
+  private var running = true
+
+  /**
+   * Claims and processes batches of workloads until [stop] is called. Waits for the poll interval whenever a batch
+   * didn't fill, as there are no more pending workloads or free slots for now.
+   */
+  fun consume() {
+    while (running) {
+      val claimed =
+        try {
+          claimAndProcess()
+        } catch (e: Exception) {
+          logger.error(e) { "Failed to claim a batch of workloads" }
+          0
+        }
+
+      if (claimed < batchSize) {
+        Thread.sleep(pollInterval.toMillis())
+      }
+    }
+  }
+
+  /**
+   * Stops claiming workloads once the current batch is claimed. The workloads which were already claimed are still
+   * processed.
+   */
+  @PreDestroy
+  fun stop() {
+    running = false
+  }
+
+  /**
+   * Claims a batch of workloads and starts processing them, without waiting for them to be launched. Returns the number
+   * of claimed workloads.
+   */
+  fun claimAndProcess(): Int {
+    val limit = minOf(batchSize, slots.availablePermits())
+    if (limit == 0) {
+      return 0
+    }
+
+    val workloads = apiClient.claimBatch(geography, limit)
+    // Only this thread acquires slots, so the ones which were available are still there.
+    slots.acquire(workloads.size)
+
+    workloads.map { it.toLauncherInput() }.forEach { msg ->
+      val workloadType = MetricAttribute(MeterFilterFactory.WORKLOAD_TYPE_TAG, msg.workloadType.toString())
+      metricPublisher.count(WorkloadLauncherMetricMetadata.WORKLOAD_RECEIVED, workloadType)
+      metricPublisher.count(WorkloadLauncherMetricMetadata.WORKLOAD_CLAIMED, workloadType)
+
+      pipe.buildPipeline(msg, alreadyClaimed = true)
+        .doFinally { slots.release() }
+        .subscribeOn(scheduler)
+        .subscribe()
+    }
+
+    return workloads.size
+  }
+}
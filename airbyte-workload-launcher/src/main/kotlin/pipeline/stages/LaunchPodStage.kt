@@ -42,16 +42,25 @@ open class LaunchPodStage(
   }
 
   override fun applyStage(input: LaunchStageIO): LaunchStageIO {
+    return applyStageAsync(input).block()!!
+  }
+
+  /**
+   * Completes once the pods are started. The launcher doesn't hold a thread while they start, so that it can
+   * follow many launches at once.
+   */
+  override fun applyStageAsync(input: LaunchStageIO): Mono<LaunchStageIO> {
     val payload = input.payload!!
 
-    when (payload) {
-      is SyncPayload -> launcher.launchReplication(payload.input, input.msg)
-      is CheckPayload -> launcher.launchCheck(payload.input, input.msg)
-      is DiscoverCatalogPayload -> launcher.launchDiscover(payload.input, input.msg)
-      is SpecPayload -> launcher.launchSpec(payload.input, input.msg)
-    }
+    val launch =
+      when (payload) {
+        is SyncPayload -> launcher.launchReplication(payload.input, input.msg)
+        is CheckPayload -> launcher.launchCheck(payload.input, input.msg)
+        is DiscoverCatalogPayload -> launcher.launchDiscover(payload.input, input.msg)
+        is SpecPayload -> launcher.launchSpec(payload.input, input.msg)
+      }
 
-    return input
+    return launch.thenReturn(input)
   }
 
   override fun getStageName(): StageName {
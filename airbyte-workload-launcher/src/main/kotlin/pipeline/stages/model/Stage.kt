@@ -13,6 +13,7 @@ import io.airbyte.workload.launcher.pipeline.stages.StageName
 import io.github.oshai.kotlinlogging.KotlinLogging
 import io.github.oshai.kotlinlogging.withLoggingContext
 import reactor.core.publisher.Mono
+import reactor.core.publisher.SignalType
 import reactor.kotlin.core.publisher.toMono
 import java.util.function.Function
 import kotlin.time.TimeSource
@@ -34,30 +35,41 @@ abstract class Stage<T : StageIO>(
       }
 
       val startTime = TimeSource.Monotonic.markNow()
-      var success = true
 
       logger.info { "APPLY Stage: ${getStageName()} — (workloadId = ${input.msg.workloadId}) — (dataplaneId = $dataplaneId)" }
 
-      return try {
-        applyStage(input).toMono()
-      } catch (t: Throwable) {
-        success = false
-        ApmTraceUtils.addExceptionToTrace(t)
-        Mono.error(StageError(input, getStageName(), t))
-      } finally {
-        metricPublisher.timer(
-          WorkloadLauncherMetricMetadata.WORKLOAD_STAGE_DURATION,
-          startTime.elapsedNow().toJavaDuration(),
-          *getMetricAttrs(input).toTypedArray(),
-          MetricAttribute(STAGE_NAME_TAG, getStageName().toString()),
-          MetricAttribute(MetricTags.STATUS, if (success) SUCCESS_STATUS else FAILURE_STATUS),
-        )
-      }
+      val stage =
+        try {
+          applyStageAsync(input)
+        } catch (t: Throwable) {
+          Mono.error(t)
+        }
+
+      return stage
+        .onErrorMap { t ->
+          ApmTraceUtils.addExceptionToTrace(t)
+          StageError(input, getStageName(), t)
+        }
+        .doFinally { signal ->
+          metricPublisher.timer(
+            WorkloadLauncherMetricMetadata.WORKLOAD_STAGE_DURATION,
+            startTime.elapsedNow().toJavaDuration(),
+            *getMetricAttrs(input).toTypedArray(),
+            MetricAttribute(STAGE_NAME_TAG, getStageName().toString()),
+            MetricAttribute(MetricTags.STATUS, if (signal == SignalType.ON_ERROR) FAILURE_STATUS else SUCCESS_STATUS),
+          )
+        }
     }
   }
 
   abstract fun applyStage(input: T): T
 
+  /**
+   * Applies the stage and returns once it is done, unless overridden by stages which wait on events, such as pods
+   * starting, without holding the calling thread.
+   */
+  open fun applyStageAsync(input: T): Mono<T> = applyStage(input).toMono()
+
   abstract fun skipStage(input: StageIO): Boolean
 
   abstract fun getStageName(): StageName
@@ -21,6 +21,7 @@ import io.micronaut.context.annotation.Requires
 import io.micronaut.context.env.Environment
 import jakarta.inject.Named
 import jakarta.inject.Singleton
+import reactor.core.publisher.Mono
 import java.nio.file.Path
 import java.util.UUID
 
@@ -41,7 +42,7 @@ class DockerPodClient(
   override fun launchReplication(
     replicationInput: ReplicationInput,
     launcherInput: LauncherInput,
-  ) {
+  ): Mono<Void> {
     val podConfig =
       DockerPodConfig(
         jobDir = Path.of(replicationInput.getJobId()).resolve(replicationInput.getAttemptId().toString()).resolve("orchestrator"),
@@ -52,27 +53,27 @@ class DockerPodClient(
         fileMap = buildFileMap(launcherInput.workloadId, replicationInput, replicationInput.jobRunConfig),
         orchestratorReqs = replicationInput.getOrchestratorResourceReqs(),
       )
-    podLauncher.launch(podConfig)
+    return Mono.fromRunnable { podLauncher.launch(podConfig) }
   }
 
   override fun launchCheck(
     checkInput: CheckConnectionInput,
     launcherInput: LauncherInput,
-  ) {
+  ): Mono<Void> {
     TODO("Not yet implemented")
   }
 
   override fun launchDiscover(
     discoverCatalogInput: DiscoverCatalogInput,
     launcherInput: LauncherInput,
-  ) {
+  ): Mono<Void> {
     TODO("Not yet implemented")
   }
 
   override fun launchSpec(
     specInput: SpecInput,
     launcherInput: LauncherInput,
-  ) {
+  ): Mono<Void> {
     TODO("Not yet implemented")
   }
 
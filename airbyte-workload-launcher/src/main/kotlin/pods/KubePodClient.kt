@@ -19,14 +19,18 @@ import io.airbyte.workload.launcher.pipeline.consumer.LauncherInput
 import io.airbyte.workload.launcher.pods.factories.ConnectorPodFactory
 import io.airbyte.workload.launcher.pods.factories.OrchestratorPodFactory
 import io.fabric8.kubernetes.api.model.Pod
+import io.github.oshai.kotlinlogging.KotlinLogging
 import io.micronaut.context.annotation.Requires
 import io.micronaut.context.env.Environment
 import jakarta.inject.Named
 import jakarta.inject.Singleton
+import reactor.core.publisher.Mono
 import java.time.Duration
 import java.util.UUID
 import kotlin.time.TimeSource
 
+private val logger = KotlinLogging.logger {}
+
 /**
  * Interface layer between domain and Kube layers.
  * Composes raw Kube layer atomic operations to perform business operations.
@@ -51,7 +55,7 @@ class KubePodClient(
   override fun launchReplication(
     replicationInput: ReplicationInput,
     launcherInput: LauncherInput,
-  ) {
+  ): Mono<Void> {
     val sharedLabels = labeler.getSharedLabels(launcherInput.workloadId, launcherInput.mutexKey, launcherInput.labels, launcherInput.autoId)
 
     val inputWithLabels =
@@ -61,7 +65,7 @@ class KubePodClient(
 
     val kubeInput = mapper.toKubeInput(launcherInput.workloadId, inputWithLabels, sharedLabels)
 
-    var pod =
+    val pod =
       orchestratorPodFactory.create(
         replicationInput.connectionId,
         kubeInput.orchestratorLabels,
@@ -71,9 +75,24 @@ class KubePodClient(
         kubeInput.annotations,
         mapOf(),
       )
+
+    return Mono.fromCallable { createOrchestrator(kubeInput, pod) }
+      .flatMap { orchestrator ->
+        waitOrchestratorPodInit(orchestrator)
+          .then(Mono.fromRunnable<Void> { copyFileToOrchestrator(kubeInput, orchestrator) })
+          .then(waitForOrchestratorStart(orchestrator))
+      }
+      // We wait for the destination first because orchestrator starts destinations first.
+      .then(waitDestinationReadyOrTerminalInit(kubeInput))
+      .then(if (replicationInput.isReset) Mono.empty() else waitSourceReadyOrTerminalInit(kubeInput))
+  }
+
+  private fun createOrchestrator(
+    kubeInput: OrchestratorKubeInput,
+    pod: Pod,
+  ): Pod {
     try {
-      pod =
-        kubePodLauncher.create(pod)
+      return kubePodLauncher.create(pod)
     } catch (e: RuntimeException) {
       ApmTraceUtils.addExceptionToTrace(e)
       throw KubeClientException(
@@ -83,35 +102,21 @@ class KubePodClient(
         PodType.ORCHESTRATOR,
       )
     }
-
-    waitOrchestratorPodInit(pod)
-
-    copyFileToOrchestrator(kubeInput, pod)
-
-    waitForOrchestratorStart(pod)
-
-    // We wait for the destination first because orchestrator starts destinations first.
-    waitDestinationReadyOrTerminalInit(kubeInput)
-
-    if (!replicationInput.isReset) {
-      waitSourceReadyOrTerminalInit(kubeInput)
-    }
   }
 
   @Trace(operationName = WAIT_ORCHESTRATOR_OPERATION_NAME)
-  fun waitOrchestratorPodInit(orchestratorPod: Pod) {
-    try {
-      kubePodLauncher.waitForPodInit(orchestratorPod, POD_INIT_TIMEOUT_VALUE)
-    } catch (e: RuntimeException) {
-      ApmTraceUtils.addExceptionToTrace(e)
-      throw KubeClientException(
-        "Init container of orchestrator pod failed to start within allotted timeout of ${POD_INIT_TIMEOUT_VALUE.seconds} seconds. " +
-          "(${e.message})",
-        e,
-        KubeCommandType.WAIT_INIT,
-        PodType.ORCHESTRATOR,
-      )
-    }
+  fun waitOrchestratorPodInit(orchestratorPod: Pod): Mono<Void> {
+    return kubePodLauncher.waitForPodInit(orchestratorPod, POD_INIT_TIMEOUT_VALUE)
+      .onErrorMap(RuntimeException::class.java) { e ->
+        ApmTraceUtils.addExceptionToTrace(e)
+        KubeClientException(
+          "Init container of orchestrator pod failed to start within allotted timeout of ${POD_INIT_TIMEOUT_VALUE.seconds} seconds. " +
+            "(${e.message})",
+          e,
+          KubeCommandType.WAIT_INIT,
+          PodType.ORCHESTRATOR,
+        )
+      }
   }
 
   @Trace(operationName = WAIT_ORCHESTRATOR_OPERATION_NAME)
@@ -133,55 +138,52 @@ class KubePodClient(
   }
 
   @Trace(operationName = WAIT_ORCHESTRATOR_OPERATION_NAME)
-  fun waitForOrchestratorStart(pod: Pod) {
-    try {
-      kubePodLauncher.waitForPodReadyOrTerminalByPod(pod, ORCHESTRATOR_STARTUP_TIMEOUT_VALUE)
-    } catch (e: RuntimeException) {
-      ApmTraceUtils.addExceptionToTrace(e)
-      throw KubeClientException(
-        "Main container of orchestrator pod failed to start within allotted timeout of ${ORCHESTRATOR_STARTUP_TIMEOUT_VALUE.seconds} seconds. " +
-          "(${e.message})",
-        e,
-        KubeCommandType.WAIT_MAIN,
-        PodType.ORCHESTRATOR,
-      )
-    }
+  fun waitForOrchestratorStart(pod: Pod): Mono<Void> {
+    return kubePodLauncher.waitForPodReadyOrTerminalByPod(pod, ORCHESTRATOR_STARTUP_TIMEOUT_VALUE)
+      .onErrorMap(RuntimeException::class.java) { e ->
+        ApmTraceUtils.addExceptionToTrace(e)
+        KubeClientException(
+          "Main container of orchestrator pod failed to start within allotted timeout of ${ORCHESTRATOR_STARTUP_TIMEOUT_VALUE.seconds} seconds. " +
+            "(${e.message})",
+          e,
+          KubeCommandType.WAIT_MAIN,
+          PodType.ORCHESTRATOR,
+        )
+      }
   }
 
   @Trace(operationName = WAIT_SOURCE_OPERATION_NAME)
-  fun waitSourceReadyOrTerminalInit(kubeInput: OrchestratorKubeInput) {
-    try {
-      kubePodLauncher.waitForPodReadyOrTerminal(kubeInput.sourceLabels, REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE)
-    } catch (e: RuntimeException) {
-      ApmTraceUtils.addExceptionToTrace(e)
-      throw KubeClientException(
-        "Source pod failed to start within allotted timeout of ${REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE.seconds} seconds. (${e.message})",
-        e,
-        KubeCommandType.WAIT_MAIN,
-        PodType.SOURCE,
-      )
-    }
+  fun waitSourceReadyOrTerminalInit(kubeInput: OrchestratorKubeInput): Mono<Void> {
+    return kubePodLauncher.waitForPodReadyOrTerminal(kubeInput.sourceLabels, REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE)
+      .onErrorMap(RuntimeException::class.java) { e ->
+        ApmTraceUtils.addExceptionToTrace(e)
+        KubeClientException(
+          "Source pod failed to start within allotted timeout of ${REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE.seconds} seconds. (${e.message})",
+          e,
+          KubeCommandType.WAIT_MAIN,
+          PodType.SOURCE,
+        )
+      }
   }
 
   @Trace(operationName = WAIT_DESTINATION_OPERATION_NAME)
-  fun waitDestinationReadyOrTerminalInit(kubeInput: OrchestratorKubeInput) {
-    try {
-      kubePodLauncher.waitForPodReadyOrTerminal(kubeInput.destinationLabels, REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE)
-    } catch (e: RuntimeException) {
-      ApmTraceUtils.addExceptionToTrace(e)
-      throw KubeClientException(
-        "Destination pod failed to start within allotted timeout of ${REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE.seconds} seconds. (${e.message})",
-        e,
-        KubeCommandType.WAIT_MAIN,
-        PodType.DESTINATION,
-      )
-    }
+  fun waitDestinationReadyOrTerminalInit(kubeInput: OrchestratorKubeInput): Mono<Void> {
+    return kubePodLauncher.waitForPodReadyOrTerminal(kubeInput.destinationLabels, REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE)
+      .onErrorMap(RuntimeException::class.java) { e ->
+        ApmTraceUtils.addExceptionToTrace(e)
+        KubeClientException(
+          "Destination pod failed to start within allotted timeout of ${REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE.seconds} seconds. (${e.message})",
+          e,
+          KubeCommandType.WAIT_MAIN,
+          PodType.DESTINATION,
+        )
+      }
   }
 
   override fun launchCheck(
     checkInput: CheckConnectionInput,
     launcherInput: LauncherInput,
-  ) {
+  ): Mono<Void> {
     // For check the workload id is too long to be store as a kube label thus it is not added
     val sharedLabels =
       labeler.getSharedLabels(
@@ -193,13 +195,13 @@ class KubePodClient(
 
     val kubeInput = mapper.toKubeInput(launcherInput.workloadId, checkInput, sharedLabels)
 
-    launchConnectorWithSidecar(kubeInput, checkPodFactory, launcherInput.workloadType.toOperationName())
+    return launchConnectorWithSidecar(kubeInput, checkPodFactory, launcherInput.workloadType.toOperationName())
   }
 
   override fun launchDiscover(
     discoverCatalogInput: DiscoverCatalogInput,
     launcherInput: LauncherInput,
-  ) {
+  ): Mono<Void> {
     // For discover the workload id is too long to be store as a kube label thus it is not added
     val sharedLabels =
       labeler.getSharedLabels(
@@ -211,13 +213,13 @@ class KubePodClient(
 
     val kubeInput = mapper.toKubeInput(launcherInput.workloadId, discoverCatalogInput, sharedLabels)
 
-    launchConnectorWithSidecar(kubeInput, discoverPodFactory, launcherInput.workloadType.toOperationName())
+    return launchConnectorWithSidecar(kubeInput, discoverPodFactory, launcherInput.workloadType.toOperationName())
   }
 
   override fun launchSpec(
     specInput: SpecInput,
     launcherInput: LauncherInput,
-  ) {
+  ): Mono<Void> {
     // For spec the workload id is too long to be store as a kube label thus it is not added
     val sharedLabels =
       labeler.getSharedLabels(
@@ -229,7 +231,7 @@ class KubePodClient(
 
     val kubeInput = mapper.toKubeInput(launcherInput.workloadId, specInput, sharedLabels)
 
-    launchConnectorWithSidecar(kubeInput, specPodFactory, launcherInput.workloadType.toOperationName())
+    return launchConnectorWithSidecar(kubeInput, specPodFactory, launcherInput.workloadType.toOperationName())
   }
 
   @VisibleForTesting
@@ -237,10 +239,10 @@ class KubePodClient(
     kubeInput: ConnectorKubeInput,
     factory: ConnectorPodFactory,
     podLogLabel: String,
-  ) {
+  ): Mono<Void> {
     val start = TimeSource.Monotonic.markNow()
 
-    var pod =
+    val pod =
       factory.create(
         kubeInput.connectorLabels,
         kubeInput.nodeSelectors,
@@ -248,8 +250,40 @@ class KubePodClient(
         kubeInput.annotations,
         kubeInput.extraEnv,
       )
+
+    return Mono.fromCallable { createConnector(kubeInput, pod) }
+      .flatMap { connector ->
+        kubePodLauncher.waitForPodInit(connector, POD_INIT_TIMEOUT_VALUE)
+          .onErrorMap(RuntimeException::class.java) { e ->
+            ApmTraceUtils.addExceptionToTrace(e)
+            KubeClientException(
+              "$podLogLabel pod failed to init within allotted timeout.",
+              e,
+              KubeCommandType.WAIT_INIT,
+            )
+          }
+          .then(Mono.fromRunnable<Void> { copyFilesToConnector(kubeInput, connector, podLogLabel) })
+          .then(
+            kubePodLauncher.waitForPodReadyOrTerminalByPod(connector, REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE)
+              .onErrorMap(RuntimeException::class.java) { e ->
+                ApmTraceUtils.addExceptionToTrace(e)
+                KubeClientException(
+                  "$podLogLabel pod failed to start within allotted timeout.",
+                  e,
+                  KubeCommandType.WAIT_MAIN,
+                )
+              },
+          )
+      }
+      .doOnSuccess { logger.debug { "$podLogLabel pod with sidecar started in ${start.elapsedNow()}" } }
+  }
+
+  private fun createConnector(
+    kubeInput: ConnectorKubeInput,
+    pod: Pod,
+  ): Pod {
     try {
-      pod = kubePodLauncher.create(pod)
+      return kubePodLauncher.create(pod)
     } catch (e: RuntimeException) {
       ApmTraceUtils.addExceptionToTrace(e)
       throw KubeClientException(
@@ -258,18 +292,13 @@ class KubePodClient(
         KubeCommandType.CREATE,
       )
     }
+  }
 
-    try {
-      kubePodLauncher.waitForPodInit(pod, POD_INIT_TIMEOUT_VALUE)
-    } catch (e: RuntimeException) {
-      ApmTraceUtils.addExceptionToTrace(e)
-      throw KubeClientException(
-        "$podLogLabel pod failed to init within allotted timeout.",
-        e,
-        KubeCommandType.WAIT_INIT,
-      )
-    }
-
+  private fun copyFilesToConnector(
+    kubeInput: ConnectorKubeInput,
+    pod: Pod,
+    podLogLabel: String,
+  ) {
     try {
       kubePodLauncher.copyFilesToKubeConfigVolumeMain(pod, kubeInput.fileMap)
     } catch (e: RuntimeException) {
@@ -280,19 +309,6 @@ class KubePodClient(
         KubeCommandType.COPY,
       )
     }
-
-    try {
-      kubePodLauncher.waitForPodReadyOrTerminalByPod(pod, REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE)
-    } catch (e: RuntimeException) {
-      ApmTraceUtils.addExceptionToTrace(e)
-      throw KubeClientException(
-        "$podLogLabel pod failed to start within allotted timeout.",
-        e,
-        KubeCommandType.WAIT_MAIN,
-      )
-    }
-
-    println("ELAPSED TIME (SIDECAR): ${start.elapsedNow()}")
   }
 
   override fun deleteMutexPods(mutexKey: String): Boolean {
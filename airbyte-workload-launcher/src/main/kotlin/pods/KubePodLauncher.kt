@@ -5,6 +5,7 @@ import dev.failsafe.RetryPolicy
 import io.airbyte.featureflag.FeatureFlagClient
 import io.airbyte.featureflag.PlaneName
 import io.airbyte.featureflag.UseCustomK8sInitCheck
+import io.airbyte.featureflag.UsePodInformerForLaunchWaits
 import io.airbyte.metrics.lib.MetricAttribute
 import io.airbyte.metrics.lib.MetricClient
 import io.airbyte.metrics.lib.OssMetricsRegistry
@@ -27,9 +28,13 @@ import io.micronaut.context.annotation.Property
 import io.micronaut.context.annotation.Value
 import jakarta.inject.Named
 import jakarta.inject.Singleton
+import reactor.core.publisher.Mono
+import reactor.core.scheduler.Schedulers
 import java.time.Duration
 import java.util.Objects
+import java.util.concurrent.CompletableFuture
 import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
 
 private val logger = KotlinLogging.logger {}
 
@@ -45,6 +50,7 @@ class KubePodLauncher(
   @Named("kubernetesClientRetryPolicy") private val kubernetesClientRetryPolicy: RetryPolicy<Any>,
   private val featureFlagClient: FeatureFlagClient,
   @Property(name = "airbyte.data-plane-name") private val dataPlaneName: String?,
+  private val podWatcher: KubePodWatcher,
 ) {
   fun create(pod: Pod): Pod {
     return runKubeCommand(
@@ -58,14 +64,22 @@ class KubePodLauncher(
     )
   }
 
+  /**
+   * Waits for the init container of the pod to start. Like the other waits, the returned mono doesn't hold a thread
+   * while the pod starts when the pod informer is used.
+   */
   fun waitForPodInit(
     pod: Pod,
     waitDuration: Duration,
-  ) {
-    if (shouldUseCustomK8sInitCheck()) {
-      return waitForPodInitCustomCheck(pod, waitDuration)
-    } else {
-      return waitForPodInitDefaultCheck(pod, waitDuration)
+  ): Mono<Void> {
+    return Mono.defer {
+      if (shouldUseCustomK8sInitCheck()) {
+        waitForPodCondition(pod, waitDuration, this::isInitContainerDone)
+          .doOnNext { initializedPod -> checkInitContainerRunning(pod, initializedPod, waitDuration) }
+          .then()
+      } else {
+        waitForPodCondition(pod, waitDuration) { p: Pod -> PodStatusUtil.isInitializing(p) }.then()
+      }
     }
   }
 
@@ -76,49 +90,22 @@ class KubePodLauncher(
         PlaneName(dataPlaneName),
       )
 
-  private fun waitForPodInitDefaultCheck(
-    pod: Pod,
-    waitDuration: Duration,
-  ) {
-    runKubeCommand(
-      {
-        kubernetesClient
-          .resource(pod)
-          .waitUntilCondition(
-            { p: Pod ->
-              PodStatusUtil.isInitializing(p)
-            },
-            waitDuration.toMinutes(),
-            TimeUnit.MINUTES,
-          )
-      },
-      "wait",
-    )
-  }
+  private fun shouldUsePodInformer() =
+    !dataPlaneName.isNullOrBlank() &&
+      featureFlagClient.boolVariation(
+        UsePodInformerForLaunchWaits,
+        PlaneName(dataPlaneName),
+      )
+
+  private fun isInitContainerDone(p: Pod): Boolean =
+    p.status.initContainerStatuses.isNotEmpty() &&
+      p.status.initContainerStatuses[0].state.waiting == null
 
-  private fun waitForPodInitCustomCheck(
+  private fun checkInitContainerRunning(
     pod: Pod,
+    initializedPod: Pod,
     waitDuration: Duration,
   ) {
-    val initializedPod =
-      runKubeCommand(
-        {
-          kubernetesClient
-            .resource(pod)
-            .waitUntilCondition(
-              { p: Pod ->
-                (
-                  p.status.initContainerStatuses.isNotEmpty() &&
-                    p.status.initContainerStatuses[0].state.waiting == null
-                )
-              },
-              waitDuration.toMinutes(),
-              TimeUnit.MINUTES,
-            )
-        },
-        "wait",
-      )
-
     val containerState: ContainerState =
       initializedPod
         .status
@@ -136,44 +123,67 @@ class KubePodLauncher(
   fun waitForPodReadyOrTerminal(
     labels: Map<String, String>,
     waitDuration: Duration,
-  ) {
-    runKubeCommand(
-      {
-        kubernetesClient.pods()
-          .inNamespace(namespace)
-          .withLabels(labels)
-          .waitUntilCondition(
-            { p: Pod? ->
-              Objects.nonNull(p) &&
-                (Readiness.getInstance().isReady(p) || KubePodResourceHelper.isTerminal(p))
-            },
-            waitDuration.toMinutes(),
-            TimeUnit.MINUTES,
-          )
-      },
-      "wait",
-    )
+  ): Mono<Void> {
+    return waitForPods(
+      { podWatcher.waitForPodWithLabels(labels, waitDuration, this::isReadyOrTerminal).thenApply { listOf(it) } },
+      waitDuration,
+    ) {
+      kubernetesClient.pods()
+        .inNamespace(namespace)
+        .withLabels(labels)
+        .waitUntilCondition(
+          { p: Pod? -> Objects.nonNull(p) && isReadyOrTerminal(p!!) },
+          waitDuration.toMinutes(),
+          TimeUnit.MINUTES,
+        )
+    }.then()
   }
 
   fun waitForPodReadyOrTerminalByPod(
     pod: Pod,
     waitDuration: Duration,
-  ) {
-    runKubeCommand(
-      {
-        kubernetesClient
-          .resource(pod)
-          .waitUntilCondition(
-            { p: Pod? ->
-              Objects.nonNull(p) &&
-                (Readiness.getInstance().isReady(p) || KubePodResourceHelper.isTerminal(p))
-            },
-            waitDuration.toMinutes(),
-            TimeUnit.MINUTES,
-          )
-      },
-      "wait",
-    )
+  ): Mono<Void> {
+    return waitForPodCondition(pod, waitDuration, this::isReadyOrTerminal).then()
+  }
+
+  private fun isReadyOrTerminal(p: Pod): Boolean = Readiness.getInstance().isReady(p) || KubePodResourceHelper.isTerminal(p)
+
+  private fun waitForPodCondition(
+    pod: Pod,
+    waitDuration: Duration,
+    condition: (Pod) -> Boolean,
+  ): Mono<Pod> {
+    return waitForPods({ podWatcher.waitForPod(pod.metadata.name, waitDuration, condition) }, waitDuration) {
+      kubernetesClient
+        .resource(pod)
+        .waitUntilCondition(
+          { p: Pod? -> Objects.nonNull(p) && condition(p!!) },
+          waitDuration.toMinutes(),
+          TimeUnit.MINUTES,
+        )
+    }
+  }
+
+  /**
+   * Waits on the shared pod informer if enabled, without holding a thread until the pods match. Otherwise waits on the
+   * subscribing thread, from a watch of its own.
+   */
+  private fun <T : Any> waitForPods(
+    informerWait: () -> CompletableFuture<T>,
+    waitDuration: Duration,
+    watchWait: () -> T,
+  ): Mono<T> {
+    return Mono.defer {
+      if (shouldUsePodInformer()) {
+        Mono.fromFuture { informerWait() }
+          .onErrorMap(TimeoutException::class.java) { e -> RuntimeException("Pod did not reach the expected state within $waitDuration.", e) }
+          .doOnError { countKubeError("wait") }
+          // The informer thread completes the waits, so the launch goes on with its blocking calls on another thread.
+          .publishOn(Schedulers.boundedElastic())
+      } else {
+        Mono.fromCallable { runKubeCommand(watchWait, "wait") }
+      }
+    }
   }
 
   fun podsRunning(labels: Map<String, String>): Boolean {
@@ -252,14 +262,18 @@ class KubePodLauncher(
     try {
       return Failsafe.with(kubernetesClientRetryPolicy).get { -> kubeCommand() }
     } catch (e: Exception) {
-      val attributes: List<MetricAttribute> = listOf(MetricAttribute("operation", commandName))
-      val attributesArray = attributes.toTypedArray<MetricAttribute>()
-      metricClient.count(OssMetricsRegistry.WORKLOAD_LAUNCHER_KUBE_ERROR, 1, *attributesArray)
+      countKubeError(commandName)
 
       throw e
     }
   }
 
+  private fun countKubeError(commandName: String) {
+    val attributes: List<MetricAttribute> = listOf(MetricAttribute("operation", commandName))
+    val attributesArray = attributes.toTypedArray<MetricAttribute>()
+    metricClient.count(OssMetricsRegistry.WORKLOAD_LAUNCHER_KUBE_ERROR, 1, *attributesArray)
+  }
+
   object Constants {
     // Wait why is this named like this?
     // Explanation: Kubectl displays "Completed" but the selector expects "Succeeded"
@@ -0,0 +1,185 @@
+package io.airbyte.workload.launcher.pods
+
+import io.airbyte.workload.launcher.pods.PodLabeler.LabelKeys.SWEEPER_LABEL_KEY
+import io.airbyte.workload.launcher.pods.PodLabeler.LabelKeys.SWEEPER_LABEL_VALUE
+import io.fabric8.kubernetes.api.model.Pod
+import io.fabric8.kubernetes.client.KubernetesClient
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer
+import io.fabric8.kubernetes.client.informers.cache.Cache
+import io.github.oshai.kotlinlogging.KotlinLogging
+import io.micronaut.context.annotation.Value
+import jakarta.annotation.PreDestroy
+import jakarta.inject.Singleton
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.TimeUnit
+import java.util.function.Function
+
+private val logger = KotlinLogging.logger {}
+
+/**
+ * Keeps the state of the job pods up to date from a single shared informer and completes the pending waits as
+ * the pod events come in.
+ *
+ * Waiting on a pod through the kube client opens a watch per wait and holds the calling thread until the
+ * condition is met. Here all the waits share one watch on the job pods, and a wait is only a future completed
+ * by the informer thread, so the number of in-flight launches isn't bound to the number of connections or
+ * threads.
+ */
+@Singleton
+class KubePodWatcher(
+  private val kubernetesClient: KubernetesClient,
+  @Value("\${airbyte.worker.job.kube.namespace}") private val namespace: String?,
+) {
+  private val waitsByPodName = ConcurrentHashMap<String, MutableSet<PodWait>>()
+  private val waitsByLabels: MutableSet<PodWait> = ConcurrentHashMap.newKeySet()
+
+  // Started on the first wait, so that a launcher which doesn't use it never watches the pods.
+  private val lazyInformer = lazy { startInformer() }
+  private val informer: SharedIndexInformer<Pod> by lazyInformer
+
+  // The namespace of the cached pods, which is the one of the client if none is configured.
+  private val podNamespace: String? by lazy { namespace ?: kubernetesClient.namespace }
+
+  /**
+   * Waits for the pod with the given name to match the condition.
+   */
+  fun waitForPod(
+    podName: String,
+    waitDuration: Duration,
+    condition: (Pod) -> Boolean,
+  ): CompletableFuture<Pod> {
+    val wait = PodWait({ p -> p.metadata.name == podName }, condition)
+    // The set of a pod is only created and removed within compute calls so that a wait can't be added to a
+    // set which is being dropped.
+    waitsByPodName.compute(podName) { _, waits -> (waits ?: ConcurrentHashMap.newKeySet()).apply { add(wait) } }
+    register(wait, waitDuration, { listOfNotNull(informer.store.getByKey(Cache.namespaceKeyFunc(podNamespace, podName))) }) {
+      waitsByPodName.computeIfPresent(podName) { _, waits -> waits.apply { remove(wait) }.ifEmpty { null } }
+    }
+    return wait.future
+  }
+
+  /**
+   * Waits for any pod with the given labels to match the condition.
+   */
+  fun waitForPodWithLabels(
+    labels: Map<String, String>,
+    waitDuration: Duration,
+    condition: (Pod) -> Boolean,
+  ): CompletableFuture<Pod> {
+    val wait = PodWait({ p -> p.metadata.labels?.entries?.containsAll(labels.entries) == true }, condition)
+    waitsByLabels.add(wait)
+    // Any label of the wait narrows the cached pods down to the ones of the workload, the others are checked by the wait.
+    val cachedPods = {
+      labels.entries.firstOrNull()?.let { informer.indexer.byIndex(LABELS_INDEX, labelIndexKey(it.key, it.value)) } ?: informer.store.list()
+    }
+    register(wait, waitDuration, cachedPods) { waitsByLabels.remove(wait) }
+    return wait.future
+  }
+
+  @PreDestroy
+  fun close() {
+    if (waitsByPodName.isNotEmpty() || waitsByLabels.isNotEmpty()) {
+      logger.info { "Stopping the pod informer with pending waits." }
+    }
+    if (lazyInformer.isInitialized()) {
+      informer.stop()
+    }
+  }
+
+  private fun register(
+    wait: PodWait,
+    waitDuration: Duration,
+    cachedPods: () -> List<Pod>,
+    unregister: () -> Unit,
+  ) {
+    wait.future
+      .orTimeout(waitDuration.toMillis(), TimeUnit.MILLISECONDS)
+      .whenComplete { _, _ -> unregister() }
+
+    // The pod may have reached the expected state before the wait was registered, in which case no event
+    // is coming for it: check the cached state once the wait can't miss any later event.
+    cachedPods().forEach { wait.offer(it) }
+  }
+
+  private fun onPodEvent(pod: Pod) {
+    pod.metadata?.name?.let { name -> waitsByPodName[name]?.forEach { it.offer(pod) } }
+    waitsByLabels.forEach { it.offer(pod) }
+  }
+
+  private fun onPodDeleted(pod: Pod) {
+    pod.metadata?.name?.let { name -> waitsByPodName[name]?.forEach { it.fail(pod) } }
+    waitsByLabels.forEach { it.fail(pod) }
+  }
+
+  private fun startInformer(): SharedIndexInformer<Pod> {
+    logger.info { "Starting the pod informer for namespace $namespace" }
+    val informer =
+      kubernetesClient.pods()
+        .inNamespace(namespace)
+        .withLabel(SWEEPER_LABEL_KEY, SWEEPER_LABEL_VALUE)
+        .runnableInformer(INFORMER_RESYNC_PERIOD.toMillis())
+    informer.addIndexers(
+      mapOf(LABELS_INDEX to Function { pod: Pod -> pod.metadata?.labels?.map { (key, value) -> labelIndexKey(key, value) } ?: listOf() }),
+    )
+    informer.addEventHandler(
+      object : ResourceEventHandler<Pod> {
+        override fun onAdd(pod: Pod) = onPodEvent(pod)
+
+        override fun onUpdate(
+          oldPod: Pod,
+          newPod: Pod,
+        ) = onPodEvent(newPod)
+
+        override fun onDelete(
+          pod: Pod,
+          deletedFinalStateUnknown: Boolean,
+        ) = onPodDeleted(pod)
+      },
+    )
+    // Returns once the pods are listed, like inform.
+    informer.run()
+    return informer
+  }
+
+  private class PodWait(
+    private val matches: (Pod) -> Boolean,
+    private val condition: (Pod) -> Boolean,
+  ) {
+    val future = CompletableFuture<Pod>()
+
+    fun offer(pod: Pod) {
+      if (future.isDone || !matches(pod)) {
+        return
+      }
+      // Conditions read the pod status, which isn't complete in the first events of a pod.
+      val met = runCatching { condition(pod) }.getOrDefault(false)
+      if (met) {
+        future.complete(pod)
+      }
+    }
+
+    /**
+     * Ends the wait if the pod is deleted, as it will never match the condition.
+     */
+    fun fail(pod: Pod) {
+      if (!future.isDone && matches(pod)) {
+        future.completeExceptionally(PodDeletedException("Pod ${pod.metadata?.name} was deleted while waiting on it."))
+      }
+    }
+  }
+
+  class PodDeletedException(message: String) : RuntimeException(message)
+
+  companion object {
+    private val INFORMER_RESYNC_PERIOD: Duration = Duration.ofMinutes(5)
+    private const val LABELS_INDEX = "labels"
+
+    private fun labelIndexKey(
+      key: String,
+      value: String,
+    ) = "$key=$value"
+  }
+}
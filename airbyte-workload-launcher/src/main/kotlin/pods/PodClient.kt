@@ -5,30 +5,35 @@ import io.airbyte.workers.models.CheckConnectionInput
 import io.airbyte.workers.models.DiscoverCatalogInput
 import io.airbyte.workers.models.SpecInput
 import io.airbyte.workload.launcher.pipeline.consumer.LauncherInput
+import reactor.core.publisher.Mono
 import java.util.UUID
 
+/**
+ * Launches the pods of workloads. The launches return once the pods are started, without necessarily holding the
+ * subscribing thread while they start.
+ */
 interface PodClient {
   fun podsExistForAutoId(autoId: UUID): Boolean
 
   fun launchReplication(
     replicationInput: ReplicationInput,
     launcherInput: LauncherInput,
-  )
+  ): Mono<Void>
 
   fun launchCheck(
     checkInput: CheckConnectionInput,
     launcherInput: LauncherInput,
-  )
+  ): Mono<Void>
 
   fun launchDiscover(
     discoverCatalogInput: DiscoverCatalogInput,
     launcherInput: LauncherInput,
-  )
+  ): Mono<Void>
 
   fun launchSpec(
     specInput: SpecInput,
     launcherInput: LauncherInput,
-  )
+  ): Mono<Void>
 
   fun deleteMutexPods(mutexKey: String): Boolean
 }
@@ -7,6 +7,8 @@ package io.airbyte.workload.launcher.client
 import io.airbyte.config.WorkloadType
 import io.airbyte.workload.api.client.generated.WorkloadApi
 import io.airbyte.workload.api.client.model.generated.ClaimResponse
+import io.airbyte.workload.api.client.model.generated.WorkloadClaimBatchRequest
+import io.airbyte.workload.api.client.model.generated.WorkloadClaimBatchResponse
 import io.airbyte.workload.api.client.model.generated.WorkloadFailureRequest
 import io.airbyte.workload.api.client.model.generated.WorkloadRunningRequest
 import io.airbyte.workload.launcher.pipeline.consumer.LauncherInput
@@ -144,6 +146,20 @@ internal class WorkloadApiClientTest {
     assertEquals(false, claimResult)
   }
 
+  @Test
+  internal fun `test claiming a batch of workloads via the Workload API`() {
+    val requestCapture = slot<WorkloadClaimBatchRequest>()
+
+    every { workloadApi.workloadClaimBatch(capture(requestCapture)) } returns WorkloadClaimBatchResponse(listOf())
+
+    val claimed = workloadApiClient.claimBatch("auto", 5)
+
+    assertEquals(listOf<Any>(), claimed)
+    assertEquals(DATA_PLANE_ID, requestCapture.captured.dataplaneId)
+    assertEquals("auto", requestCapture.captured.geography)
+    assertEquals(5, requestCapture.captured.limit)
+  }
+
   companion object {
     const val DATA_PLANE_ID = "data-plane-id"
   }
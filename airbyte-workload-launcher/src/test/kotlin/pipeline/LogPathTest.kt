@@ -164,6 +164,7 @@ class LogPathTest {
         failureHandler,
         metricPublisher,
         LogContextFactory(Configs.WorkerEnvironment.DOCKER),
+        10,
       )
 
     fun readTestLogs(logPath: String): List<String> = Files.readAllLines(Path(logPath)).filter { line -> line.contains(TEST_LOG_PREFIX) }
@@ -7,6 +7,7 @@ package io.airbyte.workload.launcher.pipeline
 import io.airbyte.workload.launcher.ClaimProcessorTracker
 import io.airbyte.workload.launcher.ClaimedProcessor
 import io.airbyte.workload.launcher.StartupApplicationEventListener
+import io.airbyte.workload.launcher.pipeline.consumer.ClaimBatchConsumer
 import io.mockk.Ordering
 import io.mockk.every
 import io.mockk.mockk
@@ -33,6 +34,8 @@ class PipelineStartupTest {
         highPriorityworkerFactory,
         claimProcessorTracker,
         mockk(),
+        mockk(),
+        false,
       )
 
     listener.onApplicationEvent(null)
@@ -45,4 +48,38 @@ class PipelineStartupTest {
       highPriorityworkerFactory.start()
     }
   }
+
+  @Test
+  fun `should claim batches of workloads instead of consuming the queues when enabled`() {
+    val workerFactory: WorkerFactory = mockk()
+    val highPriorityworkerFactory: WorkerFactory = mockk()
+    val claimedProcessor: ClaimedProcessor = mockk()
+    val claimProcessorTracker: ClaimProcessorTracker = mockk()
+    val claimBatchConsumer: ClaimBatchConsumer = mockk()
+
+    every { claimedProcessor.retrieveAndProcess() } returns Unit
+    every { claimProcessorTracker.await() } returns Unit
+    every { claimBatchConsumer.consume() } returns Unit
+
+    val listener =
+      StartupApplicationEventListener(
+        claimedProcessor,
+        workerFactory,
+        highPriorityworkerFactory,
+        claimProcessorTracker,
+        mockk(),
+        claimBatchConsumer,
+        true,
+      )
+
+    listener.onApplicationEvent(null)
+    listener.mainThread?.join()
+
+    verify(ordering = Ordering.ORDERED) {
+      claimProcessorTracker.await()
+      claimBatchConsumer.consume()
+    }
+    verify(exactly = 0) { workerFactory.start() }
+    verify(exactly = 0) { highPriorityworkerFactory.start() }
+  }
 }
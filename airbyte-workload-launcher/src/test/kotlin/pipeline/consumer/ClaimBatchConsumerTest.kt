@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2020-2024 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workload.launcher.pipeline.consumer
+
+import io.airbyte.workload.api.client.model.generated.Workload
+import io.airbyte.workload.api.client.model.generated.WorkloadType
+import io.airbyte.workload.launcher.client.WorkloadApiClient
+import io.airbyte.workload.launcher.fixtures.SharedMocks.Companion.metricPublisher
+import io.airbyte.workload.launcher.pipeline.LaunchPipeline
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import reactor.core.publisher.Mono
+import java.time.Duration
+import java.util.UUID
+import kotlin.concurrent.thread
+
+class ClaimBatchConsumerTest {
+  private lateinit var apiClient: WorkloadApiClient
+  private lateinit var pipe: LaunchPipeline
+
+  @BeforeEach
+  fun setup() {
+    apiClient = mockk()
+    pipe = mockk()
+  }
+
+  @Test
+  fun `claimed workloads are launched without being claimed again`() {
+    every { apiClient.claimBatch(GEOGRAPHY, 5) } returns listOf(workload("1"), workload("2"))
+    every { pipe.buildPipeline(any(), true) } returns Mono.empty()
+
+    val claimed = consumer(batchSize = 5, parallelism = 10).claimAndProcess()
+
+    assertEquals(2, claimed)
+    verify { pipe.buildPipeline(match { it.workloadId == "1" }, true) }
+    verify { pipe.buildPipeline(match { it.workloadId == "2" }, true) }
+    verify(exactly = 0) { pipe.buildPipeline(any(), false) }
+  }
+
+  @Test
+  fun `only as many workloads as there are free slots are claimed`() {
+    every { apiClient.claimBatch(GEOGRAPHY, 3) } returns listOf(workload("1"), workload("2"), workload("3"))
+    every { pipe.buildPipeline(any(), true) } returns Mono.never()
+    val consumer = consumer(batchSize = 5, parallelism = 3)
+
+    assertEquals(3, consumer.claimAndProcess())
+    assertEquals(0, consumer.claimAndProcess())
+
+    verify(exactly = 1) { apiClient.claimBatch(any(), any()) }
+  }
+
+  @Test
+  fun `slots are freed once the workloads are processed`() {
+    every { apiClient.claimBatch(GEOGRAPHY, any()) } answers { (1..secondArg<Int>()).map { workload("$it") } }
+    every { pipe.buildPipeline(any(), true) } returns Mono.empty()
+    val consumer = consumer(batchSize = 2, parallelism = 2)
+
+    // the workloads are processed asynchronously, so claim until their slots were freed and claimed again
+    var claimed = consumer.claimAndProcess()
+    val deadline = System.currentTimeMillis() + 5000
+    while (claimed < 4 && System.currentTimeMillis() < deadline) {
+      claimed += consumer.claimAndProcess()
+      Thread.sleep(10)
+    }
+
+    assertTrue(claimed >= 4)
+  }
+
+  @Test
+  fun `consuming stops once the consumer is stopped`() {
+    every { apiClient.claimBatch(GEOGRAPHY, any()) } returns listOf()
+    val consumer = consumer(batchSize = 2, parallelism = 2)
+
+    val consumerThread = thread { consumer.consume() }
+    consumer.stop()
+    consumerThread.join(5000)
+
+    assertFalse(consumerThread.isAlive)
+  }
+
+  private fun consumer(
+    batchSize: Int,
+    parallelism: Int,
+  ): ClaimBatchConsumer =
+    ClaimBatchConsumer(apiClient, pipe, metricPublisher, GEOGRAPHY, batchSize, Duration.ofMillis(10), parallelism)
+
+  private fun workload(id: String): Workload =
+    Workload(
+      id = id,
+      labels = listOf(),
+      inputPayload = "input-blob",
+      logPath = "/log/path",
+      geography = GEOGRAPHY,
+      type = WorkloadType.SYNC,
+      autoId = UUID.randomUUID(),
+    )
+
+  companion object {
+    const val GEOGRAPHY = "auto"
+  }
+}
@@ -16,8 +16,13 @@ import io.airbyte.workload.launcher.pods.KubePodClient
 import io.mockk.every
 import io.mockk.mockk
 import io.mockk.verify
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
 import org.junit.jupiter.api.Test
+import reactor.core.publisher.Mono
+import reactor.core.publisher.Sinks
 import java.util.UUID
+import java.util.concurrent.TimeUnit
 
 class LaunchPodStageTest {
   @Test
@@ -26,14 +31,14 @@ class LaunchPodStageTest {
     val payload = SyncPayload(replInput)
 
     val launcher: KubePodClient = mockk()
-    every { launcher.launchReplication(any(), any()) } returns Unit
+    every { launcher.launchReplication(any(), any()) } returns Mono.empty()
 
     val stage = LaunchPodStage(launcher, mockk(), "dataplane-id")
     val workloadId = UUID.randomUUID().toString()
     val msg = RecordFixtures.launcherInput(workloadId)
     val io = LaunchStageIO(msg = msg, payload = payload)
 
-    val result = stage.applyStage(io)
+    val result = stage.applyStageAsync(io).block()!!
 
     verify {
       launcher.launchReplication(replInput, msg)
@@ -48,13 +53,14 @@ class LaunchPodStageTest {
     val payload = CheckPayload(checkInput)
 
     val launcher: KubePodClient = mockk()
-    every { launcher.launchCheck(any(), any()) } returns Unit
+    every { launcher.launchCheck(any(), any()) } returns Mono.empty()
 
     val stage = LaunchPodStage(launcher, mockk(), "dataplane-id")
     val workloadId = UUID.randomUUID().toString()
     val msg = RecordFixtures.launcherInput(workloadId)
     val io = LaunchStageIO(msg = msg, payload = payload)
 
+    // the synchronous path waits for the launch
     val result = stage.applyStage(io)
 
     verify {
@@ -70,14 +76,14 @@ class LaunchPodStageTest {
     val payload = DiscoverCatalogPayload(discoverInput)
 
     val launcher: KubePodClient = mockk()
-    every { launcher.launchDiscover(any(), any()) } returns Unit
+    every { launcher.launchDiscover(any(), any()) } returns Mono.empty()
 
     val stage = LaunchPodStage(launcher, mockk(), "dataplane-id")
     val workloadId = UUID.randomUUID().toString()
     val msg = RecordFixtures.launcherInput(workloadId)
     val io = LaunchStageIO(msg = msg, payload = payload)
 
-    val result = stage.applyStage(io)
+    val result = stage.applyStageAsync(io).block()!!
 
     verify {
       launcher.launchDiscover(discoverInput, msg)
@@ -85,4 +91,21 @@ class LaunchPodStageTest {
 
     assert(result.payload == payload)
   }
+
+  @Test
+  fun `completes once the pods are started without waiting for them`() {
+    val podsStarted = Sinks.empty<Void>()
+    val launcher: KubePodClient = mockk()
+    every { launcher.launchReplication(any(), any()) } returns podsStarted.asMono()
+
+    val stage = LaunchPodStage(launcher, mockk(relaxed = true), "dataplane-id")
+    val msg = RecordFixtures.launcherInput(UUID.randomUUID().toString())
+    val io = LaunchStageIO(msg = msg, payload = SyncPayload(ReplicationInput()))
+
+    val result = stage.apply(io).toFuture()
+    assertFalse(result.isDone)
+
+    podsStarted.tryEmitEmpty()
+    assertEquals(io, result.get(1, TimeUnit.SECONDS))
+  }
 }
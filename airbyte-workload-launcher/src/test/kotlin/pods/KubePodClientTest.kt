@@ -39,6 +39,7 @@ import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertThrows
 import org.junit.jupiter.api.extension.ExtendWith
+import reactor.core.publisher.Mono
 import java.lang.RuntimeException
 import java.util.UUID
 
@@ -159,10 +160,10 @@ class KubePodClientTest {
 
     val slot = slot<Pod>()
     every { launcher.create(capture(slot)) } answers { slot.captured }
-    every { launcher.waitForPodInit(any(), any()) } returns Unit
+    every { launcher.waitForPodInit(any(), any()) } returns Mono.empty()
     every { launcher.copyFilesToKubeConfigVolumeMain(any(), any()) } returns Unit
-    every { launcher.waitForPodReadyOrTerminalByPod(any(Pod::class), any()) } returns Unit
-    every { launcher.waitForPodReadyOrTerminal(any(), any()) } returns Unit
+    every { launcher.waitForPodReadyOrTerminalByPod(any(Pod::class), any()) } returns Mono.empty()
+    every { launcher.waitForPodReadyOrTerminal(any(), any()) } returns Mono.empty()
   }
 
   @Test
@@ -186,7 +187,7 @@ class KubePodClientTest {
       )
     } returns orchestrator
 
-    client.launchReplication(replInput, replLauncherInput)
+    client.launchReplication(replInput, replLauncherInput).block()
 
     verify { launcher.create(orchestrator) }
 
@@ -222,7 +223,7 @@ class KubePodClientTest {
       )
     } returns orchestrator
 
-    client.launchReplication(resetInput, replLauncherInput)
+    client.launchReplication(resetInput, replLauncherInput).block()
 
     verify { launcher.waitForPodInit(orchestrator, POD_INIT_TIMEOUT_VALUE) }
 
@@ -238,7 +239,7 @@ class KubePodClientTest {
     every { labeler.getSharedLabels(any(), any(), any(), any()) } returns sharedLabels
     every { mapper.toKubeInput(workloadId, replInput, sharedLabels) } returns replKubeInput
 
-    client.launchReplication(replInput, replLauncherInput)
+    client.launchReplication(replInput, replLauncherInput).block()
 
     val inputWithLabels = replInput.setDestinationLabels(sharedLabels).setSourceLabels(sharedLabels)
 
@@ -250,16 +251,16 @@ class KubePodClientTest {
     every { launcher.create(any()) } throws RuntimeException("bang")
 
     assertThrows<KubeClientException> {
-      client.launchReplication(replInput, replLauncherInput)
+      client.launchReplication(replInput, replLauncherInput).block()
     }
   }
 
   @Test
   fun `launchReplication propagates orchestrator wait for init error`() {
-    every { launcher.waitForPodInit(pod, POD_INIT_TIMEOUT_VALUE) } throws RuntimeException("bang")
+    every { launcher.waitForPodInit(pod, POD_INIT_TIMEOUT_VALUE) } returns Mono.error(RuntimeException("bang"))
 
     assertThrows<KubeClientException> {
-      client.launchReplication(replInput, replLauncherInput)
+      client.launchReplication(replInput, replLauncherInput).block()
     }
   }
 
@@ -268,16 +269,16 @@ class KubePodClientTest {
     every { launcher.copyFilesToKubeConfigVolumeMain(any(), replKubeInput.fileMap) } throws RuntimeException("bang")
 
     assertThrows<KubeClientException> {
-      client.launchReplication(replInput, replLauncherInput)
+      client.launchReplication(replInput, replLauncherInput).block()
     }
   }
 
   @Test
   fun `launchReplication propagates source wait for init error`() {
-    every { launcher.waitForPodReadyOrTerminal(replKubeInput.sourceLabels, REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE) } throws RuntimeException("bang")
+    every { launcher.waitForPodReadyOrTerminal(replKubeInput.sourceLabels, REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE) } returns Mono.error(RuntimeException("bang"))
 
     assertThrows<KubeClientException> {
-      client.launchReplication(replInput, replLauncherInput)
+      client.launchReplication(replInput, replLauncherInput).block()
     }
   }
 
@@ -288,10 +289,10 @@ class KubePodClientTest {
         replKubeInput.destinationLabels,
         REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE,
       )
-    } throws RuntimeException("bang")
+    } returns Mono.error(RuntimeException("bang"))
 
     assertThrows<KubeClientException> {
-      client.launchReplication(replInput, replLauncherInput)
+      client.launchReplication(replInput, replLauncherInput).block()
     }
   }
 
@@ -309,7 +310,7 @@ class KubePodClientTest {
       )
     } returns pod
 
-    client.launchCheck(checkInput, checkLauncherInput)
+    client.launchCheck(checkInput, checkLauncherInput).block()
 
     verify { client.launchConnectorWithSidecar(connectorKubeInput, checkPodFactory, "CHECK") }
   }
@@ -328,7 +329,7 @@ class KubePodClientTest {
       )
     } returns pod
 
-    client.launchDiscover(discoverInput, discoverLauncherInput)
+    client.launchDiscover(discoverInput, discoverLauncherInput).block()
 
     verify { client.launchConnectorWithSidecar(connectorKubeInput, discoverPodFactory, "DISCOVER") }
   }
@@ -347,7 +348,7 @@ class KubePodClientTest {
       )
     } returns pod
 
-    client.launchSpec(specInput, specLauncherInput)
+    client.launchSpec(specInput, specLauncherInput).block()
 
     verify { client.launchConnectorWithSidecar(connectorKubeInput, specPodFactory, "SPEC") }
   }
@@ -371,7 +372,7 @@ class KubePodClientTest {
       )
     } returns connector
 
-    client.launchConnectorWithSidecar(connectorKubeInput, podFactory, "OPERATION NAME")
+    client.launchConnectorWithSidecar(connectorKubeInput, podFactory, "OPERATION NAME").block()
 
     verify { launcher.waitForPodInit(connector, POD_INIT_TIMEOUT_VALUE) }
 
@@ -385,16 +386,16 @@ class KubePodClientTest {
     every { launcher.create(any()) } throws RuntimeException("bang")
 
     assertThrows<KubeClientException> {
-      client.launchConnectorWithSidecar(connectorKubeInput, podFactory, "OPERATION NAME")
+      client.launchConnectorWithSidecar(connectorKubeInput, podFactory, "OPERATION NAME").block()
     }
   }
 
   @Test
   fun `launchConnectorWithSidecar propagates pod wait for init error`() {
-    every { launcher.waitForPodInit(pod, POD_INIT_TIMEOUT_VALUE) } throws RuntimeException("bang")
+    every { launcher.waitForPodInit(pod, POD_INIT_TIMEOUT_VALUE) } returns Mono.error(RuntimeException("bang"))
 
     assertThrows<KubeClientException> {
-      client.launchConnectorWithSidecar(connectorKubeInput, podFactory, "OPERATION NAME")
+      client.launchConnectorWithSidecar(connectorKubeInput, podFactory, "OPERATION NAME").block()
     }
   }
 
@@ -403,16 +404,16 @@ class KubePodClientTest {
     every { launcher.copyFilesToKubeConfigVolumeMain(any(), connectorKubeInput.fileMap) } throws RuntimeException("bang")
 
     assertThrows<KubeClientException> {
-      client.launchConnectorWithSidecar(connectorKubeInput, podFactory, "OPERATION NAME")
+      client.launchConnectorWithSidecar(connectorKubeInput, podFactory, "OPERATION NAME").block()
     }
   }
 
   @Test
   fun `launchConnectorWithSidecar propagates source wait for init error`() {
-    every { launcher.waitForPodReadyOrTerminalByPod(pod, REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE) } throws RuntimeException("bang")
+    every { launcher.waitForPodReadyOrTerminalByPod(pod, REPL_CONNECTOR_STARTUP_TIMEOUT_VALUE) } returns Mono.error(RuntimeException("bang"))
 
     assertThrows<KubeClientException> {
-      client.launchConnectorWithSidecar(connectorKubeInput, podFactory, "OPERATION NAME")
+      client.launchConnectorWithSidecar(connectorKubeInput, podFactory, "OPERATION NAME").block()
     }
   }
 
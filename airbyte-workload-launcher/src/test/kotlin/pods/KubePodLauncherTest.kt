@@ -1,6 +1,10 @@
 package io.airbyte.workload.launcher.pods
 
 import dev.failsafe.RetryPolicy
+import io.airbyte.featureflag.FeatureFlagClient
+import io.airbyte.featureflag.PlaneName
+import io.airbyte.featureflag.UseCustomK8sInitCheck
+import io.airbyte.featureflag.UsePodInformerForLaunchWaits
 import io.airbyte.metrics.lib.MetricAttribute
 import io.airbyte.metrics.lib.MetricClient
 import io.airbyte.metrics.lib.OssMetricsRegistry
@@ -8,6 +12,7 @@ import io.airbyte.workload.launcher.config.ApplicationBeanFactory
 import io.fabric8.kubernetes.api.model.HasMetadata
 import io.fabric8.kubernetes.api.model.ObjectMeta
 import io.fabric8.kubernetes.api.model.Pod
+import io.fabric8.kubernetes.api.model.PodBuilder
 import io.fabric8.kubernetes.api.model.PodList
 import io.fabric8.kubernetes.client.KubernetesClient
 import io.fabric8.kubernetes.client.KubernetesClientException
@@ -32,7 +37,9 @@ import org.junit.jupiter.api.extension.ExtendWith
 import java.io.IOException
 import java.net.SocketTimeoutException
 import java.time.Duration
+import java.util.concurrent.CompletableFuture
 import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
 import java.util.concurrent.atomic.AtomicInteger
 
 @ExtendWith(MockKExtension::class)
@@ -62,6 +69,7 @@ class KubePodLauncherTest {
         kubernetesClientRetryPolicy,
         mockk(),
         null,
+        mockk(),
       )
 
     every { kubernetesClient.pods() } throws IllegalStateException()
@@ -87,7 +95,7 @@ class KubePodLauncherTest {
       kubePodLauncher.waitForPodInit(
         pod,
         Duration.ZERO,
-      )
+      ).block()
     }
 
     checkMetricSend("wait")
@@ -99,7 +107,7 @@ class KubePodLauncherTest {
       kubePodLauncher.waitForPodReadyOrTerminal(
         mapOf(),
         Duration.ZERO,
-      )
+      ).block()
     }
 
     checkMetricSend("wait")
@@ -123,6 +131,62 @@ class KubePodLauncherTest {
     checkMetricSend("delete")
   }
 
+  @Test
+  fun `waits use the pod informer when enabled`() {
+    val featureFlagClient: FeatureFlagClient = mockk()
+    val podWatcher: KubePodWatcher = mockk()
+    val pod = PodBuilder().withNewMetadata().withName("orchestrator").endMetadata().build()
+    every { featureFlagClient.boolVariation(UsePodInformerForLaunchWaits, PlaneName("plane")) } returns true
+    every { featureFlagClient.boolVariation(UseCustomK8sInitCheck, PlaneName("plane")) } returns false
+    every { podWatcher.waitForPod("orchestrator", any(), any()) } returns CompletableFuture.completedFuture(pod)
+    every { podWatcher.waitForPodWithLabels(mapOf("label" to "value"), any(), any()) } returns CompletableFuture.completedFuture(pod)
+
+    val kubePodLauncher =
+      KubePodLauncher(
+        kubernetesClient,
+        metricClient,
+        kubeCopyClient,
+        "namespace",
+        kubernetesClientRetryPolicy,
+        featureFlagClient,
+        "plane",
+        podWatcher,
+      )
+
+    kubePodLauncher.waitForPodInit(pod, Duration.ofMinutes(1)).block()
+    kubePodLauncher.waitForPodReadyOrTerminalByPod(pod, Duration.ofMinutes(1)).block()
+    kubePodLauncher.waitForPodReadyOrTerminal(mapOf("label" to "value"), Duration.ofMinutes(1)).block()
+
+    verify(exactly = 2) { podWatcher.waitForPod("orchestrator", any(), any()) }
+    verify(exactly = 1) { podWatcher.waitForPodWithLabels(mapOf("label" to "value"), any(), any()) }
+    verify(exactly = 0) { kubernetesClient.resource(any<Pod>()) }
+  }
+
+  @Test
+  fun `waits on the pod informer fail on timeout`() {
+    val featureFlagClient: FeatureFlagClient = mockk()
+    val podWatcher: KubePodWatcher = mockk()
+    every { featureFlagClient.boolVariation(UsePodInformerForLaunchWaits, PlaneName("plane")) } returns true
+    every { podWatcher.waitForPodWithLabels(any(), any(), any()) } returns CompletableFuture.failedFuture(TimeoutException())
+
+    val kubePodLauncher =
+      KubePodLauncher(
+        kubernetesClient,
+        metricClient,
+        kubeCopyClient,
+        "namespace",
+        kubernetesClientRetryPolicy,
+        featureFlagClient,
+        "plane",
+        podWatcher,
+      )
+
+    assertThrows<RuntimeException> {
+      kubePodLauncher.waitForPodReadyOrTerminal(mapOf("label" to "value"), Duration.ofMinutes(1)).block()
+    }
+    checkMetricSend("wait")
+  }
+
   @Test
   fun `test retry on socket timeout exception`() {
     val maxRetries = 3
@@ -155,10 +219,11 @@ class KubePodLauncherTest {
         kubernetesClientRetryPolicy,
         mockk(),
         null,
+        mockk(),
       )
 
     assertThrows<KubernetesClientException> {
-      kubePodLauncher.waitForPodReadyOrTerminal(mapOf("label" to "value"), Duration.ofSeconds(30))
+      kubePodLauncher.waitForPodReadyOrTerminal(mapOf("label" to "value"), Duration.ofSeconds(30)).block()
     }
     assertEquals(maxRetries, counter.get())
   }
@@ -195,10 +260,11 @@ class KubePodLauncherTest {
         kubernetesClientRetryPolicy,
         mockk(),
         null,
+        mockk(),
       )
 
     assertThrows<KubernetesClientException> {
-      kubePodLauncher.waitForPodReadyOrTerminal(mapOf("label" to "value"), Duration.ofSeconds(30))
+      kubePodLauncher.waitForPodReadyOrTerminal(mapOf("label" to "value"), Duration.ofSeconds(30)).block()
     }
     assertEquals(maxRetries, counter.get())
   }
@@ -238,10 +304,11 @@ class KubePodLauncherTest {
         kubernetesClientRetryPolicy,
         mockk(),
         null,
+        mockk(),
       )
 
     assertThrows<KubernetesClientException> {
-      kubePodLauncher.waitForPodReadyOrTerminal(mapOf("label" to "value"), Duration.ofSeconds(30))
+      kubePodLauncher.waitForPodReadyOrTerminal(mapOf("label" to "value"), Duration.ofSeconds(30)).block()
     }
     assertEquals(0, counter.get())
   }
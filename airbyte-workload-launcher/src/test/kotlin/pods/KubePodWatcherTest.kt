@@ -0,0 +1,158 @@
+package io.airbyte.workload.launcher.pods
+
+import io.fabric8.kubernetes.api.model.Pod
+import io.fabric8.kubernetes.api.model.PodBuilder
+import io.fabric8.kubernetes.api.model.PodList
+import io.fabric8.kubernetes.client.KubernetesClient
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable
+import io.fabric8.kubernetes.client.dsl.MixedOperation
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation
+import io.fabric8.kubernetes.client.dsl.PodResource
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer
+import io.fabric8.kubernetes.client.informers.cache.Indexer
+import io.fabric8.kubernetes.client.informers.cache.Store
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.slot
+import io.mockk.verify
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import java.time.Duration
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeoutException
+
+class KubePodWatcherTest {
+  private lateinit var kubernetesClient: KubernetesClient
+  private lateinit var store: Store<Pod>
+  private lateinit var indexer: Indexer<Pod>
+  private val handler = slot<ResourceEventHandler<Pod>>()
+
+  private lateinit var watcher: KubePodWatcher
+
+  @BeforeEach
+  fun setup() {
+    kubernetesClient = mockk()
+    store = mockk()
+    indexer = mockk()
+    val pods: MixedOperation<Pod, PodList, PodResource> = mockk()
+    val namespaced: NonNamespaceOperation<Pod, PodList, PodResource> = mockk()
+    val labeled: FilterWatchListDeletable<Pod, PodList, PodResource> = mockk()
+    val informer: SharedIndexInformer<Pod> = mockk()
+
+    every { kubernetesClient.pods() } returns pods
+    every { pods.inNamespace("namespace") } returns namespaced
+    every { namespaced.withLabel(PodLabeler.LabelKeys.SWEEPER_LABEL_KEY, PodLabeler.LabelKeys.SWEEPER_LABEL_VALUE) } returns labeled
+    every { labeled.runnableInformer(any()) } returns informer
+    every { informer.addIndexers(any()) } returns informer
+    every { informer.addEventHandler(capture(handler)) } returns informer
+    every { informer.run() } returns Unit
+    every { informer.store } returns store
+    every { informer.indexer } returns indexer
+    every { store.getByKey(any()) } returns null
+    every { indexer.byIndex(any(), any()) } returns listOf()
+
+    watcher = KubePodWatcher(kubernetesClient, "namespace")
+  }
+
+  @Test
+  fun `wait on a pod completes on a matching event`() {
+    val future = watcher.waitForPod("orchestrator", Duration.ofMinutes(1)) { p -> p.status?.phase == "Running" }
+
+    handler.captured.onAdd(pod("orchestrator", "Pending"))
+    handler.captured.onUpdate(pod("other", "Pending"), pod("other", "Running"))
+    assertFalse(future.isDone)
+
+    val running = pod("orchestrator", "Running")
+    handler.captured.onUpdate(pod("orchestrator", "Pending"), running)
+    assertEquals(running, future.get())
+  }
+
+  @Test
+  fun `wait on a pod completes from the cached state`() {
+    val running = pod("orchestrator", "Running")
+    every { store.getByKey("namespace/orchestrator") } returns running
+
+    val future = watcher.waitForPod("orchestrator", Duration.ofMinutes(1)) { p -> p.status?.phase == "Running" }
+
+    assertEquals(running, future.get())
+  }
+
+  @Test
+  fun `wait on labels completes from the cached pods with one of the labels`() {
+    val source = pod("source", "Running", mapOf("workload_id" to "1", "sync_step" to "read"))
+    val destination = pod("destination", "Running", mapOf("workload_id" to "1", "sync_step" to "write"))
+    every { indexer.byIndex("labels", "workload_id=1") } returns listOf(destination, source)
+
+    val future = watcher.waitForPodWithLabels(mapOf("workload_id" to "1", "sync_step" to "read"), Duration.ofMinutes(1)) { true }
+
+    assertEquals(source, future.get())
+    verify(exactly = 0) { store.list() }
+  }
+
+  @Test
+  fun `wait on a pod fails when the pod is deleted`() {
+    val future = watcher.waitForPod("orchestrator", Duration.ofMinutes(1)) { p -> p.status?.phase == "Running" }
+    val labelsFuture = watcher.waitForPodWithLabels(mapOf("workload_id" to "1"), Duration.ofMinutes(1)) { true }
+
+    handler.captured.onDelete(pod("other", "Pending"), false)
+    assertFalse(future.isDone)
+
+    handler.captured.onDelete(pod("orchestrator", "Pending", mapOf("workload_id" to "1")), false)
+    assertTrue(assertThrows<ExecutionException> { future.get() }.cause is KubePodWatcher.PodDeletedException)
+    assertTrue(assertThrows<ExecutionException> { labelsFuture.get() }.cause is KubePodWatcher.PodDeletedException)
+  }
+
+  @Test
+  fun `wait on labels completes on a pod with all the labels`() {
+    val future = watcher.waitForPodWithLabels(mapOf("workload_id" to "1", "sync_step" to "read"), Duration.ofMinutes(1)) { true }
+
+    handler.captured.onAdd(pod("destination", "Running", mapOf("workload_id" to "1", "sync_step" to "write")))
+    assertFalse(future.isDone)
+
+    val source = pod("source", "Running", mapOf("workload_id" to "1", "sync_step" to "read", "airbyte" to "job-pod"))
+    handler.captured.onAdd(source)
+    assertEquals(source, future.get())
+  }
+
+  @Test
+  fun `conditions failing on an incomplete pod are not met`() {
+    val future = watcher.waitForPod("orchestrator", Duration.ofMinutes(1)) { p -> p.status.phase == "Running" }
+
+    handler.captured.onAdd(PodBuilder().withNewMetadata().withName("orchestrator").endMetadata().build())
+    assertFalse(future.isDone)
+
+    handler.captured.onUpdate(pod("orchestrator", "Pending"), pod("orchestrator", "Running"))
+    assertTrue(future.isDone)
+  }
+
+  @Test
+  fun `wait times out`() {
+    val future = watcher.waitForPod("orchestrator", Duration.ofMillis(10)) { false }
+
+    val e = assertThrows<ExecutionException> { future.get() }
+    assertTrue(e.cause is TimeoutException)
+  }
+
+  @Test
+  fun `the informer is shared by all the waits`() {
+    watcher.waitForPod("a", Duration.ofMinutes(1)) { true }
+    watcher.waitForPodWithLabels(mapOf("a" to "b"), Duration.ofMinutes(1)) { true }
+
+    verify(exactly = 1) { kubernetesClient.pods() }
+  }
+
+  private fun pod(
+    name: String,
+    phase: String,
+    labels: Map<String, String> = mapOf(),
+  ): Pod =
+    PodBuilder()
+      .withNewMetadata().withName(name).withLabels(labels).endMetadata()
+      .withNewStatus().withPhase(phase).endStatus()
+      .build()
+}